@@ -0,0 +1,56 @@
+package jgr.iam.config;
+
+// External Objects
+import org.apache.logging.log4j.LogManager; // https://logging.apache.org/log4j/2.x/manual/api.html
+import org.apache.logging.log4j.Logger; // https://logging.apache.org/log4j/2.x/manual/api.html
+import org.springframework.boot.ApplicationArguments; // https://docs.spring.io/spring-boot/api/java/org/springframework/boot/ApplicationArguments.html
+import org.springframework.boot.ApplicationRunner; // https://docs.spring.io/spring-boot/api/java/org/springframework/boot/ApplicationRunner.html
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication; // https://docs.spring.io/spring-boot/api/java/org/springframework/boot/autoconfigure/condition/ConditionalOnWebApplication.html
+import org.springframework.boot.availability.AvailabilityChangeEvent; // https://docs.spring.io/spring-boot/api/java/org/springframework/boot/availability/AvailabilityChangeEvent.html
+import org.springframework.boot.availability.ReadinessState; // https://docs.spring.io/spring-boot/api/java/org/springframework/boot/availability/ReadinessState.html
+import org.springframework.context.ApplicationEventPublisher; // https://docs.spring.io/spring-framework/docs/current/javadoc-api/org/springframework/context/ApplicationEventPublisher.html
+import org.springframework.core.Ordered; // https://docs.spring.io/spring-framework/docs/current/javadoc-api/org/springframework/core/Ordered.html
+import org.springframework.core.annotation.Order; // https://docs.spring.io/spring-framework/docs/current/javadoc-api/org/springframework/core/annotation/Order.html
+import org.springframework.stereotype.Component; // https://docs.spring.io/spring-framework/docs/current/javadoc-api/org/springframework/stereotype/Component.html
+
+// Internal Objects
+import jgr.iam.manager.PermissionManager; // Permission Manager
+import jgr.iam.util.iamPermissionCache; // Permission Cache (warm-up settings)
+
+// Cache Warm-up Initializer: bulk-load the permission catalog into the cache at boot, readiness held until it's done
+// - Readiness: REFUSING_TRAFFIC published before loading; Spring Boot publishes ACCEPTING_TRAFFIC once every runner
+//   has returned, this one included (warmed up, or timed out after IAMDB_WARMUP_TIMEOUT_SECONDS: the rest is loaded
+//   on first use), for the load balancer to route to a node only once it serves from memory (GET /manage/ready)
+// - After the migrations and the change log positioning: a change committed while loading is applied by the next poll
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class iamCacheWarmUpInitializer implements ApplicationRunner {
+
+    // Logger
+    private final static Logger logger = LogManager.getLogger(iamCacheWarmUpInitializer.class.getCanonicalName());
+
+    // Permission Manager (cache owner)
+    private final PermissionManager permManager;
+
+    // Event Publisher (readiness)
+    private final ApplicationEventPublisher publisher;
+
+    // Constructor
+    public iamCacheWarmUpInitializer(PermissionManager permManager, ApplicationEventPublisher publisher) {
+        this.permManager = permManager;
+        this.publisher = publisher;
+    }
+
+    // Warm-up before the service is reported ready
+    @Override
+    public void run(ApplicationArguments args) {
+        long timeoutSeconds = iamPermissionCache.getWarmUpTimeoutSeconds();
+        if (timeoutSeconds <= 0 || !permManager.getCache().isEnabled())
+            return;
+        AvailabilityChangeEvent.publish(publisher, this, ReadinessState.REFUSING_TRAFFIC);
+        long start = System.currentTimeMillis();
+        int loaded = permManager.warmUp(iamPermissionCache.getWarmUpThreads(), timeoutSeconds * 1000);
+        logger.info("run: " + loaded + " permissions warmed up in " + (System.currentTimeMillis() - start) + " ms.");
+    }
+}
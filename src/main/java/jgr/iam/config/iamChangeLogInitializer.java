@@ -0,0 +1,41 @@
+package jgr.iam.config;
+
+// External Objects
+import jakarta.annotation.PreDestroy; // https://jakarta.ee/specifications/annotations/2.1/apidocs/jakarta.annotation/jakarta/annotation/predestroy
+import org.springframework.boot.ApplicationArguments; // https://docs.spring.io/spring-boot/api/java/org/springframework/boot/ApplicationArguments.html
+import org.springframework.boot.ApplicationRunner; // https://docs.spring.io/spring-boot/api/java/org/springframework/boot/ApplicationRunner.html
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication; // https://docs.spring.io/spring-boot/api/java/org/springframework/boot/autoconfigure/condition/ConditionalOnWebApplication.html
+import org.springframework.core.Ordered; // https://docs.spring.io/spring-framework/docs/current/javadoc-api/org/springframework/core/Ordered.html
+import org.springframework.core.annotation.Order; // https://docs.spring.io/spring-framework/docs/current/javadoc-api/org/springframework/core/annotation/Order.html
+import org.springframework.stereotype.Component; // https://docs.spring.io/spring-framework/docs/current/javadoc-api/org/springframework/stereotype/Component.html
+
+// Internal Objects
+import jgr.iam.manager.ChangeLogManager; // Change Log Manager
+
+// Change Log Initializer: start polling the change log at boot (after the migrations, before the cache warm-up),
+// stop at shutdown
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class iamChangeLogInitializer implements ApplicationRunner {
+
+    // Change Log Manager
+    private final ChangeLogManager changeLogManager;
+
+    // Constructor
+    public iamChangeLogInitializer(ChangeLogManager changeLogManager) {
+        this.changeLogManager = changeLogManager;
+    }
+
+    // Start polling
+    @Override
+    public void run(ApplicationArguments args) {
+        changeLogManager.start();
+    }
+
+    // Stop polling
+    @PreDestroy
+    public void shutdown() {
+        changeLogManager.stop();
+    }
+}
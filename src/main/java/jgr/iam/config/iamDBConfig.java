@@ -0,0 +1,106 @@
+package jgr.iam.config;
+
+// External Objects
+import org.springframework.beans.factory.annotation.Qualifier; // https://docs.spring.io/spring-framework/docs/current/javadoc-api/org/springframework/beans/factory/annotation/Qualifier.html
+import org.springframework.context.annotation.Bean; // https://docs.spring.io/spring-framework/docs/current/javadoc-api/org/springframework/context/annotation/Bean.html
+import org.springframework.context.annotation.Configuration; // https://docs.spring.io/spring-framework/docs/current/javadoc-api/org/springframework/context/annotation/Configuration.html
+import org.springframework.context.annotation.Primary; // https://docs.spring.io/spring-framework/docs/current/javadoc-api/org/springframework/context/annotation/Primary.html
+
+// Internal Objects
+import jgr.iam.constant.iamDBMetadataTable; // iamDB Metadata Tables
+import jgr.iam.repository.ChangeLogRepository; // ChangeLog Repository
+import jgr.iam.repository.MetadataRepository; // Metadata Repository
+import jgr.iam.repository.PermissionRepository; // Permission Repository
+import jgr.iam.repository.RolePermissionRepository; // Role-Permission Repository
+import jgr.iam.repository.RoleRepository; // Role Repository
+import jgr.iam.repository.UserGroupRepository; // UserGroup Repository
+import jgr.iam.repository.UserGroupRoleRepository; // UserGroup-Role Repository
+import jgr.iam.repository.UserRepository; // User Repository
+import jgr.iam.repository.UserRoleRepository; // User-Role Repository
+import jgr.iam.repository.UserUserGroupRepository; // User-UserGroup Repository
+import jgr.iam.util.iamDBConnectorUtil; // iamDB Connector
+
+// iamDB Configuration: a single shared connector (per-thread connection) and stateless repositories
+@Configuration
+public class iamDBConfig {
+
+    // Bean Names
+    public static final String PERM_METADATA_REPOSITORY = "permMetadataRepository";
+    public static final String CURSOR_CONNECTOR = "iamDBCursorConnector";
+
+    // iamDB Connector
+    @Bean
+    @Primary
+    public iamDBConnectorUtil iamDBConnector() {
+        return new iamDBConnectorUtil();
+    }
+
+    // iamDB Cursor Connector: second per-thread connection, holding a streaming cursor open while the
+    // main connection runs the enrichment queries
+    @Bean
+    @Qualifier(CURSOR_CONNECTOR)
+    public iamDBConnectorUtil iamDBCursorConnector() {
+        return new iamDBConnectorUtil();
+    }
+
+    // Permission Repository
+    @Bean
+    public PermissionRepository permissionRepository(iamDBConnectorUtil connector) {
+        return new PermissionRepository(connector);
+    }
+
+    // Role-Permission Repository
+    @Bean
+    public RolePermissionRepository rolePermissionRepository(iamDBConnectorUtil connector) {
+        return new RolePermissionRepository(connector);
+    }
+
+    // Permission Metadata Repository
+    @Bean
+    @Qualifier(PERM_METADATA_REPOSITORY)
+    public MetadataRepository permMetadataRepository(iamDBConnectorUtil connector) {
+        return new MetadataRepository(connector, iamDBMetadataTable.PERM);
+    }
+
+    // User Repository
+    @Bean
+    public UserRepository userRepository(iamDBConnectorUtil connector) {
+        return new UserRepository(connector);
+    }
+
+    // User-Role Repository
+    @Bean
+    public UserRoleRepository userRoleRepository(iamDBConnectorUtil connector) {
+        return new UserRoleRepository(connector);
+    }
+
+    // User-UserGroup Repository
+    @Bean
+    public UserUserGroupRepository userUserGroupRepository(iamDBConnectorUtil connector) {
+        return new UserUserGroupRepository(connector);
+    }
+
+    // UserGroup-Role Repository
+    @Bean
+    public UserGroupRoleRepository userGroupRoleRepository(iamDBConnectorUtil connector) {
+        return new UserGroupRoleRepository(connector);
+    }
+
+    // ChangeLog Repository
+    @Bean
+    public ChangeLogRepository changeLogRepository(iamDBConnectorUtil connector) {
+        return new ChangeLogRepository(connector);
+    }
+
+    // Role Repository
+    @Bean
+    public RoleRepository roleRepository(iamDBConnectorUtil connector) {
+        return new RoleRepository(connector);
+    }
+
+    // UserGroup Repository
+    @Bean
+    public UserGroupRepository userGroupRepository(iamDBConnectorUtil connector) {
+        return new UserGroupRepository(connector);
+    }
+}
@@ -0,0 +1,76 @@
+package jgr.iam.config;
+
+// External Objects
+import org.apache.logging.log4j.LogManager; // https://logging.apache.org/log4j/2.x/manual/api.html
+import org.apache.logging.log4j.Logger; // https://logging.apache.org/log4j/2.x/manual/api.html
+import org.springframework.boot.ApplicationArguments; // https://docs.spring.io/spring-boot/api/java/org/springframework/boot/ApplicationArguments.html
+import org.springframework.boot.ApplicationRunner; // https://docs.spring.io/spring-boot/api/java/org/springframework/boot/ApplicationRunner.html
+import org.springframework.core.Ordered; // https://docs.spring.io/spring-framework/docs/current/javadoc-api/org/springframework/core/Ordered.html
+import org.springframework.core.annotation.Order; // https://docs.spring.io/spring-framework/docs/current/javadoc-api/org/springframework/core/annotation/Order.html
+import org.springframework.stereotype.Component; // https://docs.spring.io/spring-framework/docs/current/javadoc-api/org/springframework/stereotype/Component.html
+import java.sql.SQLException; // https://docs.oracle.com/javase/8/docs/api/java/sql/SQLException.html
+import java.util.List; // https://docs.oracle.com/javase/8/docs/api/java/util/List.html
+
+// Internal Objects
+import jgr.iam.constant.iamDBConnectionInfo; // iamDB Connection Information
+import jgr.iam.util.iamDBConnectorUtil; // iamDB Connector
+import jgr.iam.util.iamDBIndexVerifier; // iamDB Index Verifier
+import jgr.iam.util.iamDBMigrationUtil; // iamDB Migration Utility
+
+// iamDB Migration Initializer: apply the pending migrations (IAMDB_MIGRATE), then verify the hot-path indexes
+// (IAMDB_INDEX_CHECK: off, warn or refuse), before any other runner
+// - Unreachable iamDB: logged, the service starts (as with the pool warm-up)
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class iamDBMigrationInitializer implements ApplicationRunner {
+
+    // Logger
+    private final static Logger logger = LogManager.getLogger(iamDBMigrationInitializer.class.getCanonicalName());
+
+    // Migrate, then verify
+    @Override
+    public void run(ApplicationArguments args) {
+        iamDBConnectorUtil connector = new iamDBConnectorUtil();
+        String migrate = connector.getEnvironmentVariable(iamDBConnectionInfo.ENV_MIGRATE);
+        if (migrate == null ? iamDBConnectionInfo.DEFAULT_MIGRATE : Boolean.parseBoolean(migrate.trim())) {
+            try {
+                iamDBMigrationUtil.migrate(connector);
+            }
+            catch (SQLException e) {
+                logger.error("run: Migration failed.\n\t" + e.getClass().getCanonicalName() + ": " + e.getMessage());
+            }
+        }
+        String check = connector.getEnvironmentVariable(iamDBConnectionInfo.ENV_INDEX_CHECK);
+        check = check == null ? iamDBConnectionInfo.DEFAULT_INDEX_CHECK : check.trim().toLowerCase();
+        if (!"off".equals(check)) {
+            _verify(connector, "refuse".equals(check));
+        }
+    }
+
+    // Verify the hot-path indexes: warn, or refuse to start, if one is missing
+    private void _verify(iamDBConnectorUtil connector, boolean refuse) {
+        List<iamDBIndexVerifier.Requirement> missing;
+        try {
+            connector.connect();
+            try {
+                missing = iamDBIndexVerifier.verify(connector.getConnection());
+            }
+            finally {
+                connector.close();
+            }
+        }
+        catch (SQLException e) {
+            logger.warn("run: Index verification skipped.\n\t" + e.getClass().getCanonicalName() + ": " + e.getMessage());
+            return;
+        }
+        if (missing.isEmpty()) {
+            logger.info("run: Hot-path indexes verified (" + iamDBIndexVerifier.REQUIREMENTS.size() + ").");
+            return;
+        }
+        String message = "Missing hot-path index(es): " + missing + ".";
+        if (refuse) {
+            throw new IllegalStateException(message);
+        }
+        logger.warn("run: " + message);
+    }
+}
@@ -0,0 +1,42 @@
+package jgr.iam.config;
+
+// External Objects
+import jakarta.annotation.PreDestroy; // https://jakarta.ee/specifications/annotations/2.1/apidocs/jakarta.annotation/jakarta/annotation/predestroy
+import org.apache.logging.log4j.LogManager; // https://logging.apache.org/log4j/2.x/manual/api.html
+import org.apache.logging.log4j.Logger; // https://logging.apache.org/log4j/2.x/manual/api.html
+import org.springframework.boot.ApplicationArguments; // https://docs.spring.io/spring-boot/api/java/org/springframework/boot/ApplicationArguments.html
+import org.springframework.boot.ApplicationRunner; // https://docs.spring.io/spring-boot/api/java/org/springframework/boot/ApplicationRunner.html
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication; // https://docs.spring.io/spring-boot/api/java/org/springframework/boot/autoconfigure/condition/ConditionalOnWebApplication.html
+import org.springframework.stereotype.Component; // https://docs.spring.io/spring-framework/docs/current/javadoc-api/org/springframework/stereotype/Component.html
+
+// Internal Objects
+import jgr.iam.util.iamDBConnectionPool; // iamDB Connection Pool
+import jgr.iam.util.iamDBConnectorUtil; // iamDB Connector (connection settings)
+
+// iamDB Connection Pool Initializer: warm-up at boot, close at shutdown
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class iamDBPoolInitializer implements ApplicationRunner {
+
+    // Logger
+    private final static Logger logger = LogManager.getLogger(iamDBPoolInitializer.class.getCanonicalName());
+
+    // Warm-up the pool before the service starts serving requests
+    @Override
+    public void run(ApplicationArguments args) {
+        iamDBConnectorUtil connector = new iamDBConnectorUtil();
+        if (!iamDBConnectionPool.warmUp(connector.getConnectionURL(), connector.getConnectionUser(), connector.getConnectionPassword())) {
+            logger.warn("run: iamDB connection pool warm-up failed; connections will be opened on demand.");
+        }
+        String replicaURL = connector.getReplicaConnectionURL();
+        if (replicaURL != null && !iamDBConnectionPool.warmUp(replicaURL, connector.getConnectionUser(), connector.getConnectionPassword())) {
+            logger.warn("run: iamDB replica connection pool warm-up failed; connections will be opened on demand.");
+        }
+    }
+
+    // Close all pools
+    @PreDestroy
+    public void shutdown() {
+        iamDBConnectionPool.shutdown();
+    }
+}
@@ -0,0 +1,52 @@
+package jgr.iam.config;
+
+// External Objects
+import jakarta.servlet.http.HttpServletRequest; // https://jakarta.ee/specifications/servlet/6.0/apidocs/jakarta.servlet/jakarta/servlet/http/httpservletrequest
+import jakarta.servlet.http.HttpServletResponse; // https://jakarta.ee/specifications/servlet/6.0/apidocs/jakarta.servlet/jakarta/servlet/http/httpservletresponse
+import org.springframework.web.servlet.AsyncHandlerInterceptor; // https://docs.spring.io/spring-framework/docs/current/javadoc-api/org/springframework/web/servlet/AsyncHandlerInterceptor.html
+
+// Internal Objects
+import jgr.iam.util.iamDBRoutingUtil; // iamDB Routing Utility
+
+// iamDB Routing Interceptor: GET/HEAD requests may read from the replica; any other request is a write,
+// fencing its client's reads to the primary from its start until the fence window after its end
+public class iamDBRoutingInterceptor implements AsyncHandlerInterceptor {
+
+    // Client Header (defaults to the remote address)
+    public static final String CLIENT_HEADER = "X-Client-Id";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        boolean readOnly = _isReadOnly(request);
+        iamDBRoutingUtil.begin(_getClient(request), readOnly);
+        if (!readOnly) {
+            iamDBRoutingUtil.fence();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!_isReadOnly(request)) {
+            iamDBRoutingUtil.fence();
+        }
+        iamDBRoutingUtil.end();
+    }
+
+    // Streamed response: the request thread is released, the body is written elsewhere (on the primary)
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        iamDBRoutingUtil.end();
+    }
+
+    // Is Read-Only request
+    private boolean _isReadOnly(HttpServletRequest request) {
+        return "GET".equalsIgnoreCase(request.getMethod()) || "HEAD".equalsIgnoreCase(request.getMethod());
+    }
+
+    // Get Client
+    private String _getClient(HttpServletRequest request) {
+        String client = request.getHeader(CLIENT_HEADER);
+        return (client == null || client.isBlank()) ? request.getRemoteAddr() : client;
+    }
+}
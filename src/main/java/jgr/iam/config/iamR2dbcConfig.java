@@ -0,0 +1,97 @@
+package jgr.iam.config;
+
+// External Objects
+import io.r2dbc.pool.ConnectionPool; // https://github.com/r2dbc/r2dbc-pool
+import io.r2dbc.pool.ConnectionPoolConfiguration; // https://github.com/r2dbc/r2dbc-pool
+import io.r2dbc.spi.ConnectionFactories; // https://r2dbc.io/spec/1.0.0.RELEASE/api/io/r2dbc/spi/ConnectionFactories.html
+import io.r2dbc.spi.ConnectionFactory; // https://r2dbc.io/spec/1.0.0.RELEASE/api/io/r2dbc/spi/ConnectionFactory.html
+import io.r2dbc.spi.ConnectionFactoryOptions; // https://r2dbc.io/spec/1.0.0.RELEASE/api/io/r2dbc/spi/ConnectionFactoryOptions.html
+import org.apache.logging.log4j.LogManager; // https://logging.apache.org/log4j/2.x/manual/api.html
+import org.apache.logging.log4j.Logger; // https://logging.apache.org/log4j/2.x/manual/api.html
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication; // https://docs.spring.io/spring-boot/api/java/org/springframework/boot/autoconfigure/condition/ConditionalOnWebApplication.html
+import org.springframework.context.annotation.Bean; // https://docs.spring.io/spring-framework/docs/current/javadoc-api/org/springframework/context/annotation/Bean.html
+import org.springframework.context.annotation.Configuration; // https://docs.spring.io/spring-framework/docs/current/javadoc-api/org/springframework/context/annotation/Configuration.html
+import org.springframework.r2dbc.connection.R2dbcTransactionManager; // https://docs.spring.io/spring-framework/docs/current/javadoc-api/org/springframework/r2dbc/connection/R2dbcTransactionManager.html
+import org.springframework.r2dbc.core.DatabaseClient; // https://docs.spring.io/spring-framework/docs/current/javadoc-api/org/springframework/r2dbc/core/DatabaseClient.html
+import org.springframework.transaction.reactive.TransactionalOperator; // https://docs.spring.io/spring-framework/docs/current/javadoc-api/org/springframework/transaction/reactive/TransactionalOperator.html
+import org.springframework.transaction.support.DefaultTransactionDefinition; // https://docs.spring.io/spring-framework/docs/current/javadoc-api/org/springframework/transaction/support/DefaultTransactionDefinition.html
+import java.time.Duration; // https://docs.oracle.com/javase/8/docs/api/java/time/Duration.html
+
+// Internal Objects
+import jgr.iam.constant.iamDBConnectionInfo; // iamDB Connection Information
+import jgr.iam.constant.iamDBMetadataTable; // iamDB Metadata Tables
+import jgr.iam.repository.ChangeLogReactiveRepository; // Change Log Repository (R2DBC)
+import jgr.iam.repository.MetadataReactiveRepository; // Metadata Repository (R2DBC)
+import jgr.iam.repository.PermissionReactiveRepository; // Permission Repository (R2DBC)
+import jgr.iam.util.iamDBConnectorUtil; // iamDB Connector (connection settings)
+import jgr.iam.util.iamEnvironmentUtil; // iamDB Environment Utility
+
+// iamDB R2DBC Configuration (reactive profile): one non-blocking connection pool on the iamDB settings
+// - The JDBC URL is reused: jdbc:mysql://host:port/db -> r2dbc:mysql://host:port/db
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class iamR2dbcConfig {
+
+    // Logger
+    private final static Logger logger = LogManager.getLogger(iamR2dbcConfig.class.getCanonicalName());
+
+    // Connection Factory (pooled)
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool iamDBConnectionFactory() {
+        iamDBConnectorUtil connector = new iamDBConnectorUtil();
+        String url = getR2dbcURL(connector.getConnectionURL());
+        ConnectionFactory connectionFactory = ConnectionFactories.get(ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, connector.getConnectionUser())
+                .option(ConnectionFactoryOptions.PASSWORD, connector.getConnectionPassword())
+                .build());
+        int maxSize = iamEnvironmentUtil.getInt(iamDBConnectionInfo.ENV_POOL_MAX_SIZE, iamDBConnectionInfo.DEFAULT_POOL_MAX_SIZE);
+        ConnectionPoolConfiguration configuration = ConnectionPoolConfiguration.builder(connectionFactory)
+                .name("iamDB-r2dbc-pool")
+                .initialSize(iamEnvironmentUtil.getInt(iamDBConnectionInfo.ENV_POOL_MIN_IDLE, iamDBConnectionInfo.DEFAULT_POOL_MIN_IDLE))
+                .maxSize(maxSize)
+                .maxLifeTime(Duration.ofMillis(iamDBConnectionInfo.DEFAULT_POOL_MAX_LIFETIME_MS))
+                .maxIdleTime(Duration.ofMillis(iamDBConnectionInfo.DEFAULT_POOL_IDLE_TIMEOUT_MS))
+                .maxAcquireTime(Duration.ofMillis(iamDBConnectionInfo.DEFAULT_POOL_CONNECTION_TIMEOUT_MS))
+                .build();
+        logger.info("iamDBConnectionFactory: [" + url + ", " + connector.getConnectionUser() + "]: maxSize=" + maxSize + ".");
+        return new ConnectionPool(configuration);
+    }
+
+    // Database Client
+    @Bean
+    public DatabaseClient iamDBClient(ConnectionFactory connectionFactory) {
+        return DatabaseClient.create(connectionFactory);
+    }
+
+    // Transactional Operator: one transaction per write request (unit of work)
+    @Bean
+    public TransactionalOperator iamDBTransactionalOperator(ConnectionFactory connectionFactory) {
+        DefaultTransactionDefinition definition = new DefaultTransactionDefinition();
+        definition.setIsolationLevel(iamDBConnectionInfo.DEFAULT_TX_ISOLATION);
+        return TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory), definition);
+    }
+
+    // Permission Repository (R2DBC)
+    @Bean
+    public PermissionReactiveRepository permissionReactiveRepository(DatabaseClient client) {
+        return new PermissionReactiveRepository(client);
+    }
+
+    // Permission Metadata Repository (R2DBC)
+    @Bean
+    public MetadataReactiveRepository permMetadataReactiveRepository(DatabaseClient client) {
+        return new MetadataReactiveRepository(client, iamDBMetadataTable.PERM);
+    }
+
+    // Change Log Repository (R2DBC)
+    @Bean
+    public ChangeLogReactiveRepository changeLogReactiveRepository(DatabaseClient client) {
+        return new ChangeLogReactiveRepository(client);
+    }
+
+    // Get R2DBC URL from a JDBC URL
+    public static String getR2dbcURL(String jdbcURL) {
+        String url = jdbcURL.startsWith("jdbc:") ? jdbcURL.substring("jdbc:".length()) : jdbcURL;
+        return url.startsWith("r2dbc:") ? url : "r2dbc:" + url;
+    }
+}
@@ -0,0 +1,19 @@
+package jgr.iam.config;
+
+// External Objects
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication; // https://docs.spring.io/spring-boot/api/java/org/springframework/boot/autoconfigure/condition/ConditionalOnWebApplication.html
+import org.springframework.context.annotation.Configuration; // https://docs.spring.io/spring-framework/docs/current/javadoc-api/org/springframework/context/annotation/Configuration.html
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry; // https://docs.spring.io/spring-framework/docs/current/javadoc-api/org/springframework/web/servlet/config/annotation/InterceptorRegistry.html
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer; // https://docs.spring.io/spring-framework/docs/current/javadoc-api/org/springframework/web/servlet/config/annotation/WebMvcConfigurer.html
+
+// iam Web Configuration
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class iamWebConfig implements WebMvcConfigurer {
+
+    // Interceptors
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new iamDBRoutingInterceptor()).addPathPatterns("/manage/**");
+    }
+}
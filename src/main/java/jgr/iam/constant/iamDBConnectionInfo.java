@@ -7,8 +7,77 @@ public class iamDBConnectionInfo {
     public static final String ENV_DB_PWD = "IAMDB_PWD";
     public static final String ENV_DB_HOSTNAME = "IAMDB_HOST";
     public static final String ENV_SERVER_HOSTNAME = "IAMSRV_HOST";
+    // Environment Variables (Connection Pool)
+    public static final String ENV_POOL_MIN_IDLE = "IAMDB_POOL_MIN_IDLE";
+    public static final String ENV_POOL_MAX_SIZE = "IAMDB_POOL_MAX_SIZE";
+    public static final String ENV_POOL_MAX_LIFETIME_MS = "IAMDB_POOL_MAX_LIFETIME_MS";
+    public static final String ENV_POOL_IDLE_TIMEOUT_MS = "IAMDB_POOL_IDLE_TIMEOUT_MS";
+    public static final String ENV_POOL_CONNECTION_TIMEOUT_MS = "IAMDB_POOL_CONNECTION_TIMEOUT_MS";
+    // Environment Variables (Read Replica)
+    public static final String ENV_DB_REPLICA_URL = "IAMDB_REPLICA_URL"; // optional: same user and password as the primary
+    public static final String ENV_READ_FENCE_MS = "IAMDB_READ_FENCE_MS";
+    // Environment Variables (Prepared-Statement Cache)
+    public static final String ENV_STMT_CACHE_ENABLED = "IAMDB_STMT_CACHE_ENABLED";
+    public static final String ENV_STMT_CACHE_SIZE = "IAMDB_STMT_CACHE_SIZE";
+    // Environment Variables (Permission Cache)
+    public static final String ENV_CACHE_ENABLED = "IAMDB_CACHE_ENABLED";
+    public static final String ENV_CACHE_MAX_SIZE = "IAMDB_CACHE_MAX_SIZE";
+    public static final String ENV_CACHE_TTL_SECONDS = "IAMDB_CACHE_TTL_SECONDS";
+    public static final String ENV_CACHE_MISSING_MAX_SIZE = "IAMDB_CACHE_MISSING_MAX_SIZE";
+    public static final String ENV_CACHE_MISSING_TTL_SECONDS = "IAMDB_CACHE_MISSING_TTL_SECONDS";
+    public static final String ENV_ROLE_NAMES_REFRESH_SECONDS = "IAMDB_ROLE_NAMES_REFRESH_SECONDS";
+    // Environment Variables (Authorization Index)
+    public static final String ENV_AUTHZ_REFRESH_SECONDS = "IAMDB_AUTHZ_REFRESH_SECONDS";
+    // Environment Variables (Change Log)
+    public static final String ENV_CHANGELOG_POLL_MS = "IAMDB_CHANGELOG_POLL_MS"; // 0: no polling (single node)
+    public static final String ENV_CHANGELOG_GAP_SECONDS = "IAMDB_CHANGELOG_GAP_SECONDS";
+    public static final String ENV_CHANGELOG_RETENTION_SECONDS = "IAMDB_CHANGELOG_RETENTION_SECONDS";
+    // Environment Variables (Cache Warm-up)
+    public static final String ENV_WARMUP_TIMEOUT_SECONDS = "IAMDB_WARMUP_TIMEOUT_SECONDS"; // 0: no warm-up
+    public static final String ENV_WARMUP_THREADS = "IAMDB_WARMUP_THREADS";
+    // Environment Variables (Schema)
+    public static final String ENV_MIGRATE = "IAMDB_MIGRATE"; // true: apply pending migrations at startup
+    public static final String ENV_INDEX_CHECK = "IAMDB_INDEX_CHECK"; // off, warn or refuse (to start) on a missing hot-path index
     // Default Values
     public static final String DEFAULT_DB_URL = "jdbc:mysql://localhost:3306/iamDB";
     public static final String DEFAULT_DB_USR = "admin";
     public static final String DEFAULT_DB_PWD = "1234";
+    // Default Values (Connection Pool)
+    public static final int DEFAULT_POOL_MIN_IDLE = 2;
+    public static final int DEFAULT_POOL_MAX_SIZE = 10;
+    public static final long DEFAULT_POOL_MAX_LIFETIME_MS = 1800000; // 30 minutes
+    public static final long DEFAULT_POOL_IDLE_TIMEOUT_MS = 600000; // 10 minutes
+    public static final long DEFAULT_POOL_CONNECTION_TIMEOUT_MS = 5000; // 5 seconds
+    // Default Values (Prepared-Statement Cache)
+    public static final boolean DEFAULT_STMT_CACHE_ENABLED = true;
+    public static final int DEFAULT_STMT_CACHE_SIZE = 250; // statements per connection
+    public static final int DEFAULT_STMT_CACHE_SQL_LIMIT = 2048; // longest cached SQL (characters)
+    // Default Values (Permission Cache)
+    public static final boolean DEFAULT_CACHE_ENABLED = true;
+    public static final long DEFAULT_CACHE_MAX_SIZE = 10000; // entries (a permission in both views: 2 entries)
+    public static final long DEFAULT_CACHE_TTL_SECONDS = 300; // staleness bound for changes made outside this node
+    public static final long DEFAULT_CACHE_MISSING_MAX_SIZE = 10000; // entries (permission ids and metadata names not found)
+    public static final long DEFAULT_CACHE_MISSING_TTL_SECONDS = 5; // staleness bound for creations made outside this node
+    public static final long DEFAULT_ROLE_NAMES_REFRESH_SECONDS = 300; // staleness bound of a renamed application, feature or role
+    // Default Values (Authorization Index)
+    public static final long DEFAULT_AUTHZ_REFRESH_SECONDS = 60; // staleness bound of the index (rebuilt in the background)
+    // Default Values (Change Log)
+    public static final long DEFAULT_CHANGELOG_POLL_MS = 1000; // staleness bound of a change made on another node
+    public static final long DEFAULT_CHANGELOG_GAP_SECONDS = 60; // wait for a sequence gap (longer than any transaction)
+    public static final long DEFAULT_CHANGELOG_RETENTION_SECONDS = 86400; // rows kept (1 day)
+    // Default Values (Cache Warm-up)
+    public static final long DEFAULT_WARMUP_TIMEOUT_SECONDS = 60; // longest readiness delay at boot
+    public static final int DEFAULT_WARMUP_THREADS = 4; // chunks loaded in parallel (connections taken from the pool)
+    public static final int DEFAULT_WARMUP_CHUNK_SIZE = 500; // permissions per chunk
+    // Default Values (Schema)
+    public static final boolean DEFAULT_MIGRATE = true;
+    public static final String DEFAULT_INDEX_CHECK = "warn";
+    public static final String MIGRATION_LOCATION = "classpath:db/migration/V*__*.sql";
+    public static final String MIGRATION_VENDOR_LOCATION = "classpath:db/migration/%s/V*__*.sql"; // %s: mysql, h2
+    // Default Values (Read Replica)
+    public static final long DEFAULT_READ_FENCE_MS = 5000; // reads of a client pinned to the primary after its write
+    // Default Values (Unit of Work)
+    public static final int DEFAULT_TX_ISOLATION = java.sql.Connection.TRANSACTION_READ_COMMITTED;
+    // Default Values (Cursor)
+    public static final int DEFAULT_CURSOR_FETCH_SIZE = 500; // rows per server round trip
 }
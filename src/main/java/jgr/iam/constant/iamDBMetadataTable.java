@@ -2,6 +2,8 @@ package jgr.iam.constant;
 
 // Metadata Tables
 public class iamDBMetadataTable {
+    public static final String USER = "UserMetadata";
+    public static final String UG = "UserGroupMetadata";
     public static final String APP = "ApplicationMetadata";
     public static final String FEAT = "FeatureMetadata";
     public static final String ROLE = "RoleMetadata";
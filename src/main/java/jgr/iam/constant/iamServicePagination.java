@@ -0,0 +1,9 @@
+package jgr.iam.constant;
+
+// Service Pagination (keyset on id)
+public class iamServicePagination {
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 1000;
+    public static final int EXPORT_CHUNK_SIZE = 500; // records enriched (and written) together
+    public static final int MAX_BULK_CHECK_SIZE = 10000; // (user, permission) pairs per bulk authorization check
+}
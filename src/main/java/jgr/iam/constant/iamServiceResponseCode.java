@@ -10,6 +10,8 @@ public class iamServiceResponseCode {
     public static final String DELETED = "record-deleted";
     public static final String NO_CONTENT = "no-content";
     public static final String NO_UPDATE_REQUESTED = "no-update-requested";
+    public static final String NOT_READY = "not-ready";
+    public static final String READY = "ready";
     public static final String SOMETHING_WENT_WRONG = "something-went-wrong";
     public static final String UPDATED = "record-updated";
     public static final String UPDATED_WARNING = "record-updated-warning";
@@ -0,0 +1,56 @@
+package jgr.iam.controller;
+
+// External Objects
+import lombok.RequiredArgsConstructor;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+// Internal Objects
+import jgr.iam.payload.request.authz.AuthzBulkCheckRequest;
+import jgr.iam.payload.response.authz.AuthzCheckListResponse;
+import jgr.iam.payload.response.authz.AuthzCheckResponse;
+import jgr.iam.service.impl.AuthzService;
+
+// GET
+// - /authz/check?user={id}&permission={id}: Does identified user hold identified permission (in-memory index)
+
+// POST
+// - /authz/check: Check (user, permission) pairs, or one user and many permissions, in one call (same index)
+
+@RestController
+@RequestMapping("/authz")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor(onConstructor_ = {@Autowired})
+public class AuthzController {
+
+    // Logger
+    private final static Logger logger = LogManager.getLogger(AuthzController.class.getCanonicalName());
+
+    // Authorization Service
+    private final AuthzService authzService;
+
+    // As a Gateway, I want to know whether a User holds a Permission, on every request
+    // (hot path: logged at debug level)
+    @GetMapping("/check")
+    public ResponseEntity<AuthzCheckResponse> check(@RequestParam String user, @RequestParam String permission) {
+        logger.debug("check(" + user + ", " + permission + ").");
+        AuthzCheckResponse result = authzService.check(user, permission);
+        HttpStatusCode status = result == null ? HttpStatus.INTERNAL_SERVER_ERROR : result.getStatus();
+        return new ResponseEntity<>(result, status);
+    }
+
+    // As a Gateway, I want to check all the Permissions a page needs in one call, with a consistent answer
+    @PostMapping("/check")
+    public ResponseEntity<AuthzCheckListResponse> checkAll(@RequestBody AuthzBulkCheckRequest request) {
+        logger.debug("checkAll().");
+        AuthzCheckListResponse result = authzService.checkAll(request);
+        HttpStatusCode status = result == null ? HttpStatus.INTERNAL_SERVER_ERROR : result.getStatus();
+        return new ResponseEntity<>(result, status);
+    }
+}
@@ -1,12 +1,18 @@
 package jgr.iam.controller;
 
 // External Objects
+import lombok.RequiredArgsConstructor;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import java.util.List;
 
 // Internal Objects
@@ -20,14 +26,20 @@ import jgr.iam.payload.response.permission.PermissionDetailResponse;
 import jgr.iam.payload.response.permission.PermissionSummaryListResponse;
 import jgr.iam.payload.response.permission.PermissionSummaryResponse;
 import jgr.iam.service.impl.PermissionService;
+import jgr.iam.util.iamCatalogVersion;
 
 // GET
 // - /manage/permission: Get all non-archived permissions (summary view)
 // - /manage/permission?archived=true: Get all archived permissions (summary view)
 // - /manage/permission/detail: Get all non-archived permissions (detail view)
 // - /manage/permission/detail?archived=true: Get all archived permissions (summary view)
+// - /manage/permission/export: Export all non-archived permissions (detail view), streamed as NDJSON
+// - /manage/permission/export?archived=true: Export all archived permissions (detail view), streamed as NDJSON
+// - lists are paginated: ?limit=<page size>&cursor=<next cursor of the previous page>
 // - /manage/permission/{id}: Get permission (summary view)
 // - /manage/permission/{id}/detail: Get permission (detail view)
+// - ETag: catalog version (lists, export), permission version ({id}); If-None-Match answered 304 Not Modified from
+//   memory, before any database access; none on replica reads (the body may be older than the version)
 
 // POST
 // - /manage/permission/: Create new Permission
@@ -43,31 +55,35 @@ import jgr.iam.service.impl.PermissionService;
 
 @RestController
 @RequestMapping("/manage/permission")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor(onConstructor_ = {@Autowired})
 public class PermissionController {
 
     // Logger
     private final static Logger logger = LogManager.getLogger(PermissionController.class.getCanonicalName());
 
     // Permission Management Service
-    private PermissionService permService;
+    private final PermissionService permService;
 
     // As an Admin, I want to see all Non-archived Permissions (Summary View)
     // As an Admin, I want to see all Archived Permissions (Summary View)
     @GetMapping
-    public ResponseEntity<PermissionSummaryListResponse> getPermissionSummaryList(@RequestParam(required = false, defaultValue = "false") boolean archived) {
-        logger.info("getPermissionSummaryList(" + archived + ").");
-        if(permService == null)
-            permService = new PermissionService();
-        PermissionSummaryListResponse result = permService.getPermissionSummaryList(archived);
+    public ResponseEntity<PermissionSummaryListResponse> getPermissionSummaryList(@RequestParam(required = false, defaultValue = "false") boolean archived,
+                                                                                  @RequestParam(required = false) String cursor,
+                                                                                  @RequestParam(required = false) Integer limit,
+                                                                                  @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        logger.info("getPermissionSummaryList(" + archived + ", " + cursor + ", " + limit + ").");
+        String eTag = permService.getCatalogETag();
+        if(iamCatalogVersion.matches(ifNoneMatch, eTag))
+            return _notModified(eTag);
+        PermissionSummaryListResponse result = permService.getPermissionSummaryList(archived, cursor, limit);
         HttpStatusCode status = result == null ? HttpStatus.INTERNAL_SERVER_ERROR : result.getStatus();
-        return new ResponseEntity<>(permService.getPermissionSummaryList(archived), status);
+        return _withETag(result, status, eTag);
     }
 
     // As an Admin, I want to create a new Permission
     @PostMapping
     public ResponseEntity<PermissionSummaryResponse> createPermission(@RequestBody PermissionCreateRequest request) {
-        if(permService == null)
-            permService = new PermissionService();
         if(request == null)
             return new ResponseEntity<>(null, HttpStatus.BAD_REQUEST);
         logger.info("createPermission(" + request.toString() + ").");
@@ -79,32 +95,49 @@ public class PermissionController {
     // As an Admin, I want to see all Non-Archived Permissions (Detail View)
     // As an Admin, I want to see all Archived Permissions (Detail View)
     @GetMapping("/detail")
-    public ResponseEntity<PermissionDetailListResponse> getPermissionDetailList(@RequestParam(required = false, defaultValue = "false") boolean archived) {
-        logger.info("getPermissionDetailList(" + archived + ").");
-        if(permService == null)
-            permService = new PermissionService();
-        PermissionDetailListResponse result = permService.getPermissionDetailList(archived);
+    public ResponseEntity<PermissionDetailListResponse> getPermissionDetailList(@RequestParam(required = false, defaultValue = "false") boolean archived,
+                                                                                @RequestParam(required = false) String cursor,
+                                                                                @RequestParam(required = false) Integer limit,
+                                                                                @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        logger.info("getPermissionDetailList(" + archived + ", " + cursor + ", " + limit + ").");
+        String eTag = permService.getCatalogETag();
+        if(iamCatalogVersion.matches(ifNoneMatch, eTag))
+            return _notModified(eTag);
+        PermissionDetailListResponse result = permService.getPermissionDetailList(archived, cursor, limit);
         HttpStatusCode status = result == null ? HttpStatus.INTERNAL_SERVER_ERROR : result.getStatus();
-        return new ResponseEntity<>(result, status);
+        return _withETag(result, status, eTag);
+    }
+
+    // As a Sync Job, I want to export all Permissions (Detail View), without paging
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportPermissions(@RequestParam(required = false, defaultValue = "false") boolean archived,
+                                                                   @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        logger.info("exportPermissions(" + archived + ").");
+        String eTag = permService.getCatalogETag();
+        if(iamCatalogVersion.matches(ifNoneMatch, eTag))
+            return _notModified(eTag);
+        return _withETag(ResponseEntity.ok(), eTag)
+                             .contentType(MediaType.APPLICATION_NDJSON)
+                             .body(permService.exportPermissions(archived));
     }
 
     // As an Admin, I want to get a Permission Summary Information
     @GetMapping("/{id}")
-    public ResponseEntity<PermissionSummaryResponse> getPermissionSummary(@PathVariable String id) {
+    public ResponseEntity<PermissionSummaryResponse> getPermissionSummary(@PathVariable String id,
+                                                                          @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         logger.info("getPermissionSummary(" + id + ").");
-        if(permService == null)
-            permService = new PermissionService();
+        String eTag = permService.getPermissionETag(id);
+        if(iamCatalogVersion.matches(ifNoneMatch, eTag))
+            return _notModified(eTag);
         PermissionSummaryResponse result = permService.getPermissionSummary(id);
         HttpStatusCode status = result == null ? HttpStatus.INTERNAL_SERVER_ERROR : result.getStatus();
-        return new ResponseEntity<>(result, status);
+        return _withETag(result, status, eTag);
     }
 
     // As an Admin, I want to delete a Permission
     @DeleteMapping("/{id}")
     public ResponseEntity<EntityDeleteResponse> deletePermission(@PathVariable String id) {
         logger.info("deletePermission(" + id + ").");
-        if(permService == null)
-            permService = new PermissionService();
         EntityDeleteResponse result  = permService.deletePermission(id);
         HttpStatusCode status = result == null ? HttpStatus.INTERNAL_SERVER_ERROR : result.getStatus();
         return new ResponseEntity<>(result, status);
@@ -115,8 +148,6 @@ public class PermissionController {
     @PatchMapping("/{id}")
     public ResponseEntity<EntityPatchResponse> updatePermission(@PathVariable String id, @RequestBody List<EntityPatchRequest> requests) {
         logger.info("updatePermission(" + id + ", [" + requests + "]).");
-        if(permService == null)
-            permService = new PermissionService();
         if(requests == null)
             return new ResponseEntity<>(null, HttpStatus.BAD_REQUEST);
         EntityPatchResponse result  = permService.updatePermission(id, requests);
@@ -127,8 +158,6 @@ public class PermissionController {
     // As an Admin, I want to create a new Metadata for the identified Permission
     @PostMapping("/{id}")
     public ResponseEntity<PermissionSummaryResponse> createMetadata(@PathVariable String id, @RequestBody MetadataCreateRequest request) {
-        if(permService == null)
-            permService = new PermissionService();
         if(request == null)
             return new ResponseEntity<>(null, HttpStatus.BAD_REQUEST);
         logger.info("createMetadata(" + id + "," + request.toString() + ").");
@@ -142,8 +171,6 @@ public class PermissionController {
     @PatchMapping("/{id}/{name}")
     public ResponseEntity<EntityPatchResponse> updateMetadata(@PathVariable String id, @PathVariable String name, @RequestBody List<EntityPatchRequest> requests) {
         logger.info("updateMetadata(" + id + ", " + name + ", [" + requests + "]).");
-        if(permService == null)
-            permService = new PermissionService();
         EntityPatchResponse result  = permService.updateMetadata(id, name, requests);
         HttpStatusCode status = result == null ? HttpStatus.INTERNAL_SERVER_ERROR : result.getStatus();
         return new ResponseEntity<>(result, status);
@@ -153,8 +180,6 @@ public class PermissionController {
     @DeleteMapping("/{id}/{name}")
     public ResponseEntity<EntityDeleteResponse> deleteMetadata(@PathVariable String id, @PathVariable String name) {
         logger.info("deleteMetadata(" + id + ", " + name + ").");
-        if(permService == null)
-            permService = new PermissionService();
         EntityDeleteResponse result  = permService.deleteMetadata(id, name);
         HttpStatusCode status = result == null ? HttpStatus.INTERNAL_SERVER_ERROR : result.getStatus();
         return new ResponseEntity<>(result, status);
@@ -162,12 +187,30 @@ public class PermissionController {
 
     // As an Admin, I want to get a Permission Detail Information
     @GetMapping("/{id}/detail")
-    public ResponseEntity<PermissionDetailResponse> getPermissionDetail(@PathVariable String id) {
+    public ResponseEntity<PermissionDetailResponse> getPermissionDetail(@PathVariable String id,
+                                                                        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         logger.info("getPermissionDetail(" + id + ").");
-        if(permService == null)
-            permService = new PermissionService();
+        String eTag = permService.getPermissionETag(id);
+        if(iamCatalogVersion.matches(ifNoneMatch, eTag))
+            return _notModified(eTag);
         PermissionDetailResponse result  = permService.getPermissionDetail(id);
         HttpStatusCode status = result == null ? HttpStatus.INTERNAL_SERVER_ERROR : result.getStatus();
-        return new ResponseEntity<>(result, status);
+        return _withETag(result, status, eTag);
+    }
+
+    // Not Modified: the client's copy is current (no body)
+    private static <T> ResponseEntity<T> _notModified(String eTag) {
+        logger.debug("_notModified(" + eTag + ").");
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+    }
+
+    // With ETag: the response, tagged with the version read before it was built (OK responses only)
+    private static <T> ResponseEntity<T> _withETag(T result, HttpStatusCode status, String eTag) {
+        return status == HttpStatus.OK ? _withETag(ResponseEntity.status(status), eTag).body(result) : new ResponseEntity<>(result, status);
+    }
+
+    // With ETag: the response builder, tagged (if there's a tag)
+    private static ResponseEntity.BodyBuilder _withETag(ResponseEntity.BodyBuilder builder, String eTag) {
+        return eTag == null ? builder : builder.eTag(eTag);
     }
 }
\ No newline at end of file
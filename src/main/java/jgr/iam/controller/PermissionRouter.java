@@ -0,0 +1,141 @@
+package jgr.iam.controller;
+
+// External Objects
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import java.util.List;
+
+// External Static Objects
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+// Internal Objects
+import jgr.iam.payload.request.EntityPatchRequest;
+import jgr.iam.payload.request.metadata.MetadataCreateRequest;
+import jgr.iam.payload.request.permission.PermissionCreateRequest;
+import jgr.iam.payload.response.ObjectResponse;
+import jgr.iam.payload.response.permission.PermissionDetailValue;
+import jgr.iam.service.impl.PermissionReactiveService;
+
+// Permission Routes (reactive profile): the PermissionController endpoints, as functional WebFlux routes
+// - Same paths, parameters, payloads and status codes; handlers return as soon as the pipeline is assembled, and
+//   the event loop writes the response when the database answers
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class PermissionRouter {
+
+    // Logger
+    private final static Logger logger = LogManager.getLogger(PermissionRouter.class.getCanonicalName());
+
+    // Patch Requests
+    private final static ParameterizedTypeReference<List<EntityPatchRequest>> PATCH_REQUESTS = new ParameterizedTypeReference<>() {};
+
+    // Routes
+    @Bean
+    public RouterFunction<ServerResponse> permissionRoutes(PermissionReactiveService permService) {
+        return route().path("/manage/permission", builder -> builder
+                // As an Admin, I want to see all (Non-)Archived Permissions (Summary View)
+                .GET("", request -> {
+                    logger.info("getPermissionSummaryList(" + request.queryParams() + ").");
+                    return _respond(permService.getPermissionSummaryList(_isArchived(request), _getCursor(request), _getLimit(request)), HttpStatus.INTERNAL_SERVER_ERROR);
+                })
+                // As an Admin, I want to create a new Permission
+                .POST("", request -> request.bodyToMono(PermissionCreateRequest.class)
+                        .flatMap(body -> {
+                            logger.info("createPermission(" + body + ").");
+                            return _respond(permService.createPermission(body.getName(), body.getDescription()), HttpStatus.BAD_REQUEST);
+                        })
+                        .switchIfEmpty(ServerResponse.badRequest().build()))
+                // As an Admin, I want to see all (Non-)Archived Permissions (Detail View)
+                .GET("/detail", request -> {
+                    logger.info("getPermissionDetailList(" + request.queryParams() + ").");
+                    return _respond(permService.getPermissionDetailList(_isArchived(request), _getCursor(request), _getLimit(request)), HttpStatus.INTERNAL_SERVER_ERROR);
+                })
+                // As a Sync Job, I want to export all Permissions (Detail View), without paging
+                .GET("/export", request -> {
+                    logger.info("exportPermissions(" + _isArchived(request) + ").");
+                    return ServerResponse.ok()
+                                         .contentType(MediaType.APPLICATION_NDJSON)
+                                         .body(permService.exportPermissions(_isArchived(request)), PermissionDetailValue.class);
+                })
+                // As an Admin, I want to get a Permission Summary Information
+                .GET("/{id}", request -> {
+                    logger.info("getPermissionSummary(" + request.pathVariable("id") + ").");
+                    return _respond(permService.getPermissionSummary(request.pathVariable("id")), HttpStatus.INTERNAL_SERVER_ERROR);
+                })
+                // As an Admin, I want to delete a Permission
+                .DELETE("/{id}", request -> {
+                    logger.info("deletePermission(" + request.pathVariable("id") + ").");
+                    return _respond(permService.deletePermission(request.pathVariable("id")), HttpStatus.INTERNAL_SERVER_ERROR);
+                })
+                // As an Admin, I want to update a Permission basic information: description, archived
+                .PATCH("/{id}", request -> request.bodyToMono(PATCH_REQUESTS)
+                        .flatMap(body -> {
+                            logger.info("updatePermission(" + request.pathVariable("id") + ", [" + body + "]).");
+                            return _respond(permService.updatePermission(request.pathVariable("id"), body), HttpStatus.INTERNAL_SERVER_ERROR);
+                        })
+                        .switchIfEmpty(ServerResponse.badRequest().build()))
+                // As an Admin, I want to create a new Metadata for the identified Permission
+                .POST("/{id}", request -> request.bodyToMono(MetadataCreateRequest.class)
+                        .flatMap(body -> {
+                            logger.info("createMetadata(" + request.pathVariable("id") + "," + body + ").");
+                            return _respond(permService.createMetadata(request.pathVariable("id"), body.getName(), body.getValue()), HttpStatus.BAD_REQUEST);
+                        })
+                        .switchIfEmpty(ServerResponse.badRequest().build()))
+                // As an Admin, I want to get a Permission Detail Information
+                .GET("/{id}/detail", request -> {
+                    logger.info("getPermissionDetail(" + request.pathVariable("id") + ").");
+                    return _respond(permService.getPermissionDetail(request.pathVariable("id")), HttpStatus.INTERNAL_SERVER_ERROR);
+                })
+                // As an Admin, I want to update or (undo-)archive a Metadata for the identified Permission
+                .PATCH("/{id}/{name}", request -> request.bodyToMono(PATCH_REQUESTS)
+                        .flatMap(body -> {
+                            logger.info("updateMetadata(" + request.pathVariable("id") + ", " + request.pathVariable("name") + ", [" + body + "]).");
+                            return _respond(permService.updateMetadata(request.pathVariable("id"), request.pathVariable("name"), body), HttpStatus.INTERNAL_SERVER_ERROR);
+                        })
+                        .switchIfEmpty(ServerResponse.badRequest().build()))
+                // As an Admin, I want to delete a Metadata for the identified Permission
+                .DELETE("/{id}/{name}", request -> {
+                    logger.info("deleteMetadata(" + request.pathVariable("id") + ", " + request.pathVariable("name") + ").");
+                    return _respond(permService.deleteMetadata(request.pathVariable("id"), request.pathVariable("name")), HttpStatus.INTERNAL_SERVER_ERROR);
+                }))
+            .build();
+    }
+
+    // Respond: the response status, or the fallback status if there's no response (as the controller does for null)
+    private static <T extends ObjectResponse> Mono<ServerResponse> _respond(Mono<T> result, HttpStatusCode fallback) {
+        return result.flatMap(response -> ServerResponse.status(response.getStatus()).bodyValue(response))
+                     .switchIfEmpty(Mono.defer(() -> ServerResponse.status(fallback).build()));
+    }
+
+    // Get archived parameter (default: false)
+    private static boolean _isArchived(ServerRequest request) {
+        return request.queryParam("archived").map(Boolean::parseBoolean).orElse(false);
+    }
+
+    // Get cursor parameter
+    private static String _getCursor(ServerRequest request) {
+        return request.queryParam("cursor").orElse(null);
+    }
+
+    // Get limit parameter (a non-number is a bad request: 0, as for the controller)
+    private static Integer _getLimit(ServerRequest request) {
+        try {
+            return request.queryParam("limit").map(Integer::valueOf).orElse(null);
+        }
+        catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
@@ -3,6 +3,9 @@ package jgr.iam.controller;
 // External Objects
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,6 +13,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 // Internal Objects
 import jgr.iam.constant.iamServiceResponseCode;
+import jgr.iam.payload.response.ReadinessResponse;
 import jgr.iam.payload.response.RootDefaultResponse;
 
 @RestController
@@ -18,6 +22,20 @@ public class RootController {
 	// Logger
 	private final static Logger logger = LogManager.getLogger(RootController.class.getCanonicalName());
 
+	// Application Availability (readiness; none: always ready)
+	private final ApplicationAvailability availability;
+
+	// Constructor (always ready)
+	public RootController() {
+		this(null);
+	}
+
+	// Constructor (Spring-managed)
+	@Autowired
+	public RootController(ApplicationAvailability availability) {
+		this.availability = availability;
+	}
+
 	// As a User, I want to access the Service Root
 	@GetMapping("/")
 	public ResponseEntity<RootDefaultResponse> indexRoot() {
@@ -36,6 +54,18 @@ public class RootController {
 		return getNoContent();
 	}
 
+	// As a Load Balancer, I want to know whether the Service is ready, so that I route to it only once it serves from
+	// memory (readiness held during the cache warm-up)
+	@GetMapping("/manage/ready")
+	public ResponseEntity<ReadinessResponse> indexReady() {
+		boolean ready = availability == null || availability.getReadinessState() == ReadinessState.ACCEPTING_TRAFFIC;
+		HttpStatus status = ready ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
+		if (!ready) {
+			logger.debug("indexReady(): Not ready.");
+		}
+		return new ResponseEntity<>(new ReadinessResponse(status, ready ? iamServiceResponseCode.READY : iamServiceResponseCode.NOT_READY), status);
+	}
+
 	// Return No Content
 	private ResponseEntity<RootDefaultResponse> getNoContent() {
 		return new ResponseEntity<>(new RootDefaultResponse(iamServiceResponseCode.CONTENT_NOT_FOUND), HttpStatus.NOT_FOUND);
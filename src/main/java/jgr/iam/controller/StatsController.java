@@ -0,0 +1,68 @@
+package jgr.iam.controller;
+
+// External Objects
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import java.util.List;
+
+// Internal Objects
+import jgr.iam.constant.iamServiceResponseCode;
+import jgr.iam.manager.PermissionManager;
+import jgr.iam.payload.response.cache.CacheStatisticsListResponse;
+import jgr.iam.payload.response.pool.PoolStatisticsListResponse;
+import jgr.iam.util.iamCacheStatistics;
+import jgr.iam.util.iamDBConnectionPool;
+import jgr.iam.util.iamDBPoolStatistics;
+
+// GET
+// - /manage/stats/pool: Get iamDB connection pool statistics (state and wait-time)
+// - /manage/stats/cache: Get in-process cache statistics (size, hits, misses and evictions)
+
+@RestController
+@RequestMapping("/manage/stats")
+public class StatsController {
+
+    // Logger
+    private final static Logger logger = LogManager.getLogger(StatsController.class.getCanonicalName());
+
+    // Permission Manager (cache owner; none: no cache statistics)
+    private final PermissionManager permManager;
+
+    // Constructor (pool statistics only)
+    public StatsController() {
+        this(null);
+    }
+
+    // Constructor (Spring-managed)
+    @Autowired
+    public StatsController(PermissionManager permManager) {
+        this.permManager = permManager;
+    }
+
+    // As an Admin, I want to see the connection pool statistics, so that I can size the pool
+    @GetMapping("/pool")
+    public ResponseEntity<PoolStatisticsListResponse> getPoolStatistics() {
+        logger.info("getPoolStatistics().");
+        List<iamDBPoolStatistics> stats = iamDBConnectionPool.getStatistics();
+        HttpStatusCode status = stats.isEmpty() ? HttpStatus.NO_CONTENT : HttpStatus.OK;
+        String response = stats.isEmpty() ? iamServiceResponseCode.NO_CONTENT : iamServiceResponseCode.CONTENT_FOUND;
+        return new ResponseEntity<>(new PoolStatisticsListResponse(stats, status, response), status);
+    }
+
+    // As an Admin, I want to see the cache statistics, so that I can size the cache and its TTL
+    @GetMapping("/cache")
+    public ResponseEntity<CacheStatisticsListResponse> getCacheStatistics() {
+        logger.info("getCacheStatistics().");
+        List<iamCacheStatistics> stats = permManager == null || !permManager.getCache().isEnabled() ? List.of() : permManager.getCache().getStatistics();
+        HttpStatusCode status = stats.isEmpty() ? HttpStatus.NO_CONTENT : HttpStatus.OK;
+        String response = stats.isEmpty() ? iamServiceResponseCode.NO_CONTENT : iamServiceResponseCode.CONTENT_FOUND;
+        return new ResponseEntity<>(new CacheStatisticsListResponse(stats, status, response), status);
+    }
+}
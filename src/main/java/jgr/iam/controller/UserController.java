@@ -0,0 +1,41 @@
+package jgr.iam.controller;
+
+// External Objects
+import lombok.RequiredArgsConstructor;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+// Internal Objects
+import jgr.iam.payload.response.user.UserPermissionListResponse;
+import jgr.iam.service.impl.UserService;
+
+// GET
+// - /user/{id}/permissions: Get the effective permissions of identified user (direct and group roles, deduplicated)
+
+@RestController
+@RequestMapping("/user")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor(onConstructor_ = {@Autowired})
+public class UserController {
+
+    // Logger
+    private final static Logger logger = LogManager.getLogger(UserController.class.getCanonicalName());
+
+    // User Service
+    private final UserService userService;
+
+    // As a Gateway, I want to know what a User can do when they log in
+    @GetMapping("/{id}/permissions")
+    public ResponseEntity<UserPermissionListResponse> getUserPermissions(@PathVariable String id) {
+        logger.info("getUserPermissions(" + id + ").");
+        UserPermissionListResponse result = userService.getUserPermissions(id);
+        HttpStatusCode status = result == null ? HttpStatus.INTERNAL_SERVER_ERROR : result.getStatus();
+        return new ResponseEntity<>(result, status);
+    }
+}
@@ -0,0 +1,9 @@
+package jgr.iam.enums;
+
+// Authorization Graph Edge (link table)
+public enum AuthzEdge {
+    USER_ROLE, // User_Role: user -> role
+    USER_GROUP, // User_UserGroup: user -> group
+    GROUP_ROLE, // UserGroup_Role: group -> role
+    ROLE_PERMISSION // Role_Permission: role -> permission
+}
@@ -0,0 +1,9 @@
+package jgr.iam.enums;
+
+// Authorization Graph Node (entity table)
+public enum AuthzNode {
+    USER, // User (inactive counts as archived)
+    GROUP, // UserGroup
+    ROLE, // Role
+    PERMISSION // Permission
+}
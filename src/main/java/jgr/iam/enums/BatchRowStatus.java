@@ -0,0 +1,8 @@
+package jgr.iam.enums;
+
+// Batch Row Status (outcome of one row of a batch write)
+public enum BatchRowStatus {
+    APPLIED, // Row written
+    NOT_FOUND, // No row matched (update/delete)
+    FAILED // Row rejected (constraint violation, connection lost, ...)
+}
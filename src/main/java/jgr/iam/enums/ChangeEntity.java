@@ -0,0 +1,8 @@
+package jgr.iam.enums;
+
+// Change Log Entity (table changed)
+public enum ChangeEntity {
+    PERMISSION, // Permission (id 0: ids unknown, batch creation)
+    METADATA, // PermissionMetadata
+    ROLE_PERMISSION // Role_Permission
+}
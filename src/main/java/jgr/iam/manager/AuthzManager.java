@@ -0,0 +1,304 @@
+package jgr.iam.manager;
+
+// External Objects
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.logging.log4j.LogManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.UnaryOperator;
+
+// Internal Objects
+import jgr.iam.enums.AuthzEdge;
+import jgr.iam.enums.AuthzNode;
+import jgr.iam.util.iamAuthzGraph;
+import jgr.iam.util.iamAuthzIndex;
+import jgr.iam.util.iamDBConnectorUtil;
+import jgr.iam.repository.PermissionRepository;
+import jgr.iam.repository.RolePermissionRepository;
+import jgr.iam.repository.RoleRepository;
+import jgr.iam.repository.UserGroupRepository;
+import jgr.iam.repository.UserGroupRoleRepository;
+import jgr.iam.repository.UserRepository;
+import jgr.iam.repository.UserRoleRepository;
+import jgr.iam.repository.UserUserGroupRepository;
+import jgr.iam.model.dto.PermissionDTO;
+import jgr.iam.model.dto.RoleDTO;
+import jgr.iam.model.dto.RolePermissionDTO;
+import jgr.iam.model.dto.UserDTO;
+import jgr.iam.model.dto.UserGroupDTO;
+
+// Authorization Manager
+// - Checks served from the in-memory authorization index, never from iamDB
+// - Index loaded on first use, then rebuilt in the background once older than IAMDB_AUTHZ_REFRESH_SECONDS (the
+//   staleness bound): readers keep the current snapshot until the new one is swapped in
+// - Deltas: link and archived-flag changes applied copy-on-write to the current snapshot and swapped in atomically;
+//   the ones applied while a rebuild loads are replayed on the rebuilt snapshot before it's swapped in
+@Component
+@Getter
+@Setter
+public class AuthzManager extends BaseManager {
+
+    // Repository objects
+    private UserRoleRepository urRepo; // User-Role Repository
+    private UserUserGroupRepository uugRepo; // User-UserGroup Repository
+    private UserGroupRoleRepository ugrRepo; // UserGroup-Role Repository
+    private RolePermissionRepository rpRepo; // Role-Permission Repository
+    private UserRepository userRepo; // User Repository
+    private UserGroupRepository ugRepo; // UserGroup Repository
+    private RoleRepository roleRepo; // Role Repository
+    private PermissionRepository permRepo; // Permission Repository
+
+    // Delta: a graph change, and the user it affects (or ALL_USERS)
+    private record Delta(UnaryOperator<iamAuthzGraph> change, int userId) {}
+
+    // Index objects
+    private final AtomicReference<iamAuthzIndex> index = new AtomicReference<>(); // current index (null: not loaded)
+    private final AtomicBoolean refreshing = new AtomicBoolean(); // a background rebuild is running
+    private final ReentrantLock refreshLock = new ReentrantLock(); // one rebuild at a time (not a monitor: held across JDBC)
+    private List<Delta> replay; // deltas applied while a rebuild loads (null: none loading), guarded by this
+    private long refreshMillis; // index age triggering a background rebuild
+    private Executor refresher = task -> Thread.ofVirtual().name("iamAuthzRefresh").start(task); // background rebuild
+
+    // Reload objects: permissions and roles to reload once the calling thread's unit of work completes
+    private final ThreadLocal<Set<Integer>> pendingPermissions = ThreadLocal.withInitial(HashSet::new);
+    private final ThreadLocal<Set<Integer>> pendingRoles = ThreadLocal.withInitial(HashSet::new);
+
+    // Constructor (for unit test purpose)
+    public AuthzManager()
+    {
+        this(new iamDBConnectorUtil());
+    }
+
+    // Constructor (own repositories on the given connector)
+    public AuthzManager(iamDBConnectorUtil connector)
+    {
+        this(connector,
+             new UserRoleRepository(connector),
+             new UserUserGroupRepository(connector),
+             new UserGroupRoleRepository(connector),
+             new RolePermissionRepository(connector),
+             new UserRepository(connector),
+             new UserGroupRepository(connector),
+             new RoleRepository(connector),
+             new PermissionRepository(connector));
+    }
+
+    // Constructor (Spring-managed)
+    @Autowired
+    public AuthzManager(iamDBConnectorUtil connector,
+                        UserRoleRepository urRepo,
+                        UserUserGroupRepository uugRepo,
+                        UserGroupRoleRepository ugrRepo,
+                        RolePermissionRepository rpRepo,
+                        UserRepository userRepo,
+                        UserGroupRepository ugRepo,
+                        RoleRepository roleRepo,
+                        PermissionRepository permRepo)
+    {
+        super(connector);
+        super.setLogger(LogManager.getLogger(AuthzManager.class.getCanonicalName()));
+        this.urRepo = urRepo;
+        this.uugRepo = uugRepo;
+        this.ugrRepo = ugrRepo;
+        this.rpRepo = rpRepo;
+        this.userRepo = userRepo;
+        this.ugRepo = ugRepo;
+        this.roleRepo = roleRepo;
+        this.permRepo = permRepo;
+        this.refreshMillis = iamAuthzIndex.getRefreshSeconds() * 1000;
+    }
+
+    // Check: does the user hold the permission (null if the index can't be loaded)
+    public Boolean check(int userId, int permissionId) {
+        iamAuthzIndex current = getIndex();
+        return current == null ? null : current.check(userId, permissionId);
+    }
+
+    // Check All: does each user hold the matching permission, all against the same index (null if the index can't
+    // be loaded)
+    public boolean[] checkAll(int[] userIds, int[] permissionIds) {
+        iamAuthzIndex current = getIndex();
+        if (current == null)
+            return null;
+        boolean[] result = new boolean[userIds.length];
+        for (int i = 0; i < userIds.length; i++) {
+            result[i] = current.check(userIds[i], permissionIds[i]);
+        }
+        return result;
+    }
+
+    // Get the current Index: loaded on first use, rebuilt in the background once stale (null if it can't be loaded)
+    public iamAuthzIndex getIndex() {
+        iamAuthzIndex current = index.get();
+        if (current == null) {
+            return _load();
+        }
+        if (refreshMillis > 0 && System.currentTimeMillis() - current.getBuiltAt() > refreshMillis && refreshing.compareAndSet(false, true)) {
+            refresher.execute(() -> {
+                try {
+                    refresh();
+                }
+                finally {
+                    refreshing.set(false);
+                }
+            });
+        }
+        return current;
+    }
+
+    // Load the Index on first use (one loader, the other callers wait for it)
+    private iamAuthzIndex _load() {
+        refreshLock.lock();
+        try {
+            if (index.get() == null) {
+                refresh();
+            }
+            return index.get();
+        }
+        finally {
+            refreshLock.unlock();
+        }
+    }
+
+    // Refresh: rebuild the Index from iamDB and swap it in (false if iamDB can't be read: the current one is kept)
+    public boolean refresh() {
+        logger.debug("refresh().");
+        refreshLock.lock();
+        try {
+            synchronized (this) {
+                replay = new ArrayList<>();
+            }
+            long start = System.nanoTime();
+            iamAuthzGraph built = null;
+            // Connect
+            if(super.connect())
+            {
+                try {
+                    Map<AuthzNode, List<Integer>> archivedIds = new EnumMap<>(AuthzNode.class);
+                    archivedIds.put(AuthzNode.USER, _getUserIds(userRepo.getAllInactive(), userRepo.getAllArchived()));
+                    archivedIds.put(AuthzNode.GROUP, ugRepo.getAllArchived().stream().map(UserGroupDTO::getId).toList());
+                    archivedIds.put(AuthzNode.ROLE, roleRepo.getAllArchived().stream().map(RoleDTO::getId).toList());
+                    archivedIds.put(AuthzNode.PERMISSION, permRepo.getAllArchived().stream().map(PermissionDTO::getId).toList());
+                    built = iamAuthzGraph.build(urRepo.getAll(), uugRepo.getAll(), ugrRepo.getAll(), rpRepo.getAll(), archivedIds);
+                }
+                catch(SQLException e) {
+                    logger.error("refresh(): Exception.\n\t" + e.getClass().getCanonicalName() + ": " + e.getMessage());
+                }
+                finally {
+                    super.disconnect();
+                }
+            }
+            // Swap in, with the deltas applied meanwhile
+            synchronized (this) {
+                List<Delta> deltas = replay;
+                replay = null;
+                if (built == null)
+                    return false;
+                for (Delta delta : deltas) {
+                    built = delta.change().apply(built);
+                }
+                index.set(iamAuthzIndex.build(built));
+            }
+            logger.info("refresh(): " + built.getLinkCount() + " links (" + built.getSizeInBytes() + " bytes) in " + (System.nanoTime() - start) / 1000000 + " ms.");
+            return true;
+        }
+        finally {
+            refreshLock.unlock();
+        }
+    }
+
+    // Invalidate: the current Index dropped, loaded again on next use (changes possibly missed)
+    public void invalidate() {
+        logger.info("invalidate().");
+        index.set(null);
+    }
+
+    // Link: a single link added (linked) or removed
+    public void link(AuthzEdge edge, int from, int to, boolean linked) {
+        logger.debug("link(" + edge + ", " + from + ", " + to + ", " + linked + ").");
+        boolean userEdge = edge == AuthzEdge.USER_ROLE || edge == AuthzEdge.USER_GROUP;
+        _apply(new Delta(graph -> graph.withLink(edge, from, to, linked), userEdge ? from : iamAuthzIndex.ALL_USERS));
+    }
+
+    // Archive: an entity archived or restored (a user: deactivated or reactivated too)
+    public void archive(AuthzNode node, int id, boolean archived) {
+        logger.debug("archive(" + node + ", " + id + ", " + archived + ").");
+        _apply(new Delta(graph -> graph.withArchived(node, id, archived), node == AuthzNode.USER ? id : iamAuthzIndex.ALL_USERS));
+    }
+
+    // Reload from iamDB, as deltas: the archived flag of Permissions (deleted: archived), the permissions of Roles
+    // - Reads the current state: applies whether the change was committed or rolled back
+    public void reload(Collection<Integer> permissionIds, Collection<Integer> roleIds) {
+        if (index.get() == null || (permissionIds.isEmpty() && roleIds.isEmpty()))
+            return;
+        logger.debug("reload(" + permissionIds + ", " + roleIds + ").");
+        // Connect
+        if(super.connect())
+        {
+            try {
+                for (int permId : permissionIds) {
+                    PermissionDTO permDTO = permRepo.getById(permId);
+                    archive(AuthzNode.PERMISSION, permId, permDTO == null || permDTO.isArchived());
+                }
+                for (int roleId : roleIds) {
+                    int[] permIds = rpRepo.getAllForRole(roleId).stream().mapToInt(RolePermissionDTO::getPermissionId).toArray();
+                    _apply(new Delta(graph -> graph.withLinks(AuthzEdge.ROLE_PERMISSION, roleId, permIds), iamAuthzIndex.ALL_USERS));
+                }
+            }
+            catch(SQLException e) {
+                // Left to the next rebuild
+                logger.error("reload(" + permissionIds + ", " + roleIds + "): Exception.\n\t" + e.getClass().getCanonicalName() + ": " + e.getMessage());
+            }
+            finally {
+                super.disconnect();
+            }
+        }
+    }
+
+    // Reload on Completion: reload once the calling thread's unit of work completes
+    public void reloadOnCompletion(Collection<Integer> permissionIds, Collection<Integer> roleIds) {
+        pendingPermissions.get().addAll(permissionIds);
+        pendingRoles.get().addAll(roleIds);
+    }
+
+    // Complete: the calling thread's unit of work completed (committed or rolled back), reload what it queued
+    public void complete() {
+        Set<Integer> permissionIds = pendingPermissions.get();
+        Set<Integer> roleIds = pendingRoles.get();
+        pendingPermissions.remove();
+        pendingRoles.remove();
+        reload(permissionIds, roleIds);
+    }
+
+    // Apply a Delta to the current Index, and to the rebuild loading (if any)
+    private synchronized void _apply(Delta delta) {
+        if (replay != null) {
+            replay.add(delta);
+        }
+        iamAuthzIndex current = index.get();
+        if (current != null) {
+            index.set(current.withGraph(delta.change().apply(current.getGraph()), delta.userId()));
+        }
+    }
+
+    // Get the ids of Users
+    private List<Integer> _getUserIds(List<UserDTO> inactive, List<UserDTO> archived) {
+        List<Integer> result = new ArrayList<>(inactive.size() + archived.size());
+        inactive.forEach(userDTO -> result.add(userDTO.getId()));
+        archived.forEach(userDTO -> result.add(userDTO.getId()));
+        return result;
+    }
+}
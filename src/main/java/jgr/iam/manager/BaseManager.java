@@ -5,10 +5,14 @@ import lombok.Getter;
 import lombok.Setter;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 // Internal Objects
 import jgr.iam.util.iamDBConnectorUtil;
+import jgr.iam.util.iamDBRoutingUtil;
 
 // Base Manager
 @Getter
@@ -18,20 +22,42 @@ public class BaseManager {
     protected iamDBConnectorUtil connector; // iamDB Connector
 
     public BaseManager() {
+        this(new iamDBConnectorUtil());
+    }
+
+    public BaseManager(iamDBConnectorUtil connector) {
         logger = LogManager.getLogger(BaseManager.class.getCanonicalName());
-        connector = new iamDBConnectorUtil();
+        this.connector = connector;
     }
 
     // Connect to iamDB
     protected boolean connect() {
+        return connect(connector);
+    }
+
+    // Connect the given connector to iamDB
+    protected boolean connect(iamDBConnectorUtil connector) {
         boolean result = true;
         try {
-            // Set Data source
-            connector.setDataSource(connector.getConnectionURL(),
-                                    connector.getConnectionUser(),
-                                    connector.getConnectionPassword());
-            // Connect
-            connector.connect();
+            // Set Data sources (once: the connector is shared)
+            if (connector.getDataSource() == null) {
+                String replicaURL = connector.getReplicaConnectionURL();
+                if (replicaURL != null) {
+                    connector.setReplicaDataSource(replicaURL,
+                                                   connector.getConnectionUser(),
+                                                   connector.getConnectionPassword());
+                }
+                connector.setDataSource(connector.getConnectionURL(),
+                                        connector.getConnectionUser(),
+                                        connector.getConnectionPassword());
+            }
+            // Connect: reads of the request to the replica (unless fenced), everything else to the primary
+            if (connector.getReplicaDataSource() != null && iamDBRoutingUtil.isReplicaRead()) {
+                connector.connectReplica();
+            }
+            else {
+                connector.connect();
+            }
         }
         catch (SQLException e) {
             logger.error("connect: Failed to connect to the database.\n\t" + e.getClass().getCanonicalName() + ": " + e.getMessage());
@@ -40,8 +66,59 @@ public class BaseManager {
         return result;
     }
 
+    // Is Replica Read: the reads of the current request go to the replica (one configured, the request not fenced)
+    // - Data sources set on first connect: until then, the replica setting is read
+    public boolean isReplicaRead() {
+        return connector != null
+               && iamDBRoutingUtil.isReplicaRead()
+               && (connector.getReplicaDataSource() != null || connector.getReplicaConnectionURL() != null);
+    }
+
     // Disconnect to iamDB
     protected void disconnect() {
+        disconnect(connector);
+    }
+
+    // Disconnect the given connector to iamDB
+    protected void disconnect(iamDBConnectorUtil connector) {
         connector.close();
     }
+
+    // Unit of Work: run a whole (service) operation on one connection, nested connect()/disconnect() reusing it
+    // - isolation: Connection.TRANSACTION_NONE (no transaction) or the isolation level of a single transaction,
+    //   committed if the result is accepted, rolled back otherwise
+    // - returns null if the transaction can't be committed
+    public <T> T execute(int isolation, Supplier<T> work, Predicate<T> accept) {
+        logger.debug("execute(" + isolation + ").");
+        // Not connected: let the operation report it as usual
+        if(!connect())
+            return work.get();
+        try {
+            if(isolation == Connection.TRANSACTION_NONE)
+                return work.get();
+            connector.begin(isolation);
+            // Runtime exception: the pool rolls the transaction back when the connection is returned
+            T result = work.get();
+            if(accept.test(result)) {
+                connector.commit();
+            }
+            else {
+                logger.info("execute(" + isolation + "): Rolled back.");
+                connector.rollback();
+            }
+            return result;
+        }
+        catch(SQLException e) {
+            logger.error("execute(" + isolation + "): Exception.\n\t" + e.getClass().getCanonicalName() + ": " + e.getMessage());
+            return null;
+        }
+        finally {
+            disconnect();
+            afterUnitOfWork();
+        }
+    }
+
+    // After Unit of Work: committed or rolled back (e.g. to invalidate what the transaction changed)
+    protected void afterUnitOfWork() {
+    }
 }
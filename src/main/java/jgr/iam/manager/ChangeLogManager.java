@@ -0,0 +1,185 @@
+package jgr.iam.manager;
+
+// External Objects
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.logging.log4j.LogManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+// Internal Objects
+import jgr.iam.util.iamChangeLogCursor;
+import jgr.iam.util.iamDBConnectorUtil;
+import jgr.iam.repository.ChangeLogRepository;
+import jgr.iam.model.dto.ChangeLogDTO;
+
+// Change Log Manager: keeps the caches of this node coherent with the changes made on the other nodes
+// - Poller: tails the change log by sequence every IAMDB_CHANGELOG_POLL_MS (the staleness bound of a change made on
+//   another node), the permission manager invalidates what the new rows touched; its own rows skipped
+// - Position taken when polling starts, before the cache warm-up: a change committed while it loads is applied by the
+//   next poll; a poll lagging more than IAMDB_CHANGELOG_RETENTION_SECONDS (rows possibly pruned meanwhile) starts
+//   over, every cache dropped
+// - Pruning: the rows up to the position this node held a retention period ago, by sequence (no clock shared with
+//   iamDB); every node prunes, deleting what's already deleted is harmless
+@Component
+@Getter
+@Setter
+public class ChangeLogManager extends BaseManager {
+
+    // Rows read per query
+    public static final int PAGE_SIZE = 500;
+
+    // Repository objects
+    private ChangeLogRepository changeLogRepo; // Change Log Repository
+
+    // Cache objects
+    private PermissionManager permManager; // Permission Manager (caches to invalidate)
+
+    // Poll objects
+    private long pollMillis; // poll interval (0: no polling)
+    private long gapMillis; // grace period of a sequence gap
+    private long retentionMillis; // change log retention
+    private iamChangeLogCursor cursor; // position in the change log (null: not started)
+    private long lastPolled; // last successful poll (epoch milliseconds)
+    private long pruneSeq; // position a retention period ago (0: none yet)
+    private long pruneAt; // when it was taken (epoch milliseconds)
+    private volatile boolean running;
+    private Thread poller;
+
+    // Constructor (for unit test purpose)
+    public ChangeLogManager()
+    {
+        this(new iamDBConnectorUtil());
+    }
+
+    // Constructor (own repository and permission manager on the given connector)
+    public ChangeLogManager(iamDBConnectorUtil connector)
+    {
+        this(connector, new ChangeLogRepository(connector), new PermissionManager(connector));
+    }
+
+    // Constructor (Spring-managed)
+    @Autowired
+    public ChangeLogManager(iamDBConnectorUtil connector,
+                            ChangeLogRepository changeLogRepo,
+                            PermissionManager permManager)
+    {
+        super(connector);
+        super.setLogger(LogManager.getLogger(ChangeLogManager.class.getCanonicalName()));
+        this.changeLogRepo = changeLogRepo;
+        this.permManager = permManager;
+        this.pollMillis = iamChangeLogCursor.getPollMillis();
+        this.gapMillis = iamChangeLogCursor.getGapSeconds() * 1000;
+        this.retentionMillis = iamChangeLogCursor.getRetentionSeconds() * 1000;
+    }
+
+    // Start polling (background virtual thread), unless disabled: positioned right away, then polled every interval
+    public synchronized void start() {
+        if (running || pollMillis <= 0)
+            return;
+        logger.info("start(): Polling the change log every " + pollMillis + " ms.");
+        poll();
+        running = true;
+        poller = Thread.ofVirtual().name("iamChangeLogPoller").start(() -> {
+            while (running) {
+                poll();
+                try {
+                    Thread.sleep(pollMillis);
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        });
+    }
+
+    // Stop polling
+    public synchronized void stop() {
+        if (!running)
+            return;
+        logger.info("stop().");
+        running = false;
+        poller.interrupt();
+        poller = null;
+    }
+
+    // Poll: apply the changes logged since the last poll by the other nodes, returns how many (-1: failed, retried
+    // by the next poll)
+    public int poll() {
+        long now = System.currentTimeMillis();
+        boolean restart = cursor == null || now - lastPolled > retentionMillis;
+        boolean lagging = cursor != null && restart;
+        List<ChangeLogDTO> changes = new ArrayList<>();
+        // Connect
+        if(!super.connect())
+            return -1;
+        try {
+            if (restart) {
+                _start(now);
+            }
+            else {
+                _read(now, changes);
+            }
+            long expired = cursor.expire(now);
+            if (expired > 0) {
+                logger.info("poll(): " + expired + " sequence gaps given up.");
+            }
+            lastPolled = now;
+            _prune(now);
+        }
+        catch(SQLException e) {
+            logger.error("poll(): Exception.\n\t" + e.getClass().getCanonicalName() + ": " + e.getMessage());
+            return -1;
+        }
+        finally {
+            super.disconnect();
+        }
+        // Apply (disconnected: the authorization index reload takes its own connection)
+        if (lagging) {
+            permManager.invalidateAll();
+        }
+        else if (!changes.isEmpty()) {
+            permManager.applyChanges(changes);
+        }
+        return changes.size();
+    }
+
+    // Start: position at the end of the change log
+    private void _start(long now) throws SQLException {
+        cursor = new iamChangeLogCursor(changeLogRepo.getMaxSequence(), gapMillis);
+        logger.info("_start(): Change log position " + cursor.getPosition() + ".");
+        pruneSeq = 0;
+        pruneAt = now;
+    }
+
+    // Read the rows past the cursor (and its gaps), the new ones logged by other nodes added to changes
+    private void _read(long now, List<ChangeLogDTO> changes) throws SQLException {
+        long from = cursor.getFrom();
+        List<ChangeLogDTO> page;
+        do {
+            page = changeLogRepo.getAfter(from, PAGE_SIZE);
+            for (ChangeLogDTO change : page) {
+                if (cursor.accept(change.getSeq(), now) && !permManager.getChangeOrigin().equals(change.getOrigin())) {
+                    changes.add(change);
+                }
+                from = change.getSeq();
+            }
+        } while (page.size() == PAGE_SIZE);
+    }
+
+    // Prune: once per retention period, the rows up to the position held a retention period ago
+    private void _prune(long now) throws SQLException {
+        if (now - pruneAt < retentionMillis)
+            return;
+        if (pruneSeq > 0) {
+            int deleted = changeLogRepo.deleteUpTo(pruneSeq);
+            logger.info("_prune(): " + deleted + " rows up to " + pruneSeq + " deleted.");
+        }
+        pruneSeq = cursor.getFrom();
+        pruneAt = now;
+    }
+}
@@ -4,25 +4,72 @@ package jgr.iam.manager;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.logging.log4j.LogManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import java.io.IOException;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 // Internal Objects
+import jgr.iam.config.iamDBConfig;
+import jgr.iam.constant.iamDBConnectionInfo;
 import jgr.iam.constant.iamDBMetadataTable;
+import jgr.iam.constant.iamServicePagination;
+import jgr.iam.util.iamCatalogVersion;
 import jgr.iam.util.iamDBConnectorUtil;
+import jgr.iam.util.iamDBCursor;
+import jgr.iam.util.iamPermissionCache;
+import jgr.iam.util.iamRoleNameDictionary;
+import jgr.iam.enums.BatchRowStatus;
+import jgr.iam.enums.ChangeEntity;
 import jgr.iam.enums.RequestType;
+import jgr.iam.repository.ChangeLogRepository;
 import jgr.iam.repository.PermissionRepository;
 import jgr.iam.repository.MetadataRepository;
 import jgr.iam.repository.RolePermissionRepository;
+import jgr.iam.repository.RoleRepository;
 import jgr.iam.model.bo.Permission;
+import jgr.iam.model.dto.ChangeLogDTO;
 import jgr.iam.model.dto.PermissionDTO;
+import jgr.iam.model.dto.PermissionSummaryDTO;
 import jgr.iam.model.dto.RolePermissionDTO;
 import jgr.iam.model.bo.Metadata;
 import jgr.iam.model.dto.MetadataDTO;
 
 // Permission Manager
+// - Stateless (Spring singleton): the connection is bound to the calling thread by the shared connector
+// - Permission cache: getPermission (SUMMARY, DETAIL) served from memory outside transactions, filled by primary
+//   reads only (a replica may lag behind an invalidation); every mutation invalidates the permissions it touches
+// - Missing entries: ids and metadata names found not to exist on the primary answered from memory (in transactions
+//   too: the creations invalidate them right away); a replica may not have a creation yet
+// - Authorization index: permission archive/delete and role-permission changes reloaded as deltas
+// - Role names: detail views resolve the extended names of their role ids in memory, from the role name dictionary
+// - Catalog version: every mutation bumps the version of the catalog and of the permissions it touches, once
+//   committed (ETags)
+// - Warm-up: the non-archived catalog bulk-loaded into the permission cache at boot, in parallel chunks (warmUp)
+// - Change log: every mutation writes its change-log rows in its transaction (the caller's unit of work, or its own),
+//   for the other nodes to invalidate their caches (ChangeLogManager, applyChanges)
+@Component
 @Getter
 @Setter
 public class PermissionManager extends BaseManager {
@@ -31,45 +78,118 @@ public class PermissionManager extends BaseManager {
     private PermissionRepository permRepo; // Permission Repository
     private RolePermissionRepository rpRepo; // Role-Permission Repository
     private MetadataRepository permMetadataRepo; // Permission Metadata Repository
+    private RoleRepository roleRepo; // Role Repository
+    private ChangeLogRepository changeLogRepo; // Change Log Repository (null: no change log, single node)
 
-    // Constructor
+    // Cursor objects (export)
+    private iamDBConnectorUtil cursorConnector; // iamDB Connector holding the cursor
+    private PermissionRepository permCursorRepo; // Permission Repository (on the cursor connector)
+
+    // Cache objects
+    private iamPermissionCache cache; // Permission Cache (by id and by name)
+    private AuthzManager authzManager; // Authorization Manager (null: no authorization index to keep in sync)
+    private iamCatalogVersion versions; // Catalog and Permission versions
+
+    // Change Log objects
+    private String changeOrigin = UUID.randomUUID().toString(); // this node, in the change log
+
+    // Role Name objects
+    private final AtomicReference<iamRoleNameDictionary> roleNames = new AtomicReference<>(); // null: not loaded
+    private long roleNamesRefreshMillis; // dictionary age triggering a reload
+    private final ReentrantLock roleNamesLock = new ReentrantLock(); // one loader at a time (not a monitor: held across JDBC)
+
+    // Chunk Writer (export)
+    @FunctionalInterface
+    public interface PermissionChunkWriter {
+        void write(List<Permission> chunk) throws IOException;
+    }
+
+    // Batch Operation (one repository batch call)
+    @FunctionalInterface
+    private interface BatchOperation {
+        List<BatchRowStatus> execute() throws SQLException;
+    }
+
+    // Constructor (for unit test purpose)
     public PermissionManager()
     {
+        this(new iamDBConnectorUtil());
+    }
+
+    // Constructor (own repositories on the given connector)
+    public PermissionManager(iamDBConnectorUtil connector)
+    {
+        this(connector,
+             new PermissionRepository(connector),
+             new RolePermissionRepository(connector),
+             new MetadataRepository(connector, iamDBMetadataTable.PERM),
+             new RoleRepository(connector),
+             new ChangeLogRepository(connector),
+             new iamDBConnectorUtil(),
+             null);
+    }
+
+    // Constructor (Spring-managed)
+    @Autowired
+    public PermissionManager(iamDBConnectorUtil connector,
+                             PermissionRepository permRepo,
+                             RolePermissionRepository rpRepo,
+                             @Qualifier(iamDBConfig.PERM_METADATA_REPOSITORY) MetadataRepository permMetadataRepo,
+                             RoleRepository roleRepo,
+                             ChangeLogRepository changeLogRepo,
+                             @Qualifier(iamDBConfig.CURSOR_CONNECTOR) iamDBConnectorUtil cursorConnector,
+                             AuthzManager authzManager)
+    {
+        super(connector);
         super.setLogger(LogManager.getLogger(PermissionManager.class.getCanonicalName()));
-        super.setConnector(new iamDBConnectorUtil());
-        permRepo = new PermissionRepository(connector);
-        rpRepo = new RolePermissionRepository(connector);
-        permMetadataRepo = new MetadataRepository(connector, iamDBMetadataTable.PERM);
+        this.permRepo = permRepo;
+        this.rpRepo = rpRepo;
+        this.permMetadataRepo = permMetadataRepo;
+        this.roleRepo = roleRepo;
+        this.changeLogRepo = changeLogRepo;
+        this.cursorConnector = cursorConnector;
+        this.permCursorRepo = new PermissionRepository(cursorConnector);
+        this.cache = new iamPermissionCache();
+        this.authzManager = authzManager;
+        this.versions = new iamCatalogVersion();
+        this.roleNamesRefreshMillis = iamRoleNameDictionary.getRefreshSeconds() * 1000;
     }
 
-    // Get All Permissions
-    public List<Permission> getPermissions(RequestType requestType, boolean archived) {
-        logger.debug("getPermissions(" + requestType.toString() +  ", " + archived + ").");
+    // Get a page of Permissions (keyset: ids greater than afterId, at most limit)
+    public List<Permission> getPermissions(RequestType requestType, boolean archived, int afterId, int limit) {
+        logger.debug("getPermissions(" + requestType.toString() +  ", " + archived + ", " + afterId + ", " + limit + ").");
         List<Permission> result = new ArrayList<>();
         // Connect
         if(super.connect())
         {
             try {
+                // Summary: permissions and counts in a single query
+                if (requestType == RequestType.SUMMARY) {
+                    List<PermissionSummaryDTO> summaryList = archived ? permRepo.getAllArchivedSummary(afterId, limit) : permRepo.getAllSummary(afterId, limit);
+                    if(summaryList != null) {
+                        for (PermissionSummaryDTO summaryDTO : summaryList) {
+                            Permission perm = new Permission(summaryDTO);
+                            perm.setRoleCount(summaryDTO.getRoleCount());
+                            perm.setMetadataCount(summaryDTO.getMetadataCount());
+                            result.add(perm);
+                        }
+                    }
+                    return result;
+                }
                 // Get basic (archived or non-archived)
-                List<PermissionDTO> permsList = archived ? permRepo.getAllArchived() : permRepo.getAll();
+                List<PermissionDTO> permsList = archived ? permRepo.getAllArchived(afterId, limit) : permRepo.getAll(afterId, limit);
                 if(permsList != null) {
                     for (PermissionDTO permDTO : permsList) {
                         result.add(new Permission(permDTO));
                     }
                     // Get added info
-                    if (requestType == RequestType.SUMMARY) {
-                        for (Permission perm : result) {
-                            _addSummaryInfo(perm);
-                        }
-                    } else if (requestType == RequestType.DETAIL) {
-                        for (Permission perm : result) {
-                            _addDetailInfo(perm);
-                        }
+                    if (requestType == RequestType.DETAIL) {
+                        _addDetailInfo(result);
                     }
                 }
             }
             catch(SQLException e) {
-                logger.error("getPermissions(" + requestType.toString() + ", " + archived + "): Exception.\n\t" + e.getClass().getCanonicalName() + ": " + e.getMessage());
+                logger.error("getPermissions(" + requestType.toString() + ", " + archived + ", " + afterId + ", " + limit + "): Exception.\n\t" + e.getClass().getCanonicalName() + ": " + e.getMessage());
             }
             finally {
                 super.disconnect();
@@ -89,14 +209,11 @@ public class PermissionManager extends BaseManager {
     private void _addDetailInfo(Permission perm) throws SQLException {
         logger.debug("_addDetailInfo(" + perm.getName() + "].");
 
-        // Roles (extended name)
+        // Roles (extended name, resolved in memory)
         List<RolePermissionDTO> rpList = rpRepo.getAllForPermission(perm.getId());
         perm.setRoleCount(rpList == null ? 0 : rpList.size());
-        List<String> roleExtendedNames = rpRepo.getAllRoleExtendedNameForPermission(perm.getId());
-        if(roleExtendedNames != null) {
-            for (String role : roleExtendedNames) {
-                perm.getRoleExtendedNameList().add(role);
-            }
+        if(rpList != null && !rpList.isEmpty()) {
+            _addRoleNames(perm, rpList, _getRoleNames(_getRoleIds(rpList)));
         }
 
         // Metadata
@@ -109,18 +226,312 @@ public class PermissionManager extends BaseManager {
         }
     }
 
+    // Add Detail Information to a list of Permissions (batched: one query per kind, stitched in memory)
+    private void _addDetailInfo(List<Permission> perms) throws SQLException {
+        logger.debug("_addDetailInfo(" + perms.size() + " permissions).");
+        if(perms.isEmpty())
+            return;
+        Map<Integer, Permission> permsById = new HashMap<>();
+        for (Permission perm : perms) {
+            permsById.put(perm.getId(), perm);
+        }
+
+        // Roles
+        Map<Integer, List<RolePermissionDTO>> rpMap = rpRepo.getAllForPermissions(permsById.keySet());
+        if(rpMap != null) {
+            for (Map.Entry<Integer, List<RolePermissionDTO>> entry : rpMap.entrySet()) {
+                Permission perm = permsById.get(entry.getKey());
+                if(perm != null) {
+                    perm.setRoleCount(entry.getValue().size());
+                }
+            }
+        }
+
+        // Roles (extended name, resolved in memory)
+        if(rpMap != null && !rpMap.isEmpty()) {
+            Set<Integer> roleIds = new HashSet<>();
+            for (List<RolePermissionDTO> rpList : rpMap.values()) {
+                roleIds.addAll(_getRoleIds(rpList));
+            }
+            iamRoleNameDictionary names = _getRoleNames(roleIds);
+            for (Map.Entry<Integer, List<RolePermissionDTO>> entry : rpMap.entrySet()) {
+                Permission perm = permsById.get(entry.getKey());
+                if(perm != null) {
+                    _addRoleNames(perm, entry.getValue(), names);
+                }
+            }
+        }
+
+        // Metadata
+        Map<Integer, List<MetadataDTO>> metasMap = permMetadataRepo.getAll(permsById.keySet());
+        if(metasMap != null) {
+            for (Map.Entry<Integer, List<MetadataDTO>> entry : metasMap.entrySet()) {
+                Permission perm = permsById.get(entry.getKey());
+                if(perm != null) {
+                    perm.setMetadataCount(entry.getValue().size());
+                    for (MetadataDTO meta : entry.getValue()) {
+                        perm.getMetadataList().add(new Metadata(meta));
+                    }
+                }
+            }
+        }
+    }
+
+    // Add the extended names of Roles to a Permission (roles the dictionary doesn't know skipped)
+    private void _addRoleNames(Permission perm, List<RolePermissionDTO> rpList, iamRoleNameDictionary names) {
+        for (RolePermissionDTO rp : rpList) {
+            String name = names.get(rp.getRoleId());
+            if(name != null) {
+                perm.getRoleExtendedNameList().add(name);
+            }
+        }
+    }
+
+    // Get the Role Name dictionary, knowing the given roles: loaded on first use, reloaded once stale or on a role
+    // it doesn't know yet (at most once a second: a role without feature or application never gets a name)
+    private iamRoleNameDictionary _getRoleNames(Collection<Integer> roleIds) throws SQLException {
+        iamRoleNameDictionary current = roleNames.get();
+        if(current != null && !current.isStale(roleNamesRefreshMillis) && (current.containsAll(roleIds) || !current.isStale(iamRoleNameDictionary.MIN_RELOAD_MILLIS)))
+            return current;
+        return _loadRoleNames(current);
+    }
+
+    // Load the Role Name dictionary (one loader: the other callers take what it loaded)
+    private iamRoleNameDictionary _loadRoleNames(iamRoleNameDictionary seen) throws SQLException {
+        roleNamesLock.lock();
+        try {
+            iamRoleNameDictionary current = roleNames.get();
+            if(current != seen)
+                return current;
+            current = iamRoleNameDictionary.build(roleRepo.getAllExtendedNames());
+            roleNames.set(current);
+            logger.info("_loadRoleNames(): " + current.size() + " roles.");
+            return current;
+        }
+        finally {
+            roleNamesLock.unlock();
+        }
+    }
+
+    // Invalidate the Role Name dictionary: reloaded on next use (an application, feature or role renamed)
+    public void invalidateRoleNames() {
+        roleNames.set(null);
+    }
+
+    // Apply Changes made on other nodes (change log): invalidate what they touched, bump its versions, reload the
+    // Authorization index (a change this version doesn't know: everything invalidated)
+    public void applyChanges(List<ChangeLogDTO> changes) {
+        logger.debug("applyChanges(" + changes.size() + " changes).");
+        Set<Integer> permissionIds = new HashSet<>();
+        Set<Integer> roleIds = new HashSet<>();
+        for (ChangeLogDTO change : changes) {
+            int id = change.getPermissionId();
+            if(change.getEntity() == null) {
+                invalidateAll();
+                continue;
+            }
+            switch(change.getEntity()) {
+                case PERMISSION -> {
+                    if(id == 0) {
+                        cache.invalidateMissing();
+                        versions.bumpAll();
+                    }
+                    else {
+                        cache.invalidate(id);
+                        versions.bump(id);
+                        permissionIds.add(id);
+                    }
+                }
+                case METADATA -> {
+                    cache.invalidate(id, change.getName());
+                    versions.bump(id);
+                }
+                case ROLE_PERMISSION -> {
+                    cache.invalidate(id);
+                    versions.bump(id);
+                    roleIds.add(change.getRoleId());
+                }
+            }
+        }
+        if(authzManager != null) {
+            authzManager.reload(permissionIds, roleIds);
+        }
+    }
+
+    // Invalidate All: every cached permission and role name, every version, the Authorization index (changes
+    // possibly missed)
+    public void invalidateAll() {
+        logger.info("invalidateAll().");
+        cache.invalidateAll();
+        invalidateRoleNames();
+        versions.bumpAll();
+        if(authzManager != null) {
+            authzManager.invalidate();
+        }
+    }
+
+    // Warm Up: bulk-load the non-archived permissions into the cache (SUMMARY and DETAIL views), until all are loaded,
+    // the cache is full or the timeout; returns how many were loaded
+    // - Ids paged on the calling thread, chunks detailed in parallel (batched queries, one connection per thread)
+    // - A chunk read before an invalidation isn't cached (cache generation, taken before the read), it's loaded on
+    //   first use instead
+    public int warmUp(int threads, long timeoutMillis) {
+        logger.info("warmUp(" + threads + ", " + timeoutMillis + ").");
+        long capacity = cache.getMaxSize() / 2; // both views
+        if(!cache.isEnabled() || capacity == 0)
+            return 0;
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        List<Future<Integer>> chunks = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, Thread.ofVirtual().name("iamWarmUp-", 0).factory());
+        // Connect
+        if(super.connect())
+        {
+            try {
+                int afterId = 0;
+                int read = 0;
+                List<PermissionDTO> chunk;
+                do {
+                    long generation = cache.getGeneration();
+                    chunk = permRepo.getAll(afterId, (int) Math.min(iamDBConnectionInfo.DEFAULT_WARMUP_CHUNK_SIZE, capacity - read));
+                    if(!chunk.isEmpty()) {
+                        List<PermissionDTO> permsList = chunk;
+                        chunks.add(executor.submit(() -> _warmUp(permsList, generation)));
+                        afterId = chunk.get(chunk.size() - 1).getId();
+                        read += chunk.size();
+                    }
+                } while(chunk.size() == iamDBConnectionInfo.DEFAULT_WARMUP_CHUNK_SIZE && read < capacity && System.currentTimeMillis() < deadline);
+            }
+            catch(SQLException e) {
+                logger.error("warmUp(" + threads + ", " + timeoutMillis + "): Exception.\n\t" + e.getClass().getCanonicalName() + ": " + e.getMessage());
+            }
+            finally {
+                super.disconnect();
+            }
+        }
+        executor.shutdown();
+        // Wait for the chunks (the ones still running at the timeout cancelled)
+        int result = 0;
+        try {
+            for (Future<Integer> chunk : chunks) {
+                result += chunk.get(Math.max(deadline - System.currentTimeMillis(), 0), TimeUnit.MILLISECONDS);
+            }
+        }
+        catch(TimeoutException e) {
+            logger.warn("warmUp(" + threads + ", " + timeoutMillis + "): Timed out, the rest loaded on first use.");
+        }
+        catch(ExecutionException e) {
+            logger.error("warmUp(" + threads + ", " + timeoutMillis + "): Exception.\n\t" + e.getCause().getClass().getCanonicalName() + ": " + e.getCause().getMessage());
+        }
+        catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        finally {
+            executor.shutdownNow();
+        }
+        logger.info("warmUp(" + threads + ", " + timeoutMillis + "): " + result + " permissions loaded.");
+        return result;
+    }
+
+    // Warm Up a chunk (read at the given cache generation): detailed in one batch, both views cached; returns how many
+    // were cached
+    private int _warmUp(List<PermissionDTO> permsList, long generation) throws SQLException {
+        List<Permission> perms = new ArrayList<>(permsList.size());
+        for (PermissionDTO permDTO : permsList) {
+            perms.add(new Permission(permDTO));
+        }
+        // Connect
+        if(!super.connect())
+            return 0;
+        try {
+            _addDetailInfo(perms);
+        }
+        finally {
+            super.disconnect();
+        }
+        for (int i = 0; i < perms.size(); i++) {
+            Permission perm = perms.get(i);
+            cache.put(perm, RequestType.DETAIL, generation);
+            Permission summary = new Permission(permsList.get(i));
+            summary.setRoleCount(perm.getRoleCount());
+            summary.setMetadataCount(perm.getMetadataCount());
+            cache.put(summary, RequestType.SUMMARY, generation);
+        }
+        return generation == cache.getGeneration() ? perms.size() : 0;
+    }
+
+    // Export Permissions (Detail View): all rows through a forward-only cursor, enriched and written in bounded chunks
+    public boolean exportPermissions(boolean archived, PermissionChunkWriter writer) {
+        logger.info("exportPermissions(" + archived + ").");
+        boolean result = false;
+        // Connect (enrichment)
+        if(super.connect())
+        {
+            try {
+                // Connect (cursor)
+                if(super.connect(cursorConnector)) {
+                    try (iamDBCursor<PermissionDTO> cursor = permCursorRepo.openCursor(archived, iamDBConnectionInfo.DEFAULT_CURSOR_FETCH_SIZE)) {
+                        int count = 0;
+                        List<Permission> chunk = new ArrayList<>();
+                        PermissionDTO permDTO;
+                        while ((permDTO = cursor.next()) != null) {
+                            chunk.add(new Permission(permDTO));
+                            if (chunk.size() == iamServicePagination.EXPORT_CHUNK_SIZE) {
+                                count += _writeChunk(chunk, writer);
+                                chunk = new ArrayList<>();
+                            }
+                        }
+                        count += _writeChunk(chunk, writer);
+                        logger.info("exportPermissions(" + archived + "): " + count + " permissions exported.");
+                        result = true;
+                    }
+                    catch(SQLException | IOException e) {
+                        logger.error("exportPermissions(" + archived + "): Exception.\n\t" + e.getClass().getCanonicalName() + ": " + e.getMessage());
+                    }
+                    finally {
+                        super.disconnect(cursorConnector);
+                    }
+                }
+            }
+            finally {
+                super.disconnect();
+            }
+        }
+        return result;
+    }
+
+    // Write Chunk (export): enrich, then hand it to the writer
+    private int _writeChunk(List<Permission> chunk, PermissionChunkWriter writer) throws SQLException, IOException {
+        if(chunk.isEmpty())
+            return 0;
+        _addDetailInfo(chunk);
+        writer.write(chunk);
+        return chunk.size();
+    }
+
     // Get Permission
     public Permission getPermission(int id, RequestType requestType) {
         logger.debug("getPermission(" + id + ", " + requestType.toString() + ").");
-        Permission result = null;
+        // Known to be missing
+        if(cache.isMissing(id))
+            return null;
+        // Cached (a transaction reads from iamDB: its own writes aren't committed yet)
+        boolean cacheable = !_isInTransaction();
+        Permission result = cacheable ? cache.get(id, requestType) : null;
+        if(result != null)
+            return result;
+        long generation = cache.getGeneration();
         // Connect
         if(super.connect())
         {
             try {
                 // Get PermissionDTO
                 PermissionDTO permDTO = permRepo.getById(id);
-                if(permDTO == null)
+                if(permDTO == null) {
+                    if(!_isReplicaRead()) {
+                        cache.putMissing(id, generation);
+                    }
                     return null;
+                }
 
                 result = new Permission(permDTO);
                 // Get added info
@@ -130,6 +541,9 @@ public class PermissionManager extends BaseManager {
                 else if(requestType == RequestType.DETAIL) {
                     _addDetailInfo(result);
                 }
+                if(cacheable && !_isReplicaRead()) {
+                    cache.put(result, requestType, generation);
+                }
             }
             catch(SQLException e) {
                 logger.error("getPermission(" + id + ", " + requestType.toString() + "): Exception.\n\t" + e.getClass().getCanonicalName() + ": " + e.getMessage());
@@ -144,7 +558,12 @@ public class PermissionManager extends BaseManager {
     // Get Permission by Name
     public Permission getPermission(String name, RequestType requestType) {
         logger.debug("getPermission(" + name + ", " + requestType + ").");
-        Permission result = null;
+        // Cached (a transaction reads from iamDB: its own writes aren't committed yet)
+        boolean cacheable = !_isInTransaction();
+        Permission result = cacheable ? cache.get(name, requestType) : null;
+        if(result != null)
+            return result;
+        long generation = cache.getGeneration();
         // Connect
         if(super.connect())
         {
@@ -160,6 +579,9 @@ public class PermissionManager extends BaseManager {
                     else if(requestType == RequestType.DETAIL) {
                         _addDetailInfo(result);
                     }
+                    if(cacheable && !_isReplicaRead()) {
+                        cache.put(result, requestType, generation);
+                    }
                 }
             }
             catch(SQLException e) {
@@ -174,18 +596,27 @@ public class PermissionManager extends BaseManager {
 
     // Create Permission
     public Permission createPermission(String name, String description) {
+        return _logged(() -> _createPermission(name, description), Objects::nonNull);
+    }
+
+    // Create Permission (in the unit of work)
+    private Permission _createPermission(String name, String description) {
         logger.info("createPermission(" + name + ", " + description + ").");
         Permission result = null;
         // Connect
         if(super.connect())
         {
             try {
-                // Insert
-                permRepo.insert(name, description);
-                // Retrieve
-                PermissionDTO permDTO = permRepo.getByName(name);
-                result = new Permission(permDTO);
-                _addSummaryInfo(result);
+                // Insert: a new permission has no roles nor metadata yet
+                int id = permRepo.insert(name, description);
+                if(id > 0) {
+                    _log(ChangeEntity.PERMISSION, id, 0, null);
+                    _invalidate(id);
+                    result = new Permission(new PermissionDTO(id, name, description, false));
+                }
+                else {
+                    logger.error("createPermission(" + name + ", " + description + "): No Generated Id.");
+                }
             }
             catch(SQLException e) {
                 logger.error("createPermission(" + name + ", " + description + "): Exception.\n\t" + e.getClass().getCanonicalName() + ": " + e.getMessage());
@@ -199,6 +630,11 @@ public class PermissionManager extends BaseManager {
 
     // Delete Permission
     public boolean deletePermission(int id) {
+        return Boolean.TRUE.equals(_logged(() -> _deletePermission(id), Boolean::booleanValue));
+    }
+
+    // Delete Permission (in the unit of work)
+    private boolean _deletePermission(int id) {
         logger.info("deletePermission(" + id + ").");
         boolean result = false;
         // Connect
@@ -206,11 +642,11 @@ public class PermissionManager extends BaseManager {
         {
             try {
                 // Delete
-                permRepo.delete(id);
-                // Retrieve
-                PermissionDTO permDTO = permRepo.getById(id);
-                logger.info("deletePermission(" + (permDTO == null) + ").");
-                result = (permDTO == null);
+                result = permRepo.delete(id) > 0;
+                _log(ChangeEntity.PERMISSION, id, 0, null);
+                _invalidate(id);
+                _reloadAuthz(List.of(id), List.of());
+                logger.info("deletePermission(" + result + ").");
             }
             catch(SQLException e) {
                 logger.error("deletePermission(" + id + "): Exception.\n\t" + e.getClass().getCanonicalName() + ": " + e.getMessage());
@@ -224,21 +660,21 @@ public class PermissionManager extends BaseManager {
 
     // Update Permission Description
     public boolean updatePermissionDescription(int id, String description) {
+        return Boolean.TRUE.equals(_logged(() -> _updatePermissionDescription(id, description), Boolean::booleanValue));
+    }
+
+    // Update Permission Description (in the unit of work)
+    private boolean _updatePermissionDescription(int id, String description) {
         logger.debug("updatePermissionDescription(" + id + ", " + description + ").");
         boolean result = false;
         // Connect
         if(super.connect())
         {
             try {
-                // Check if there's an existing record first
-                PermissionDTO permDTO = permRepo.getById(id);
-                if (permDTO != null) {
-                    // Update
-                    permRepo.updateDescription(id, description);
-                    // Check
-                    permDTO = permRepo.getById(id);
-                    result = Objects.equals(description, permDTO.getDescription());
-                }
+                // Update (matched rows: 0 if the record doesn't exist)
+                result = permRepo.updateDescription(id, description) > 0;
+                _log(ChangeEntity.PERMISSION, id, 0, null);
+                _invalidate(id);
             }
             catch(SQLException e) {
                 logger.error("updatePermissionDescription(" + id + ", " + description + "): Exception.\n\t" + e.getClass().getCanonicalName() + ": " + e.getMessage());
@@ -252,20 +688,22 @@ public class PermissionManager extends BaseManager {
 
     // Update Permission Archived status
     public boolean updatePermissionArchived(int id, boolean archived) {
+        return Boolean.TRUE.equals(_logged(() -> _updatePermissionArchived(id, archived), Boolean::booleanValue));
+    }
+
+    // Update Permission Archived status (in the unit of work)
+    private boolean _updatePermissionArchived(int id, boolean archived) {
         logger.debug("updatePermissionArchived(" + id + ", " + archived + ").");
         boolean result = false;
         // Connect
         if(super.connect())
         {
             try {
-                // Check if there's an existing record first
-                PermissionDTO permDTO = permRepo.getById(id);
-                if (permDTO != null) {
-                    permRepo.updateArchive(id, archived);
-                    // Check
-                    permDTO = permRepo.getById(id);
-                    result = Objects.equals(archived, permDTO.isArchived());
-                }
+                // Update (matched rows: 0 if the record doesn't exist)
+                result = permRepo.updateArchive(id, archived) > 0;
+                _log(ChangeEntity.PERMISSION, id, 0, null);
+                _invalidate(id);
+                _reloadAuthz(List.of(id), List.of());
             }
             catch(SQLException e) {
                 logger.error("updatePermissionArchived(" + id + ", " + archived + "): Exception.\n\t" + e.getClass().getCanonicalName() + ": " + e.getMessage());
@@ -281,6 +719,10 @@ public class PermissionManager extends BaseManager {
     public Metadata getMetadata(int permId, String name) {
         logger.debug("getMetadata(" + permId + ", " + name + ").");
         Metadata result = null;
+        // Known to be missing
+        if(cache.isMissing(permId, name))
+            return null;
+        long generation = cache.getGeneration();
         // Connect
         if(super.connect())
         {
@@ -290,6 +732,9 @@ public class PermissionManager extends BaseManager {
                 if (metaDTO != null) {
                     result = new Metadata(metaDTO);
                 }
+                else if(!_isReplicaRead()) {
+                    cache.putMissing(permId, name, generation);
+                }
             }
             catch(SQLException e) {
                 logger.error("getMetadata(" + + permId + ", " + name + "): Exception.\n\t" + e.getClass().getCanonicalName() + ": " + e.getMessage());
@@ -303,6 +748,11 @@ public class PermissionManager extends BaseManager {
 
     // Create Metadata
     public Permission createMetadata(int permId, String name, String value) {
+        return _logged(() -> _createMetadata(permId, name, value), Objects::nonNull);
+    }
+
+    // Create Metadata (in the unit of work)
+    private Permission _createMetadata(int permId, String name, String value) {
         logger.info("createMetadata(" + permId + "," + name + ", " + value + ").");
         Permission result = null;
         // Connect
@@ -310,11 +760,11 @@ public class PermissionManager extends BaseManager {
         {
             try {
                 // Insert
-                permMetadataRepo.insert(permId, name, value);
-                // Check
-                MetadataDTO metaDTO = permMetadataRepo.get(permId, name);
-                if(metaDTO == null) {
-                    logger.error("createMetadata(" + permId + "," + name + ", " + value + "): Inserted Metadata Not Found.");
+                int inserted = permMetadataRepo.insert(permId, name, value);
+                _log(ChangeEntity.METADATA, permId, 0, name);
+                _invalidate(permId, name);
+                if(inserted == 0) {
+                    logger.error("createMetadata(" + permId + "," + name + ", " + value + "): Metadata Not Inserted.");
                 }
                 else { // Return result
                     PermissionDTO permDTO = permRepo.getById(permId);
@@ -334,6 +784,11 @@ public class PermissionManager extends BaseManager {
 
     // Delete Metadata
     public boolean deleteMetadata(int id, String name) {
+        return Boolean.TRUE.equals(_logged(() -> _deleteMetadata(id, name), Boolean::booleanValue));
+    }
+
+    // Delete Metadata (in the unit of work)
+    private boolean _deleteMetadata(int id, String name) {
         logger.info("deleteMetadata(" + id + ", " + name + ").");
         boolean result = false;
         // Connect
@@ -341,11 +796,10 @@ public class PermissionManager extends BaseManager {
         {
             try {
                 // Delete
-                permMetadataRepo.delete(id, name);
-                // Retrieve
-                MetadataDTO metdataDTO = permMetadataRepo.get(id, name);
-                logger.info("deleteMetadata(" + id + ", " + name + "): " + (metdataDTO == null) + ".");
-                result = (metdataDTO == null);
+                result = permMetadataRepo.delete(id, name) > 0;
+                _log(ChangeEntity.METADATA, id, 0, name);
+                _invalidate(id);
+                logger.info("deleteMetadata(" + id + ", " + name + "): " + result + ".");
             }
             catch(SQLException e) {
                 logger.error("deleteMetadata(" + id + ", " + name + "): Exception.\n\t" + e.getClass().getCanonicalName() + ": " + e.getMessage());
@@ -359,21 +813,21 @@ public class PermissionManager extends BaseManager {
 
     // Update Metadata Value
     public boolean updateMetadataValue(int id, String name, String value) {
+        return Boolean.TRUE.equals(_logged(() -> _updateMetadataValue(id, name, value), Boolean::booleanValue));
+    }
+
+    // Update Metadata Value (in the unit of work)
+    private boolean _updateMetadataValue(int id, String name, String value) {
         logger.debug("updateMetadataValue(" + id + ", " + name + ", " + value + ").");
         boolean result = false;
         // Connect
         if(super.connect())
         {
             try {
-                // Check if there's an existing record first
-                MetadataDTO metaDTO = permMetadataRepo.get(id, name);
-                if (metaDTO != null) {
-                    // Update
-                    permMetadataRepo.updateValue(id, name, value);
-                    // Check
-                    metaDTO = permMetadataRepo.get(id, name);
-                    result = Objects.equals(value, metaDTO.getValue());
-                }
+                // Update (matched rows: 0 if the record doesn't exist)
+                result = permMetadataRepo.updateValue(id, name, value) > 0;
+                _log(ChangeEntity.METADATA, id, 0, name);
+                _invalidate(id);
             }
             catch(SQLException e) {
                 logger.error("updateMetadataValue(" + id + ", " + name + ", " + value + "): Exception.\n\t" + e.getClass().getCanonicalName() + ": " + e.getMessage());
@@ -387,20 +841,21 @@ public class PermissionManager extends BaseManager {
 
     // Update Metadata Archived status
     public boolean updateMetadataArchived(int id, String name, boolean archived) {
+        return Boolean.TRUE.equals(_logged(() -> _updateMetadataArchived(id, name, archived), Boolean::booleanValue));
+    }
+
+    // Update Metadata Archived status (in the unit of work)
+    private boolean _updateMetadataArchived(int id, String name, boolean archived) {
         logger.debug("updateMetadataArchived(" + id + ", " + name + ", " + archived + ").");
         boolean result = false;
         // Connect
         if(super.connect())
         {
             try {
-                // Check if there's an existing record first
-                MetadataDTO metaDTO = permMetadataRepo.get(id, name);
-                if (metaDTO != null) {
-                    permMetadataRepo.updateArchive(id, name, archived);
-                    // Check
-                    metaDTO = permMetadataRepo.get(id, name);
-                    result = Objects.equals(archived, metaDTO.isArchived());
-                }
+                // Update (matched rows: 0 if the record doesn't exist)
+                result = permMetadataRepo.updateArchive(id, name, archived) > 0;
+                _log(ChangeEntity.METADATA, id, 0, name);
+                _invalidate(id);
             }
             catch(SQLException e) {
                 logger.error("updateMetadataArchived(" + id + ", " + name + ", " + archived + "): Exception.\n\t" + e.getClass().getCanonicalName() + ": " + e.getMessage());
@@ -411,6 +866,258 @@ public class PermissionManager extends BaseManager {
         }
         return result;
     }
-}
 
+    // Create Permissions (batch): one outcome per row, in input order
+    public List<BatchRowStatus> createPermissions(List<PermissionDTO> permissions) {
+        return _executeBatch("createPermissions", permissions.size(), () -> _invalidateMissing(_log(_getChanges(ChangeEntity.PERMISSION, List.of(0)), permRepo.insertAll(permissions))));
+    }
+
+    // Delete Permissions (batch)
+    public List<BatchRowStatus> deletePermissions(List<Integer> ids) {
+        return _executeBatch("deletePermissions", ids.size(), () -> _reloadAuthz(ids, List.of(), _invalidate(ids, _log(_getChanges(ChangeEntity.PERMISSION, ids), permRepo.deleteAll(ids)))));
+    }
+
+    // Archive Permissions (batch)
+    public List<BatchRowStatus> archivePermissions(List<Integer> ids) {
+        return _executeBatch("archivePermissions", ids.size(), () -> _reloadAuthz(ids, List.of(), _invalidate(ids, _log(_getChanges(ChangeEntity.PERMISSION, ids), permRepo.archiveAll(ids)))));
+    }
+
+    // Create Metadata (batch)
+    public List<BatchRowStatus> createMetadataList(List<MetadataDTO> metas) {
+        return _executeBatch("createMetadataList", metas.size(), () -> _invalidate(metas, _log(_getMetadataChanges(metas), permMetadataRepo.insertAll(metas))));
+    }
+
+    // Delete Metadata (batch)
+    public List<BatchRowStatus> deleteMetadataList(List<MetadataDTO> metas) {
+        return _executeBatch("deleteMetadataList", metas.size(), () -> _invalidate(_getRefIds(metas), _log(_getMetadataChanges(metas), permMetadataRepo.deleteAll(metas))));
+    }
+
+    // Archive Metadata (batch)
+    public List<BatchRowStatus> archiveMetadataList(List<MetadataDTO> metas) {
+        return _executeBatch("archiveMetadataList", metas.size(), () -> _invalidate(_getRefIds(metas), _log(_getMetadataChanges(metas), permMetadataRepo.archiveAll(metas))));
+    }
+
+    // Create Role-Permission links (batch)
+    public List<BatchRowStatus> createRolePermissions(List<RolePermissionDTO> rolePermissions) {
+        return _executeBatch("createRolePermissions", rolePermissions.size(), () -> _reloadAuthz(List.of(), _getRoleIds(rolePermissions), _invalidate(_getPermissionIds(rolePermissions), _log(_getRolePermissionChanges(rolePermissions), rpRepo.insertAll(rolePermissions)))));
+    }
+
+    // Delete Role-Permission links (batch)
+    public List<BatchRowStatus> deleteRolePermissions(List<RolePermissionDTO> rolePermissions) {
+        return _executeBatch("deleteRolePermissions", rolePermissions.size(), () -> _reloadAuthz(List.of(), _getRoleIds(rolePermissions), _invalidate(_getPermissionIds(rolePermissions), _log(_getRolePermissionChanges(rolePermissions), rpRepo.deleteAll(rolePermissions)))));
+    }
+
+    // Archive Role-Permission links (batch)
+    public List<BatchRowStatus> archiveRolePermissions(List<RolePermissionDTO> rolePermissions) {
+        return _executeBatch("archiveRolePermissions", rolePermissions.size(), () -> _reloadAuthz(List.of(), _getRoleIds(rolePermissions), _invalidate(_getPermissionIds(rolePermissions), _log(_getRolePermissionChanges(rolePermissions), rpRepo.archiveAll(rolePermissions)))));
+    }
+
+    // Logged: run a mutation in one transaction with its change-log rows, the caller's unit of work or its own
+    // (committed if the result is accepted; null if it can't be committed)
+    private <T> T _logged(Supplier<T> mutation, Predicate<T> accept) {
+        if(changeLogRepo == null || _isInTransaction())
+            return mutation.get();
+        return execute(iamDBConnectionInfo.DEFAULT_TX_ISOLATION, mutation, accept);
+    }
+
+    // Execute Batch: every row FAILED if the database can't be reached, the statement can't be prepared or the
+    // transaction can't be committed (rolled back if no row applied)
+    private List<BatchRowStatus> _executeBatch(String operation, int size, BatchOperation batch) {
+        logger.info(operation + "(" + size + " rows).");
+        if(size == 0)
+            return new ArrayList<>();
+        List<BatchRowStatus> result = _logged(() -> _executeBatchInUnitOfWork(operation, size, batch), rows -> rows != null && rows.contains(BatchRowStatus.APPLIED));
+        return result == null ? new ArrayList<>(Collections.nCopies(size, BatchRowStatus.FAILED)) : result;
+    }
+
+    // Execute Batch (in the unit of work): null if the database can't be reached or the statement can't be prepared
+    private List<BatchRowStatus> _executeBatchInUnitOfWork(String operation, int size, BatchOperation batch) {
+        List<BatchRowStatus> result = null;
+        // Connect
+        if(super.connect())
+        {
+            try {
+                result = batch.execute();
+                logger.info(operation + "(" + size + " rows): " + Collections.frequency(result, BatchRowStatus.APPLIED) + " applied.");
+            }
+            catch(SQLException e) {
+                logger.error(operation + "(" + size + " rows): Exception.\n\t" + e.getClass().getCanonicalName() + ": " + e.getMessage());
+            }
+            finally {
+                super.disconnect();
+            }
+        }
+        return result;
+    }
+
+    // Invalidate a cached Permission (again once the unit of work completes, if in one), and bump its version
+    // (once the unit of work completes, if in one)
+    private void _invalidate(int id) {
+        if(_isInTransaction()) {
+            cache.invalidateOnCompletion(id);
+            versions.bumpOnCompletion(id);
+        }
+        else {
+            cache.invalidate(id);
+            versions.bump(id);
+        }
+    }
+
+    // Invalidate cached Permissions (batch: whatever the row outcomes), then pass the outcomes through
+    private List<BatchRowStatus> _invalidate(Collection<Integer> ids, List<BatchRowStatus> result) {
+        for (int id : ids) {
+            _invalidate(id);
+        }
+        return result;
+    }
+
+    // Reload the Authorization index (once the unit of work completes, if in one): the archived flag of the
+    // Permissions, the permissions of the Roles
+    private void _reloadAuthz(Collection<Integer> permissionIds, Collection<Integer> roleIds) {
+        if(authzManager == null)
+            return;
+        if(_isInTransaction()) {
+            authzManager.reloadOnCompletion(permissionIds, roleIds);
+        }
+        else {
+            authzManager.reload(permissionIds, roleIds);
+        }
+    }
 
+    // Reload the Authorization index (batch: whatever the row outcomes), then pass the outcomes through
+    private List<BatchRowStatus> _reloadAuthz(Collection<Integer> permissionIds, Collection<Integer> roleIds, List<BatchRowStatus> result) {
+        _reloadAuthz(permissionIds, roleIds);
+        return result;
+    }
+
+    // Invalidate a cached Permission and one of its Metadata (again once the unit of work completes, if in one), and
+    // bump the Permission version
+    private void _invalidate(int id, String name) {
+        if(_isInTransaction()) {
+            cache.invalidateOnCompletion(id, name);
+            versions.bumpOnCompletion(id);
+        }
+        else {
+            cache.invalidate(id, name);
+            versions.bump(id);
+        }
+    }
+
+    // Invalidate cached Permissions and Metadata (batch: whatever the row outcomes), then pass the outcomes through
+    private List<BatchRowStatus> _invalidate(List<MetadataDTO> metas, List<BatchRowStatus> result) {
+        for (MetadataDTO meta : metas) {
+            _invalidate(meta.getRefid(), meta.getName());
+        }
+        return result;
+    }
+
+    // Invalidate the Missing entries and bump all versions (batch creation: the generated ids aren't known), then pass
+    // the outcomes through
+    private List<BatchRowStatus> _invalidateMissing(List<BatchRowStatus> result) {
+        if(_isInTransaction()) {
+            cache.invalidateMissingOnCompletion();
+            versions.bumpAllOnCompletion();
+        }
+        else {
+            cache.invalidateMissing();
+            versions.bumpAll();
+        }
+        return result;
+    }
+
+    // Log a Change (in the unit of work of the change)
+    private void _log(ChangeEntity entity, int permissionId, int roleId, String name) throws SQLException {
+        if(changeLogRepo != null) {
+            changeLogRepo.insert(new ChangeLogDTO(entity, permissionId, roleId, name, changeOrigin));
+        }
+    }
+
+    // Log Changes (batch: whatever the row outcomes), then pass the outcomes through
+    private List<BatchRowStatus> _log(List<ChangeLogDTO> changes, List<BatchRowStatus> result) throws SQLException {
+        if(changeLogRepo != null && changeLogRepo.insertAll(changes).contains(BatchRowStatus.FAILED))
+            throw new SQLException("_log(" + changes.size() + " rows): Change Log Not Written.");
+        return result;
+    }
+
+    // Get the Changes of Permissions
+    private List<ChangeLogDTO> _getChanges(ChangeEntity entity, Collection<Integer> permissionIds) {
+        List<ChangeLogDTO> result = new ArrayList<>(permissionIds.size());
+        for (int id : permissionIds) {
+            result.add(new ChangeLogDTO(entity, id, 0, null, changeOrigin));
+        }
+        return result;
+    }
+
+    // Get the Changes of Metadata rows
+    private List<ChangeLogDTO> _getMetadataChanges(List<MetadataDTO> metas) {
+        List<ChangeLogDTO> result = new ArrayList<>(metas.size());
+        for (MetadataDTO meta : metas) {
+            result.add(new ChangeLogDTO(ChangeEntity.METADATA, meta.getRefid(), 0, meta.getName(), changeOrigin));
+        }
+        return result;
+    }
+
+    // Get the Changes of Role-Permission rows
+    private List<ChangeLogDTO> _getRolePermissionChanges(List<RolePermissionDTO> rolePermissions) {
+        List<ChangeLogDTO> result = new ArrayList<>(rolePermissions.size());
+        for (RolePermissionDTO rolePermission : rolePermissions) {
+            result.add(new ChangeLogDTO(ChangeEntity.ROLE_PERMISSION, rolePermission.getPermissionId(), rolePermission.getRoleId(), null, changeOrigin));
+        }
+        return result;
+    }
+
+    // Get the Permission ids of Metadata rows
+    private Set<Integer> _getRefIds(List<MetadataDTO> metas) {
+        Set<Integer> result = new HashSet<>();
+        for (MetadataDTO meta : metas) {
+            result.add(meta.getRefid());
+        }
+        return result;
+    }
+
+    // Get the Permission ids of Role-Permission rows
+    private Set<Integer> _getPermissionIds(List<RolePermissionDTO> rolePermissions) {
+        Set<Integer> result = new HashSet<>();
+        for (RolePermissionDTO rolePermission : rolePermissions) {
+            result.add(rolePermission.getPermissionId());
+        }
+        return result;
+    }
+
+    // Get the Role ids of Role-Permission rows
+    private Set<Integer> _getRoleIds(List<RolePermissionDTO> rolePermissions) {
+        Set<Integer> result = new HashSet<>();
+        for (RolePermissionDTO rolePermission : rolePermissions) {
+            result.add(rolePermission.getRoleId());
+        }
+        return result;
+    }
+
+    // Is Replica Read: the calling thread holds a replica connection (possibly behind the primary: not cached)
+    private boolean _isReplicaRead() {
+        return connector != null && connector.isReplicaConnected();
+    }
+
+    // Is In Transaction: the calling thread holds a connection with a transaction open
+    private boolean _isInTransaction() {
+        try {
+            return connector != null && connector.isOpened() && !connector.getConnection().getAutoCommit();
+        }
+        catch(SQLException e) {
+            return true;
+        }
+    }
+
+    // After Unit of Work: invalidate again what it changed (readers may have cached the state before the commit),
+    // then bump its versions, reload what the Authorization index queued
+    @Override
+    protected void afterUnitOfWork() {
+        if(!_isInTransaction()) {
+            cache.complete();
+            versions.complete();
+            if(authzManager != null) {
+                authzManager.complete();
+            }
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package jgr.iam.manager;
+
+// External Objects
+import lombok.Getter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+// Internal Objects
+import jgr.iam.constant.iamServicePagination;
+import jgr.iam.enums.ChangeEntity;
+import jgr.iam.enums.RequestType;
+import jgr.iam.model.bo.Metadata;
+import jgr.iam.model.bo.Permission;
+import jgr.iam.model.dto.ChangeLogDTO;
+import jgr.iam.model.dto.MetadataDTO;
+import jgr.iam.model.dto.PermissionDTO;
+import jgr.iam.model.dto.PermissionSummaryDTO;
+import jgr.iam.repository.ChangeLogReactiveRepository;
+import jgr.iam.repository.MetadataReactiveRepository;
+import jgr.iam.repository.PermissionReactiveRepository;
+
+// Permission Manager (reactive): same operations as the PermissionManager, as Mono/Flux on R2DBC repositories
+// - Never blocks: a request holds no thread while it waits on the database
+// - Errors are logged; lookups and writes then end empty (false for updates), as the blocking manager returns null
+//   (false), while pages and exports fail
+// - Change log: every mutation writes its change-log row in the caller's transaction (the service unit of work), for
+//   the other nodes to invalidate their caches; a failed write fails the mutation
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Getter
+public class PermissionReactiveManager {
+
+    // Logger
+    private final static Logger logger = LogManager.getLogger(PermissionReactiveManager.class.getCanonicalName());
+
+    // Repository objects
+    private final PermissionReactiveRepository permRepo; // Permission Repository
+    private final MetadataReactiveRepository permMetadataRepo; // Permission Metadata Repository
+    private final ChangeLogReactiveRepository changeLogRepo; // Change Log Repository
+
+    // Change log objects
+    private final String changeOrigin = UUID.randomUUID().toString(); // this node, in the change log
+
+    // Constructor
+    @Autowired
+    public PermissionReactiveManager(PermissionReactiveRepository permRepo,
+                                     MetadataReactiveRepository permMetadataRepo,
+                                     ChangeLogReactiveRepository changeLogRepo) {
+        this.permRepo = permRepo;
+        this.permMetadataRepo = permMetadataRepo;
+        this.changeLogRepo = changeLogRepo;
+    }
+
+    // Get a page of Permissions (keyset: ids greater than afterId, at most limit)
+    public Flux<Permission> getPermissions(RequestType requestType, boolean archived, int afterId, int limit) {
+        logger.debug("getPermissions(" + requestType.toString() + ", " + archived + ", " + afterId + ", " + limit + ").");
+        Flux<Permission> result = permRepo.getAllSummary(archived, afterId, limit).map(this::_toPermission);
+        if (requestType == RequestType.DETAIL) {
+            result = result.collectList().flatMapMany(this::_addDetailInfo);
+        }
+        // Errors go on to the caller: a page can't be partial
+        return result.doOnError(e -> logger.error("getPermissions(" + requestType.toString() + ", " + archived + ", " + afterId + ", " + limit + "): Exception.\n\t" + e.getClass().getCanonicalName() + ": " + e.getMessage()));
+    }
+
+    // Export Permissions (Detail View): all rows, enriched in bounded chunks, at the pace of the client
+    public Flux<Permission> exportPermissions(boolean archived) {
+        logger.info("exportPermissions(" + archived + ").");
+        return permRepo.getAll(archived)
+                       .map(Permission::new)
+                       .buffer(iamServicePagination.EXPORT_CHUNK_SIZE)
+                       .concatMap(chunk -> permRepo.getAllRoleExtendedNames(_getIds(chunk))
+                                                   .map(roles -> {
+                                                       for (Permission perm : chunk) {
+                                                           Collection<String> names = roles.get(perm.getId());
+                                                           if (names != null) {
+                                                               perm.setRoleCount(names.size());
+                                                               perm.getRoleExtendedNameList().addAll(names);
+                                                           }
+                                                       }
+                                                       return chunk;
+                                                   })
+                                                   .flatMapMany(this::_addMetadata))
+                       .doOnError(e -> logger.error("exportPermissions(" + archived + "): Exception.\n\t" + e.getClass().getCanonicalName() + ": " + e.getMessage()));
+    }
+
+    // Get Permission
+    public Mono<Permission> getPermission(int id, RequestType requestType) {
+        logger.debug("getPermission(" + id + ", " + requestType.toString() + ").");
+        Mono<Permission> result = requestType == RequestType.INTERNAL ? permRepo.getById(id).map(Permission::new)
+                                                                      : permRepo.getSummaryById(id).map(this::_toPermission);
+        if (requestType == RequestType.DETAIL) {
+            result = result.flatMap(perm -> _addDetailInfo(List.of(perm)).next());
+        }
+        return result.onErrorResume(e -> {
+            logger.error("getPermission(" + id + ", " + requestType.toString() + "): Exception.\n\t" + e.getClass().getCanonicalName() + ": " + e.getMessage());
+            return Mono.empty();
+        });
+    }
+
+    // Get Permission by Name
+    public Mono<Permission> getPermission(String name, RequestType requestType) {
+        logger.debug("getPermission(" + name + ", " + requestType + ").");
+        return permRepo.getByName(name)
+                       .flatMap(permDTO -> requestType == RequestType.INTERNAL ? Mono.just(new Permission(permDTO))
+                                                                               : getPermission(permDTO.getId(), requestType))
+                       .onErrorResume(e -> {
+                           logger.error("getPermission(" + name + ", " + requestType + "): Exception.\n\t" + e.getClass().getCanonicalName() + ": " + e.getMessage());
+                           return Mono.empty();
+                       });
+    }
+
+    // Create Permission
+    public Mono<Permission> createPermission(String name, String description) {
+        logger.info("createPermission(" + name + ", " + description + ").");
+        // Insert: a new permission has no roles nor metadata yet
+        return permRepo.insert(name, description)
+                       .filter(id -> id > 0)
+                       .flatMap(id -> _log(ChangeEntity.PERMISSION, id, null).thenReturn(id))
+                       .map(id -> new Permission(new PermissionDTO(id, name, description, false)))
+                       .onErrorResume(e -> {
+                           logger.error("createPermission(" + name + ", " + description + "): Exception.\n\t" + e.getClass().getCanonicalName() + ": " + e.getMessage());
+                           return Mono.empty();
+                       });
+    }
+
+    // Delete Permission
+    public Mono<Boolean> deletePermission(int id) {
+        logger.info("deletePermission(" + id + ").");
+        return _isUpdated("deletePermission(" + id + ")", _logged(permRepo.delete(id), ChangeEntity.PERMISSION, id, null));
+    }
+
+    // Update Permission Description
+    public Mono<Boolean> updatePermissionDescription(int id, String description) {
+        logger.debug("updatePermissionDescription(" + id + ", " + description + ").");
+        return _isUpdated("updatePermissionDescription(" + id + ", " + description + ")", _logged(permRepo.updateDescription(id, description), ChangeEntity.PERMISSION, id, null));
+    }
+
+    // Update Permission Archived status
+    public Mono<Boolean> updatePermissionArchived(int id, boolean archived) {
+        logger.debug("updatePermissionArchived(" + id + ", " + archived + ").");
+        return _isUpdated("updatePermissionArchived(" + id + ", " + archived + ")", _logged(permRepo.updateArchive(id, archived), ChangeEntity.PERMISSION, id, null));
+    }
+
+    // Get Metadata
+    public Mono<Metadata> getMetadata(int permId, String name) {
+        logger.debug("getMetadata(" + permId + ", " + name + ").");
+        return permMetadataRepo.get(permId, name)
+                               .map(Metadata::new)
+                               .onErrorResume(e -> {
+                                   logger.error("getMetadata(" + permId + ", " + name + "): Exception.\n\t" + e.getClass().getCanonicalName() + ": " + e.getMessage());
+                                   return Mono.empty();
+                               });
+    }
+
+    // Create Metadata: the permission (summary view) once inserted
+    public Mono<Permission> createMetadata(int permId, String name, String value) {
+        logger.info("createMetadata(" + permId + "," + name + ", " + value + ").");
+        return _logged(permMetadataRepo.insert(permId, name, value), ChangeEntity.METADATA, permId, name)
+               .filter(count -> count > 0)
+               .flatMap(count -> permRepo.getSummaryById(permId))
+               .map(this::_toPermission)
+               .onErrorResume(e -> {
+                   logger.error("createMetadata(" + permId + "," + name + ", " + value + "): Exception.\n\t" + e.getClass().getCanonicalName() + ": " + e.getMessage());
+                   return Mono.empty();
+               });
+    }
+
+    // Delete Metadata
+    public Mono<Boolean> deleteMetadata(int id, String name) {
+        logger.info("deleteMetadata(" + id + ", " + name + ").");
+        return _isUpdated("deleteMetadata(" + id + ", " + name + ")", _logged(permMetadataRepo.delete(id, name), ChangeEntity.METADATA, id, name));
+    }
+
+    // Update Metadata Value
+    public Mono<Boolean> updateMetadataValue(int id, String name, String value) {
+        logger.debug("updateMetadataValue(" + id + ", " + name + ", " + value + ").");
+        return _isUpdated("updateMetadataValue(" + id + ", " + name + ", " + value + ")", _logged(permMetadataRepo.updateValue(id, name, value), ChangeEntity.METADATA, id, name));
+    }
+
+    // Update Metadata Archived status
+    public Mono<Boolean> updateMetadataArchived(int id, String name, boolean archived) {
+        logger.debug("updateMetadataArchived(" + id + ", " + name + ", " + archived + ").");
+        return _isUpdated("updateMetadataArchived(" + id + ", " + name + ", " + archived + ")", _logged(permMetadataRepo.updateArchive(id, name, archived), ChangeEntity.METADATA, id, name));
+    }
+
+    // Logged: the change-log row written once the change matched rows (none otherwise)
+    private Mono<Long> _logged(Mono<Long> count, ChangeEntity entity, int permissionId, String name) {
+        return count.flatMap(rows -> rows > 0 ? _log(entity, permissionId, name).thenReturn(rows) : Mono.just(rows));
+    }
+
+    // Log a change (Permission or Metadata)
+    private Mono<Long> _log(ChangeEntity entity, int permissionId, String name) {
+        return changeLogRepo.insert(new ChangeLogDTO(entity, permissionId, 0, name, changeOrigin));
+    }
+
+    // Is Updated: at least one (matched) row, false on error
+    private Mono<Boolean> _isUpdated(String operation, Mono<Long> count) {
+        return count.map(rows -> rows > 0)
+                    .defaultIfEmpty(false)
+                    .onErrorResume(e -> {
+                        logger.error(operation + ": Exception.\n\t" + e.getClass().getCanonicalName() + ": " + e.getMessage());
+                        return Mono.just(false);
+                    });
+    }
+
+    // To Permission (with its Role and Metadata counts)
+    private Permission _toPermission(PermissionSummaryDTO summaryDTO) {
+        Permission perm = new Permission(summaryDTO);
+        perm.setRoleCount(summaryDTO.getRoleCount());
+        perm.setMetadataCount(summaryDTO.getMetadataCount());
+        return perm;
+    }
+
+    // Add Detail Information to a list of Permissions (one query per kind, stitched in memory)
+    private Flux<Permission> _addDetailInfo(List<Permission> perms) {
+        if (perms.isEmpty())
+            return Flux.empty();
+        return permRepo.getAllRoleExtendedNames(_getIds(perms))
+                       .flatMapMany(roles -> {
+                           for (Permission perm : perms) {
+                               Collection<String> names = roles.get(perm.getId());
+                               if (names != null) {
+                                   perm.getRoleExtendedNameList().addAll(names);
+                               }
+                           }
+                           return _addMetadata(perms);
+                       });
+    }
+
+    // Add Metadata to a list of Permissions
+    private Flux<Permission> _addMetadata(List<Permission> perms) {
+        return permMetadataRepo.getAll(_getIds(perms))
+                               .flatMapIterable(metas -> {
+                                   for (Permission perm : perms) {
+                                       Collection<MetadataDTO> list = metas.get(perm.getId());
+                                       if (list != null) {
+                                           perm.setMetadataCount(list.size());
+                                           for (MetadataDTO meta : list) {
+                                               perm.getMetadataList().add(new Metadata(meta));
+                                           }
+                                       }
+                                   }
+                                   return perms;
+                               });
+    }
+
+    // Get Identifiers
+    private Collection<Integer> _getIds(List<Permission> perms) {
+        return perms.stream().map(Permission::getId).toList();
+    }
+}
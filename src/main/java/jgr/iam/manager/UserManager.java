@@ -0,0 +1,144 @@
+package jgr.iam.manager;
+
+// External Objects
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.logging.log4j.LogManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+// Internal Objects
+import jgr.iam.util.iamDBConnectorUtil;
+import jgr.iam.repository.PermissionRepository;
+import jgr.iam.repository.UserGroupRoleRepository;
+import jgr.iam.repository.UserRepository;
+import jgr.iam.repository.UserRoleRepository;
+import jgr.iam.repository.UserUserGroupRepository;
+import jgr.iam.model.bo.Permission;
+import jgr.iam.model.bo.User;
+import jgr.iam.model.dto.PermissionDTO;
+import jgr.iam.model.dto.UserDTO;
+import jgr.iam.model.dto.UserGroupRoleDTO;
+import jgr.iam.model.dto.UserRoleDTO;
+import jgr.iam.model.dto.UserUserGroupDTO;
+
+// User Manager
+// - Stateless (Spring singleton): the connection is bound to the calling thread by the shared connector
+// - Effective permissions: resolved set-wise, a fixed number of queries whatever the user's fan-out
+//   (direct roles, groups, group roles, then the permissions of all roles at once)
+@Component
+@Getter
+@Setter
+public class UserManager extends BaseManager {
+
+    // Repository objects
+    private UserRepository userRepo; // User Repository
+    private UserRoleRepository urRepo; // User-Role Repository
+    private UserUserGroupRepository uugRepo; // User-UserGroup Repository
+    private UserGroupRoleRepository ugrRepo; // UserGroup-Role Repository
+    private PermissionRepository permRepo; // Permission Repository
+
+    // Constructor (for unit test purpose)
+    public UserManager()
+    {
+        this(new iamDBConnectorUtil());
+    }
+
+    // Constructor (own repositories on the given connector)
+    public UserManager(iamDBConnectorUtil connector)
+    {
+        this(connector,
+             new UserRepository(connector),
+             new UserRoleRepository(connector),
+             new UserUserGroupRepository(connector),
+             new UserGroupRoleRepository(connector),
+             new PermissionRepository(connector));
+    }
+
+    // Constructor (Spring-managed)
+    @Autowired
+    public UserManager(iamDBConnectorUtil connector,
+                       UserRepository userRepo,
+                       UserRoleRepository urRepo,
+                       UserUserGroupRepository uugRepo,
+                       UserGroupRoleRepository ugrRepo,
+                       PermissionRepository permRepo)
+    {
+        super(connector);
+        super.setLogger(LogManager.getLogger(UserManager.class.getCanonicalName()));
+        this.userRepo = userRepo;
+        this.urRepo = urRepo;
+        this.uugRepo = uugRepo;
+        this.ugrRepo = ugrRepo;
+        this.permRepo = permRepo;
+    }
+
+    // Get User
+    public User getUser(int id) {
+        logger.debug("getUser(" + id + ").");
+        User result = null;
+        // Connect
+        if(super.connect())
+        {
+            try {
+                UserDTO userDTO = userRepo.getById(id);
+                if(userDTO != null) {
+                    result = new User(userDTO);
+                }
+            }
+            catch(SQLException e) {
+                logger.error("getUser(" + id + "): Exception.\n\t" + e.getClass().getCanonicalName() + ": " + e.getMessage());
+            }
+            finally {
+                super.disconnect();
+            }
+        }
+        return result;
+    }
+
+    // Get Effective Permissions of a User: deduplicated, ordered by id (null if iamDB can't be read)
+    // - Through User_Role, and User_UserGroup -> UserGroup_Role, then Role_Permission
+    // - Archived links, groups, roles and permissions grant nothing; nor does an inactive or archived user
+    public List<Permission> getEffectivePermissions(User user) {
+        logger.debug("getEffectivePermissions(" + user.getId() + ").");
+        List<Permission> result = new ArrayList<>();
+        if(!user.isActive() || user.isArchived())
+            return result;
+        // Connect
+        if(super.connect())
+        {
+            try {
+                // Roles: direct, then through the user's groups
+                Set<Integer> roleIds = new LinkedHashSet<>();
+                for (UserRoleDTO userRole : urRepo.getAllForUser(user.getId())) {
+                    roleIds.add(userRole.getRoleId());
+                }
+                List<Integer> userGroupIds = new ArrayList<>();
+                for (UserUserGroupDTO userUserGroup : uugRepo.getAllForUser(user.getId())) {
+                    userGroupIds.add(userUserGroup.getUserGroupId());
+                }
+                for (UserGroupRoleDTO userGroupRole : ugrRepo.getAllForUserGroups(userGroupIds)) {
+                    roleIds.add(userGroupRole.getRoleId());
+                }
+                // Permissions of all roles
+                for (PermissionDTO permDTO : permRepo.getAllForRoles(roleIds)) {
+                    result.add(new Permission(permDTO));
+                }
+                logger.debug("getEffectivePermissions(" + user.getId() + "): " + roleIds.size() + " roles, " + result.size() + " permissions.");
+                return result;
+            }
+            catch(SQLException e) {
+                logger.error("getEffectivePermissions(" + user.getId() + "): Exception.\n\t" + e.getClass().getCanonicalName() + ": " + e.getMessage());
+            }
+            finally {
+                super.disconnect();
+            }
+        }
+        return null;
+    }
+}
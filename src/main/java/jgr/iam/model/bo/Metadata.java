@@ -25,6 +25,14 @@ public class Metadata {
         }
     }
 
+    // Copy
+    public Metadata copy() {
+        Metadata result = new Metadata(name);
+        result.value = value;
+        result.archived = archived;
+        return result;
+    }
+
     // Constructor (to use only for unit test purpose)
     public Metadata(String name) {
         this.name = name;
@@ -42,4 +42,24 @@ public class Permission {
             roleExtendedNameList = new ArrayList<>();
         }
     }
+
+    // Copy (lists and metadata copied, strings shared)
+    public Permission copy() {
+        return new Permission(this);
+    }
+
+    // Constructor (copy)
+    private Permission(Permission perm) {
+        this.id = perm.id;
+        this.name = perm.name;
+        this.description = perm.description;
+        this.archived = perm.archived;
+        this.metadataCount = perm.metadataCount;
+        this.metadataList = new ArrayList<>(perm.metadataList.size());
+        for (Metadata meta : perm.metadataList) {
+            this.metadataList.add(meta.copy());
+        }
+        this.roleCount = perm.roleCount;
+        this.roleExtendedNameList = new ArrayList<>(perm.roleExtendedNameList);
+    }
 }
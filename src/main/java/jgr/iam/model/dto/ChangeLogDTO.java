@@ -0,0 +1,49 @@
+package jgr.iam.model.dto;
+
+// External Objects
+import lombok.Getter; // https://projectlombok.org/features/GetterSetter
+import lombok.Setter; // https://projectlombok.org/features/GetterSetter
+import javax.persistence.Entity; // https://docs.oracle.com/javaee%2F7%2Fapi%2F%2F/javax/persistence/package-summary.html
+import javax.persistence.GeneratedValue; // https://docs.oracle.com/javaee%2F7%2Fapi%2F%2F/javax/persistence/package-summary.html
+import javax.persistence.GenerationType; // https://docs.oracle.com/javaee%2F7%2Fapi%2F%2F/javax/persistence/package-summary.html
+import javax.persistence.Id; // https://docs.oracle.com/javaee%2F7%2Fapi%2F%2F/javax/persistence/package-summary.html
+
+// Internal Objects
+import jgr.iam.enums.ChangeEntity; // Change Log Entity
+
+// CREATE TABLE IF NOT EXISTS ChangeLog (
+//    seq BIGINT AUTO_INCREMENT PRIMARY KEY,
+//    entity VARCHAR(32) NOT NULL,
+//    permissionId INT NOT NULL,
+//    roleId INT,
+//    name VARCHAR(255),
+//    origin VARCHAR(64) NOT NULL,
+//    changedAt TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP);
+@Entity
+@Getter
+@Setter
+public class ChangeLogDTO {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private long seq;
+    private ChangeEntity entity; // null: written by a newer version of the service
+    private int permissionId;
+    private int roleId; // 0: not a Role_Permission change
+    private String name; // null: not a Metadata change
+    private String origin;
+
+    // Constructor with known sequence
+    public ChangeLogDTO(long seq, ChangeEntity entity, int permissionId, int roleId, String name, String origin) {
+        this.seq = seq;
+        this.entity = entity;
+        this.permissionId = permissionId;
+        this.roleId = roleId;
+        this.name = name;
+        this.origin = origin;
+    }
+
+    // Constructor with parameters
+    public ChangeLogDTO(ChangeEntity entity, int permissionId, int roleId, String name, String origin) {
+        this(0, entity, permissionId, roleId, name, origin);
+    }
+}
@@ -0,0 +1,21 @@
+package jgr.iam.model.dto;
+
+// External Objects
+import lombok.Getter; // https://projectlombok.org/features/GetterSetter
+import lombok.Setter; // https://projectlombok.org/features/GetterSetter
+
+// Permission, with its (non-archived) Role and Metadata counts
+// SELECT p.*, COUNT(Role_Permission) as roleCount, COUNT(PermissionMetadata) as metadataCount
+@Getter
+@Setter
+public class PermissionSummaryDTO extends PermissionDTO {
+    private int roleCount;
+    private int metadataCount;
+
+    // Constructor
+    public PermissionSummaryDTO(int id, String name, String description, boolean archived, int roleCount, int metadataCount) {
+        super(id, name, description, archived);
+        this.roleCount = roleCount;
+        this.metadataCount = metadataCount;
+    }
+}
@@ -0,0 +1,21 @@
+package jgr.iam.payload.request.authz;
+
+// External Objects
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import java.util.List;
+
+// Authorization Bulk Check Request: either (user, permission) pairs, or one user and many permissions
+@Getter
+@Setter
+@NoArgsConstructor
+public class AuthzBulkCheckRequest {
+    @JsonProperty("checks")
+    private List<AuthzCheckRequest> checks;
+    @JsonProperty("user")
+    private Integer user;
+    @JsonProperty("permissions")
+    private List<Integer> permissions;
+}
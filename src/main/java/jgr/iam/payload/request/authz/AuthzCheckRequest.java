@@ -0,0 +1,20 @@
+package jgr.iam.payload.request.authz;
+
+// External Objects
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Authorization Check Request: one (user, permission) pair
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuthzCheckRequest {
+    @JsonProperty("user")
+    private Integer user;
+    @JsonProperty("permission")
+    private Integer permission;
+}
@@ -20,6 +20,8 @@ public abstract class ObjectResponse {
     private int count;
     @JsonProperty
     private Object items;
+    @JsonProperty
+    private String next; // Opaque cursor of the next page (if any)
 
     // Constructor
     public ObjectResponse(HttpStatusCode status, String response) {
@@ -27,5 +29,6 @@ public abstract class ObjectResponse {
         this.response = response;
         this.count = 0;
         this.items = null;
+        this.next = null;
     }
 }
@@ -0,0 +1,15 @@
+package jgr.iam.payload.response;
+
+//External Objects
+import org.springframework.http.HttpStatusCode;
+
+// Internal Objects
+
+// Readiness Response
+public class ReadinessResponse extends ObjectResponse {
+
+    // Constructor
+    public ReadinessResponse(HttpStatusCode status, String response) {
+        super(status, response);
+    }
+}
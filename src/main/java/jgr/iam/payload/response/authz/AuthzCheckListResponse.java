@@ -0,0 +1,30 @@
+package jgr.iam.payload.response.authz;
+
+// External Objects
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import org.springframework.http.HttpStatusCode;
+
+// Internal Objects
+import jgr.iam.payload.response.ObjectResponse;
+
+// Authorization Check List Response (in the order of the request)
+@Getter
+public class AuthzCheckListResponse extends ObjectResponse {
+
+    // Constructor
+    public AuthzCheckListResponse(List<AuthzCheckValue> checks, HttpStatusCode status, String response)
+    {
+        super(status, response);
+        // List is not null
+        if(checks != null) {
+            super.setCount(checks.size());
+            super.setItems(checks);
+        }
+        else {
+            super.setCount(0);
+            super.setItems(new ArrayList<>());
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package jgr.iam.payload.response.authz;
+
+// External Objects
+import lombok.Getter;
+import org.springframework.http.HttpStatusCode;
+
+// Internal Objects
+import jgr.iam.payload.response.ObjectResponse;
+
+// Authorization Check Response
+@Getter
+public class AuthzCheckResponse extends ObjectResponse {
+    // Constructor
+    public AuthzCheckResponse(AuthzCheckValue check, HttpStatusCode status, String response)
+    {
+        super(status, response);
+        if(check != null) {
+            super.setItems(check);
+            super.setCount(1);
+        }
+    }
+}
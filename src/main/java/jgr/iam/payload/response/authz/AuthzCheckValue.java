@@ -0,0 +1,24 @@
+package jgr.iam.payload.response.authz;
+
+// External Objects
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+
+// Authorization Check Value
+@Getter
+public class AuthzCheckValue {
+    // Core Attributes
+    @JsonProperty("user")
+    private int user;
+    @JsonProperty("permission")
+    private int permission;
+    @JsonProperty("allowed")
+    private boolean allowed;
+
+    // Constructor
+    public AuthzCheckValue(int user, int permission, boolean allowed) {
+        this.user = user;
+        this.permission = permission;
+        this.allowed = allowed;
+    }
+}
@@ -0,0 +1,34 @@
+package jgr.iam.payload.response.cache;
+
+// External Objects
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import org.springframework.http.HttpStatusCode;
+
+// Internal Objects
+import jgr.iam.payload.response.ObjectResponse;
+import jgr.iam.util.iamCacheStatistics;
+
+// Cache Statistics List Response
+@Getter
+public class CacheStatisticsListResponse extends ObjectResponse {
+
+    // Constructor
+    public CacheStatisticsListResponse(List<iamCacheStatistics> stats, HttpStatusCode status, String response)
+    {
+        super(status, response);
+        List<CacheStatisticsValue> values = new ArrayList<>();
+        // List is not null
+        if(stats != null) {
+            for (iamCacheStatistics stat : stats) {
+                values.add(new CacheStatisticsValue(stat));
+            }
+            super.setCount(stats.size());
+        }
+        else {
+            super.setCount(0);
+        }
+        super.setItems(values);
+    }
+}
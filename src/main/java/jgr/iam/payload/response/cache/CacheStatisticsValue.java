@@ -0,0 +1,44 @@
+package jgr.iam.payload.response.cache;
+
+// External Objects
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+
+// Internal Objects
+import jgr.iam.util.iamCacheStatistics;
+
+// Cache Statistics Value
+@Getter
+public class CacheStatisticsValue {
+    // Cache Configuration
+    @JsonProperty("cache_name")
+    private String cacheName;
+    @JsonProperty("max_size")
+    private long maxSize;
+    @JsonProperty("ttl_seconds")
+    private long ttlSeconds;
+    // Cache State
+    @JsonProperty("size")
+    private long size;
+    // Hit/Miss Statistics
+    @JsonProperty("hit_count")
+    private long hitCount;
+    @JsonProperty("miss_count")
+    private long missCount;
+    @JsonProperty("hit_rate")
+    private double hitRate;
+    @JsonProperty("eviction_count")
+    private long evictionCount;
+
+    // Constructor
+    public CacheStatisticsValue(iamCacheStatistics stats) {
+        cacheName = stats.getCacheName();
+        maxSize = stats.getMaxSize();
+        ttlSeconds = stats.getTtlSeconds();
+        size = stats.getSize();
+        hitCount = stats.getHitCount();
+        missCount = stats.getMissCount();
+        hitRate = stats.getHitRate();
+        evictionCount = stats.getEvictionCount();
+    }
+}
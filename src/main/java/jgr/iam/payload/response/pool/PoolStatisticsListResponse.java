@@ -0,0 +1,34 @@
+package jgr.iam.payload.response.pool;
+
+// External Objects
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import org.springframework.http.HttpStatusCode;
+
+// Internal Objects
+import jgr.iam.payload.response.ObjectResponse;
+import jgr.iam.util.iamDBPoolStatistics;
+
+// Pool Statistics List Response
+@Getter
+public class PoolStatisticsListResponse extends ObjectResponse {
+
+    // Constructor
+    public PoolStatisticsListResponse(List<iamDBPoolStatistics> stats, HttpStatusCode status, String response)
+    {
+        super(status, response);
+        List<PoolStatisticsValue> values = new ArrayList<>();
+        // List is not null
+        if(stats != null) {
+            for (iamDBPoolStatistics stat : stats) {
+                values.add(new PoolStatisticsValue(stat));
+            }
+            super.setCount(stats.size());
+        }
+        else {
+            super.setCount(0);
+        }
+        super.setItems(values);
+    }
+}
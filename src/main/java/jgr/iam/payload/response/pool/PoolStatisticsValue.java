@@ -0,0 +1,56 @@
+package jgr.iam.payload.response.pool;
+
+// External Objects
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+
+// Internal Objects
+import jgr.iam.util.iamDBPoolStatistics;
+
+// Pool Statistics Value
+@Getter
+public class PoolStatisticsValue {
+    // Pool Configuration
+    @JsonProperty("pool_name")
+    private String poolName;
+    @JsonProperty("min_idle")
+    private int minIdle;
+    @JsonProperty("max_size")
+    private int maxSize;
+    // Pool State
+    @JsonProperty("total")
+    private int total;
+    @JsonProperty("active")
+    private int active;
+    @JsonProperty("idle")
+    private int idle;
+    @JsonProperty("pending")
+    private int pending;
+    // Wait-Time Statistics
+    @JsonProperty("acquired_count")
+    private long acquiredCount;
+    @JsonProperty("average_wait_ms")
+    private double averageWaitMs;
+    @JsonProperty("max_wait_ms")
+    private double maxWaitMs;
+    @JsonProperty("timeout_count")
+    private long timeoutCount;
+    @JsonProperty("average_usage_ms")
+    private double averageUsageMs;
+
+    // Constructor
+    public PoolStatisticsValue(iamDBPoolStatistics stats) {
+        poolName = stats.getPoolName();
+        minIdle = stats.getMinIdle();
+        maxSize = stats.getMaxSize();
+        total = stats.getTotal();
+        active = stats.getActive();
+        idle = stats.getIdle();
+        pending = stats.getPending();
+        acquiredCount = stats.getAcquiredCount();
+        averageWaitMs = stats.getAverageWaitMs();
+        maxWaitMs = stats.getMaxWaitMs();
+        timeoutCount = stats.getTimeoutCount();
+        averageUsageMs = stats.getAverageUsageMs();
+    }
+}
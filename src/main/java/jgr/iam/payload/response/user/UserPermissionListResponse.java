@@ -0,0 +1,34 @@
+package jgr.iam.payload.response.user;
+
+// External Objects
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import org.springframework.http.HttpStatusCode;
+
+// Internal Objects
+import jgr.iam.model.bo.Permission;
+import jgr.iam.payload.response.ObjectResponse;
+
+// User (Effective) Permission List Response
+@Getter
+public class UserPermissionListResponse extends ObjectResponse {
+
+    // Constructor
+    public UserPermissionListResponse(List<Permission> perms, HttpStatusCode status, String response)
+    {
+        super(status, response);
+        List<UserPermissionValue> values = new ArrayList<>();
+        // List is not null
+        if(perms != null) {
+            for (Permission perm : perms) {
+                values.add(new UserPermissionValue(perm));
+            }
+            super.setCount(perms.size());
+        }
+        else {
+            super.setCount(0);
+        }
+        super.setItems(values);
+    }
+}
@@ -0,0 +1,27 @@
+package jgr.iam.payload.response.user;
+
+// External Objects
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+
+// Internal Objects
+import jgr.iam.model.bo.Permission;
+
+// User (Effective) Permission Value
+@Getter
+public class UserPermissionValue {
+    // Core Attributes
+    @JsonProperty("id")
+    private int id;
+    @JsonProperty("name")
+    private String name;
+    @JsonProperty("description")
+    private String description;
+
+    // Constructor
+    public UserPermissionValue(Permission perm) {
+        id = perm.getId();
+        name = perm.getName();
+        description = perm.getDescription();
+    }
+}
@@ -0,0 +1,40 @@
+package jgr.iam.repository;
+
+// External Objects
+import org.apache.logging.log4j.LogManager; // https://logging.apache.org/log4j/2.x/manual/api.html
+import org.apache.logging.log4j.Logger; // https://logging.apache.org/log4j/2.x/manual/api.html
+import org.springframework.r2dbc.core.DatabaseClient; // https://docs.spring.io/spring-framework/docs/current/javadoc-api/org/springframework/r2dbc/core/DatabaseClient.html
+import reactor.core.publisher.Mono; // https://projectreactor.io/docs/core/release/api/reactor/core/publisher/Mono.html
+
+// Internal Objects
+import jgr.iam.model.dto.ChangeLogDTO; // ChangeLogDTO
+
+// ChangeLogDTO DBO/Repository (R2DBC, non-blocking): append-only, written in the transaction of the change
+public class ChangeLogReactiveRepository {
+
+    // Logger
+    private final static Logger logger = LogManager.getLogger(ChangeLogReactiveRepository.class.getCanonicalName());
+
+    // Statements, with named parameters
+    private final static String SQL_INSERT = "INSERT INTO ChangeLog (entity, permissionId, roleId, name, origin) VALUES (:entity, :permissionId, :roleId, :name, :origin)";
+
+    // iamDB Client
+    private final DatabaseClient client;
+
+    // Constructor
+    public ChangeLogReactiveRepository(DatabaseClient client) {
+        this.client = client;
+    }
+
+    // Insert ChangeLog: inserted rows
+    public Mono<Long> insert(ChangeLogDTO change) {
+        logger.debug("insert: [" + change.getEntity() + "," + change.getPermissionId() + "," + change.getRoleId() + "," + change.getName() + "]");
+        DatabaseClient.GenericExecuteSpec spec = client.sql(SQL_INSERT)
+                                                       .bind("entity", change.getEntity().name())
+                                                       .bind("permissionId", change.getPermissionId())
+                                                       .bind("origin", change.getOrigin());
+        spec = change.getRoleId() == 0 ? spec.bindNull("roleId", Integer.class) : spec.bind("roleId", change.getRoleId());
+        spec = change.getName() == null ? spec.bindNull("name", String.class) : spec.bind("name", change.getName());
+        return spec.fetch().rowsUpdated();
+    }
+}
@@ -0,0 +1,119 @@
+package jgr.iam.repository;
+
+// External Objects
+import java.sql.PreparedStatement; // https://docs.oracle.com/javase/8/docs/api/java/sql/PreparedStatement.html
+import java.sql.ResultSet; // https://docs.oracle.com/javase/8/docs/api/java/sql/ResultSet.html
+import java.sql.SQLException; // https://docs.oracle.com/javase/8/docs/api/java/sql/SQLException.html
+import java.sql.Types; // https://docs.oracle.com/javase/8/docs/api/java/sql/Types.html
+import org.apache.logging.log4j.LogManager; // https://logging.apache.org/log4j/2.x/manual/api.html
+import org.apache.logging.log4j.Logger; // https://logging.apache.org/log4j/2.x/manual/api.html
+import java.util.ArrayList; // https://docs.oracle.com/javase/8/docs/api/java/util/ArrayList.html
+import java.util.List; // https://docs.oracle.com/javase/8/docs/api/java/util/List.html
+
+// Internal Objects
+import jgr.iam.enums.BatchRowStatus; // Batch Row Status
+import jgr.iam.enums.ChangeEntity; // Change Log Entity
+import jgr.iam.model.dto.ChangeLogDTO; // ChangeLogDTO
+import jgr.iam.util.iamDBConnectorUtil; // iamDB Database Connector
+import jgr.iam.util.iamDBBatchUtil; // iamDB Batch Utility
+
+// ChangeLogDTO DBO/Repository: append-only, read by sequence (primary key ranges only)
+public class ChangeLogRepository {
+
+    // Logger
+    private final static Logger logger = LogManager.getLogger(ChangeLogRepository.class.getCanonicalName());
+
+    // Statements
+    private final static String SQL_INSERT = "INSERT INTO ChangeLog (entity, permissionId, roleId, name, origin) VALUES (?, ?, ?, ?, ?)";
+
+    // iamDB Connector
+    private iamDBConnectorUtil connector;
+
+    // Constructor
+    public ChangeLogRepository(iamDBConnectorUtil connector) {
+        this.connector = connector;
+    }
+
+    // Insert ChangeLog
+    public int insert(ChangeLogDTO change) throws SQLException {
+        logger.debug("insert: [" + change.getEntity() + "," + change.getPermissionId() + "," + change.getRoleId() + "," + change.getName() + "]");
+        try (PreparedStatement statement = connector.getConnection().prepareStatement(SQL_INSERT)) {
+            _bind(statement, change);
+            return statement.executeUpdate();
+        }
+    }
+
+    // Insert ChangeLogs (batch)
+    public List<BatchRowStatus> insertAll(List<ChangeLogDTO> changes) throws SQLException {
+        logger.debug("insertAll: [" + changes.size() + " rows]");
+        try (PreparedStatement statement = connector.getConnection().prepareStatement(SQL_INSERT)) {
+            return iamDBBatchUtil.execute(statement, changes, this::_bind);
+        }
+    }
+
+    // Get the ChangeLogs after a sequence, in sequence order (at most limit)
+    public List<ChangeLogDTO> getAfter(long seq, int limit) throws SQLException {
+        List<ChangeLogDTO> changes = new ArrayList<>();
+        String query = "SELECT * FROM ChangeLog WHERE seq > ? ORDER BY seq LIMIT ?";
+        try (PreparedStatement statement = connector.getConnection().prepareStatement(query)) {
+            statement.setLong(1, seq);
+            statement.setInt(2, limit);
+            ResultSet resultSet = statement.executeQuery();
+            while (resultSet.next()) {
+                changes.add(_mapResultSet(resultSet));
+            }
+        }
+        return changes;
+    }
+
+    // Get the highest sequence (0: empty)
+    public long getMaxSequence() throws SQLException {
+        String query = "SELECT MAX(seq) as total FROM ChangeLog";
+        try (PreparedStatement statement = connector.getConnection().prepareStatement(query)) {
+            ResultSet resultSet = statement.executeQuery();
+            return resultSet.next() ? resultSet.getLong("total") : 0;
+        }
+    }
+
+    // Delete the ChangeLogs up to a sequence (pruning)
+    public int deleteUpTo(long seq) throws SQLException {
+        logger.debug("deleteUpTo: [" + seq + "]");
+        String query = "DELETE FROM ChangeLog WHERE seq <= ?";
+        try (PreparedStatement statement = connector.getConnection().prepareStatement(query)) {
+            statement.setLong(1, seq);
+            return statement.executeUpdate();
+        }
+    }
+
+    // Bind a ChangeLog to the insert statement
+    private void _bind(PreparedStatement statement, ChangeLogDTO change) throws SQLException {
+        statement.setString(1, change.getEntity().name());
+        statement.setInt(2, change.getPermissionId());
+        if (change.getRoleId() == 0) {
+            statement.setNull(3, Types.INTEGER);
+        } else {
+            statement.setInt(3, change.getRoleId());
+        }
+        statement.setString(4, change.getName());
+        statement.setString(5, change.getOrigin());
+    }
+
+    // Map ResultSet to ChangeLogDTO object (an entity this version doesn't know: null)
+    private ChangeLogDTO _mapResultSet(ResultSet resultSet) throws SQLException {
+        ChangeEntity entity;
+        try {
+            entity = ChangeEntity.valueOf(resultSet.getString("entity"));
+        }
+        catch (IllegalArgumentException e) {
+            entity = null;
+        }
+        return new ChangeLogDTO(
+                resultSet.getLong("seq"),
+                entity,
+                resultSet.getInt("permissionId"),
+                resultSet.getInt("roleId"),
+                resultSet.getString("name"),
+                resultSet.getString("origin")
+        );
+    }
+}
@@ -0,0 +1,125 @@
+package jgr.iam.repository;
+
+// External Objects
+import io.r2dbc.spi.Readable; // https://r2dbc.io/spec/1.0.0.RELEASE/api/io/r2dbc/spi/Readable.html
+import org.apache.logging.log4j.LogManager; // https://logging.apache.org/log4j/2.x/manual/api.html
+import org.apache.logging.log4j.Logger; // https://logging.apache.org/log4j/2.x/manual/api.html
+import org.springframework.r2dbc.core.DatabaseClient; // https://docs.spring.io/spring-framework/docs/current/javadoc-api/org/springframework/r2dbc/core/DatabaseClient.html
+import reactor.core.publisher.Flux; // https://projectreactor.io/docs/core/release/api/reactor/core/publisher/Flux.html
+import reactor.core.publisher.Mono; // https://projectreactor.io/docs/core/release/api/reactor/core/publisher/Mono.html
+import java.util.Collection; // https://docs.oracle.com/javase/8/docs/api/java/util/Collection.html
+import java.util.Map; // https://docs.oracle.com/javase/8/docs/api/java/util/Map.html
+
+// Internal Objects
+import jgr.iam.model.dto.MetadataDTO; // MetadataDTO
+import jgr.iam.util.iamDBInListUtil; // iamDB IN-list Utility
+
+// MetadataDTO DBO/Repository (R2DBC, non-blocking)
+public class MetadataReactiveRepository {
+
+    // Logger
+    private final static Logger logger = LogManager.getLogger(MetadataReactiveRepository.class.getCanonicalName());
+
+    // Metadata Statements (<TABLE>Metadata), with named parameters
+    private final static String SQL_INSERT = "INSERT INTO %s (refid, name, value) VALUES (:refid, :name, :value)";
+    private final static String SQL_GET = "SELECT * FROM %s WHERE refid = :refid AND name = :name";
+    private final static String SQL_UPDATE_VALUE = "UPDATE %s SET value = :value WHERE refid = :refid AND name = :name";
+    private final static String SQL_UPDATE_ARCHIVED = "UPDATE %s SET archived = :archived WHERE refid = :refid AND name = :name";
+    private final static String SQL_DELETE = "DELETE FROM %s WHERE refid = :refid AND name = :name";
+    private final static String SQL_GET_ALL_IN = "SELECT * FROM %s WHERE archived = FALSE AND refid IN (:refids)";
+
+    // iamDB Client
+    private final DatabaseClient client;
+
+    // SQL (resolved once for the table)
+    private final String sqlInsert;
+    private final String sqlGet;
+    private final String sqlUpdateValue;
+    private final String sqlUpdateArchived;
+    private final String sqlDelete;
+    private final String sqlGetAllIn;
+
+    // Constructor
+    public MetadataReactiveRepository(DatabaseClient client, String tableMetadata) {
+        this.client = client;
+        sqlInsert = String.format(SQL_INSERT, tableMetadata);
+        sqlGet = String.format(SQL_GET, tableMetadata);
+        sqlUpdateValue = String.format(SQL_UPDATE_VALUE, tableMetadata);
+        sqlUpdateArchived = String.format(SQL_UPDATE_ARCHIVED, tableMetadata);
+        sqlDelete = String.format(SQL_DELETE, tableMetadata);
+        sqlGetAllIn = String.format(SQL_GET_ALL_IN, tableMetadata);
+    }
+
+    // Insert Metadata: inserted rows
+    public Mono<Long> insert(int refid, String name, String value) {
+        logger.debug("insert: [" + refid + ", " + name + ", " + value + "]");
+        return client.sql(sqlInsert)
+                     .bind("refid", refid)
+                     .bind("name", name)
+                     .bind("value", value)
+                     .fetch()
+                     .rowsUpdated();
+    }
+
+    // Get Metadata
+    public Mono<MetadataDTO> get(int refid, String name) {
+        logger.debug("get: [" + refid + ", " + name + "]");
+        return client.sql(sqlGet)
+                     .bind("refid", refid)
+                     .bind("name", name)
+                     .map(this::_mapRow)
+                     .one();
+    }
+
+    // Update Metadata Value: matched rows
+    public Mono<Long> updateValue(int refid, String name, String value) {
+        logger.debug("updateValue: [" + refid + ", " + name + ", " + value + "]");
+        return client.sql(sqlUpdateValue)
+                     .bind("value", value)
+                     .bind("refid", refid)
+                     .bind("name", name)
+                     .fetch()
+                     .rowsUpdated();
+    }
+
+    // Update Metadata Archived status: matched rows
+    public Mono<Long> updateArchive(int refid, String name, boolean archived) {
+        logger.debug("updateArchive: [" + refid + ", " + name + ", " + archived + "]");
+        return client.sql(sqlUpdateArchived)
+                     .bind("archived", archived)
+                     .bind("refid", refid)
+                     .bind("name", name)
+                     .fetch()
+                     .rowsUpdated();
+    }
+
+    // Delete Metadata: deleted rows
+    public Mono<Long> delete(int refid, String name) {
+        logger.debug("delete: [" + refid + ", " + name + "]");
+        return client.sql(sqlDelete)
+                     .bind("refid", refid)
+                     .bind("name", name)
+                     .fetch()
+                     .rowsUpdated();
+    }
+
+    // Get All (non-archived) Metadata for a set of references, by refid
+    public Mono<Map<Integer, Collection<MetadataDTO>>> getAll(Collection<Integer> refids) {
+        logger.debug("getAll: [" + refids.size() + " references]");
+        return Flux.fromIterable(iamDBInListUtil.getChunks(refids))
+                   .concatMap(chunk -> client.sql(sqlGetAllIn)
+                                             .bind("refids", chunk)
+                                             .map(this::_mapRow)
+                                             .all())
+                   .collectMultimap(MetadataDTO::getRefid);
+    }
+
+    // Map Row to MetadataDTO
+    private MetadataDTO _mapRow(Readable row) {
+        return new MetadataDTO(
+                row.get("refid", Integer.class),
+                row.get("name", String.class),
+                row.get("value", String.class),
+                Boolean.TRUE.equals(row.get("archived", Boolean.class)));
+    }
+}
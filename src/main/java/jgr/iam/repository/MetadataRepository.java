@@ -7,11 +7,18 @@ import java.sql.SQLException; // https://docs.oracle.com/javase/8/docs/api/java/
 import org.apache.logging.log4j.LogManager; // https://logging.apache.org/log4j/2.x/manual/api.html
 import org.apache.logging.log4j.Logger; // https://logging.apache.org/log4j/2.x/manual/api.html
 import java.util.ArrayList; // https://docs.oracle.com/javase/8/docs/api/java/util/ArrayList.html
+import java.util.Collection; // https://docs.oracle.com/javase/8/docs/api/java/util/Collection.html
+import java.util.HashMap; // https://docs.oracle.com/javase/8/docs/api/java/util/HashMap.html
 import java.util.List; // https://docs.oracle.com/javase/8/docs/api/java/util/List.html
+import java.util.Map; // https://docs.oracle.com/javase/8/docs/api/java/util/Map.html
 
 // Internal Objects
+import jgr.iam.enums.BatchRowStatus; // Batch Row Status
 import jgr.iam.model.dto.MetadataDTO; // MetadataDTO
 import jgr.iam.util.iamDBConnectorUtil; // iamDB Database Connector
+import jgr.iam.util.iamDBBatchUtil; // iamDB Batch Utility
+import jgr.iam.util.iamDBInListUtil; // iamDB IN-list Utility
+import jgr.iam.util.iamDBSqlRegistry; // iamDB SQL Registry
 
 // MetadataDTO DBO/Repository
 public class MetadataRepository {
@@ -24,33 +31,53 @@ public class MetadataRepository {
     // Table Metadata Name
     private String tableMetadata;
 
+    // SQL (resolved once for the table)
+    private final String sqlInsert;
+    private final String sqlGet;
+    private final String sqlUpdateValue;
+    private final String sqlUpdateArchived;
+    private final String sqlDelete;
+    private final String sqlGetAll;
+    private final String sqlGetAllIn;
+    private final String sqlGetAllCount;
+    private final String sqlGetAllArchived;
+
     // Constructor
     public MetadataRepository(iamDBConnectorUtil connector, String tableMetadata) {
         this.connector = connector;
         this.tableMetadata = tableMetadata;
+        sqlInsert = iamDBSqlRegistry.get(iamDBSqlRegistry.METADATA_INSERT, tableMetadata);
+        sqlGet = iamDBSqlRegistry.get(iamDBSqlRegistry.METADATA_GET, tableMetadata);
+        sqlUpdateValue = iamDBSqlRegistry.get(iamDBSqlRegistry.METADATA_UPDATE_VALUE, tableMetadata);
+        sqlUpdateArchived = iamDBSqlRegistry.get(iamDBSqlRegistry.METADATA_UPDATE_ARCHIVED, tableMetadata);
+        sqlDelete = iamDBSqlRegistry.get(iamDBSqlRegistry.METADATA_DELETE, tableMetadata);
+        sqlGetAll = iamDBSqlRegistry.get(iamDBSqlRegistry.METADATA_GET_ALL, tableMetadata);
+        sqlGetAllIn = iamDBSqlRegistry.get(iamDBSqlRegistry.METADATA_GET_ALL_IN, tableMetadata);
+        sqlGetAllCount = iamDBSqlRegistry.get(iamDBSqlRegistry.METADATA_GET_ALL_COUNT, tableMetadata);
+        sqlGetAllArchived = iamDBSqlRegistry.get(iamDBSqlRegistry.METADATA_GET_ALL_ARCHIVED, tableMetadata);
     }
 
     // Insert Metadata
-    public void insert(int refid, String name, String value) throws SQLException {
+    public int insert(int refid, String name, String value) throws SQLException {
         logger.debug("insert: [" + refid + ", " + name+ ", " + value  + "]");
-        String query = String.format("INSERT INTO %s (refid, name, value) VALUES (?, ?, ?)", tableMetadata);
+        String query = sqlInsert;
         try (PreparedStatement statement = connector.getConnection().prepareStatement(query)) {
             statement.setInt(1, refid);
             statement.setString(2, name);
             statement.setString(3, value);
-            logger.debug("insert: [" + statement.toString() + "].");
-            statement.executeUpdate();
+            logger.debug("insert: [{}].", statement);
+            return statement.executeUpdate();
         }
     }
 
     // get Metadata
     public MetadataDTO get(int refid, String name) throws SQLException {
         logger.debug("get: [" + refid + ", " + name + "]");
-        String query = String.format("SELECT * FROM %s WHERE refid = ? and name = ?", tableMetadata);
+        String query = sqlGet;
         try (PreparedStatement statement = connector.getConnection().prepareStatement(query)) {
             statement.setInt(1, refid);
             statement.setString(2, name);
-            logger.debug("get: [" + statement.toString() + "].");
+            logger.debug("get: [{}].", statement);
             ResultSet resultSet = statement.executeQuery();
             if (resultSet.next()) {
                 return _mapResultSet(resultSet);
@@ -63,11 +90,11 @@ public class MetadataRepository {
     // getValue (non-archived)
     public String getValue(int refid, String name) throws SQLException {
         logger.debug("getValue: [" + refid + ", " + name + "]");
-        String query = String.format("SELECT * FROM %s WHERE refid = ? and name = ?", tableMetadata);
+        String query = sqlGet;
         try (PreparedStatement statement = connector.getConnection().prepareStatement(query)) {
             statement.setInt(1, refid);
             statement.setString(2, name);
-            logger.debug("getValue: [" + statement.toString() + "].");
+            logger.debug("getValue: [{}].", statement);
             ResultSet resultSet = statement.executeQuery();
             if (resultSet.next()) {
                 return _mapResultSet(resultSet).getValue();
@@ -78,51 +105,91 @@ public class MetadataRepository {
     }
 
     // Update Value
-    public void updateValue(int refid, String name, String value) throws SQLException {
+    public int updateValue(int refid, String name, String value) throws SQLException {
         logger.debug("updateValue: [" + refid + ", " + name + ", " + value + "]");
-        String query = String.format("UPDATE %s SET value = ? WHERE refid = ? AND name = ?", tableMetadata);
+        String query = sqlUpdateValue;
         try (PreparedStatement statement = connector.getConnection().prepareStatement(query)) {
             statement.setString(1, value);
             statement.setInt(2, refid);
             statement.setString(3, name);
-            logger.debug("update: [" + statement.toString() + "].");
-            statement.executeUpdate();
+            logger.debug("update: [{}].", statement);
+            return statement.executeUpdate();
         }
     }
 
     // Archive
-    public void archive(int refid, String name) throws SQLException {
+    public int archive(int refid, String name) throws SQLException {
         logger.debug("archive: [" + refid + ", " + name + "]");
-        updateArchive(refid, name, true);
+        return updateArchive(refid, name, true);
     }
 
     // Undo-Archive
-    public void undoArchive(int refid, String name) throws SQLException {
+    public int undoArchive(int refid, String name) throws SQLException {
         logger.debug("undoArchive: [" + refid + ", " + name + "]");
-        updateArchive(refid, name, false);
+        return updateArchive(refid, name, false);
     }
 
     // Update Archived
-    public void updateArchive(int refid, String name, boolean archived) throws SQLException {
-        String query = String.format("UPDATE %s SET archived = ? WHERE refid = ? AND name = ?", tableMetadata);
+    public int updateArchive(int refid, String name, boolean archived) throws SQLException {
+        String query = sqlUpdateArchived;
         try (PreparedStatement statement = connector.getConnection().prepareStatement(query)) {
             statement.setBoolean(1, archived);
             statement.setInt(2, refid);
             statement.setString(3, name);
-            logger.debug("_archive: [" + statement.toString() + "].");
-            statement.executeUpdate();
+            logger.debug("_archive: [{}].", statement);
+            return statement.executeUpdate();
         }
     }
 
     // Delete
-    public void delete(int refid, String name) throws SQLException {
+    public int delete(int refid, String name) throws SQLException {
         logger.debug("delete: [" + refid + ", " + name + "]");
-        String query = String.format("DELETE FROM %s WHERE refid = ? AND name = ?", tableMetadata);
+        String query = sqlDelete;
         try (PreparedStatement statement = connector.getConnection().prepareStatement(query)) {
             statement.setInt(1, refid);
             statement.setString(2, name);
-            logger.debug("delete: [" + statement.toString() + "].");
-            statement.executeUpdate();
+            logger.debug("delete: [{}].", statement);
+            return statement.executeUpdate();
+        }
+    }
+
+    // Insert Metadata (batch)
+    public List<BatchRowStatus> insertAll(List<MetadataDTO> metas) throws SQLException {
+        logger.debug("insertAll: [" + metas.size() + " rows]");
+        try (PreparedStatement statement = connector.getConnection().prepareStatement(sqlInsert)) {
+            return iamDBBatchUtil.execute(statement, metas, (stmt, meta) -> {
+                stmt.setInt(1, meta.getRefid());
+                stmt.setString(2, meta.getName());
+                stmt.setString(3, meta.getValue());
+            });
+        }
+    }
+
+    // Archive Metadata (batch)
+    public List<BatchRowStatus> archiveAll(List<MetadataDTO> metas) throws SQLException {
+        logger.debug("archiveAll: [" + metas.size() + " rows]");
+        return updateArchiveAll(metas, true);
+    }
+
+    // Update Archived (batch)
+    public List<BatchRowStatus> updateArchiveAll(List<MetadataDTO> metas, boolean archived) throws SQLException {
+        try (PreparedStatement statement = connector.getConnection().prepareStatement(sqlUpdateArchived)) {
+            return iamDBBatchUtil.execute(statement, metas, (stmt, meta) -> {
+                stmt.setBoolean(1, archived);
+                stmt.setInt(2, meta.getRefid());
+                stmt.setString(3, meta.getName());
+            });
+        }
+    }
+
+    // Delete Metadata (batch)
+    public List<BatchRowStatus> deleteAll(List<MetadataDTO> metas) throws SQLException {
+        logger.debug("deleteAll: [" + metas.size() + " rows]");
+        try (PreparedStatement statement = connector.getConnection().prepareStatement(sqlDelete)) {
+            return iamDBBatchUtil.execute(statement, metas, (stmt, meta) -> {
+                stmt.setInt(1, meta.getRefid());
+                stmt.setString(2, meta.getName());
+            });
         }
     }
 
@@ -136,14 +203,33 @@ public class MetadataRepository {
         return _getAll( refid, true);
     }
 
+    // Get All (non-archived) Metadata for a set of references, by refid
+    public Map<Integer, List<MetadataDTO>> getAll(Collection<Integer> refids) throws SQLException {
+        Map<Integer, List<MetadataDTO>> result = new HashMap<>();
+        for (List<Integer> chunk : iamDBInListUtil.getChunks(refids)) {
+            String query = sqlGetAllIn + "(" + iamDBInListUtil.getPlaceholders(chunk.size()) + ")";
+            try (PreparedStatement statement = connector.getConnection().prepareStatement(query)) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    statement.setInt(i + 1, chunk.get(i));
+                }
+                ResultSet resultSet = statement.executeQuery();
+                while (resultSet.next()) {
+                    MetadataDTO metadata = _mapResultSet(resultSet);
+                    result.computeIfAbsent(metadata.getRefid(), k -> new ArrayList<>()).add(metadata);
+                }
+            }
+        }
+        return result;
+    }
+
     // Get All Metadata  for this reference
     private List<MetadataDTO> _getAll(int refid, Boolean archived) throws SQLException {
         List<MetadataDTO> metadataList = new ArrayList<>();
-        String query = String.format("SELECT * FROM %s WHERE refid = ? AND archived = ?", tableMetadata);
+        String query = sqlGetAll;
         try (PreparedStatement statement = connector.getConnection().prepareStatement(query)) {
             statement.setInt(1, refid);
             statement.setBoolean(2, archived);
-            logger.debug("_getAll: [" + statement.toString() + "].");
+            logger.debug("_getAll: [{}].", statement);
             ResultSet resultSet = statement.executeQuery();
             while (resultSet.next()) {
                 metadataList.add(_mapResultSet(resultSet));
@@ -155,10 +241,10 @@ public class MetadataRepository {
     // Get All Metadata  for this reference
     public int getAllCount(int refid) throws SQLException {
         int result = 0;
-        String query = String.format("SELECT COUNT(name) as total FROM %s WHERE refid = ? AND archived = FALSE", tableMetadata);
+        String query = sqlGetAllCount;
         try (PreparedStatement statement = connector.getConnection().prepareStatement(query)) {
             statement.setInt(1, refid);
-            logger.debug("getAllCount: [" + statement.toString() + "].");
+            logger.debug("getAllCount: [{}].", statement);
             ResultSet resultSet = statement.executeQuery();
             while (resultSet.next()) {
                 result = resultSet.getInt("total");
@@ -170,9 +256,9 @@ public class MetadataRepository {
     // Get All Archived Metadata
     public List<MetadataDTO> getAllArchived() throws SQLException {
         List<MetadataDTO> metadataList = new ArrayList<>();
-        String query = String.format("SELECT * FROM %s WHERE archived = true", tableMetadata);
+        String query = sqlGetAllArchived;
         try (PreparedStatement statement = connector.getConnection().prepareStatement(query)) {
-            logger.debug("getAllArchived: [" + statement.toString() + "].");
+            logger.debug("getAllArchived: [{}].", statement);
             ResultSet resultSet = statement.executeQuery();
             while (resultSet.next()) {
                 metadataList.add(_mapResultSet(resultSet));
@@ -0,0 +1,165 @@
+package jgr.iam.repository;
+
+// External Objects
+import io.r2dbc.spi.Readable; // https://r2dbc.io/spec/1.0.0.RELEASE/api/io/r2dbc/spi/Readable.html
+import org.apache.logging.log4j.LogManager; // https://logging.apache.org/log4j/2.x/manual/api.html
+import org.apache.logging.log4j.Logger; // https://logging.apache.org/log4j/2.x/manual/api.html
+import org.springframework.r2dbc.core.DatabaseClient; // https://docs.spring.io/spring-framework/docs/current/javadoc-api/org/springframework/r2dbc/core/DatabaseClient.html
+import reactor.core.publisher.Flux; // https://projectreactor.io/docs/core/release/api/reactor/core/publisher/Flux.html
+import reactor.core.publisher.Mono; // https://projectreactor.io/docs/core/release/api/reactor/core/publisher/Mono.html
+import java.util.Collection; // https://docs.oracle.com/javase/8/docs/api/java/util/Collection.html
+import java.util.List; // https://docs.oracle.com/javase/8/docs/api/java/util/List.html
+import java.util.Map; // https://docs.oracle.com/javase/8/docs/api/java/util/Map.html
+
+// Internal Objects
+import jgr.iam.constant.iamDBMetadataTable; // iamDB Metadata Tables
+import jgr.iam.model.dto.PermissionDTO; // PermissionDTO
+import jgr.iam.model.dto.PermissionSummaryDTO; // PermissionSummaryDTO
+import jgr.iam.util.iamDBInListUtil; // iamDB IN-list Utility
+
+// PermissionDTO DBO/Repository (R2DBC, non-blocking)
+// - Named parameters: the DatabaseClient binds them with the driver's own markers
+public class PermissionReactiveRepository {
+
+    // Logger
+    private final static Logger logger = LogManager.getLogger(PermissionReactiveRepository.class.getCanonicalName());
+
+    // Summary Columns: Role and Metadata counts, correlated to the selected permissions only
+    private final static String SUMMARY_COLUMNS = "SELECT p.id, p.name, p.description, p.archived, " +
+            "(SELECT COUNT(rp.roleId) FROM Role_Permission rp WHERE rp.permissionId = p.id AND rp.archived = FALSE) as roleCount, " +
+            "(SELECT COUNT(pm.name) FROM " + iamDBMetadataTable.PERM + " pm WHERE pm.refid = p.id AND pm.archived = FALSE) as metadataCount " +
+            "FROM Permission p ";
+
+    // iamDB Client
+    private final DatabaseClient client;
+
+    // Constructor
+    public PermissionReactiveRepository(DatabaseClient client) {
+        this.client = client;
+    }
+
+    // getById
+    public Mono<PermissionDTO> getById(int id) {
+        logger.debug("getById: [" + id + "]");
+        return client.sql("SELECT * FROM Permission WHERE id = :id")
+                     .bind("id", id)
+                     .map(this::_mapRow)
+                     .one();
+    }
+
+    // getByName
+    public Mono<PermissionDTO> getByName(String name) {
+        logger.debug("getByName: [" + name + "]");
+        return client.sql("SELECT * FROM Permission WHERE name = :name")
+                     .bind("name", name)
+                     .map(this::_mapRow)
+                     .one();
+    }
+
+    // getSummaryById: Permission with its Role and Metadata counts (single round trip)
+    public Mono<PermissionSummaryDTO> getSummaryById(int id) {
+        logger.debug("getSummaryById: [" + id + "]");
+        return client.sql(SUMMARY_COLUMNS + "WHERE p.id = :id")
+                     .bind("id", id)
+                     .map(this::_mapSummaryRow)
+                     .one();
+    }
+
+    // Insert Permission: generated id
+    public Mono<Integer> insert(String name, String description) {
+        logger.debug("insert: [" + name + ", " + description + "]");
+        return client.sql("INSERT INTO Permission (name, description, archived) VALUES (:name, :description, FALSE)")
+                     .bind("name", name)
+                     .bind("description", description)
+                     .filter(statement -> statement.returnGeneratedValues("id"))
+                     .map(row -> row.get("id", Number.class).intValue())
+                     .one();
+    }
+
+    // Update Permission Description: matched rows
+    public Mono<Long> updateDescription(int id, String description) {
+        logger.debug("updateDescription: [" + id + ", " + description + "]");
+        return client.sql("UPDATE Permission SET description = :description WHERE id = :id")
+                     .bind("description", description)
+                     .bind("id", id)
+                     .fetch()
+                     .rowsUpdated();
+    }
+
+    // Update Permission Archived status: matched rows
+    public Mono<Long> updateArchive(int id, boolean archived) {
+        logger.debug("updateArchive: [" + id + ", " + archived + "]");
+        return client.sql("UPDATE Permission SET archived = :archived WHERE id = :id")
+                     .bind("archived", archived)
+                     .bind("id", id)
+                     .fetch()
+                     .rowsUpdated();
+    }
+
+    // Delete Permission: deleted rows
+    public Mono<Long> delete(int id) {
+        logger.debug("delete: [" + id + "]");
+        return client.sql("DELETE FROM Permission WHERE id = :id")
+                     .bind("id", id)
+                     .fetch()
+                     .rowsUpdated();
+    }
+
+    // Get a page of Permissions by archived status (keyset on id), with their Role and Metadata counts
+    public Flux<PermissionSummaryDTO> getAllSummary(boolean archived, int afterId, int limit) {
+        logger.debug("getAllSummary: [" + archived + ", " + afterId + ", " + limit + "]");
+        return client.sql(SUMMARY_COLUMNS + "WHERE p.archived = :archived AND p.id > :afterId ORDER BY p.id LIMIT :limit")
+                     .bind("archived", archived)
+                     .bind("afterId", afterId)
+                     .bind("limit", limit)
+                     .map(this::_mapSummaryRow)
+                     .all();
+    }
+
+    // Get all Permissions by archived status (ordered by id), streamed with the subscriber's demand
+    public Flux<PermissionDTO> getAll(boolean archived) {
+        logger.debug("getAll: [" + archived + "]");
+        return client.sql("SELECT * FROM Permission WHERE archived = :archived ORDER BY id")
+                     .bind("archived", archived)
+                     .map(this::_mapRow)
+                     .all();
+    }
+
+    // Get the Role extended names (application.feature.role) of a set of Permissions, by permission id
+    public Mono<Map<Integer, Collection<String>>> getAllRoleExtendedNames(Collection<Integer> permissionIds) {
+        logger.debug("getAllRoleExtendedNames: [" + permissionIds.size() + " permissions]");
+        return Flux.fromIterable(iamDBInListUtil.getChunks(permissionIds))
+                   .concatMap(this::_getRoleExtendedNames)
+                   .collectMultimap(row -> (Integer) row[0], row -> (String) row[1]);
+    }
+
+    // Get the Role extended names of a chunk of Permissions: (permissionId, rolename) rows
+    private Flux<Object[]> _getRoleExtendedNames(List<Integer> chunk) {
+        return client.sql("SELECT rp.permissionId, concat(a.name, '.', f.name, '.', r.name) as rolename " +
+                          "FROM Application a, Feature f, Role r, Role_Permission rp " +
+                          "WHERE rp.permissionId IN (:ids) AND rp.archived = FALSE AND rp.roleId = r.id AND r.featureId = f.id AND f.applicationId = a.id")
+                     .bind("ids", chunk)
+                     .map(row -> new Object[] { row.get("permissionId", Integer.class), row.get("rolename", String.class) })
+                     .all();
+    }
+
+    // Map Row to PermissionDTO
+    private PermissionDTO _mapRow(Readable row) {
+        return new PermissionDTO(
+                row.get("id", Integer.class),
+                row.get("name", String.class),
+                row.get("description", String.class),
+                Boolean.TRUE.equals(row.get("archived", Boolean.class)));
+    }
+
+    // Map Row to PermissionSummaryDTO
+    private PermissionSummaryDTO _mapSummaryRow(Readable row) {
+        return new PermissionSummaryDTO(
+                row.get("id", Integer.class),
+                row.get("name", String.class),
+                row.get("description", String.class),
+                Boolean.TRUE.equals(row.get("archived", Boolean.class)),
+                row.get("roleCount", Number.class).intValue(),
+                row.get("metadataCount", Number.class).intValue());
+    }
+}
@@ -4,14 +4,24 @@ package jgr.iam.repository;
 import java.sql.PreparedStatement; // https://docs.oracle.com/javase/8/docs/api/java/sql/PreparedStatement.html
 import java.sql.ResultSet; // https://docs.oracle.com/javase/8/docs/api/java/sql/ResultSet.html
 import java.sql.SQLException; // https://docs.oracle.com/javase/8/docs/api/java/sql/SQLException.html
+import java.sql.Statement; // https://docs.oracle.com/javase/8/docs/api/java/sql/Statement.html
 import org.apache.logging.log4j.LogManager; // https://logging.apache.org/log4j/2.x/manual/api.html
 import org.apache.logging.log4j.Logger; // https://logging.apache.org/log4j/2.x/manual/api.html
 import java.util.ArrayList; // https://docs.oracle.com/javase/8/docs/api/java/util/ArrayList.html
+import java.util.Collection; // https://docs.oracle.com/javase/8/docs/api/java/util/Collection.html
 import java.util.List; // https://docs.oracle.com/javase/8/docs/api/java/util/List.html
+import java.util.Map; // https://docs.oracle.com/javase/8/docs/api/java/util/Map.html
+import java.util.TreeMap; // https://docs.oracle.com/javase/8/docs/api/java/util/TreeMap.html
 
 // Internal Objects
+import jgr.iam.enums.BatchRowStatus; // Batch Row Status
+import jgr.iam.constant.iamDBMetadataTable; // iamDB Metadata Tables
 import jgr.iam.model.dto.PermissionDTO; // PermissionDTO
+import jgr.iam.model.dto.PermissionSummaryDTO; // PermissionSummaryDTO
 import jgr.iam.util.iamDBConnectorUtil; // iamDB Database Connector
+import jgr.iam.util.iamDBBatchUtil; // iamDB Batch Utility
+import jgr.iam.util.iamDBCursor; // iamDB Cursor
+import jgr.iam.util.iamDBInListUtil; // iamDB IN-list Utility
 
 // PermissionDTO DBO/Repository
 public class PermissionRepository {
@@ -57,31 +67,40 @@ public class PermissionRepository {
         }
     }
 
-    // Insert Permission by name and description
-    public void insert(String name, String description) throws SQLException {
+    // Insert Permission by name and description (returns the generated id, 0 if none)
+    public int insert(String name, String description) throws SQLException {
         logger.debug("insert: [" + name + "," + description + "]");
         String query = "INSERT INTO Permission (name, description, archived) VALUES (?, ?, FALSE)";
-        try (PreparedStatement statement = connector.getConnection().prepareStatement(query)) {
+        try (PreparedStatement statement = connector.getConnection().prepareStatement(query, Statement.RETURN_GENERATED_KEYS)) {
             statement.setString(1, name);
             statement.setString(2, description);
             statement.executeUpdate();
+            return _getGeneratedId(statement);
         }
     }
 
-    // Insert Permission
-    public void insert(PermissionDTO permission) throws SQLException {
+    // Insert Permission (returns the generated id, 0 if none)
+    public int insert(PermissionDTO permission) throws SQLException {
         logger.debug("insert: [" + permission.toString() + "]");
         String query = "INSERT INTO Permission (name, description, archived) VALUES (?, ?, ?)";
-        try (PreparedStatement statement = connector.getConnection().prepareStatement(query)) {
+        try (PreparedStatement statement = connector.getConnection().prepareStatement(query, Statement.RETURN_GENERATED_KEYS)) {
             statement.setString(1, permission.getName());
             statement.setString(2, permission.getDescription());
             statement.setBoolean(3, permission.isArchived());
             statement.executeUpdate();
+            return _getGeneratedId(statement);
+        }
+    }
+
+    // Get Generated Id (auto-increment key of the inserted row)
+    private int _getGeneratedId(PreparedStatement statement) throws SQLException {
+        try (ResultSet keys = statement.getGeneratedKeys()) {
+            return keys.next() ? keys.getInt(1) : 0;
         }
     }
 
     // Update Permission
-    public void update(PermissionDTO permission) throws SQLException {
+    public int update(PermissionDTO permission) throws SQLException {
         logger.debug("update: [" + permission.toString() + "]");
         String query = "UPDATE Permission SET name = ?, description = ?, archived = ? WHERE id = ?";
         try (PreparedStatement statement = connector.getConnection().prepareStatement(query)) {
@@ -89,50 +108,89 @@ public class PermissionRepository {
             statement.setString(2, permission.getDescription());
             statement.setBoolean(3, permission.isArchived());
             statement.setInt(4, permission.getId());
-            statement.executeUpdate();
+            return statement.executeUpdate();
         }
     }
 
     // Update Permission Description
-    public void updateDescription(int id, String description) throws SQLException {
+    public int updateDescription(int id, String description) throws SQLException {
         logger.debug("updateDescription: [" + id + ", " + description + "]");
         String query = "UPDATE Permission SET description = ? WHERE id = ?";
         try (PreparedStatement statement = connector.getConnection().prepareStatement(query)) {
             statement.setString(1, description);
             statement.setInt(2, id);
-            statement.executeUpdate();
+            return statement.executeUpdate();
         }
     }
 
     // Archive Permission
-    public void archive(int id) throws SQLException {
+    public int archive(int id) throws SQLException {
         logger.debug("archive: [" + id + "]");
-        updateArchive(id, true);
+        return updateArchive(id, true);
     }
 
     // Undo Archive Permission
-    public void undoArchive(int id) throws SQLException {
+    public int undoArchive(int id) throws SQLException {
         logger.debug("undoArchive: [" + id + "]");
-        updateArchive(id, false);
+        return updateArchive(id, false);
     }
 
     // Update Archived
-    public void updateArchive(int id, boolean archived) throws SQLException {
+    public int updateArchive(int id, boolean archived) throws SQLException {
         String query = "UPDATE Permission SET archived = ? WHERE id = ?";
         try (PreparedStatement statement = connector.getConnection().prepareStatement(query)) {
             statement.setBoolean(1, archived);
             statement.setInt(2, id);
-            statement.executeUpdate();
+            return statement.executeUpdate();
         }
     }
 
     // Delete
-    public void delete(int id) throws SQLException {
+    public int delete(int id) throws SQLException {
         logger.debug("delete: [" + id + "]");
         String query = "DELETE FROM Permission WHERE id = ?";
         try (PreparedStatement statement = connector.getConnection().prepareStatement(query)) {
             statement.setInt(1, id);
-            statement.executeUpdate();
+            return statement.executeUpdate();
+        }
+    }
+
+    // Insert Permissions (batch)
+    public List<BatchRowStatus> insertAll(List<PermissionDTO> permissions) throws SQLException {
+        logger.debug("insertAll: [" + permissions.size() + " rows]");
+        String query = "INSERT INTO Permission (name, description, archived) VALUES (?, ?, ?)";
+        try (PreparedStatement statement = connector.getConnection().prepareStatement(query)) {
+            return iamDBBatchUtil.execute(statement, permissions, (stmt, permission) -> {
+                stmt.setString(1, permission.getName());
+                stmt.setString(2, permission.getDescription());
+                stmt.setBoolean(3, permission.isArchived());
+            });
+        }
+    }
+
+    // Archive Permissions (batch)
+    public List<BatchRowStatus> archiveAll(List<Integer> ids) throws SQLException {
+        logger.debug("archiveAll: [" + ids.size() + " rows]");
+        return updateArchiveAll(ids, true);
+    }
+
+    // Update Archived (batch)
+    public List<BatchRowStatus> updateArchiveAll(List<Integer> ids, boolean archived) throws SQLException {
+        String query = "UPDATE Permission SET archived = ? WHERE id = ?";
+        try (PreparedStatement statement = connector.getConnection().prepareStatement(query)) {
+            return iamDBBatchUtil.execute(statement, ids, (stmt, id) -> {
+                stmt.setBoolean(1, archived);
+                stmt.setInt(2, id);
+            });
+        }
+    }
+
+    // Delete Permissions (batch)
+    public List<BatchRowStatus> deleteAll(List<Integer> ids) throws SQLException {
+        logger.debug("deleteAll: [" + ids.size() + " rows]");
+        String query = "DELETE FROM Permission WHERE id = ?";
+        try (PreparedStatement statement = connector.getConnection().prepareStatement(query)) {
+            return iamDBBatchUtil.execute(statement, ids, (stmt, id) -> stmt.setInt(1, id));
         }
     }
 
@@ -160,6 +218,104 @@ public class PermissionRepository {
         return permissions;
     }
 
+    // Get a page of (non-archived) Permissions after the given id
+    public List<PermissionDTO> getAll(int afterId, int limit) throws SQLException {
+        return _getPageByArchived(false, afterId, limit);
+    }
+
+    // Get a page of Archived Permissions after the given id
+    public List<PermissionDTO> getAllArchived(int afterId, int limit) throws SQLException {
+        return _getPageByArchived(true, afterId, limit);
+    }
+
+    // Get a page of Permissions by archived status (keyset on id)
+    private List<PermissionDTO> _getPageByArchived(boolean archived, int afterId, int limit) throws SQLException {
+        List<PermissionDTO> permissions = new ArrayList<>();
+        String query = "SELECT * FROM Permission WHERE archived = ? AND id > ? ORDER BY id LIMIT ?";
+        try (PreparedStatement statement = connector.getConnection().prepareStatement(query)) {
+            statement.setBoolean(1, archived);
+            statement.setInt(2, afterId);
+            statement.setInt(3, limit);
+            ResultSet resultSet = statement.executeQuery();
+            while (resultSet.next()) {
+                permissions.add(_mapResultSet(resultSet));
+            }
+        }
+        return permissions;
+    }
+
+    // Get a page of (non-archived) Permissions after the given id, with their Role and Metadata counts
+    public List<PermissionSummaryDTO> getAllSummary(int afterId, int limit) throws SQLException {
+        return _getSummaryPageByArchived(false, afterId, limit);
+    }
+
+    // Get a page of Archived Permissions after the given id, with their Role and Metadata counts
+    public List<PermissionSummaryDTO> getAllArchivedSummary(int afterId, int limit) throws SQLException {
+        return _getSummaryPageByArchived(true, afterId, limit);
+    }
+
+    // Get a page of Permissions by archived status (keyset on id), with their Role and Metadata counts (single round trip)
+    private List<PermissionSummaryDTO> _getSummaryPageByArchived(boolean archived, int afterId, int limit) throws SQLException {
+        List<PermissionSummaryDTO> permissions = new ArrayList<>();
+        // Counts are correlated to the page only, so the cost doesn't grow with the catalog
+        String query = "SELECT p.id, p.name, p.description, p.archived, " +
+                       "(SELECT COUNT(rp.roleId) FROM Role_Permission rp WHERE rp.permissionId = p.id AND rp.archived = FALSE) as roleCount, " +
+                       "(SELECT COUNT(pm.name) FROM " + iamDBMetadataTable.PERM + " pm WHERE pm.refid = p.id AND pm.archived = FALSE) as metadataCount " +
+                       "FROM Permission p WHERE p.archived = ? AND p.id > ? ORDER BY p.id LIMIT ?";
+        try (PreparedStatement statement = connector.getConnection().prepareStatement(query)) {
+            statement.setBoolean(1, archived);
+            statement.setInt(2, afterId);
+            statement.setInt(3, limit);
+            ResultSet resultSet = statement.executeQuery();
+            while (resultSet.next()) {
+                permissions.add(new PermissionSummaryDTO(
+                        resultSet.getInt("id"),
+                        resultSet.getString("name"),
+                        resultSet.getString("description"),
+                        resultSet.getBoolean("archived"),
+                        resultSet.getInt("roleCount"),
+                        resultSet.getInt("metadataCount")));
+            }
+        }
+        return permissions;
+    }
+
+    // Get All (non-archived) Permissions granted to a set of (non-archived) Roles, through non-archived links
+    // (distinct, ordered by id)
+    public List<PermissionDTO> getAllForRoles(Collection<Integer> roleIds) throws SQLException {
+        Map<Integer, PermissionDTO> permissions = new TreeMap<>();
+        for (List<Integer> chunk : iamDBInListUtil.getChunks(roleIds)) {
+            String query = "SELECT DISTINCT p.* FROM Permission p, Role_Permission rp, Role r WHERE rp.roleId IN (" + iamDBInListUtil.getPlaceholders(chunk.size()) + ") AND rp.archived = FALSE AND r.id = rp.roleId AND r.archived = FALSE AND p.id = rp.permissionId AND p.archived = FALSE";
+            try (PreparedStatement statement = connector.getConnection().prepareStatement(query)) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    statement.setInt(i + 1, chunk.get(i));
+                }
+                ResultSet resultSet = statement.executeQuery();
+                while (resultSet.next()) {
+                    PermissionDTO permission = _mapResultSet(resultSet);
+                    permissions.putIfAbsent(permission.getId(), permission);
+                }
+            }
+        }
+        return new ArrayList<>(permissions.values());
+    }
+
+    // Open a forward-only Cursor on all Permissions by archived status (ordered by id)
+    public iamDBCursor<PermissionDTO> openCursor(boolean archived, int fetchSize) throws SQLException {
+        logger.debug("openCursor: [" + archived + ", " + fetchSize + "]");
+        String query = "SELECT * FROM Permission WHERE archived = ? ORDER BY id";
+        PreparedStatement statement = connector.getConnection().prepareStatement(query, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        try {
+            statement.setFetchSize(fetchSize);
+            statement.setBoolean(1, archived);
+            return new iamDBCursor<>(statement, this::_mapResultSet);
+        }
+        catch (SQLException e) {
+            statement.close();
+            throw e;
+        }
+    }
+
     // Map ResultSet to Permission object
     private PermissionDTO _mapResultSet(ResultSet resultSet) throws SQLException {
         return new PermissionDTO(
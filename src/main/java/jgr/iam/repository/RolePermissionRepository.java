@@ -7,11 +7,17 @@ import java.sql.SQLException; // https://docs.oracle.com/javase/8/docs/api/java/
 import org.apache.logging.log4j.LogManager; // https://logging.apache.org/log4j/2.x/manual/api.html
 import org.apache.logging.log4j.Logger; // https://logging.apache.org/log4j/2.x/manual/api.html
 import java.util.ArrayList; // https://docs.oracle.com/javase/8/docs/api/java/util/ArrayList.html
+import java.util.Collection; // https://docs.oracle.com/javase/8/docs/api/java/util/Collection.html
+import java.util.HashMap; // https://docs.oracle.com/javase/8/docs/api/java/util/HashMap.html
 import java.util.List; // https://docs.oracle.com/javase/8/docs/api/java/util/List.html
+import java.util.Map; // https://docs.oracle.com/javase/8/docs/api/java/util/Map.html
 
 // Internal Objects
+import jgr.iam.enums.BatchRowStatus; // Batch Row Status
 import jgr.iam.model.dto.RolePermissionDTO; // RolePermissionDTO
 import jgr.iam.util.iamDBConnectorUtil; // iamDB Database Connector
+import jgr.iam.util.iamDBBatchUtil; // iamDB Batch Utility
+import jgr.iam.util.iamDBInListUtil; // iamDB IN-list Utility
 
 // RolePermissionDTO DBO/Repository
 public class RolePermissionRepository {
@@ -28,14 +34,14 @@ public class RolePermissionRepository {
     }
 
     // Insert RolePermission
-    public void insert(int roleId, int permissionId) throws SQLException {
+    public int insert(int roleId, int permissionId) throws SQLException {
         logger.debug("insert: [" + roleId + "," + permissionId + "]");
         String query = "INSERT INTO Role_Permission (roleId, permissionId, archived) VALUES (?, ?, ?)";
         try (PreparedStatement statement = connector.getConnection().prepareStatement(query)) {
             statement.setInt(1, roleId);
             statement.setInt(2, permissionId);
             statement.setBoolean(3, false);
-            statement.executeUpdate();
+            return statement.executeUpdate();
         }
     }
 
@@ -56,36 +62,74 @@ public class RolePermissionRepository {
     }
 
     // Delete
-    public void delete(int roleId, int permissionId) throws SQLException {
+    public int delete(int roleId, int permissionId) throws SQLException {
         logger.debug("delete: [" + roleId + "," + permissionId + "]");
         String query = "DELETE FROM Role_Permission WHERE roleId = ? AND permissionId = ?";
         try (PreparedStatement statement = connector.getConnection().prepareStatement(query)) {
             statement.setInt(1, roleId);
             statement.setInt(2, permissionId);
-            statement.executeUpdate();
+            return statement.executeUpdate();
         }
     }
 
     // Archive UserUserGroup
-    public void archive(int roleId, int permissionId) throws SQLException {
+    public int archive(int roleId, int permissionId) throws SQLException {
         logger.debug("archive: [" + roleId + "," + permissionId + "]");
-        _archive(roleId, permissionId, true);
+        return _archive(roleId, permissionId, true);
     }
 
     // Undo Archive UserUserGroup
-    public void undoArchive(int roleId, int permissionId) throws SQLException {
+    public int undoArchive(int roleId, int permissionId) throws SQLException {
         logger.debug("undoArchive: [" + roleId + "," + permissionId + "]");
-        _archive(roleId, permissionId, false);
+        return _archive(roleId, permissionId, false);
     }
 
     // Update Archived
-    private void _archive(int roleId, int permissionId, boolean archived) throws SQLException {
+    private int _archive(int roleId, int permissionId, boolean archived) throws SQLException {
         String query = "UPDATE Role_Permission SET archived = ? WHERE roleId = ? AND permissionId = ?";
         try (PreparedStatement statement = connector.getConnection().prepareStatement(query)) {
             statement.setBoolean(1, archived);
             statement.setInt(2, roleId);
             statement.setInt(3, permissionId);
-            statement.executeUpdate();
+            return statement.executeUpdate();
+        }
+    }
+
+    // Insert RolePermissions (batch)
+    public List<BatchRowStatus> insertAll(List<RolePermissionDTO> rolePermissions) throws SQLException {
+        logger.debug("insertAll: [" + rolePermissions.size() + " rows]");
+        String query = "INSERT INTO Role_Permission (roleId, permissionId, archived) VALUES (?, ?, ?)";
+        try (PreparedStatement statement = connector.getConnection().prepareStatement(query)) {
+            return iamDBBatchUtil.execute(statement, rolePermissions, (stmt, rp) -> {
+                stmt.setInt(1, rp.getRoleId());
+                stmt.setInt(2, rp.getPermissionId());
+                stmt.setBoolean(3, rp.isArchived());
+            });
+        }
+    }
+
+    // Archive RolePermissions (batch)
+    public List<BatchRowStatus> archiveAll(List<RolePermissionDTO> rolePermissions) throws SQLException {
+        logger.debug("archiveAll: [" + rolePermissions.size() + " rows]");
+        String query = "UPDATE Role_Permission SET archived = ? WHERE roleId = ? AND permissionId = ?";
+        try (PreparedStatement statement = connector.getConnection().prepareStatement(query)) {
+            return iamDBBatchUtil.execute(statement, rolePermissions, (stmt, rp) -> {
+                stmt.setBoolean(1, true);
+                stmt.setInt(2, rp.getRoleId());
+                stmt.setInt(3, rp.getPermissionId());
+            });
+        }
+    }
+
+    // Delete RolePermissions (batch)
+    public List<BatchRowStatus> deleteAll(List<RolePermissionDTO> rolePermissions) throws SQLException {
+        logger.debug("deleteAll: [" + rolePermissions.size() + " rows]");
+        String query = "DELETE FROM Role_Permission WHERE roleId = ? AND permissionId = ?";
+        try (PreparedStatement statement = connector.getConnection().prepareStatement(query)) {
+            return iamDBBatchUtil.execute(statement, rolePermissions, (stmt, rp) -> {
+                stmt.setInt(1, rp.getRoleId());
+                stmt.setInt(2, rp.getPermissionId());
+            });
         }
     }
 
@@ -170,7 +214,7 @@ public class RolePermissionRepository {
     // Get All (non-archived) Role Extended Names for a specific Permission
     public List<String> getAllRoleExtendedNameForPermission(int permissionId) throws SQLException {
         List<String> result = new ArrayList<>();
-        String query = "SELECT concat(a.name, \".\" , f.name, \".\", r.name) as rolename FROM Application a, Feature f, Role r, Role_Permission rp WHERE rp.permissionId = ? AND rp.archived = FALSE AND rp.roleId = r.id AND r.featureId = f.id AND f.applicationId = a.id;";
+        String query = "SELECT concat(a.name, '.', f.name, '.', r.name) as rolename FROM Application a, Feature f, Role r, Role_Permission rp WHERE rp.permissionId = ? AND rp.archived = FALSE AND rp.roleId = r.id AND r.featureId = f.id AND f.applicationId = a.id;";
         try (PreparedStatement statement = connector.getConnection().prepareStatement(query)) {
             statement.setInt(1, permissionId);
             ResultSet resultSet = statement.executeQuery();
@@ -181,6 +225,38 @@ public class RolePermissionRepository {
         return result;
     }
 
+    // Get All (non-archived) RolePermissions for a set of Permissions, by permission id
+    public Map<Integer, List<RolePermissionDTO>> getAllForPermissions(Collection<Integer> permissionIds) throws SQLException {
+        Map<Integer, List<RolePermissionDTO>> result = new HashMap<>();
+        for (List<Integer> chunk : iamDBInListUtil.getChunks(permissionIds)) {
+            String query = "SELECT * FROM Role_Permission WHERE permissionId IN (" + iamDBInListUtil.getPlaceholders(chunk.size()) + ") AND archived = FALSE";
+            try (PreparedStatement statement = connector.getConnection().prepareStatement(query)) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    statement.setInt(i + 1, chunk.get(i));
+                }
+                ResultSet resultSet = statement.executeQuery();
+                while (resultSet.next()) {
+                    RolePermissionDTO rolePermission = _mapResultSet(resultSet);
+                    result.computeIfAbsent(rolePermission.getPermissionId(), k -> new ArrayList<>()).add(rolePermission);
+                }
+            }
+        }
+        return result;
+    }
+
+    // Get All (non-archived) RolePermission: the whole graph, for the authorization index
+    public List<RolePermissionDTO> getAll() throws SQLException {
+        List<RolePermissionDTO> rolePermissions = new ArrayList<>();
+        String query = "SELECT * FROM Role_Permission WHERE archived = FALSE";
+        try (PreparedStatement statement = connector.getConnection().prepareStatement(query)) {
+            ResultSet resultSet = statement.executeQuery();
+            while (resultSet.next()) {
+                rolePermissions.add(_mapResultSet(resultSet));
+            }
+        }
+        return rolePermissions;
+    }
+
     // Map ResultSet to RolePermissionDTO object
     private RolePermissionDTO _mapResultSet(ResultSet resultSet) throws SQLException {
         return new RolePermissionDTO(
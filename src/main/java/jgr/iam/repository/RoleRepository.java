@@ -7,7 +7,9 @@ import java.sql.SQLException; // https://docs.oracle.com/javase/8/docs/api/java/
 import org.apache.logging.log4j.LogManager; // https://logging.apache.org/log4j/2.x/manual/api.html
 import org.apache.logging.log4j.Logger; // https://logging.apache.org/log4j/2.x/manual/api.html
 import java.util.ArrayList; // https://docs.oracle.com/javase/8/docs/api/java/util/ArrayList.html
+import java.util.HashMap; // https://docs.oracle.com/javase/8/docs/api/java/util/HashMap.html
 import java.util.List; // https://docs.oracle.com/javase/8/docs/api/java/util/List.html
+import java.util.Map; // https://docs.oracle.com/javase/8/docs/api/java/util/Map.html
 
 // Internal Objects
 import jgr.iam.model.dto.RoleDTO; // RoleDTO
@@ -192,6 +194,20 @@ public class RoleRepository {
         return count;
     }
 
+    // Get All Role Extended Names ("Application.Feature.Role"), by role id: archived roles too, for the role name
+    // dictionary
+    public Map<Integer, String> getAllExtendedNames() throws SQLException {
+        Map<Integer, String> result = new HashMap<>();
+        String query = "SELECT r.id, concat(a.name, '.', f.name, '.', r.name) as rolename FROM Application a, Feature f, Role r WHERE r.featureId = f.id AND f.applicationId = a.id";
+        try (PreparedStatement statement = connector.getConnection().prepareStatement(query)) {
+            ResultSet resultSet = statement.executeQuery();
+            while (resultSet.next()) {
+                result.put(resultSet.getInt("id"), resultSet.getString("rolename"));
+            }
+        }
+        return result;
+    }
+
     // Map ResultSet to Role object
     private RoleDTO _mapResultSet(ResultSet resultSet) throws SQLException {
         return new RoleDTO(
@@ -7,11 +7,13 @@ import java.sql.SQLException; // https://docs.oracle.com/javase/8/docs/api/java/
 import org.apache.logging.log4j.LogManager; // https://logging.apache.org/log4j/2.x/manual/api.html
 import org.apache.logging.log4j.Logger; // https://logging.apache.org/log4j/2.x/manual/api.html
 import java.util.ArrayList; // https://docs.oracle.com/javase/8/docs/api/java/util/ArrayList.html
+import java.util.Collection; // https://docs.oracle.com/javase/8/docs/api/java/util/Collection.html
 import java.util.List; // https://docs.oracle.com/javase/8/docs/api/java/util/List.html
 
 // Internal Objects
 import jgr.iam.model.dto.UserGroupRoleDTO; // UserGroupRoleDTO
 import jgr.iam.util.iamDBConnectorUtil; // iamDB Database Connector
+import jgr.iam.util.iamDBInListUtil; // iamDB IN-list Utility
 
 // UserGroupRoleDTO DBO/Repository
 public class UserGroupRoleRepository {
@@ -114,6 +116,24 @@ public class UserGroupRoleRepository {
         return userGroupRoles;
     }
 
+    // Get All (non-archived) UserGroupRole for a set of (non-archived) UserGroups
+    public List<UserGroupRoleDTO> getAllForUserGroups(Collection<Integer> userGroupIds) throws SQLException {
+        List<UserGroupRoleDTO> userGroupRoles = new ArrayList<>();
+        for (List<Integer> chunk : iamDBInListUtil.getChunks(userGroupIds)) {
+            String query = "SELECT ugr.* FROM UserGroup_Role ugr, UserGroup ug WHERE ugr.userGroupId IN (" + iamDBInListUtil.getPlaceholders(chunk.size()) + ") AND ugr.archived = FALSE AND ug.id = ugr.userGroupId AND ug.archived = FALSE";
+            try (PreparedStatement statement = connector.getConnection().prepareStatement(query)) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    statement.setInt(i + 1, chunk.get(i));
+                }
+                ResultSet resultSet = statement.executeQuery();
+                while (resultSet.next()) {
+                    userGroupRoles.add(_mapResultSet(resultSet));
+                }
+            }
+        }
+        return userGroupRoles;
+    }
+
     // Get All (non-archived) UserGroupRoleDTO for a specific Role
     public List<UserGroupRoleDTO> getAllForRole(int roleId) throws SQLException {
         return _getAllByArchivedForRole(roleId, false);
@@ -139,6 +159,19 @@ public class UserGroupRoleRepository {
         return userGroupRoles;
     }
 
+    // Get All (non-archived) UserGroupRole: the whole graph, for the authorization index
+    public List<UserGroupRoleDTO> getAll() throws SQLException {
+        List<UserGroupRoleDTO> userGroupRoles = new ArrayList<>();
+        String query = "SELECT * FROM UserGroup_Role WHERE archived = FALSE";
+        try (PreparedStatement statement = connector.getConnection().prepareStatement(query)) {
+            ResultSet resultSet = statement.executeQuery();
+            while (resultSet.next()) {
+                userGroupRoles.add(_mapResultSet(resultSet));
+            }
+        }
+        return userGroupRoles;
+    }
+
     // Map ResultSet to UserGroupRoleDTO object
     private UserGroupRoleDTO _mapResultSet(ResultSet resultSet) throws SQLException {
         return new UserGroupRoleDTO(
@@ -139,6 +139,19 @@ public class UserRoleRepository {
         return userRoles;
     }
 
+    // Get All (non-archived) UserRole: the whole graph, for the authorization index
+    public List<UserRoleDTO> getAll() throws SQLException {
+        List<UserRoleDTO> userRoles = new ArrayList<>();
+        String query = "SELECT * FROM User_Role WHERE archived = FALSE";
+        try (PreparedStatement statement = connector.getConnection().prepareStatement(query)) {
+            ResultSet resultSet = statement.executeQuery();
+            while (resultSet.next()) {
+                userRoles.add(_mapResultSet(resultSet));
+            }
+        }
+        return userRoles;
+    }
+
     // Map ResultSet to UserRoleDTO object
     private UserRoleDTO _mapResultSet(ResultSet resultSet) throws SQLException {
         return new UserRoleDTO(
@@ -138,6 +138,19 @@ public class UserUserGroupRepository {
         return userUserGroups;
     }
 
+    // Get All (non-archived) UserUserGroup: the whole graph, for the authorization index
+    public List<UserUserGroupDTO> getAll() throws SQLException {
+        List<UserUserGroupDTO> userUserGroups = new ArrayList<>();
+        String query = "SELECT * FROM User_UserGroup WHERE archived = FALSE";
+        try (PreparedStatement statement = connector.getConnection().prepareStatement(query)) {
+            ResultSet resultSet = statement.executeQuery();
+            while (resultSet.next()) {
+                userUserGroups.add(_mapResultSet(resultSet));
+            }
+        }
+        return userUserGroups;
+    }
+
     // Map ResultSet to UserUserGroupDTO object
     private UserUserGroupDTO _mapResultSet(ResultSet resultSet) throws SQLException {
         return new UserUserGroupDTO(
@@ -0,0 +1,16 @@
+package jgr.iam.service;
+
+// Internal Objects
+import jgr.iam.payload.request.authz.AuthzBulkCheckRequest;
+import jgr.iam.payload.response.authz.AuthzCheckListResponse;
+import jgr.iam.payload.response.authz.AuthzCheckResponse;
+
+
+public interface IAuthzService {
+
+    // Check: does the user hold the permission
+    AuthzCheckResponse check(String user, String permission);
+
+    // Check All: (user, permission) pairs, or one user and many permissions, against the same index
+    AuthzCheckListResponse checkAll(AuthzBulkCheckRequest request);
+}
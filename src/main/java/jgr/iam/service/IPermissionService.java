@@ -2,6 +2,7 @@ package jgr.iam.service;
 
 // External Objects
 import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 // Internal Objects
 import jgr.iam.payload.request.EntityPatchRequest;
@@ -15,11 +16,20 @@ import jgr.iam.payload.response.permission.PermissionSummaryResponse;
 
 public interface IPermissionService {
 
-    // Get Permissions (Summary View)
-    PermissionSummaryListResponse getPermissionSummaryList(boolean archived);
+    // Get Permissions (Summary View), one page at a time
+    PermissionSummaryListResponse getPermissionSummaryList(boolean archived, String cursor, Integer limit);
 
-    // Get Permissions (Detail View)
-    PermissionDetailListResponse getPermissionDetailList(boolean archived);
+    // Get Permissions (Detail View), one page at a time
+    PermissionDetailListResponse getPermissionDetailList(boolean archived, String cursor, Integer limit);
+
+    // Export Permissions (Detail View) as NDJSON
+    StreamingResponseBody exportPermissions(boolean archived);
+
+    // Get the Catalog ETag (from memory: no database access, null for a replica read)
+    String getCatalogETag();
+
+    // Get the ETag of a Permission (from memory, null if the id is invalid or for a replica read)
+    String getPermissionETag(String id);
 
     // Get Permission Summary Information
     PermissionSummaryResponse getPermissionSummary(String id);
@@ -0,0 +1,11 @@
+package jgr.iam.service;
+
+// Internal Objects
+import jgr.iam.payload.response.user.UserPermissionListResponse;
+
+
+public interface IUserService {
+
+    // Get the Effective Permissions of a User (direct roles and group roles, deduplicated)
+    UserPermissionListResponse getUserPermissions(String id);
+}
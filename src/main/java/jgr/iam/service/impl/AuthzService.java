@@ -0,0 +1,99 @@
+package jgr.iam.service.impl;
+
+// External Objects
+import lombok.RequiredArgsConstructor;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import static java.lang.Integer.parseInt;
+import java.util.ArrayList;
+import java.util.List;
+
+// Internal Objects
+import jgr.iam.constant.iamServicePagination; // iam Service Pagination
+import jgr.iam.constant.iamServiceResponseCode; // iam Service Response Code
+import jgr.iam.manager.AuthzManager; // Authorization Manager
+import jgr.iam.payload.request.authz.AuthzBulkCheckRequest;
+import jgr.iam.payload.request.authz.AuthzCheckRequest;
+import jgr.iam.payload.response.authz.AuthzCheckListResponse;
+import jgr.iam.payload.response.authz.AuthzCheckResponse;
+import jgr.iam.payload.response.authz.AuthzCheckValue;
+import jgr.iam.service.IAuthzService;
+
+@Service
+@RequiredArgsConstructor(onConstructor_ = {@Autowired})
+public class AuthzService implements IAuthzService {
+
+    // Logger
+    private final static Logger logger = LogManager.getLogger(AuthzService.class.getCanonicalName());
+
+    // Authorization Manager (Spring-managed, in-memory index)
+    private final AuthzManager authzManager;
+
+    // Check: does the user hold the permission (denied is an answer too: 200 either way)
+    @Override
+    public AuthzCheckResponse check(String user, String permission) {
+        // Check Input
+        int userId, permId;
+        try {
+            userId = parseInt(user);
+            permId = parseInt(permission);
+        }
+        catch(Exception e) {
+            logger.error("check(" + user + ", " + permission + "): Exception.\n\t" + e.getClass().getCanonicalName() + ": " + e.getMessage());
+            return new AuthzCheckResponse(null, HttpStatus.BAD_REQUEST, iamServiceResponseCode.BAD_REQUEST);
+        }
+        // Proceed
+        Boolean allowed = authzManager.check(userId, permId);
+        if(allowed == null)
+            return new AuthzCheckResponse(null, HttpStatus.INTERNAL_SERVER_ERROR, iamServiceResponseCode.SOMETHING_WENT_WRONG);
+        return new AuthzCheckResponse(new AuthzCheckValue(userId, permId, allowed), HttpStatus.OK, iamServiceResponseCode.CONTENT_FOUND);
+    }
+
+    // Check All: (user, permission) pairs, or one user and many permissions, against the same index
+    // - Linear in the number of pairs; at most MAX_BULK_CHECK_SIZE pairs, answered in the order of the request
+    @Override
+    public AuthzCheckListResponse checkAll(AuthzBulkCheckRequest request) {
+        // Check Input: one form or the other, identifiers all set
+        int[][] pairs = _getPairs(request);
+        if(pairs == null)
+            return new AuthzCheckListResponse(null, HttpStatus.BAD_REQUEST, iamServiceResponseCode.BAD_REQUEST);
+        // Proceed
+        boolean[] allowed = authzManager.checkAll(pairs[0], pairs[1]);
+        if(allowed == null)
+            return new AuthzCheckListResponse(null, HttpStatus.INTERNAL_SERVER_ERROR, iamServiceResponseCode.SOMETHING_WENT_WRONG);
+        List<AuthzCheckValue> result = new ArrayList<>(allowed.length);
+        for (int i = 0; i < allowed.length; i++) {
+            result.add(new AuthzCheckValue(pairs[0][i], pairs[1][i], allowed[i]));
+        }
+        return new AuthzCheckListResponse(result, HttpStatus.OK, iamServiceResponseCode.CONTENT_FOUND);
+    }
+
+    // Get the (user, permission) pairs of a bulk check: users, then permissions (null if the request is invalid)
+    private int[][] _getPairs(AuthzBulkCheckRequest request) {
+        if(request == null)
+            return null;
+        List<AuthzCheckRequest> checks = request.getChecks();
+        List<Integer> permissions = request.getPermissions();
+        // One form or the other
+        if((checks == null) == (request.getUser() == null && permissions == null))
+            return null;
+        int size = checks != null ? checks.size() : permissions == null ? 0 : permissions.size();
+        if(size == 0 || size > iamServicePagination.MAX_BULK_CHECK_SIZE)
+            return null;
+        int[] userIds = new int[size];
+        int[] permIds = new int[size];
+        for (int i = 0; i < size; i++) {
+            Integer userId = checks != null ? (checks.get(i) == null ? null : checks.get(i).getUser()) : request.getUser();
+            Integer permId = checks != null ? (checks.get(i) == null ? null : checks.get(i).getPermission()) : permissions.get(i);
+            if(userId == null || permId == null)
+                return null;
+            userIds[i] = userId;
+            permIds[i] = permId;
+        }
+        return new int[][] {userIds, permIds};
+    }
+}
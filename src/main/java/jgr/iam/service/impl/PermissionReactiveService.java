@@ -0,0 +1,323 @@
+package jgr.iam.service.impl;
+
+// External Objects
+import lombok.RequiredArgsConstructor;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static java.lang.Integer.parseInt;
+import java.util.List;
+
+// Internal Objects
+import jgr.iam.constant.iamDBUpdatableFields;
+import jgr.iam.constant.iamServicePagination; // iam Service Pagination
+import jgr.iam.constant.iamServiceResponseCode; // iam Service Response Code
+import jgr.iam.enums.RequestType; // Request Type
+import jgr.iam.manager.PermissionReactiveManager; // Permission Manager (reactive)
+import jgr.iam.model.bo.Permission; // Permission Business Object
+import jgr.iam.payload.request.EntityPatchRequest;
+import jgr.iam.payload.response.EntityDeleteResponse;
+import jgr.iam.payload.response.EntityPatchResponse;
+import jgr.iam.payload.response.ObjectResponse;
+import jgr.iam.payload.response.permission.PermissionDetailListResponse;
+import jgr.iam.payload.response.permission.PermissionDetailResponse;
+import jgr.iam.payload.response.permission.PermissionDetailValue;
+import jgr.iam.payload.response.permission.PermissionSummaryListResponse;
+import jgr.iam.payload.response.permission.PermissionSummaryResponse;
+import jgr.iam.util.iamCursorUtil;
+
+// Permission Service (reactive): the PermissionService business rules and responses, on the reactive manager
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor(onConstructor_ = {@Autowired})
+public class PermissionReactiveService {
+
+    // Logger
+    private final static Logger logger = LogManager.getLogger(PermissionReactiveService.class.getCanonicalName());
+
+    // Permission Manager (reactive)
+    private final PermissionReactiveManager permManager;
+
+    // Transactional Operator (unit of work)
+    private final TransactionalOperator transactionalOperator;
+
+    // Get Permissions (Summary View), one page at a time
+    public Mono<PermissionSummaryListResponse> getPermissionSummaryList(boolean archived, String cursor, Integer limit) {
+        int afterId = iamCursorUtil.decode(cursor);
+        int pageSize = _getPageSize(limit);
+        if(afterId < 0 || pageSize < 0)
+            return Mono.just(new PermissionSummaryListResponse(null, HttpStatus.BAD_REQUEST, iamServiceResponseCode.BAD_REQUEST));
+        return permManager.getPermissions(RequestType.SUMMARY, archived, afterId, pageSize + 1)
+                          .collectList()
+                          .map(result -> {
+                              String next = _trimPage(result, pageSize);
+                              PermissionSummaryListResponse listResponse = new PermissionSummaryListResponse(result, _getListStatus(result), _getListResponse(result));
+                              listResponse.setNext(next);
+                              return listResponse;
+                          })
+                          .onErrorResume(e -> Mono.just(new PermissionSummaryListResponse(null, HttpStatus.INTERNAL_SERVER_ERROR, iamServiceResponseCode.SOMETHING_WENT_WRONG)));
+    }
+
+    // Get Permissions (Detail View), one page at a time
+    public Mono<PermissionDetailListResponse> getPermissionDetailList(boolean archived, String cursor, Integer limit) {
+        int afterId = iamCursorUtil.decode(cursor);
+        int pageSize = _getPageSize(limit);
+        if(afterId < 0 || pageSize < 0)
+            return Mono.just(new PermissionDetailListResponse(null, HttpStatus.BAD_REQUEST, iamServiceResponseCode.BAD_REQUEST));
+        return permManager.getPermissions(RequestType.DETAIL, archived, afterId, pageSize + 1)
+                          .collectList()
+                          .map(result -> {
+                              String next = _trimPage(result, pageSize);
+                              PermissionDetailListResponse listResponse = new PermissionDetailListResponse(result, _getListStatus(result), _getListResponse(result));
+                              listResponse.setNext(next);
+                              return listResponse;
+                          })
+                          .onErrorResume(e -> Mono.just(new PermissionDetailListResponse(null, HttpStatus.INTERNAL_SERVER_ERROR, iamServiceResponseCode.SOMETHING_WENT_WRONG)));
+    }
+
+    // Export Permissions (Detail View): one record per element, written as NDJSON at the pace of the client
+    // - An error aborts the response, so that the client doesn't take a partial export for a complete one
+    public Flux<PermissionDetailValue> exportPermissions(boolean archived) {
+        return permManager.exportPermissions(archived).map(PermissionDetailValue::new);
+    }
+
+    // Get Page Size: default if not provided, capped to the maximum, -1 if invalid
+    private int _getPageSize(Integer limit) {
+        if(limit == null)
+            return iamServicePagination.DEFAULT_PAGE_SIZE;
+        if(limit < 1)
+            return -1;
+        return Math.min(limit, iamServicePagination.MAX_PAGE_SIZE);
+    }
+
+    // Trim Page: drop the look-ahead record, and return the next cursor if there's one
+    private String _trimPage(List<Permission> result, int pageSize) {
+        if(result.size() <= pageSize)
+            return null;
+        result.subList(pageSize, result.size()).clear();
+        return iamCursorUtil.encode(result.get(pageSize - 1).getId());
+    }
+
+    // Get List Status
+    private HttpStatusCode _getListStatus(List<Permission> result) {
+        return result.isEmpty() ? HttpStatus.NO_CONTENT : HttpStatus.OK;
+    }
+
+    // Get List Response
+    private String _getListResponse(List<Permission> result) {
+        return result.isEmpty() ? iamServiceResponseCode.NO_CONTENT : iamServiceResponseCode.CONTENT_FOUND;
+    }
+
+    // Get Permission Summary Information
+    public Mono<PermissionSummaryResponse> getPermissionSummary(String id) {
+        return _getPermission(id, RequestType.SUMMARY)
+                .map(result -> new PermissionSummaryResponse(result, HttpStatus.OK, iamServiceResponseCode.CONTENT_FOUND))
+                .defaultIfEmpty(new PermissionSummaryResponse(null, HttpStatus.NO_CONTENT, iamServiceResponseCode.NO_CONTENT));
+    }
+
+    // Get Permission Detail Information
+    public Mono<PermissionDetailResponse> getPermissionDetail(String id) {
+        return _getPermission(id, RequestType.DETAIL)
+                .map(result -> new PermissionDetailResponse(result, HttpStatus.OK, iamServiceResponseCode.CONTENT_FOUND))
+                .defaultIfEmpty(new PermissionDetailResponse(null, HttpStatus.NO_CONTENT, iamServiceResponseCode.NO_CONTENT));
+    }
+
+    // Get Permission
+    private Mono<Permission> _getPermission(String id, RequestType requestType) {
+        // Check Input
+        try {
+            return permManager.getPermission(parseInt(id), requestType);
+        }
+        catch(Exception e) {
+            logger.error("_getPermission(" + id + ", " + requestType.toString() + "): Exception.\n\t" + e.getClass().getCanonicalName() + ": " + e.getMessage());
+            return Mono.empty();
+        }
+    }
+
+    // Create Permission
+    public Mono<PermissionSummaryResponse> createPermission(String name, String description) {
+        // Check Inputs
+        if ((name == null) || (description == null))
+            return Mono.just(new PermissionSummaryResponse(null, HttpStatus.BAD_REQUEST, iamServiceResponseCode.BAD_REQUEST));
+        return _inUnitOfWork(
+                // Check if already exists
+                permManager.getPermission(name, RequestType.SUMMARY)
+                           .map(result -> new PermissionSummaryResponse(result, HttpStatus.FOUND, iamServiceResponseCode.ALREADY_EXISTING))
+                           // Create Permission
+                           .switchIfEmpty(Mono.defer(() -> permManager.createPermission(name, description)
+                                   .map(result -> new PermissionSummaryResponse(result, HttpStatus.CREATED, iamServiceResponseCode.CREATED))
+                                   .defaultIfEmpty(new PermissionSummaryResponse(null, HttpStatus.INTERNAL_SERVER_ERROR, iamServiceResponseCode.SOMETHING_WENT_WRONG)))));
+    }
+
+    // Delete Permission
+    public Mono<EntityDeleteResponse> deletePermission(String id) {
+        // Check Input
+        if (id == null)
+            return Mono.just(new EntityDeleteResponse(HttpStatus.BAD_REQUEST, iamServiceResponseCode.BAD_REQUEST));
+        return _inUnitOfWork(_checkPermissionId(id).flatMap(permId -> switch (permId) {
+            case -1 -> Mono.just(new EntityDeleteResponse(HttpStatus.BAD_REQUEST, iamServiceResponseCode.BAD_REQUEST)); // Invalid
+            case 0 -> Mono.just(new EntityDeleteResponse(HttpStatus.NO_CONTENT, iamServiceResponseCode.NO_CONTENT)); // Not Found
+            default -> permManager.deletePermission(permId).map(this::_getDeleteResponse); // Found
+        }));
+    }
+
+    // Update Permission
+    public Mono<EntityPatchResponse> updatePermission(String id, List<EntityPatchRequest> requests) {
+        // Check Inputs
+        if ((id == null) || (requests == null))
+            return Mono.just(new EntityPatchResponse(HttpStatus.BAD_REQUEST, iamServiceResponseCode.BAD_REQUEST));
+        // Check if there are any updates to make
+        if (requests.isEmpty())
+            return Mono.just(new EntityPatchResponse(HttpStatus.BAD_REQUEST, iamServiceResponseCode.NO_UPDATE_REQUESTED));
+        return _inUnitOfWork(_checkPermissionId(id).flatMap(permId -> switch (permId) {
+            case -1 -> Mono.just(new EntityPatchResponse(HttpStatus.BAD_REQUEST, iamServiceResponseCode.BAD_REQUEST));
+            case 0 -> Mono.just(new EntityPatchResponse(HttpStatus.NO_CONTENT, iamServiceResponseCode.NO_CONTENT));
+            // Permission only has 2 fields that can be updated
+            default -> _applyPatch(requests, request -> {
+                if (iamDBUpdatableFields.DESCRIPTION.compareToIgnoreCase(request.getName()) == 0)
+                    return permManager.updatePermissionDescription(permId, request.getValue().toString());
+                if (iamDBUpdatableFields.ARCHIVED.compareToIgnoreCase(request.getName()) == 0)
+                    return permManager.updatePermissionArchived(permId, (boolean) request.getValue());
+                logger.warn("updatePermission(" + id + "): Unknown Fields: [" + request.getName() + "].");
+                return null;
+            });
+        }));
+    }
+
+    // Create Metadata
+    public Mono<PermissionSummaryResponse> createMetadata(String id, String name, String value) {
+        // Check Inputs
+        if ((id == null) || (name == null) || (value == null))
+            return Mono.just(new PermissionSummaryResponse(null, HttpStatus.BAD_REQUEST, iamServiceResponseCode.BAD_REQUEST));
+        return _inUnitOfWork(_checkPermissionId(id).flatMap(permId -> switch (permId) {
+            case -1 -> Mono.just(new PermissionSummaryResponse(null, HttpStatus.BAD_REQUEST, iamServiceResponseCode.BAD_REQUEST));
+            case 0 -> Mono.just(new PermissionSummaryResponse(null, HttpStatus.NO_CONTENT, iamServiceResponseCode.NO_CONTENT));
+            // Check if Metadata name already exists
+            default -> permManager.getMetadata(permId, name)
+                                  .flatMap(metadata -> permManager.getPermission(permId, RequestType.SUMMARY)
+                                                                  .map(result -> new PermissionSummaryResponse(result, HttpStatus.FOUND, iamServiceResponseCode.ALREADY_EXISTING)))
+                                  // Proceed with the creation
+                                  .switchIfEmpty(Mono.defer(() -> permManager.createMetadata(permId, name, value)
+                                          .map(result -> new PermissionSummaryResponse(result, HttpStatus.CREATED, iamServiceResponseCode.CREATED))
+                                          .defaultIfEmpty(new PermissionSummaryResponse(null, HttpStatus.INTERNAL_SERVER_ERROR, iamServiceResponseCode.SOMETHING_WENT_WRONG))));
+        }));
+    }
+
+    // Delete Metadata
+    public Mono<EntityDeleteResponse> deleteMetadata(String id, String name) {
+        // Check Input
+        if ((id == null) || (name == null))
+            return Mono.just(new EntityDeleteResponse(HttpStatus.BAD_REQUEST, iamServiceResponseCode.BAD_REQUEST));
+        return _inUnitOfWork(_checkPermissionId(id).flatMap(permId -> switch (permId) {
+            case -1 -> Mono.just(new EntityDeleteResponse(HttpStatus.BAD_REQUEST, iamServiceResponseCode.BAD_REQUEST));
+            case 0 -> Mono.just(new EntityDeleteResponse(HttpStatus.NO_CONTENT, iamServiceResponseCode.NO_CONTENT));
+            // Check Metadata, then proceed with deletion
+            default -> permManager.getMetadata(permId, name)
+                                  .flatMap(metadata -> permManager.deleteMetadata(permId, name).map(this::_getDeleteResponse))
+                                  .defaultIfEmpty(new EntityDeleteResponse(HttpStatus.NO_CONTENT, iamServiceResponseCode.NO_CONTENT));
+        }));
+    }
+
+    // Update Metadata
+    public Mono<EntityPatchResponse> updateMetadata(String id, String name, List<EntityPatchRequest> requests) {
+        // Check Inputs
+        if ((id == null) || (name == null) || (requests == null))
+            return Mono.just(new EntityPatchResponse(HttpStatus.BAD_REQUEST, iamServiceResponseCode.BAD_REQUEST));
+        // Check if there are any updates to make
+        if (requests.isEmpty())
+            return Mono.just(new EntityPatchResponse(HttpStatus.BAD_REQUEST, iamServiceResponseCode.NO_UPDATE_REQUESTED));
+        return _inUnitOfWork(_checkPermissionId(id).flatMap(permId -> switch (permId) {
+            case -1 -> Mono.just(new EntityPatchResponse(HttpStatus.BAD_REQUEST, iamServiceResponseCode.BAD_REQUEST));
+            case 0 -> Mono.just(new EntityPatchResponse(HttpStatus.NO_CONTENT, iamServiceResponseCode.NO_CONTENT));
+            // Check Metadata: it only has 2 fields that can be updated
+            default -> permManager.getMetadata(permId, name)
+                                  .flatMap(metadata -> _applyPatch(requests, request -> {
+                                      if (iamDBUpdatableFields.VALUE.compareToIgnoreCase(request.getName()) == 0)
+                                          return permManager.updateMetadataValue(permId, name, request.getValue().toString());
+                                      if (iamDBUpdatableFields.ARCHIVED.compareToIgnoreCase(request.getName()) == 0)
+                                          return permManager.updateMetadataArchived(permId, name, (boolean) request.getValue());
+                                      logger.warn("updateMetadata(" + id + "," + name + "): Unknown Fields: [" + request.getName() + "].");
+                                      return null;
+                                  }))
+                                  .defaultIfEmpty(new EntityPatchResponse(HttpStatus.NO_CONTENT, iamServiceResponseCode.NO_CONTENT));
+        }));
+    }
+
+    // Patch Field Update: result of the update, null for an unknown field
+    @FunctionalInterface
+    private interface FieldUpdate {
+        Mono<Boolean> apply(EntityPatchRequest request);
+    }
+
+    // Apply Patch: field updates in order, then one response for all (as PermissionService does)
+    private Mono<EntityPatchResponse> _applyPatch(List<EntityPatchRequest> requests, FieldUpdate update) {
+        return Flux.fromIterable(requests)
+                   .concatMap(request -> {
+                       try {
+                           Mono<Boolean> result = update.apply(request);
+                           // Unknown Field: not an error, but reported
+                           return result == null ? Mono.just(PatchOutcome.UNKNOWN) : result.map(updated -> updated ? PatchOutcome.UPDATED : PatchOutcome.FAILED);
+                       }
+                       catch (Exception e) {
+                           logger.error("_applyPatch(" + request.getName() + "): Exception.\n\t" + e.getClass().getCanonicalName() + ": " + e.getMessage());
+                           return Mono.just(PatchOutcome.FAILED);
+                       }
+                   })
+                   .collectList()
+                   .map(outcomes -> {
+                       if (outcomes.contains(PatchOutcome.UNKNOWN))
+                           return new EntityPatchResponse(HttpStatus.BAD_REQUEST, iamServiceResponseCode.UPDATED_WARNING);
+                       if (outcomes.contains(PatchOutcome.FAILED))
+                           return new EntityPatchResponse(HttpStatus.INTERNAL_SERVER_ERROR, iamServiceResponseCode.SOMETHING_WENT_WRONG);
+                       return new EntityPatchResponse(HttpStatus.OK, iamServiceResponseCode.UPDATED);
+                   });
+    }
+
+    // Patch Outcome (per field)
+    private enum PatchOutcome { UPDATED, FAILED, UNKNOWN }
+
+    // Get Delete Response
+    private EntityDeleteResponse _getDeleteResponse(boolean deleted) {
+        return deleted ? new EntityDeleteResponse(HttpStatus.OK, iamServiceResponseCode.DELETED)
+                       : new EntityDeleteResponse(HttpStatus.INTERNAL_SERVER_ERROR, iamServiceResponseCode.SOMETHING_WENT_WRONG);
+    }
+
+    // Unit of Work: one transaction for the whole operation, rolled back on server error (empty if it can't be committed)
+    private <T extends ObjectResponse> Mono<T> _inUnitOfWork(Mono<T> work) {
+        return transactionalOperator.execute(status -> work.doOnNext(result -> {
+                                        if (result.getStatus().is5xxServerError())
+                                            status.setRollbackOnly();
+                                    }))
+                                    // Wait for the commit (next() would cancel, and so roll back, on the first element)
+                                    .singleOrEmpty()
+                                    .onErrorResume(e -> {
+                                        logger.error("_inUnitOfWork: Exception.\n\t" + e.getClass().getCanonicalName() + ": " + e.getMessage());
+                                        return Mono.empty();
+                                    });
+    }
+
+    // Check Permission Identifier: -1 (error), 0 (not found) or identifier
+    private Mono<Integer> _checkPermissionId(String id) {
+        int permId;
+        try {
+            // Parse Id
+            permId = parseInt(id);
+        }
+        catch(Exception e) {
+            logger.error("_checkPermissionId(" + id + "): Exception.\n\t" + e.getClass().getCanonicalName() + ": " + e.getMessage());
+            return Mono.just(-1);
+        }
+        // Check if Permission actually exists
+        return permManager.getPermission(permId, RequestType.INTERNAL)
+                          .map(Permission::getId)
+                          .defaultIfEmpty(0);
+    }
+}
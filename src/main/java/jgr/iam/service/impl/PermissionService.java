@@ -2,6 +2,7 @@ package jgr.iam.service.impl;
 
 // External Objects
 import jgr.iam.model.bo.Metadata;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -10,12 +11,17 @@ import org.springframework.context.annotation.Lazy;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import static java.lang.Integer.parseInt;
+import java.io.IOException;
 import java.util.List;
+import java.util.function.Supplier;
 
 // Internal Objects
+import jgr.iam.constant.iamDBConnectionInfo; // iamDB Connection Information
 import jgr.iam.constant.iamDBUpdatableFields;
+import jgr.iam.constant.iamServicePagination; // iam Service Pagination
 import jgr.iam.constant.iamServiceResponseCode; // iam Service Response Code
 import jgr.iam.enums.RequestType; // Request Type
 import jgr.iam.manager.PermissionManager; // Permission Manager
@@ -23,11 +29,14 @@ import jgr.iam.model.bo.Permission; // Permission Business Object
 import jgr.iam.payload.request.EntityPatchRequest;
 import jgr.iam.payload.response.EntityDeleteResponse;
 import jgr.iam.payload.response.EntityPatchResponse;
+import jgr.iam.payload.response.ObjectResponse;
 import jgr.iam.payload.response.permission.PermissionDetailListResponse;
 import jgr.iam.payload.response.permission.PermissionDetailResponse;
+import jgr.iam.payload.response.permission.PermissionDetailValue;
 import jgr.iam.payload.response.permission.PermissionSummaryListResponse;
 import jgr.iam.payload.response.permission.PermissionSummaryResponse;
 import jgr.iam.service.IPermissionService;
+import jgr.iam.util.iamCursorUtil;
 
 @Service
 @RequiredArgsConstructor(onConstructor_ = {@Autowired})
@@ -36,34 +45,103 @@ public class PermissionService implements IPermissionService {
     // Logger
     private final static Logger logger = LogManager.getLogger(PermissionService.class.getCanonicalName());
 
-    // Permission Manager
-    private PermissionManager permManager;
+    // Permission Manager (Spring-managed, stateless)
+    private final PermissionManager permManager;
+
+    // JSON Mapper (export: Spring-managed, configured as every other response)
+    private final ObjectMapper mapper;
 
     // Self
     @Autowired
     @Lazy
     private PermissionService it;
 
-    // Get Permissions (Summary View)
+    // Get Permissions (Summary View), one page at a time
     @Override
-    public PermissionSummaryListResponse getPermissionSummaryList(boolean archived) {
-        if(permManager == null)
-            permManager = new PermissionManager();
-        List<Permission> result = permManager.getPermissions(RequestType.SUMMARY, archived);
+    public PermissionSummaryListResponse getPermissionSummaryList(boolean archived, String cursor, Integer limit) {
+        int afterId = iamCursorUtil.decode(cursor);
+        int pageSize = _getPageSize(limit);
+        if(afterId < 0 || pageSize < 0)
+            return new PermissionSummaryListResponse(null, HttpStatus.BAD_REQUEST, iamServiceResponseCode.BAD_REQUEST);
+        List<Permission> result = permManager.getPermissions(RequestType.SUMMARY, archived, afterId, pageSize + 1);
+        String next = _trimPage(result, pageSize);
         String response = result == null ? iamServiceResponseCode.SOMETHING_WENT_WRONG : result.size() > 0 ? iamServiceResponseCode.CONTENT_FOUND : iamServiceResponseCode.NO_CONTENT;
         HttpStatusCode status = result == null ? HttpStatus.INTERNAL_SERVER_ERROR : result.size() > 0 ? HttpStatus.OK : HttpStatus.NO_CONTENT;
-        return new PermissionSummaryListResponse(result, status, response);
+        PermissionSummaryListResponse listResponse = new PermissionSummaryListResponse(result, status, response);
+        listResponse.setNext(next);
+        return listResponse;
     }
 
-    // Get Permissions (Detail View)
+    // Get Permissions (Detail View), one page at a time
     @Override
-    public PermissionDetailListResponse getPermissionDetailList(boolean archived) {
-        if(permManager == null)
-            permManager = new PermissionManager();
-        List<Permission> result = permManager.getPermissions(RequestType.DETAIL, archived);
+    public PermissionDetailListResponse getPermissionDetailList(boolean archived, String cursor, Integer limit) {
+        int afterId = iamCursorUtil.decode(cursor);
+        int pageSize = _getPageSize(limit);
+        if(afterId < 0 || pageSize < 0)
+            return new PermissionDetailListResponse(null, HttpStatus.BAD_REQUEST, iamServiceResponseCode.BAD_REQUEST);
+        List<Permission> result = permManager.getPermissions(RequestType.DETAIL, archived, afterId, pageSize + 1);
+        String next = _trimPage(result, pageSize);
         HttpStatusCode status = result == null ? HttpStatus.INTERNAL_SERVER_ERROR : result.size() > 0 ? HttpStatus.OK : HttpStatus.NO_CONTENT;
         String response = result == null ? iamServiceResponseCode.SOMETHING_WENT_WRONG : result.size() > 0 ? iamServiceResponseCode.CONTENT_FOUND : iamServiceResponseCode.NO_CONTENT;
-        return new PermissionDetailListResponse(result, status, response);
+        PermissionDetailListResponse listResponse = new PermissionDetailListResponse(result, status, response);
+        listResponse.setNext(next);
+        return listResponse;
+    }
+
+    // Export Permissions (Detail View) as NDJSON, streamed: one JSON record per line, flushed per chunk
+    @Override
+    public StreamingResponseBody exportPermissions(boolean archived) {
+        return outputStream -> {
+            boolean result = permManager.exportPermissions(archived, chunk -> {
+                for (Permission perm : chunk) {
+                    outputStream.write(mapper.writeValueAsBytes(new PermissionDetailValue(perm)));
+                    outputStream.write('\n');
+                }
+                outputStream.flush();
+            });
+            // Abort the response, so that the client doesn't take a partial export for a complete one
+            if(!result)
+                throw new IOException("exportPermissions(" + archived + "): Export incomplete.");
+        };
+    }
+
+    // Get Page Size: default if not provided, capped to the maximum, -1 if invalid
+    private int _getPageSize(Integer limit) {
+        if(limit == null)
+            return iamServicePagination.DEFAULT_PAGE_SIZE;
+        if(limit < 1)
+            return -1;
+        return Math.min(limit, iamServicePagination.MAX_PAGE_SIZE);
+    }
+
+    // Trim Page: drop the look-ahead record, and return the next cursor if there's one
+    private String _trimPage(List<Permission> result, int pageSize) {
+        if(result == null || result.size() <= pageSize)
+            return null;
+        result.subList(pageSize, result.size()).clear();
+        return iamCursorUtil.encode(result.get(pageSize - 1).getId());
+    }
+
+    // Get the Catalog ETag (from memory: no database access)
+    // - None for a replica read: the body may predate the version (a lagging replica)
+    @Override
+    public String getCatalogETag() {
+        if(permManager.isReplicaRead())
+            return null;
+        return permManager.getVersions().getETag();
+    }
+
+    // Get the ETag of a Permission (from memory, null if the id is invalid or for a replica read)
+    @Override
+    public String getPermissionETag(String id) {
+        if(permManager.isReplicaRead())
+            return null;
+        try {
+            return permManager.getVersions().getETag(parseInt(id));
+        }
+        catch(NumberFormatException e) {
+            return null;
+        }
     }
 
     // Get Permission Summary Information
@@ -86,8 +164,6 @@ public class PermissionService implements IPermissionService {
 
     // Get Permission
     private Permission _getPermission(String id, RequestType requestType) {
-        if(permManager == null)
-            permManager = new PermissionManager();
         // Check Input
         try {
             int permId  = parseInt(id);
@@ -103,6 +179,11 @@ public class PermissionService implements IPermissionService {
     // Create Permission
     @Override
     public PermissionSummaryResponse createPermission(String name, String description) {
+        return _inUnitOfWork(() -> _createPermission(name, description));
+    }
+
+    // Create Permission (unit of work)
+    private PermissionSummaryResponse _createPermission(String name, String description) {
         // Check Inputs
         if ((name == null) || (description == null)) {
             HttpStatusCode status = HttpStatus.BAD_REQUEST;
@@ -111,8 +192,6 @@ public class PermissionService implements IPermissionService {
         }
 
         // Proceed
-        if(permManager == null)
-            permManager = new PermissionManager();
 
         // Check if already exists
         Permission result = permManager.getPermission(name, RequestType.SUMMARY);
@@ -132,6 +211,11 @@ public class PermissionService implements IPermissionService {
     // Delete Permission
     @Override
     public EntityDeleteResponse deletePermission(String id) {
+        return _inUnitOfWork(() -> _deletePermission(id));
+    }
+
+    // Delete Permission (unit of work)
+    private EntityDeleteResponse _deletePermission(String id) {
         // Check Input
         if (id == null) {
             HttpStatusCode status = HttpStatus.BAD_REQUEST;
@@ -172,6 +256,11 @@ public class PermissionService implements IPermissionService {
     // Update Permission
     @Override
     public EntityPatchResponse updatePermission(String id, List<EntityPatchRequest> requests) {
+        return _inUnitOfWork(() -> _updatePermission(id, requests));
+    }
+
+    // Update Permission (unit of work)
+    private EntityPatchResponse _updatePermission(String id, List<EntityPatchRequest> requests) {
         // Check Inputs
         if ((id == null) || (requests == null)) {
             HttpStatusCode status = HttpStatus.BAD_REQUEST;
@@ -257,11 +346,16 @@ public class PermissionService implements IPermissionService {
         return new EntityPatchResponse(status, response);
     }
 
+    // Unit of Work: one connection and one transaction for the whole operation, rolled back on server error
+    // (null if it can't be committed)
+    private <T extends ObjectResponse> T _inUnitOfWork(Supplier<T> work) {
+        return permManager.execute(iamDBConnectionInfo.DEFAULT_TX_ISOLATION, work,
+                                   result -> result != null && !result.getStatus().is5xxServerError());
+    }
+
     // Check Permission Identifier: return -1 (error), 0 (not found) or identifier
     private int _checkPermissionId(String id) {
         // Set Perm Server
-        if(permManager == null)
-            permManager = new PermissionManager();
 
         int permId = 0;
         try {
@@ -283,6 +377,11 @@ public class PermissionService implements IPermissionService {
     // Create Metadata
     @Override
     public PermissionSummaryResponse createMetadata(String id, String name, String value) {
+        return _inUnitOfWork(() -> _createMetadata(id, name, value));
+    }
+
+    // Create Metadata (unit of work)
+    private PermissionSummaryResponse _createMetadata(String id, String name, String value) {
         // Check Inputs
         if ((id == null) || (name == null) || (value == null)) {
             HttpStatusCode status = HttpStatus.BAD_REQUEST;
@@ -344,6 +443,11 @@ public class PermissionService implements IPermissionService {
     // Delete Metadata
     @Override
     public EntityDeleteResponse deleteMetadata(String id, String name) {
+        return _inUnitOfWork(() -> _deleteMetadata(id, name));
+    }
+
+    // Delete Metadata (unit of work)
+    private EntityDeleteResponse _deleteMetadata(String id, String name) {
         // Check Input
         if ((id == null) || (name == null)) {
             HttpStatusCode status = HttpStatus.BAD_REQUEST;
@@ -400,6 +504,11 @@ public class PermissionService implements IPermissionService {
     // Update Metadata
     @Override
     public EntityPatchResponse updateMetadata(String id, String name, List<EntityPatchRequest> requests) {
+        return _inUnitOfWork(() -> _updateMetadata(id, name, requests));
+    }
+
+    // Update Metadata (unit of work)
+    private EntityPatchResponse _updateMetadata(String id, String name, List<EntityPatchRequest> requests) {
         // Check Inputs
         if ((id == null) || (name == null) || (requests == null)) {
             HttpStatusCode status = HttpStatus.BAD_REQUEST;
@@ -0,0 +1,61 @@
+package jgr.iam.service.impl;
+
+// External Objects
+import lombok.RequiredArgsConstructor;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Service;
+
+import static java.lang.Integer.parseInt;
+import java.sql.Connection;
+import java.util.List;
+
+// Internal Objects
+import jgr.iam.constant.iamServiceResponseCode; // iam Service Response Code
+import jgr.iam.manager.UserManager; // User Manager
+import jgr.iam.model.bo.Permission; // Permission Business Object
+import jgr.iam.model.bo.User; // User Business Object
+import jgr.iam.payload.response.user.UserPermissionListResponse;
+import jgr.iam.service.IUserService;
+
+@Service
+@RequiredArgsConstructor(onConstructor_ = {@Autowired})
+public class UserService implements IUserService {
+
+    // Logger
+    private final static Logger logger = LogManager.getLogger(UserService.class.getCanonicalName());
+
+    // User Manager (Spring-managed, stateless)
+    private final UserManager userManager;
+
+    // Get the Effective Permissions of a User: one connection (no transaction) for the whole resolution
+    @Override
+    public UserPermissionListResponse getUserPermissions(String id) {
+        // Check Input
+        int userId;
+        try {
+            userId = parseInt(id);
+        }
+        catch(Exception e) {
+            logger.error("getUserPermissions(" + id + "): Exception.\n\t" + e.getClass().getCanonicalName() + ": " + e.getMessage());
+            return new UserPermissionListResponse(null, HttpStatus.BAD_REQUEST, iamServiceResponseCode.BAD_REQUEST);
+        }
+        // Proceed
+        UserPermissionListResponse result = userManager.execute(Connection.TRANSACTION_NONE, () -> _getUserPermissions(userId), response -> true);
+        return result != null ? result : new UserPermissionListResponse(null, HttpStatus.INTERNAL_SERVER_ERROR, iamServiceResponseCode.SOMETHING_WENT_WRONG);
+    }
+
+    // Get the Effective Permissions of a User (connected)
+    private UserPermissionListResponse _getUserPermissions(int userId) {
+        User user = userManager.getUser(userId);
+        if(user == null)
+            return new UserPermissionListResponse(null, HttpStatus.NOT_FOUND, iamServiceResponseCode.CONTENT_NOT_FOUND);
+        List<Permission> result = userManager.getEffectivePermissions(user);
+        String response = result == null ? iamServiceResponseCode.SOMETHING_WENT_WRONG : result.size() > 0 ? iamServiceResponseCode.CONTENT_FOUND : iamServiceResponseCode.NO_CONTENT;
+        HttpStatusCode status = result == null ? HttpStatus.INTERNAL_SERVER_ERROR : result.size() > 0 ? HttpStatus.OK : HttpStatus.NO_CONTENT;
+        return new UserPermissionListResponse(result, status, response);
+    }
+}
@@ -0,0 +1,306 @@
+package jgr.iam.util;
+
+// External Objects
+import org.roaringbitmap.RoaringBitmap; // https://javadoc.io/doc/org.roaringbitmap/RoaringBitmap/latest/org/roaringbitmap/RoaringBitmap.html
+import java.util.Arrays; // https://docs.oracle.com/javase/8/docs/api/java/util/Arrays.html
+import java.util.Collection; // https://docs.oracle.com/javase/8/docs/api/java/util/Collection.html
+import java.util.Collections; // https://docs.oracle.com/javase/8/docs/api/java/util/Collections.html
+import java.util.HashMap; // https://docs.oracle.com/javase/8/docs/api/java/util/HashMap.html
+import java.util.List; // https://docs.oracle.com/javase/8/docs/api/java/util/List.html
+import java.util.Map; // https://docs.oracle.com/javase/8/docs/api/java/util/Map.html
+import java.util.function.IntConsumer; // https://docs.oracle.com/javase/8/docs/api/java/util/function/IntConsumer.html
+import java.util.function.IntPredicate; // https://docs.oracle.com/javase/8/docs/api/java/util/function/IntPredicate.html
+
+// Internal Objects
+import jgr.iam.enums.AuthzEdge; // Authorization Graph Edge
+import jgr.iam.enums.AuthzNode; // Authorization Graph Node
+import jgr.iam.model.dto.RolePermissionDTO; // RolePermissionDTO
+import jgr.iam.model.dto.UserGroupRoleDTO; // UserGroupRoleDTO
+import jgr.iam.model.dto.UserRoleDTO; // UserRoleDTO
+import jgr.iam.model.dto.UserUserGroupDTO; // UserUserGroupDTO
+
+// Authorization Graph: immutable snapshot of the IAM graph
+// - Edges: CSR int adjacency arrays (user -> role, user -> group, group -> role, role -> permission), rows sorted
+// - Nodes: archived flags (users: inactive or archived), as compressed bitmaps of ids
+// - Copy-on-write deltas: a changed row is overridden in a new snapshot sharing the CSR arrays; the overrides are
+//   folded into fresh arrays once there are more than COMPACT_THRESHOLD of them
+public class iamAuthzGraph {
+
+    // Row overrides folded into fresh CSR arrays past this count
+    public static final int COMPACT_THRESHOLD = 1024;
+
+    // No links
+    private static final int[] NONE = new int[0];
+
+    // Adjacency: CSR arrays and their row overrides
+    private static final class Adjacency {
+        private final int[] offsets; // source id -> first target (length: greatest source id + 2)
+        private final int[] targets; // target ids, sorted within a row
+        private final Map<Integer, int[]> overrides; // rows changed since the arrays were built (never mutated)
+
+        // Constructor
+        private Adjacency(int[] offsets, int[] targets, Map<Integer, int[]> overrides) {
+            this.offsets = offsets;
+            this.targets = targets;
+            this.overrides = overrides;
+        }
+
+        // Build from (source, target) pairs packed in longs
+        private static Adjacency build(long[] links) {
+            long[] sorted = Arrays.stream(links).sorted().distinct().toArray();
+            int rows = sorted.length == 0 ? 0 : (int) (sorted[sorted.length - 1] >>> 32) + 1;
+            int[] offsets = new int[rows + 1];
+            int[] targets = new int[sorted.length];
+            for (int i = 0; i < sorted.length; i++) {
+                offsets[(int) (sorted[i] >>> 32) + 1]++;
+                targets[i] = (int) sorted[i];
+            }
+            for (int row = 0; row < rows; row++) {
+                offsets[row + 1] += offsets[row];
+            }
+            return new Adjacency(offsets, targets, Collections.emptyMap());
+        }
+
+        // Get a row (a copy)
+        private int[] row(int from) {
+            int[] override = overrides.get(from);
+            if (override != null)
+                return override.clone();
+            if (from < 0 || from + 1 >= offsets.length)
+                return NONE;
+            return Arrays.copyOfRange(targets, offsets[from], offsets[from + 1]);
+        }
+
+        // Contains a link
+        private boolean contains(int from, int to) {
+            int[] override = overrides.get(from);
+            if (override != null)
+                return Arrays.binarySearch(override, to) >= 0;
+            if (from < 0 || from + 1 >= offsets.length)
+                return false;
+            return Arrays.binarySearch(targets, offsets[from], offsets[from + 1], to) >= 0;
+        }
+
+        // Any target of a row matching (no allocation)
+        private boolean anyMatch(int from, IntPredicate predicate) {
+            int[] override = overrides.get(from);
+            if (override != null) {
+                for (int to : override) {
+                    if (predicate.test(to))
+                        return true;
+                }
+                return false;
+            }
+            if (from < 0 || from + 1 >= offsets.length)
+                return false;
+            for (int i = offsets[from]; i < offsets[from + 1]; i++) {
+                if (predicate.test(targets[i]))
+                    return true;
+            }
+            return false;
+        }
+
+        // Each target of a row (no allocation)
+        private void forEach(int from, IntConsumer consumer) {
+            anyMatch(from, to -> {
+                consumer.accept(to);
+                return false;
+            });
+        }
+
+        // Has a row (at least one link)
+        private boolean hasRow(int from) {
+            int[] override = overrides.get(from);
+            if (override != null)
+                return override.length > 0;
+            return from >= 0 && from + 1 < offsets.length && offsets[from + 1] > offsets[from];
+        }
+
+        // With a row replaced (copy-on-write)
+        private Adjacency withRow(int from, int[] row) {
+            int[] sorted = Arrays.stream(row).sorted().distinct().toArray();
+            Map<Integer, int[]> next = new HashMap<>(overrides);
+            next.put(from, sorted);
+            Adjacency result = new Adjacency(offsets, targets, Collections.unmodifiableMap(next));
+            return next.size() > COMPACT_THRESHOLD ? result.compact() : result;
+        }
+
+        // Compact: fold the overrides into fresh arrays
+        private Adjacency compact() {
+            int rows = Math.max(offsets.length - 1, overrides.keySet().stream().mapToInt(Integer::intValue).max().orElse(-1) + 1);
+            long[] links = new long[targets.length + overrides.values().stream().mapToInt(r -> r.length).sum()];
+            int count = 0;
+            for (int from = 0; from < rows; from++) {
+                for (int to : row(from)) {
+                    links[count++] = _pack(from, to);
+                }
+            }
+            return build(Arrays.copyOf(links, count));
+        }
+
+        // Link Count
+        private long linkCount() {
+            long count = targets.length;
+            for (Map.Entry<Integer, int[]> override : overrides.entrySet()) {
+                int from = override.getKey();
+                count += override.getValue().length - (from + 1 < offsets.length ? offsets[from + 1] - offsets[from] : 0);
+            }
+            return count;
+        }
+
+        // Size in Bytes (arrays only)
+        private long sizeInBytes() {
+            return 4L * (offsets.length + targets.length) + 4L * overrides.values().stream().mapToInt(r -> r.length + 1).sum();
+        }
+    }
+
+    // Snapshot
+    private final Adjacency[] edges; // by AuthzEdge ordinal
+    private final RoaringBitmap[] archived; // by AuthzNode ordinal (never mutated)
+
+    // Constructor
+    private iamAuthzGraph(Adjacency[] edges, RoaringBitmap[] archived) {
+        this.edges = edges;
+        this.archived = archived;
+    }
+
+    // Build the graph from the non-archived links and the archived entity ids
+    public static iamAuthzGraph build(List<UserRoleDTO> userRoles, List<UserUserGroupDTO> userUserGroups,
+                                      List<UserGroupRoleDTO> userGroupRoles, List<RolePermissionDTO> rolePermissions,
+                                      Map<AuthzNode, ? extends Collection<Integer>> archivedIds) {
+        Adjacency[] edges = new Adjacency[AuthzEdge.values().length];
+        edges[AuthzEdge.USER_ROLE.ordinal()] = Adjacency.build(userRoles.stream().mapToLong(l -> _pack(l.getUserId(), l.getRoleId())).toArray());
+        edges[AuthzEdge.USER_GROUP.ordinal()] = Adjacency.build(userUserGroups.stream().mapToLong(l -> _pack(l.getUserId(), l.getUserGroupId())).toArray());
+        edges[AuthzEdge.GROUP_ROLE.ordinal()] = Adjacency.build(userGroupRoles.stream().mapToLong(l -> _pack(l.getUserGroupId(), l.getRoleId())).toArray());
+        edges[AuthzEdge.ROLE_PERMISSION.ordinal()] = Adjacency.build(rolePermissions.stream().mapToLong(l -> _pack(l.getRoleId(), l.getPermissionId())).toArray());
+        RoaringBitmap[] archived = new RoaringBitmap[AuthzNode.values().length];
+        for (AuthzNode node : AuthzNode.values()) {
+            archived[node.ordinal()] = new RoaringBitmap();
+            Collection<Integer> ids = archivedIds.get(node);
+            if (ids != null) {
+                ids.forEach(archived[node.ordinal()]::add);
+            }
+            archived[node.ordinal()].runOptimize();
+        }
+        return new iamAuthzGraph(edges, archived);
+    }
+
+    // Empty Graph
+    public static iamAuthzGraph empty() {
+        return build(List.of(), List.of(), List.of(), List.of(), Map.of());
+    }
+
+    // Pack a (source, target) link in a long (ordered by source, then target)
+    private static long _pack(int from, int to) {
+        return ((long) from << 32) | (to & 0xFFFFFFFFL);
+    }
+
+    // Is Archived (a user: inactive or archived)
+    public boolean isArchived(AuthzNode node, int id) {
+        return archived[node.ordinal()].contains(id);
+    }
+
+    // Has Link
+    public boolean hasLink(AuthzEdge edge, int from, int to) {
+        return edges[edge.ordinal()].contains(from, to);
+    }
+
+    // Get Links of a source (sorted target ids, a copy)
+    public int[] getLinks(AuthzEdge edge, int from) {
+        return edges[edge.ordinal()].row(from);
+    }
+
+    // Has Links: the user holds a role or a group (else it holds no permission)
+    public boolean hasLinks(int userId) {
+        return edges[AuthzEdge.USER_ROLE.ordinal()].hasRow(userId) || edges[AuthzEdge.USER_GROUP.ordinal()].hasRow(userId);
+    }
+
+    // Check: does the user hold the permission (graph traversal, no allocation)
+    public boolean check(int userId, int permissionId) {
+        if (isArchived(AuthzNode.USER, userId) || isArchived(AuthzNode.PERMISSION, permissionId))
+            return false;
+        IntPredicate grants = roleId -> !isArchived(AuthzNode.ROLE, roleId) && hasLink(AuthzEdge.ROLE_PERMISSION, roleId, permissionId);
+        return edges[AuthzEdge.USER_ROLE.ordinal()].anyMatch(userId, grants)
+                || edges[AuthzEdge.USER_GROUP.ordinal()].anyMatch(userId, groupId -> !isArchived(AuthzNode.GROUP, groupId)
+                        && edges[AuthzEdge.GROUP_ROLE.ordinal()].anyMatch(groupId, grants));
+    }
+
+    // Get the Effective Permissions of a user (a new bitmap)
+    public RoaringBitmap getPermissions(int userId) {
+        RoaringBitmap result = new RoaringBitmap();
+        if (isArchived(AuthzNode.USER, userId))
+            return result;
+        IntConsumer grant = roleId -> {
+            if (!isArchived(AuthzNode.ROLE, roleId)) {
+                edges[AuthzEdge.ROLE_PERMISSION.ordinal()].forEach(roleId, result::add);
+            }
+        };
+        edges[AuthzEdge.USER_ROLE.ordinal()].forEach(userId, grant);
+        edges[AuthzEdge.USER_GROUP.ordinal()].forEach(userId, groupId -> {
+            if (!isArchived(AuthzNode.GROUP, groupId)) {
+                edges[AuthzEdge.GROUP_ROLE.ordinal()].forEach(groupId, grant);
+            }
+        });
+        result.andNot(archived[AuthzNode.PERMISSION.ordinal()]);
+        result.runOptimize();
+        return result;
+    }
+
+    // With Links: the links of a source replaced (copy-on-write)
+    public iamAuthzGraph withLinks(AuthzEdge edge, int from, int[] to) {
+        Adjacency[] next = edges.clone();
+        next[edge.ordinal()] = edges[edge.ordinal()].withRow(from, to);
+        return new iamAuthzGraph(next, archived);
+    }
+
+    // With Link: one link added or removed (copy-on-write; the same snapshot if unchanged)
+    public iamAuthzGraph withLink(AuthzEdge edge, int from, int to, boolean linked) {
+        if (hasLink(edge, from, to) == linked)
+            return this;
+        int[] row = getLinks(edge, from);
+        return withLinks(edge, from, linked ? _add(row, to) : Arrays.stream(row).filter(id -> id != to).toArray());
+    }
+
+    // With Archived: an entity archived or restored (copy-on-write; the same snapshot if unchanged)
+    public iamAuthzGraph withArchived(AuthzNode node, int id, boolean isArchived) {
+        if (isArchived(node, id) == isArchived)
+            return this;
+        RoaringBitmap[] next = archived.clone();
+        next[node.ordinal()] = archived[node.ordinal()].clone();
+        if (isArchived) {
+            next[node.ordinal()].add(id);
+        }
+        else {
+            next[node.ordinal()].remove(id);
+        }
+        return new iamAuthzGraph(edges, next);
+    }
+
+    // Add an id to a row
+    private static int[] _add(int[] row, int id) {
+        int[] result = Arrays.copyOf(row, row.length + 1);
+        result[row.length] = id;
+        return result;
+    }
+
+    // Get Link Count
+    public long getLinkCount() {
+        long count = 0;
+        for (Adjacency edge : edges) {
+            count += edge.linkCount();
+        }
+        return count;
+    }
+
+    // Get Size in Bytes (adjacency arrays and archived flags)
+    public long getSizeInBytes() {
+        long size = 0;
+        for (Adjacency edge : edges) {
+            size += edge.sizeInBytes();
+        }
+        for (RoaringBitmap ids : archived) {
+            size += ids.getSizeInBytes();
+        }
+        return size;
+    }
+}
@@ -0,0 +1,100 @@
+package jgr.iam.util;
+
+// External Objects
+import org.roaringbitmap.RoaringBitmap; // https://javadoc.io/doc/org.roaringbitmap/RoaringBitmap/latest/org/roaringbitmap/RoaringBitmap.html
+import java.util.concurrent.ConcurrentHashMap; // https://docs.oracle.com/javase/8/docs/api/java/util/concurrent/ConcurrentHashMap.html
+
+// Internal Objects
+import jgr.iam.constant.iamDBConnectionInfo; // iamDB Connection Information
+
+// Authorization Index: each user's effective permissions as a compressed bitmap of permission ids, over an
+// authorization graph snapshot
+// - Bitmaps materialized on a user's first check, from the (immutable) graph; users holding no role nor group get
+//   none, so unknown ids can't grow the index
+// - A new snapshot (delta) carries over the bitmaps it doesn't affect: all but the user's for a user change, none
+//   otherwise (group, role and permission changes are rare and may affect many users)
+// - Lock-free reads: the graph and the bitmaps are never mutated once published
+public class iamAuthzIndex {
+
+    // No user (delta affecting every user)
+    public static final int ALL_USERS = -1;
+
+    // Graph Snapshot
+    private final iamAuthzGraph graph;
+
+    // Effective Permissions (user -> permission ids), materialized on first check
+    private final ConcurrentHashMap<Integer, RoaringBitmap> userPermissions;
+
+    // Built At (epoch milliseconds): full build the snapshot derives from
+    private final long builtAt;
+
+    // Constructor
+    private iamAuthzIndex(iamAuthzGraph graph, ConcurrentHashMap<Integer, RoaringBitmap> userPermissions, long builtAt) {
+        this.graph = graph;
+        this.userPermissions = userPermissions;
+        this.builtAt = builtAt;
+    }
+
+    // Build the index over a (fully loaded) graph
+    public static iamAuthzIndex build(iamAuthzGraph graph) {
+        return new iamAuthzIndex(graph, new ConcurrentHashMap<>(), System.currentTimeMillis());
+    }
+
+    // Empty Index
+    public static iamAuthzIndex empty() {
+        return build(iamAuthzGraph.empty());
+    }
+
+    // Get Refresh Seconds (environment setting): index age triggering a rebuild, 0 for never
+    public static long getRefreshSeconds() {
+        return iamEnvironmentUtil.getLong(iamDBConnectionInfo.ENV_AUTHZ_REFRESH_SECONDS, iamDBConnectionInfo.DEFAULT_AUTHZ_REFRESH_SECONDS);
+    }
+
+    // With Graph: the index over a changed graph, keeping the bitmaps the change doesn't affect
+    // (affected user, or ALL_USERS)
+    public iamAuthzIndex withGraph(iamAuthzGraph changed, int userId) {
+        if (changed == graph)
+            return this;
+        ConcurrentHashMap<Integer, RoaringBitmap> kept = new ConcurrentHashMap<>();
+        if (userId != ALL_USERS) {
+            kept.putAll(userPermissions);
+            kept.remove(userId);
+        }
+        return new iamAuthzIndex(changed, kept, builtAt);
+    }
+
+    // Check: does the user hold the permission
+    public boolean check(int userId, int permissionId) {
+        RoaringBitmap permissions = userPermissions.get(userId);
+        if (permissions == null) {
+            if (!graph.hasLinks(userId))
+                return false;
+            permissions = userPermissions.computeIfAbsent(userId, graph::getPermissions);
+        }
+        return permissions.contains(permissionId);
+    }
+
+    // Get Graph
+    public iamAuthzGraph getGraph() {
+        return graph;
+    }
+
+    // Get Built At (epoch milliseconds)
+    public long getBuiltAt() {
+        return builtAt;
+    }
+
+    // Get User Count (users whose bitmap is materialized)
+    public int getUserCount() {
+        return userPermissions.size();
+    }
+
+    // Get Size in Bytes (graph and materialized bitmaps)
+    public long getSizeInBytes() {
+        long size = graph.getSizeInBytes();
+        for (RoaringBitmap permissions : userPermissions.values()) {
+            size += permissions.getSizeInBytes();
+        }
+        return size;
+    }
+}
@@ -0,0 +1,35 @@
+package jgr.iam.util;
+
+// External Objects
+import com.github.benmanes.caffeine.cache.stats.CacheStats; // https://www.javadoc.io/doc/com.github.ben-manes.caffeine/caffeine/latest/com.github.benmanes.caffeine/com/github/benmanes/caffeine/cache/stats/CacheStats.html
+import lombok.Getter; // https://projectlombok.org/features/GetterSetter
+
+// In-Process Cache Statistics (snapshot)
+@Getter
+public class iamCacheStatistics {
+    // Cache Configuration
+    private String cacheName;
+    private long maxSize;
+    private long ttlSeconds;
+    // Cache State
+    private long size;
+    // Hit/Miss Statistics
+    private long hitCount;
+    private long missCount;
+    private double hitRate;
+    private long evictionCount;
+
+    // Constructor
+    public iamCacheStatistics(String cacheName, long maxSize, long ttlSeconds, long size, CacheStats cacheStats) {
+        this.cacheName = cacheName;
+        this.maxSize = maxSize;
+        this.ttlSeconds = ttlSeconds;
+        this.size = size;
+        if (cacheStats != null) {
+            this.hitCount = cacheStats.hitCount();
+            this.missCount = cacheStats.missCount();
+            this.hitRate = cacheStats.hitRate();
+            this.evictionCount = cacheStats.evictionCount();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package jgr.iam.util;
+
+// External Objects
+import java.util.HashSet; // https://docs.oracle.com/javase/8/docs/api/java/util/HashSet.html
+import java.util.Set; // https://docs.oracle.com/javase/8/docs/api/java/util/Set.html
+import java.util.concurrent.ConcurrentHashMap; // https://docs.oracle.com/javase/8/docs/api/java/util/concurrent/ConcurrentHashMap.html
+import java.util.concurrent.atomic.AtomicLong; // https://docs.oracle.com/javase/8/docs/api/java/util/concurrent/atomic/AtomicLong.html
+
+// Catalog Version: monotonic version of the permission catalog, and of each permission, for ETags
+// - Bumped by every permission mutation once it's committed (in a transaction: once the unit of work completes),
+//   after the cache invalidation: a reader taking the version before reading never tags a state older than it
+// - Per-permission version: the catalog version of its last change; permissions not changed since boot, or since a
+//   change whose ids aren't known (batch creation), take the floor; bumps serialized (a bump racing with a bump of
+//   all can't revert a permission to an older version), reads lock-free
+// - Boot epoch: versions restart at each boot, the epoch keeps the ETags of two boots (or two nodes) apart
+public class iamCatalogVersion {
+
+    // Boot Epoch (epoch milliseconds)
+    private final long epoch;
+
+    // Versions
+    private final AtomicLong version = new AtomicLong(); // catalog version
+    private final ConcurrentHashMap<Integer, Long> versions = new ConcurrentHashMap<>(); // permission id -> version
+    private volatile long floor; // version of the permissions not in versions
+
+    // Bumped on Completion
+    private final ThreadLocal<Set<Integer>> pending = ThreadLocal.withInitial(HashSet::new);
+    private final ThreadLocal<Boolean> pendingAll = ThreadLocal.withInitial(() -> false);
+
+    // Constructor
+    public iamCatalogVersion() {
+        this(System.currentTimeMillis());
+    }
+
+    // Constructor (given epoch)
+    public iamCatalogVersion(long epoch) {
+        this.epoch = epoch;
+    }
+
+    // Bump: a permission changed
+    public synchronized void bump(int id) {
+        versions.put(id, version.incrementAndGet());
+    }
+
+    // Bump All: permissions changed, ids unknown
+    public synchronized void bumpAll() {
+        floor = version.incrementAndGet();
+        versions.clear();
+    }
+
+    // Bump on Completion: bump once the calling thread's unit of work completes
+    public void bumpOnCompletion(int id) {
+        pending.get().add(id);
+    }
+
+    // Bump All on Completion: bump all once the calling thread's unit of work completes
+    public void bumpAllOnCompletion() {
+        pendingAll.set(true);
+    }
+
+    // Complete: the calling thread's unit of work completed (committed or rolled back), bump what it queued
+    public void complete() {
+        Set<Integer> ids = pending.get();
+        boolean all = pendingAll.get();
+        pending.remove();
+        pendingAll.remove();
+        if (all) {
+            bumpAll();
+        }
+        for (int id : ids) {
+            bump(id);
+        }
+    }
+
+    // Get the catalog Version
+    public long getVersion() {
+        return version.get();
+    }
+
+    // Get the Version of a permission (lock-free: a version bumped meanwhile is just taken on the next read)
+    public long getVersion(int id) {
+        Long result = versions.get(id);
+        return result == null ? floor : result;
+    }
+
+    // Get Epoch (epoch milliseconds)
+    public long getEpoch() {
+        return epoch;
+    }
+
+    // Get the catalog ETag (weak: same content, not same bytes)
+    public String getETag() {
+        return _getETag(getVersion());
+    }
+
+    // Get the ETag of a permission
+    public String getETag(int id) {
+        return _getETag(getVersion(id));
+    }
+
+    // Matches: does an If-None-Match header hold the ETag (weak comparison, "*" not supported: answered in full)
+    public static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || eTag == null)
+            return false;
+        String opaque = _getOpaqueTag(eTag);
+        for (String tag : ifNoneMatch.split(",")) {
+            if (opaque.equals(_getOpaqueTag(tag.trim())))
+                return true;
+        }
+        return false;
+    }
+
+    // Get ETag of a version
+    private String _getETag(long version) {
+        return "W/\"" + Long.toString(epoch, 36) + "-" + version + "\"";
+    }
+
+    // Get Opaque Tag: the ETag without its weak indicator
+    private static String _getOpaqueTag(String eTag) {
+        return eTag.startsWith("W/") ? eTag.substring(2) : eTag;
+    }
+}
@@ -0,0 +1,128 @@
+package jgr.iam.util;
+
+// External Objects
+import java.util.Iterator; // https://docs.oracle.com/javase/8/docs/api/java/util/Iterator.html
+import java.util.Map; // https://docs.oracle.com/javase/8/docs/api/java/util/Map.html
+import java.util.TreeMap; // https://docs.oracle.com/javase/8/docs/api/java/util/TreeMap.html
+
+// Internal Objects
+import jgr.iam.constant.iamDBConnectionInfo; // iamDB Connection Information
+
+// Change Log Cursor: the position of a node in the change log, and the sequence gaps behind it
+// - A sequence is allocated at insert time but only visible once committed: a transaction committing after a later
+//   one leaves a gap behind the position, read again by the next polls until filled, or given up once older than the
+//   grace period (IAMDB_CHANGELOG_GAP_SECONDS: a rolled back transaction leaves its gap for good)
+// - Gaps tracked as ranges: a large jump (auto-increment step, bulk allocation) is one entry, split as it fills
+// - Single reader (the poller thread): not thread-safe
+public class iamChangeLogCursor {
+
+    // Position: highest sequence read
+    private long position;
+
+    // Gaps: first sequence -> range of missing sequences
+    private final TreeMap<Long, Gap> gaps = new TreeMap<>();
+
+    // Missing sequences (in all the gaps)
+    private long missing;
+
+    // Grace Period (milliseconds)
+    private final long graceMillis;
+
+    // Constructor
+    public iamChangeLogCursor(long position, long graceMillis) {
+        this.position = position;
+        this.graceMillis = graceMillis;
+    }
+
+    // Get Poll Milliseconds (environment setting): 0 for no polling
+    public static long getPollMillis() {
+        return iamEnvironmentUtil.getLong(iamDBConnectionInfo.ENV_CHANGELOG_POLL_MS, iamDBConnectionInfo.DEFAULT_CHANGELOG_POLL_MS);
+    }
+
+    // Get Gap Seconds (environment setting)
+    public static long getGapSeconds() {
+        return iamEnvironmentUtil.getLong(iamDBConnectionInfo.ENV_CHANGELOG_GAP_SECONDS, iamDBConnectionInfo.DEFAULT_CHANGELOG_GAP_SECONDS);
+    }
+
+    // Get Retention Seconds (environment setting)
+    public static long getRetentionSeconds() {
+        return iamEnvironmentUtil.getLong(iamDBConnectionInfo.ENV_CHANGELOG_RETENTION_SECONDS, iamDBConnectionInfo.DEFAULT_CHANGELOG_RETENTION_SECONDS);
+    }
+
+    // Get From: the sequence to read after (below the oldest gap, if any)
+    public long getFrom() {
+        return gaps.isEmpty() ? position : gaps.firstKey() - 1;
+    }
+
+    // Accept: a sequence read, true if it wasn't read before (past the position, or filling a gap)
+    public boolean accept(long seq, long now) {
+        if (seq > position) {
+            if (seq > position + 1) {
+                _add(new Gap(position + 1, seq - 1, now));
+            }
+            position = seq;
+            return true;
+        }
+        Map.Entry<Long, Gap> entry = gaps.floorEntry(seq);
+        if (entry == null || entry.getValue().to() < seq)
+            return false;
+        // Fill: the range split around the sequence, both parts as old as the range
+        Gap gap = _remove(entry.getKey());
+        if (gap.from() < seq) {
+            _add(new Gap(gap.from(), seq - 1, gap.seenAt()));
+        }
+        if (seq < gap.to()) {
+            _add(new Gap(seq + 1, gap.to(), gap.seenAt()));
+        }
+        return true;
+    }
+
+    // Expire: give up the gaps older than the grace period, returns how many sequences
+    public long expire(long now) {
+        long result = 0;
+        for (Iterator<Gap> it = gaps.values().iterator(); it.hasNext(); ) {
+            Gap gap = it.next();
+            if (now - gap.seenAt() > graceMillis) {
+                it.remove();
+                missing -= gap.size();
+                result += gap.size();
+            }
+        }
+        return result;
+    }
+
+    // Get Position: highest sequence read
+    public long getPosition() {
+        return position;
+    }
+
+    // Get Gap Count: missing sequences
+    public long getGapCount() {
+        return missing;
+    }
+
+    // Get Gap Range Count
+    public int getGapRangeCount() {
+        return gaps.size();
+    }
+
+    // Add a gap
+    private void _add(Gap gap) {
+        gaps.put(gap.from(), gap);
+        missing += gap.size();
+    }
+
+    // Remove a gap
+    private Gap _remove(long from) {
+        Gap gap = gaps.remove(from);
+        missing -= gap.size();
+        return gap;
+    }
+
+    // Gap: missing sequences from..to (inclusive), seen missing at (epoch milliseconds)
+    private record Gap(long from, long to, long seenAt) {
+        private long size() {
+            return to - from + 1;
+        }
+    }
+}
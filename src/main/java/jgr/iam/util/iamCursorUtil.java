@@ -0,0 +1,39 @@
+package jgr.iam.util;
+
+// External Objects
+import java.nio.charset.StandardCharsets; // https://docs.oracle.com/javase/8/docs/api/java/nio/charset/StandardCharsets.html
+import java.util.Base64; // https://docs.oracle.com/javase/8/docs/api/java/util/Base64.html
+
+// iam Cursor Utility: opaque keyset-pagination cursor (last returned id)
+public class iamCursorUtil {
+
+    // Cursor Prefix
+    private static final String PREFIX = "id:";
+
+    // Constructor (static utility)
+    private iamCursorUtil() {
+    }
+
+    // Encode the last returned id
+    public static String encode(int id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString((PREFIX + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Decode a cursor: 0 (first page) if null or empty, -1 if invalid
+    public static int decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return 0;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!value.startsWith(PREFIX)) {
+                return -1;
+            }
+            int id = Integer.parseInt(value.substring(PREFIX.length()));
+            return id < 0 ? -1 : id;
+        }
+        catch (IllegalArgumentException e) { // Includes NumberFormatException
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package jgr.iam.util;
+
+// External Objects
+import org.apache.logging.log4j.LogManager; // https://logging.apache.org/log4j/2.x/manual/api.html
+import org.apache.logging.log4j.Logger; // https://logging.apache.org/log4j/2.x/manual/api.html
+import java.sql.BatchUpdateException; // https://docs.oracle.com/javase/8/docs/api/java/sql/BatchUpdateException.html
+import java.sql.PreparedStatement; // https://docs.oracle.com/javase/8/docs/api/java/sql/PreparedStatement.html
+import java.sql.SQLException; // https://docs.oracle.com/javase/8/docs/api/java/sql/SQLException.html
+import java.sql.Statement; // https://docs.oracle.com/javase/8/docs/api/java/sql/Statement.html
+import java.util.ArrayList; // https://docs.oracle.com/javase/8/docs/api/java/util/ArrayList.html
+import java.util.List; // https://docs.oracle.com/javase/8/docs/api/java/util/List.html
+
+// Internal Objects
+import jgr.iam.enums.BatchRowStatus; // Batch Row Status
+
+// iamDB Batch Utility: addBatch/executeBatch in bounded chunks, with one outcome per row (input order)
+// - Rows of a chunk that the driver reports as failed (or doesn't report: it stopped before them) are re-executed
+//   one by one, so that only the offending rows end up FAILED
+// - No per-row counts (not a BatchUpdateException): the rows the driver applied are unknown, re-executing them
+//   would duplicate or misreport them; the exception is thrown, for the unit of work to roll the batch back
+public class iamDBBatchUtil {
+
+    // Logger
+    private final static Logger logger = LogManager.getLogger(iamDBBatchUtil.class.getCanonicalName());
+
+    // Maximum rows per executeBatch
+    public static final int MAX_SIZE = 1000;
+
+    // Row Binder: set the parameters of one row
+    @FunctionalInterface
+    public interface RowBinder<T> {
+        void bind(PreparedStatement statement, T row) throws SQLException;
+    }
+
+    // Constructor (static utility)
+    private iamDBBatchUtil() {
+    }
+
+    // Execute a batch
+    public static <T> List<BatchRowStatus> execute(PreparedStatement statement, List<T> rows, RowBinder<T> binder) throws SQLException {
+        List<BatchRowStatus> result = new ArrayList<>(rows.size());
+        for (int from = 0; from < rows.size(); from += MAX_SIZE) {
+            List<T> chunk = rows.subList(from, Math.min(from + MAX_SIZE, rows.size()));
+            for (T row : chunk) {
+                binder.bind(statement, row);
+                statement.addBatch();
+            }
+            int[] counts;
+            try {
+                counts = statement.executeBatch();
+            }
+            catch (SQLException e) {
+                statement.clearBatch();
+                if (!(e instanceof BatchUpdateException batchException) || batchException.getUpdateCounts() == null)
+                    throw e;
+                logger.warn("execute(" + chunk.size() + " rows): Batch failed, retrying rows individually.\n\t" + e.getClass().getCanonicalName() + ": " + e.getMessage());
+                counts = batchException.getUpdateCounts();
+            }
+            for (int i = 0; i < chunk.size(); i++) {
+                if (i < counts.length && counts[i] != Statement.EXECUTE_FAILED) {
+                    result.add(_getStatus(counts[i]));
+                }
+                else {
+                    result.add(_executeRow(statement, chunk.get(i), binder));
+                }
+            }
+        }
+        return result;
+    }
+
+    // Execute a single row
+    private static <T> BatchRowStatus _executeRow(PreparedStatement statement, T row, RowBinder<T> binder) {
+        try {
+            statement.clearParameters();
+            binder.bind(statement, row);
+            return _getStatus(statement.executeUpdate());
+        }
+        catch (SQLException e) {
+            logger.error("_executeRow(" + row + "): Exception.\n\t" + e.getClass().getCanonicalName() + ": " + e.getMessage());
+            return BatchRowStatus.FAILED;
+        }
+    }
+
+    // Status from an update count (SUCCESS_NO_INFO: applied, count unknown)
+    private static BatchRowStatus _getStatus(int count) {
+        return count == 0 ? BatchRowStatus.NOT_FOUND : BatchRowStatus.APPLIED;
+    }
+}
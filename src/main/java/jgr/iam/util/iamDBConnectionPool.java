@@ -0,0 +1,171 @@
+package jgr.iam.util;
+
+// External Objects
+import com.zaxxer.hikari.HikariDataSource; // https://github.com/brettwooldridge/HikariCP
+import com.zaxxer.hikari.metrics.IMetricsTracker; // https://github.com/brettwooldridge/HikariCP/wiki/Dropwizard-Metrics
+import com.zaxxer.hikari.metrics.PoolStats; // https://github.com/brettwooldridge/HikariCP/wiki/Dropwizard-Metrics
+import org.apache.logging.log4j.LogManager; // https://logging.apache.org/log4j/2.x/manual/api.html
+import org.apache.logging.log4j.Logger; // https://logging.apache.org/log4j/2.x/manual/api.html
+import javax.sql.DataSource; // https://docs.oracle.com/javase/8/docs/api/javax/sql/DataSource.html
+import java.sql.Connection; // https://docs.oracle.com/javase/8/docs/api/java/sql/Connection.html
+import java.sql.SQLException; // https://docs.oracle.com/javase/8/docs/api/java/sql/SQLException.html
+import java.util.ArrayList; // https://docs.oracle.com/javase/8/docs/api/java/util/ArrayList.html
+import java.util.List; // https://docs.oracle.com/javase/8/docs/api/java/util/List.html
+import java.util.Map; // https://docs.oracle.com/javase/8/docs/api/java/util/Map.html
+import java.util.concurrent.ConcurrentHashMap; // https://docs.oracle.com/javase/8/docs/api/java/util/concurrent/ConcurrentHashMap.html
+import java.util.concurrent.atomic.AtomicLong; // https://docs.oracle.com/javase/8/docs/api/java/util/concurrent/atomic/AtomicLong.html
+import java.util.concurrent.atomic.LongAdder; // https://docs.oracle.com/javase/8/docs/api/java/util/concurrent/atomic/LongAdder.html
+
+// Internal Objects
+import jgr.iam.constant.iamDBConnectionInfo; // iamDB Connection Information
+
+// iamDB Connection Pool: one process-wide pooled DataSource per (url, user)
+public class iamDBConnectionPool {
+
+    // Logger
+    private final static Logger logger = LogManager.getLogger(iamDBConnectionPool.class.getCanonicalName());
+
+    // Pools, keyed by url and user
+    private final static Map<String, HikariDataSource> pools = new ConcurrentHashMap<>();
+
+    // Wait-Time Trackers, keyed by pool name
+    private final static Map<String, Tracker> trackers = new ConcurrentHashMap<>();
+
+    // Constructor (static utility)
+    private iamDBConnectionPool() {
+    }
+
+    // Get (or lazily create) the pooled DataSource
+    public static DataSource getDataSource(String url, String username, String password) {
+        return pools.computeIfAbsent(_getKey(url, username), key -> _createDataSource(url, username, password));
+    }
+
+    // Warm-up: open minimum-idle connections so that the first requests don't pay the handshake
+    public static boolean warmUp(String url, String username, String password) {
+        HikariDataSource dataSource = (HikariDataSource) getDataSource(url, username, password);
+        List<Connection> connections = new ArrayList<>();
+        boolean result = true;
+        try {
+            for (int i = 0; i < dataSource.getMinimumIdle(); i++) {
+                connections.add(dataSource.getConnection());
+            }
+            logger.info("warmUp: " + dataSource.getPoolName() + " opened " + connections.size() + " connection(s).");
+        }
+        catch (Exception e) {
+            logger.warn("warmUp: " + dataSource.getPoolName() + " failed.\n\t" + e.getClass().getCanonicalName() + ": " + e.getMessage());
+            result = false;
+        }
+        finally {
+            for (Connection connection : connections) {
+                _release(connection);
+            }
+        }
+        return result;
+    }
+
+    // Get Statistics for all pools
+    public static List<iamDBPoolStatistics> getStatistics() {
+        List<iamDBPoolStatistics> result = new ArrayList<>();
+        for (HikariDataSource dataSource : pools.values()) {
+            // Pool not started yet: no tracker
+            Tracker tracker = trackers.getOrDefault(dataSource.getPoolName(), new Tracker(null));
+            result.add(tracker.getStatistics(dataSource.getPoolName(), dataSource.getMinimumIdle(), dataSource.getMaximumPoolSize()));
+        }
+        return result;
+    }
+
+    // Close all pools
+    public static void shutdown() {
+        for (HikariDataSource dataSource : pools.values()) {
+            logger.info("shutdown: Closing " + dataSource.getPoolName() + ".");
+            dataSource.close();
+        }
+        pools.clear();
+        trackers.clear();
+    }
+
+    // Create a pooled DataSource (started lazily, on first connection)
+    private static HikariDataSource _createDataSource(String url, String username, String password) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("iamDB-pool-" + (pools.size() + 1));
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setMinimumIdle(iamEnvironmentUtil.getInt(iamDBConnectionInfo.ENV_POOL_MIN_IDLE, iamDBConnectionInfo.DEFAULT_POOL_MIN_IDLE));
+        dataSource.setMaximumPoolSize(iamEnvironmentUtil.getInt(iamDBConnectionInfo.ENV_POOL_MAX_SIZE, iamDBConnectionInfo.DEFAULT_POOL_MAX_SIZE));
+        dataSource.setMaxLifetime(iamEnvironmentUtil.getLong(iamDBConnectionInfo.ENV_POOL_MAX_LIFETIME_MS, iamDBConnectionInfo.DEFAULT_POOL_MAX_LIFETIME_MS));
+        dataSource.setIdleTimeout(iamEnvironmentUtil.getLong(iamDBConnectionInfo.ENV_POOL_IDLE_TIMEOUT_MS, iamDBConnectionInfo.DEFAULT_POOL_IDLE_TIMEOUT_MS));
+        dataSource.setConnectionTimeout(iamEnvironmentUtil.getLong(iamDBConnectionInfo.ENV_POOL_CONNECTION_TIMEOUT_MS, iamDBConnectionInfo.DEFAULT_POOL_CONNECTION_TIMEOUT_MS));
+        // MySQL: honour the statement fetch size with server-side cursors (forward-only streaming reads)
+        if (url != null && url.startsWith("jdbc:mysql:")) {
+            dataSource.addDataSourceProperty("useCursorFetch", "true");
+            // MySQL: send addBatch/executeBatch as multi-row statements (one round trip per batch)
+            dataSource.addDataSourceProperty("rewriteBatchedStatements", "true");
+            // MySQL: keep server-side prepared statements per pooled connection (parsed once, re-executed with new parameters)
+            if (iamEnvironmentUtil.getBoolean(iamDBConnectionInfo.ENV_STMT_CACHE_ENABLED, iamDBConnectionInfo.DEFAULT_STMT_CACHE_ENABLED)) {
+                dataSource.addDataSourceProperty("useServerPrepStmts", "true");
+                dataSource.addDataSourceProperty("cachePrepStmts", "true");
+                dataSource.addDataSourceProperty("prepStmtCacheSize", String.valueOf(iamEnvironmentUtil.getInt(iamDBConnectionInfo.ENV_STMT_CACHE_SIZE, iamDBConnectionInfo.DEFAULT_STMT_CACHE_SIZE)));
+                dataSource.addDataSourceProperty("prepStmtCacheSqlLimit", String.valueOf(iamDBConnectionInfo.DEFAULT_STMT_CACHE_SQL_LIMIT));
+            }
+        }
+        // Don't fail on start-up if the database isn't reachable yet: callers get a timeout instead
+        dataSource.setInitializationFailTimeout(-1);
+        dataSource.setMetricsTrackerFactory((poolName, poolStats) -> trackers.computeIfAbsent(poolName, name -> new Tracker(poolStats)));
+        logger.info("_createDataSource: " + dataSource.getPoolName() + " [" + url + ", " + username + "]: minIdle=" + dataSource.getMinimumIdle() + ", maxSize=" + dataSource.getMaximumPoolSize() + ".");
+        return dataSource;
+    }
+
+    // Return a connection to its pool
+    private static void _release(Connection connection) {
+        try {
+            connection.close();
+        }
+        catch (SQLException e) {
+            logger.error("_release: Exception.\n\t" + e.getClass().getCanonicalName() + ": " + e.getMessage());
+        }
+    }
+
+    // Pool Key
+    private static String _getKey(String url, String username) {
+        return url + "|" + username;
+    }
+
+    // Wait-Time Tracker (called by the pool on every borrow/return)
+    static class Tracker implements IMetricsTracker {
+        private final PoolStats poolStats;
+        private final LongAdder acquiredCount = new LongAdder();
+        private final LongAdder acquiredNanos = new LongAdder();
+        private final AtomicLong acquiredMaxNanos = new AtomicLong();
+        private final LongAdder timeoutCount = new LongAdder();
+        private final LongAdder usageMillis = new LongAdder();
+
+        Tracker(PoolStats poolStats) {
+            this.poolStats = poolStats;
+        }
+
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            acquiredCount.increment();
+            acquiredNanos.add(elapsedAcquiredNanos);
+            acquiredMaxNanos.accumulateAndGet(elapsedAcquiredNanos, Math::max);
+        }
+
+        @Override
+        public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+            usageMillis.add(elapsedBorrowedMillis);
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            timeoutCount.increment();
+        }
+
+        // Statistics snapshot
+        iamDBPoolStatistics getStatistics(String poolName, int minIdle, int maxSize) {
+            return new iamDBPoolStatistics(poolName, minIdle, maxSize, poolStats,
+                                           acquiredCount.sum(), acquiredNanos.sum(), acquiredMaxNanos.get(),
+                                           timeoutCount.sum(), usageMillis.sum());
+        }
+    }
+}
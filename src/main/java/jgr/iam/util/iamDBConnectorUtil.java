@@ -8,42 +8,83 @@ import lombok.Setter; // https://projectlombok.org/features/GetterSetter
 import org.apache.logging.log4j.LogManager; // https://logging.apache.org/log4j/2.x/manual/api.html
 import org.apache.logging.log4j.Logger; // https://logging.apache.org/log4j/2.x/manual/api.html
 import javax.sql.DataSource;
-import com.mysql.cj.jdbc.MysqlDataSource;
 
 // Internal Objects
 import jgr.iam.constant.iamDBConnectionInfo; // iamDB Connection Information
 
 // iamDB Connector
+// - Thread-safe: one shared instance, the connection being bound to the calling (request) thread
 public class iamDBConnectorUtil {
 
     // Logger
     private final static Logger logger = LogManager.getLogger(iamDBConnectorUtil.class.getCanonicalName());
 
     // DataSource
+    @Getter
     @Setter
-    private DataSource dataSource;
+    private volatile DataSource dataSource;
 
-    // Connection
+    // Replica DataSource (optional, read-only traffic)
     @Getter
     @Setter
-    private Connection connection;
+    private volatile DataSource replicaDataSource;
+
+    // Connection (bound to the current thread), with its nesting depth
+    private final ThreadLocal<Binding> binding = new ThreadLocal<>();
+
+    // Get Connection of the current thread
+    public Connection getConnection() {
+        Binding current = binding.get();
+        return current == null ? null : current.connection;
+    }
 
-    // Connect and open session with the database
+    // Set Connection of the current thread
+    public void setConnection(Connection connection) {
+        if (connection == null) {
+            this.binding.remove();
+        }
+        else {
+            this.binding.set(new Binding(connection));
+        }
+    }
+
+    // Set the (process-wide) pooled DataSource
     public void setDataSource(String url, String username, String password) throws SQLException {
-        MysqlDataSource mysqlDS = new MysqlDataSource();
-        mysqlDS.setURL(url);
-        mysqlDS.setUser(username);
-        mysqlDS.setPassword(password);
-        dataSource = mysqlDS;
+        dataSource = iamDBConnectionPool.getDataSource(url, username, password);
+    }
+
+    // Set the (process-wide) pooled Replica DataSource
+    public void setReplicaDataSource(String url, String username, String password) throws SQLException {
+        replicaDataSource = iamDBConnectionPool.getDataSource(url, username, password);
     }
 
-    // Connect and open session with the database
+    // Connect: borrow a connection from the pool
+    // - Reentrant: while a unit of work holds the thread's connection, nested connect() calls reuse it
     public void connect() throws SQLException {
+        _connect(dataSource);
+    }
+
+    // Connect to the replica (primary if there's none)
+    public void connectReplica() throws SQLException {
+        _connect(replicaDataSource != null ? replicaDataSource : dataSource);
+    }
+
+    // Connect to the given DataSource
+    private void _connect(DataSource dataSource) throws SQLException {
+        Binding current = binding.get();
+        if (current != null && current.depth > 0) {
+            current.depth++;
+            logger.debug("connect: Reusing the connection (depth " + current.depth + ").");
+            return;
+        }
         if(dataSource != null) {
             try {
                 // Establish the connection
                 logger.debug("connect: About to dataSource.getConnection().");
-                connection = dataSource.getConnection();
+                Binding borrowed = new Binding(dataSource.getConnection());
+                borrowed.depth = 1;
+                borrowed.replica = dataSource != this.dataSource;
+                binding.set(borrowed);
                 logger.debug("connect: Connected to the database.");
             } catch (SQLException e) {
                 logger.error("connect: Failed to connect to the database.\n\t" + e.getClass().getCanonicalName() + ": " + e.getMessage());
@@ -55,8 +96,14 @@ public class iamDBConnectorUtil {
         }
     }
 
-    // Close database session
+    // Close database session: return the connection to the pool (once the outermost connect() is closed)
     public void close() {
+        Binding current = binding.get();
+        if (current != null && current.depth > 1) {
+            current.depth--;
+            return;
+        }
+        Connection connection = getConnection();
         try {
             if (connection != null && !connection.isClosed()) {
                 connection.close();
@@ -66,10 +113,43 @@ public class iamDBConnectorUtil {
         catch (SQLException e) {
             logger.error("close: Something went wrong.");
         }
+        finally {
+            setConnection(null);
+        }
+    }
+
+    // Begin a transaction on the current connection
+    public void begin(int isolation) throws SQLException {
+        Connection connection = _getOpenedConnection("begin");
+        connection.setTransactionIsolation(isolation);
+        connection.setAutoCommit(false);
+    }
+
+    // Commit the current transaction
+    public void commit() throws SQLException {
+        Connection connection = _getOpenedConnection("commit");
+        connection.commit();
+        connection.setAutoCommit(true);
+    }
+
+    // Roll back the current transaction
+    public void rollback() throws SQLException {
+        Connection connection = _getOpenedConnection("rollback");
+        connection.rollback();
+        connection.setAutoCommit(true);
+    }
+
+    // Get the current connection, if opened
+    private Connection _getOpenedConnection(String method) throws SQLException {
+        if (!isOpened()) {
+            throw new SQLException(method + ": No Connection.");
+        }
+        return getConnection();
     }
 
     // Is Connection Opened
     public boolean isOpened() {
+        Connection connection = getConnection();
         if (connection != null) {
             try {
                 return !connection.isClosed();
@@ -137,8 +217,43 @@ public class iamDBConnectorUtil {
         return result;
     }
 
+    // Get Replica Connection URL (null: no replica)
+    public String getReplicaConnectionURL()
+    {
+        String result = null;
+        try {
+            result = getEnvironmentVariable(iamDBConnectionInfo.ENV_DB_REPLICA_URL);
+            if (result != null && result.isBlank()) {
+                result = null;
+            }
+        }
+        catch(Exception e)
+        {
+            logger.error("getReplicaConnectionURL: Failed get Environment Variable.\n\t" + e.getClass().getCanonicalName() + ": " + e.getMessage());
+        }
+        logger.debug("getReplicaConnectionURL: (" + result + ").");
+        return result;
+    }
+
     // Get Environment Variable
     public String getEnvironmentVariable(String envVariable) {
         return System.getenv(envVariable);
     }
+
+    // Is the current thread's connection borrowed from the replica
+    public boolean isReplicaConnected() {
+        Binding current = binding.get();
+        return current != null && current.replica;
+    }
+
+    // Thread Binding: connection, nesting depth (0: bound without connect(), closed by the first close()) and source
+    private static class Binding {
+        private final Connection connection;
+        private int depth;
+        private boolean replica;
+
+        private Binding(Connection connection) {
+            this.connection = connection;
+        }
+    }
 }
@@ -0,0 +1,43 @@
+package jgr.iam.util;
+
+// External Objects
+import java.sql.PreparedStatement; // https://docs.oracle.com/javase/8/docs/api/java/sql/PreparedStatement.html
+import java.sql.ResultSet; // https://docs.oracle.com/javase/8/docs/api/java/sql/ResultSet.html
+import java.sql.SQLException; // https://docs.oracle.com/javase/8/docs/api/java/sql/SQLException.html
+
+// iamDB Cursor: forward-only, read-only result set, read one row at a time (fetch size rows per round trip)
+public class iamDBCursor<T> implements AutoCloseable {
+
+    // Row Mapper
+    @FunctionalInterface
+    public interface RowMapper<T> {
+        T map(ResultSet resultSet) throws SQLException;
+    }
+
+    private final PreparedStatement statement;
+    private final ResultSet resultSet;
+    private final RowMapper<T> mapper;
+
+    // Constructor: executes the (bound) statement
+    public iamDBCursor(PreparedStatement statement, RowMapper<T> mapper) throws SQLException {
+        this.statement = statement;
+        this.mapper = mapper;
+        this.resultSet = statement.executeQuery();
+    }
+
+    // Next row, or null at the end
+    public T next() throws SQLException {
+        return resultSet.next() ? mapper.map(resultSet) : null;
+    }
+
+    // Close result set and statement
+    @Override
+    public void close() throws SQLException {
+        try {
+            resultSet.close();
+        }
+        finally {
+            statement.close();
+        }
+    }
+}
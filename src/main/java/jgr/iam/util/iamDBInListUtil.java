@@ -0,0 +1,40 @@
+package jgr.iam.util;
+
+// External Objects
+import java.util.ArrayList; // https://docs.oracle.com/javase/8/docs/api/java/util/ArrayList.html
+import java.util.Collection; // https://docs.oracle.com/javase/8/docs/api/java/util/Collection.html
+import java.util.LinkedHashSet; // https://docs.oracle.com/javase/8/docs/api/java/util/LinkedHashSet.html
+import java.util.List; // https://docs.oracle.com/javase/8/docs/api/java/util/List.html
+import java.util.StringJoiner; // https://docs.oracle.com/javase/8/docs/api/java/util/StringJoiner.html
+
+// iamDB IN-list Utility: split id sets into bounded "IN (?, ?, ...)" batches
+public class iamDBInListUtil {
+
+    // Maximum number of ids bound in a single IN-list
+    public static final int MAX_SIZE = 1000;
+
+    // Constructor (static utility)
+    private iamDBInListUtil() {
+    }
+
+    // Get Chunks of (distinct) ids, each at most MAX_SIZE long
+    public static List<List<Integer>> getChunks(Collection<Integer> ids) {
+        List<List<Integer>> result = new ArrayList<>();
+        if (ids != null) {
+            List<Integer> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+            for (int i = 0; i < distinctIds.size(); i += MAX_SIZE) {
+                result.add(distinctIds.subList(i, Math.min(i + MAX_SIZE, distinctIds.size())));
+            }
+        }
+        return result;
+    }
+
+    // Get Placeholders: "?, ?, ..., ?"
+    public static String getPlaceholders(int count) {
+        StringJoiner result = new StringJoiner(", ");
+        for (int i = 0; i < count; i++) {
+            result.add("?");
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,98 @@
+package jgr.iam.util;
+
+// External Objects
+import java.sql.Connection; // https://docs.oracle.com/javase/8/docs/api/java/sql/Connection.html
+import java.sql.DatabaseMetaData; // https://docs.oracle.com/javase/8/docs/api/java/sql/DatabaseMetaData.html
+import java.sql.ResultSet; // https://docs.oracle.com/javase/8/docs/api/java/sql/ResultSet.html
+import java.sql.SQLException; // https://docs.oracle.com/javase/8/docs/api/java/sql/SQLException.html
+import java.util.ArrayList; // https://docs.oracle.com/javase/8/docs/api/java/util/ArrayList.html
+import java.util.List; // https://docs.oracle.com/javase/8/docs/api/java/util/List.html
+import java.util.Map; // https://docs.oracle.com/javase/8/docs/api/java/util/Map.html
+import java.util.TreeMap; // https://docs.oracle.com/javase/8/docs/api/java/util/TreeMap.html
+
+// Internal Objects
+import jgr.iam.constant.iamDBMetadataTable; // iamDB Metadata Tables
+
+// iamDB Index Verifier: the indexes the hot-path queries rely on (V2__hot_path_indexes.sql)
+// - A requirement is met by any index (or primary/unique key) whose leading columns are the required ones
+// - Read through DatabaseMetaData.getIndexInfo: table names are tried as written, then lower and upper case
+public class iamDBIndexVerifier {
+
+    // Index Requirement: table and leading columns
+    public record Requirement(String table, List<String> columns) {
+        @Override
+        public String toString() {
+            return table + "(" + String.join(", ", columns) + ")";
+        }
+    }
+
+    // Hot-path Requirements
+    public static final List<Requirement> REQUIREMENTS = List.of(
+            new Requirement("Role_Permission", List.of("permissionId", "archived")),
+            new Requirement("User_Role", List.of("userId", "archived")),
+            new Requirement("Feature", List.of("applicationId", "archived")),
+            new Requirement("Role", List.of("featureId", "archived")),
+            new Requirement(iamDBMetadataTable.USER, List.of("refid", "archived")),
+            new Requirement(iamDBMetadataTable.UG, List.of("refid", "archived")),
+            new Requirement(iamDBMetadataTable.APP, List.of("refid", "archived")),
+            new Requirement(iamDBMetadataTable.FEAT, List.of("refid", "archived")),
+            new Requirement(iamDBMetadataTable.ROLE, List.of("refid", "archived")),
+            new Requirement(iamDBMetadataTable.PERM, List.of("refid", "archived")));
+
+    // Constructor (static utility)
+    private iamDBIndexVerifier() {
+    }
+
+    // Verify: returns the hot-path requirements no index meets (empty: all met)
+    public static List<Requirement> verify(Connection connection) throws SQLException {
+        return verify(connection, REQUIREMENTS);
+    }
+
+    // Verify: returns the requirements no index meets (empty: all met)
+    public static List<Requirement> verify(Connection connection, List<Requirement> requirements) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        List<Requirement> result = new ArrayList<>();
+        for (Requirement requirement : requirements) {
+            if (!_isMet(_getIndexes(metaData, connection.getCatalog(), requirement.table()), requirement.columns()))
+                result.add(requirement);
+        }
+        return result;
+    }
+
+    // Is Met: some index leads with the required columns
+    private static boolean _isMet(Map<String, List<String>> indexes, List<String> columns) {
+        for (List<String> indexColumns : indexes.values()) {
+            if (indexColumns.size() < columns.size())
+                continue;
+            boolean met = true;
+            for (int i = 0; i < columns.size() && met; i++) {
+                met = columns.get(i).equalsIgnoreCase(indexColumns.get(i));
+            }
+            if (met)
+                return true;
+        }
+        return false;
+    }
+
+    // Get Indexes of a table: index name -> columns, in key order
+    private static Map<String, List<String>> _getIndexes(DatabaseMetaData metaData, String catalog, String table) throws SQLException {
+        for (String name : new String[] { table, table.toLowerCase(), table.toUpperCase() }) {
+            Map<String, List<String>> result = new TreeMap<>();
+            Map<String, Map<Short, String>> positions = new TreeMap<>();
+            try (ResultSet resultSet = metaData.getIndexInfo(catalog, null, name, false, false)) {
+                while (resultSet.next()) {
+                    String index = resultSet.getString("INDEX_NAME");
+                    String column = resultSet.getString("COLUMN_NAME");
+                    if (index == null || column == null)
+                        continue;
+                    positions.computeIfAbsent(index, k -> new TreeMap<>()).put(resultSet.getShort("ORDINAL_POSITION"), column);
+                }
+            }
+            if (!positions.isEmpty()) {
+                positions.forEach((index, columns) -> result.put(index, new ArrayList<>(columns.values())));
+                return result;
+            }
+        }
+        return Map.of();
+    }
+}
@@ -0,0 +1,240 @@
+package jgr.iam.util;
+
+// External Objects
+import org.apache.logging.log4j.LogManager; // https://logging.apache.org/log4j/2.x/manual/api.html
+import org.apache.logging.log4j.Logger; // https://logging.apache.org/log4j/2.x/manual/api.html
+import org.springframework.core.io.Resource; // https://docs.spring.io/spring-framework/docs/current/javadoc-api/org/springframework/core/io/Resource.html
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver; // https://docs.spring.io/spring-framework/docs/current/javadoc-api/org/springframework/core/io/support/PathMatchingResourcePatternResolver.html
+import java.io.IOException; // https://docs.oracle.com/javase/8/docs/api/java/io/IOException.html
+import java.nio.charset.StandardCharsets; // https://docs.oracle.com/javase/8/docs/api/java/nio/charset/StandardCharsets.html
+import java.sql.Connection; // https://docs.oracle.com/javase/8/docs/api/java/sql/Connection.html
+import java.sql.PreparedStatement; // https://docs.oracle.com/javase/8/docs/api/java/sql/PreparedStatement.html
+import java.sql.ResultSet; // https://docs.oracle.com/javase/8/docs/api/java/sql/ResultSet.html
+import java.sql.SQLException; // https://docs.oracle.com/javase/8/docs/api/java/sql/SQLException.html
+import java.sql.Statement; // https://docs.oracle.com/javase/8/docs/api/java/sql/Statement.html
+import java.util.ArrayList; // https://docs.oracle.com/javase/8/docs/api/java/util/ArrayList.html
+import java.util.Comparator; // https://docs.oracle.com/javase/8/docs/api/java/util/Comparator.html
+import java.util.List; // https://docs.oracle.com/javase/8/docs/api/java/util/List.html
+import java.util.Locale; // https://docs.oracle.com/javase/8/docs/api/java/util/Locale.html
+import java.util.Map; // https://docs.oracle.com/javase/8/docs/api/java/util/Map.html
+import java.util.TreeMap; // https://docs.oracle.com/javase/8/docs/api/java/util/TreeMap.html
+import java.util.concurrent.locks.ReentrantLock; // https://docs.oracle.com/javase/8/docs/api/java/util/concurrent/locks/ReentrantLock.html
+import java.util.regex.Matcher; // https://docs.oracle.com/javase/8/docs/api/java/util/regex/Matcher.html
+import java.util.regex.Pattern; // https://docs.oracle.com/javase/8/docs/api/java/util/regex/Pattern.html
+
+// Internal Objects
+import jgr.iam.constant.iamDBConnectionInfo; // iamDB Connection Information
+
+// iamDB Migration Utility: versioned schema migrations (classpath:db/migration/V<version>__<description>.sql)
+// - Vendor migrations (classpath:db/migration/<vendor>/, vendor: mysql, h2) replace the shared one of the same version
+// - Applied in version order, each once: the iamSchemaVersion table records the applied versions
+// - A migration is a list of ';'-terminated statements ('--' comment lines are skipped)
+// - MySQL commits DDL implicitly: a failed migration stops the run, is not recorded, and its statements must be
+//   safe to replay (IF NOT EXISTS; an index that already exists counts as created) or be fixed by hand before the
+//   next start
+// - Serialized: nodes starting together on the same iamDB migrate one at a time (MySQL named lock, held by the
+//   session), each reading the version once it holds the lock
+public class iamDBMigrationUtil {
+
+    // Logger
+    private final static Logger logger = LogManager.getLogger(iamDBMigrationUtil.class.getCanonicalName());
+
+    // Version Table
+    private final static String SQL_CREATE_VERSION_TABLE = "CREATE TABLE IF NOT EXISTS iamSchemaVersion (" +
+            "version INT NOT NULL PRIMARY KEY, description VARCHAR(255) NOT NULL, appliedAt TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP)";
+    private final static String SQL_GET_VERSION = "SELECT MAX(version) as total FROM iamSchemaVersion";
+    private final static String SQL_INSERT_VERSION = "INSERT INTO iamSchemaVersion (version, description) VALUES (?, ?)";
+
+    // Migration Lock (MySQL named lock, and this process)
+    public final static String LOCK_NAME = "iamDB.migration";
+    public final static int LOCK_TIMEOUT_SECONDS = 300;
+    private final static String SQL_GET_LOCK = "SELECT GET_LOCK(?, ?)";
+    private final static String SQL_RELEASE_LOCK = "SELECT RELEASE_LOCK(?)";
+    private final static ReentrantLock lock = new ReentrantLock();
+
+    // Index already exists (MySQL error code, H2 SQL state)
+    private final static int MYSQL_DUP_KEYNAME = 1061;
+    private final static String H2_INDEX_ALREADY_EXISTS = "42S11";
+
+    // Migration file name: V<version>__<description>.sql
+    private final static Pattern MIGRATION_NAME = Pattern.compile("V(\\d+)__(.+)\\.sql");
+
+    // Migration
+    public record Migration(int version, String description, Resource resource) {}
+
+    // Constructor (static utility)
+    private iamDBMigrationUtil() {
+    }
+
+    // Migrate: apply the pending migrations of the iamDB's vendor, returns how many were applied
+    public static int migrate(iamDBConnectorUtil connector) throws SQLException {
+        return _migrate(connector, null);
+    }
+
+    // Migrate: apply the pending migrations of the list (sorted by version), returns how many were applied
+    public static int migrate(iamDBConnectorUtil connector, List<Migration> migrations) throws SQLException {
+        return _migrate(connector, migrations);
+    }
+
+    // Get the vendor of a connection (mysql, h2), the name of its migration location
+    public static String getVendor(Connection connection) throws SQLException {
+        return connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT);
+    }
+
+    // Get the current schema version (0: none applied)
+    public static int getVersion(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery(SQL_GET_VERSION)) {
+            return resultSet.next() ? resultSet.getInt("total") : 0;
+        }
+    }
+
+    // Get the migrations of a vendor: the shared ones, each replaced by the vendor's of the same version, sorted by version
+    public static List<Migration> getVendorMigrations(String vendor) {
+        Map<Integer, Migration> result = new TreeMap<>();
+        for (Migration migration : getMigrations(iamDBConnectionInfo.MIGRATION_LOCATION))
+            result.put(migration.version(), migration);
+        for (Migration migration : getMigrations(String.format(iamDBConnectionInfo.MIGRATION_VENDOR_LOCATION, vendor)))
+            result.put(migration.version(), migration);
+        return new ArrayList<>(result.values());
+    }
+
+    // Get the migrations at a location, sorted by version
+    public static List<Migration> getMigrations(String location) {
+        List<Migration> result = new ArrayList<>();
+        try {
+            for (Resource resource : new PathMatchingResourcePatternResolver().getResources(location)) {
+                Matcher matcher = MIGRATION_NAME.matcher(resource.getFilename() == null ? "" : resource.getFilename());
+                if (matcher.matches()) {
+                    result.add(new Migration(Integer.parseInt(matcher.group(1)), matcher.group(2).replace('_', ' '), resource));
+                }
+            }
+        }
+        catch (IOException e) {
+            logger.error("getMigrations(" + location + "): Exception.\n\t" + e.getClass().getCanonicalName() + ": " + e.getMessage());
+        }
+        result.sort(Comparator.comparingInt(Migration::version));
+        return result;
+    }
+
+    // Get the statements of a script
+    public static List<String> getStatements(String script) {
+        List<String> result = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (String line : script.split("\\R")) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("--"))
+                continue;
+            current.append(current.isEmpty() ? "" : "\n").append(line);
+            if (trimmed.endsWith(";")) {
+                result.add(current.substring(0, current.lastIndexOf(";")).trim());
+                current.setLength(0);
+            }
+        }
+        if (!current.toString().isBlank())
+            result.add(current.toString().trim());
+        return result;
+    }
+
+    // Migrate (migrations: null for the iamDB's vendor ones)
+    private static int _migrate(iamDBConnectorUtil connector, List<Migration> migrations) throws SQLException {
+        lock.lock();
+        boolean locked = false;
+        try {
+            connector.connect();
+            Connection connection = connector.getConnection();
+            if (migrations == null)
+                migrations = getVendorMigrations(getVendor(connection));
+            locked = _lock(connection);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(SQL_CREATE_VERSION_TABLE);
+            }
+            int current = getVersion(connection);
+            int applied = 0;
+            for (Migration migration : migrations) {
+                if (migration.version() <= current)
+                    continue;
+                long start = System.nanoTime();
+                _apply(connection, migration);
+                applied++;
+                logger.info("migrate: V" + migration.version() + " (" + migration.description() + ") applied in " + (System.nanoTime() - start) / 1000000 + " ms.");
+            }
+            logger.info("migrate: iamDB at version " + Math.max(current, migrations.isEmpty() ? 0 : migrations.get(migrations.size() - 1).version()) + " (" + applied + " migration(s) applied).");
+            return applied;
+        }
+        finally {
+            if (locked) {
+                _unlock(connector.getConnection());
+            }
+            connector.close();
+            lock.unlock();
+        }
+    }
+
+    // Lock the migration (MySQL: named lock, waiting for another node's run; other databases: none), true if held
+    private static boolean _lock(Connection connection) throws SQLException {
+        if (!"MySQL".equals(connection.getMetaData().getDatabaseProductName()))
+            return false;
+        try (PreparedStatement statement = connection.prepareStatement(SQL_GET_LOCK)) {
+            statement.setString(1, LOCK_NAME);
+            statement.setInt(2, LOCK_TIMEOUT_SECONDS);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (!resultSet.next() || resultSet.getInt(1) != 1)
+                    throw new SQLException("_lock: Migration lock not acquired in " + LOCK_TIMEOUT_SECONDS + " s.");
+            }
+        }
+        return true;
+    }
+
+    // Unlock the migration (a failure is logged: the lock goes with the session anyway)
+    private static void _unlock(Connection connection) {
+        try (PreparedStatement statement = connection.prepareStatement(SQL_RELEASE_LOCK)) {
+            statement.setString(1, LOCK_NAME);
+            statement.executeQuery().close();
+        }
+        catch (SQLException e) {
+            logger.error("_unlock: Exception.\n\t" + e.getClass().getCanonicalName() + ": " + e.getMessage());
+        }
+    }
+
+    // Execute a statement (an index that already exists counts as created: replayed after a partial run)
+    private static void _execute(Statement statement, String sql) throws SQLException {
+        try {
+            statement.execute(sql);
+        }
+        catch (SQLException e) {
+            if (e.getErrorCode() != MYSQL_DUP_KEYNAME && !H2_INDEX_ALREADY_EXISTS.equals(e.getSQLState()))
+                throw e;
+            logger.info("_execute: Index already exists, skipped.\n\t" + sql);
+        }
+    }
+
+    // Apply a migration, then record it (one transaction where the database allows DDL in one)
+    private static void _apply(Connection connection, Migration migration) throws SQLException {
+        String script;
+        try {
+            script = migration.resource().getContentAsString(StandardCharsets.UTF_8);
+        }
+        catch (IOException e) {
+            throw new SQLException("_apply: Can't read V" + migration.version() + ".", e);
+        }
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement(); PreparedStatement insert = connection.prepareStatement(SQL_INSERT_VERSION)) {
+            for (String sql : getStatements(script)) {
+                _execute(statement, sql);
+            }
+            insert.setInt(1, migration.version());
+            insert.setString(2, migration.description());
+            insert.executeUpdate();
+            connection.commit();
+        }
+        catch (SQLException e) {
+            connection.rollback();
+            logger.error("_apply: V" + migration.version() + " (" + migration.description() + ") failed.\n\t" + e.getClass().getCanonicalName() + ": " + e.getMessage());
+            throw e;
+        }
+        finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+}
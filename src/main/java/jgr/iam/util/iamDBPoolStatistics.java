@@ -0,0 +1,45 @@
+package jgr.iam.util;
+
+// External Objects
+import com.zaxxer.hikari.metrics.PoolStats; // https://github.com/brettwooldridge/HikariCP/wiki/Dropwizard-Metrics
+import lombok.Getter; // https://projectlombok.org/features/GetterSetter
+
+// iamDB Connection Pool Statistics (snapshot)
+@Getter
+public class iamDBPoolStatistics {
+    // Pool Configuration
+    private String poolName;
+    private int minIdle;
+    private int maxSize;
+    // Pool State
+    private int total;
+    private int active;
+    private int idle;
+    private int pending;
+    // Wait-Time Statistics
+    private long acquiredCount;
+    private double averageWaitMs;
+    private double maxWaitMs;
+    private long timeoutCount;
+    private double averageUsageMs;
+
+    // Constructor
+    public iamDBPoolStatistics(String poolName, int minIdle, int maxSize, PoolStats poolStats,
+                               long acquiredCount, long acquiredNanos, long acquiredMaxNanos,
+                               long timeoutCount, long usageMillis) {
+        this.poolName = poolName;
+        this.minIdle = minIdle;
+        this.maxSize = maxSize;
+        if (poolStats != null) {
+            this.total = poolStats.getTotalConnections();
+            this.active = poolStats.getActiveConnections();
+            this.idle = poolStats.getIdleConnections();
+            this.pending = poolStats.getPendingThreads();
+        }
+        this.acquiredCount = acquiredCount;
+        this.averageWaitMs = acquiredCount == 0 ? 0 : (acquiredNanos / (double) acquiredCount) / 1_000_000;
+        this.maxWaitMs = acquiredMaxNanos / 1_000_000.0;
+        this.timeoutCount = timeoutCount;
+        this.averageUsageMs = acquiredCount == 0 ? 0 : usageMillis / (double) acquiredCount;
+    }
+}
@@ -0,0 +1,78 @@
+package jgr.iam.util;
+
+// External Objects
+import com.github.benmanes.caffeine.cache.Cache; // https://www.javadoc.io/doc/com.github.ben-manes.caffeine/caffeine/latest/com.github.benmanes.caffeine/com/github/benmanes/caffeine/cache/Cache.html
+import com.github.benmanes.caffeine.cache.Caffeine; // https://www.javadoc.io/doc/com.github.ben-manes.caffeine/caffeine/latest/com.github.benmanes.caffeine/com/github/benmanes/caffeine/cache/Caffeine.html
+import java.util.concurrent.TimeUnit; // https://docs.oracle.com/javase/8/docs/api/java/util/concurrent/TimeUnit.html
+
+// Internal Objects
+import jgr.iam.constant.iamDBConnectionInfo; // iamDB Connection Information
+
+// iamDB Routing Utility: read/write intent of the current request, and read-your-writes fences per client
+// - A read may go to the replica, unless its client wrote less than the fence window ago
+// - Fences keyed by a client-supplied header: bounded (MAX_FENCES clients) and expiring with the window, so that
+//   random client ids can't grow the heap
+public class iamDBRoutingUtil {
+
+    // Route of the current request (none: primary)
+    private final static ThreadLocal<Route> route = new ThreadLocal<>();
+
+    // Most clients fenced at once
+    public static final long MAX_FENCES = 100000;
+
+    // Fence Window
+    private final static long fenceNanos = TimeUnit.MILLISECONDS.toNanos(iamEnvironmentUtil.getLong(iamDBConnectionInfo.ENV_READ_FENCE_MS, iamDBConnectionInfo.DEFAULT_READ_FENCE_MS));
+
+    // Fences: clients that wrote within the window
+    private final static Cache<String, Boolean> fences = Caffeine.newBuilder().maximumSize(MAX_FENCES).expireAfterWrite(fenceNanos, TimeUnit.NANOSECONDS).build();
+
+    // Constructor (static utility)
+    private iamDBRoutingUtil() {
+    }
+
+    // Begin a request
+    public static void begin(String client, boolean readOnly) {
+        route.set(new Route(client, readOnly));
+    }
+
+    // End the request
+    public static void end() {
+        route.remove();
+    }
+
+    // Can the current request read from the replica
+    public static boolean isReplicaRead() {
+        Route current = route.get();
+        return current != null && current.readOnly && !isFenced(current.client);
+    }
+
+    // Fence the current client's reads to the primary (from now, for the fence window)
+    public static void fence() {
+        Route current = route.get();
+        if (current != null && current.client != null) {
+            fences.put(current.client, true);
+        }
+    }
+
+    // Is the client fenced
+    public static boolean isFenced(String client) {
+        return client != null && fences.getIfPresent(client) != null;
+    }
+
+    // Get the count of Fences (pending evictions and expirations swept first)
+    public static long getFenceCount() {
+        fences.cleanUp();
+        return fences.estimatedSize();
+    }
+
+    // Route: client and read/write intent
+    private static class Route {
+        private final String client;
+        private final boolean readOnly;
+
+        private Route(String client, boolean readOnly) {
+            this.client = client;
+            this.readOnly = readOnly;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package jgr.iam.util;
+
+// External Objects
+import java.util.Map; // https://docs.oracle.com/javase/8/docs/api/java/util/Map.html
+import java.util.concurrent.ConcurrentHashMap; // https://docs.oracle.com/javase/8/docs/api/java/util/concurrent/ConcurrentHashMap.html
+
+// iamDB SQL Registry: SQL of the table-parameterised statements, resolved once per table
+// - Identical SQL text is what lets the driver's statement cache reuse the server-side prepared statement
+public class iamDBSqlRegistry {
+
+    // Metadata Statements (<TABLE>Metadata)
+    public static final String METADATA_INSERT = "INSERT INTO %s (refid, name, value) VALUES (?, ?, ?)";
+    public static final String METADATA_GET = "SELECT * FROM %s WHERE refid = ? and name = ?";
+    public static final String METADATA_UPDATE_VALUE = "UPDATE %s SET value = ? WHERE refid = ? AND name = ?";
+    public static final String METADATA_UPDATE_ARCHIVED = "UPDATE %s SET archived = ? WHERE refid = ? AND name = ?";
+    public static final String METADATA_DELETE = "DELETE FROM %s WHERE refid = ? AND name = ?";
+    public static final String METADATA_GET_ALL = "SELECT * FROM %s WHERE refid = ? AND archived = ?";
+    public static final String METADATA_GET_ALL_IN = "SELECT * FROM %s WHERE archived = FALSE AND refid IN ";
+    public static final String METADATA_GET_ALL_COUNT = "SELECT COUNT(name) as total FROM %s WHERE refid = ? AND archived = FALSE";
+    public static final String METADATA_GET_ALL_ARCHIVED = "SELECT * FROM %s WHERE archived = true";
+
+    // Registry: table -> (template -> SQL)
+    private static final Map<String, Map<String, String>> registry = new ConcurrentHashMap<>();
+
+    // Constructor (static utility)
+    private iamDBSqlRegistry() {
+    }
+
+    // Get the SQL of a template for a table (formatted on first use only)
+    public static String get(String template, String table) {
+        return registry.computeIfAbsent(table, key -> new ConcurrentHashMap<>())
+                       .computeIfAbsent(template, key -> String.format(template, table));
+    }
+}
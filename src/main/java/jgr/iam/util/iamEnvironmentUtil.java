@@ -0,0 +1,46 @@
+package jgr.iam.util;
+
+// External Objects
+import org.apache.logging.log4j.LogManager; // https://logging.apache.org/log4j/2.x/manual/api.html
+import org.apache.logging.log4j.Logger; // https://logging.apache.org/log4j/2.x/manual/api.html
+
+// iamDB Environment Utility: settings read from environment variables, the default when unset or malformed
+public class iamEnvironmentUtil {
+
+    // Logger
+    private final static Logger logger = LogManager.getLogger(iamEnvironmentUtil.class.getCanonicalName());
+
+    // Constructor (static utility)
+    private iamEnvironmentUtil() {
+    }
+
+    // Get Integer Environment Variable (or default)
+    public static int getInt(String envVariable, int defaultValue) {
+        try {
+            String value = System.getenv(envVariable);
+            return value == null ? defaultValue : Integer.parseInt(value.trim());
+        }
+        catch (Exception e) {
+            logger.error("getInt(" + envVariable + "): Exception.\n\t" + e.getClass().getCanonicalName() + ": " + e.getMessage());
+            return defaultValue;
+        }
+    }
+
+    // Get Long Environment Variable (or default)
+    public static long getLong(String envVariable, long defaultValue) {
+        try {
+            String value = System.getenv(envVariable);
+            return value == null ? defaultValue : Long.parseLong(value.trim());
+        }
+        catch (Exception e) {
+            logger.error("getLong(" + envVariable + "): Exception.\n\t" + e.getClass().getCanonicalName() + ": " + e.getMessage());
+            return defaultValue;
+        }
+    }
+
+    // Get Boolean Environment Variable (or default)
+    public static boolean getBoolean(String envVariable, boolean defaultValue) {
+        String value = System.getenv(envVariable);
+        return value == null ? defaultValue : Boolean.parseBoolean(value.trim());
+    }
+}
@@ -0,0 +1,263 @@
+package jgr.iam.util;
+
+// External Objects
+import com.github.benmanes.caffeine.cache.Cache; // https://www.javadoc.io/doc/com.github.ben-manes.caffeine/caffeine/latest/com.github.benmanes.caffeine/com/github/benmanes/caffeine/cache/Cache.html
+import com.github.benmanes.caffeine.cache.Caffeine; // https://www.javadoc.io/doc/com.github.ben-manes.caffeine/caffeine/latest/com.github.benmanes.caffeine/com/github/benmanes/caffeine/cache/Caffeine.html
+import org.apache.logging.log4j.LogManager; // https://logging.apache.org/log4j/2.x/manual/api.html
+import org.apache.logging.log4j.Logger; // https://logging.apache.org/log4j/2.x/manual/api.html
+import java.time.Duration; // https://docs.oracle.com/javase/8/docs/api/java/time/Duration.html
+import java.util.HashSet; // https://docs.oracle.com/javase/8/docs/api/java/util/HashSet.html
+import java.util.List; // https://docs.oracle.com/javase/8/docs/api/java/util/List.html
+import java.util.Set; // https://docs.oracle.com/javase/8/docs/api/java/util/Set.html
+import java.util.concurrent.atomic.AtomicLong; // https://docs.oracle.com/javase/8/docs/api/java/util/concurrent/atomic/AtomicLong.html
+
+// Internal Objects
+import jgr.iam.constant.iamDBConnectionInfo; // iamDB Connection Information
+import jgr.iam.enums.RequestType; // Request Type
+import jgr.iam.model.bo.Permission; // Permission
+
+// Permission Cache: Permission business objects in their SUMMARY and DETAIL views, by id and by name
+// - Bounded (IAMDB_CACHE_MAX_SIZE entries, least recently/frequently used evicted first) and expiring
+//   (IAMDB_CACHE_TTL_SECONDS after being loaded): the TTL bounds the staleness of changes made elsewhere (another
+//   node, the replica lag, a role renamed directly in iamDB)
+// - Copies in, copies out: callers can't alter a cached object
+// - Generation: every invalidation bumps it; a load started before an invalidation is not cached, so that a read
+//   racing with a write can't put back what the write invalidated
+// - Invalidated on completion: a write inside a transaction is invalidated again once the unit of work ends, since
+//   other threads keep reading (and caching) the committed state until then
+// - Missing (negative) entries: permission ids and (permission id, metadata name) pairs found not to exist, so that
+//   lookups of unknown keys are answered from memory; bounded (IAMDB_CACHE_MISSING_MAX_SIZE) with a short TTL
+//   (IAMDB_CACHE_MISSING_TTL_SECONDS, the staleness bound for creations made elsewhere), invalidated by creations
+public class iamPermissionCache {
+
+    // Logger
+    private final static Logger logger = LogManager.getLogger(iamPermissionCache.class.getCanonicalName());
+
+    // Cache Names (statistics)
+    public static final String PERMISSION_CACHE = "permission";
+    public static final String NAME_CACHE = "permission.name";
+    public static final String MISSING_CACHE = "permission.missing";
+
+    // Cache Key: id and view
+    private record Key(int id, RequestType requestType) {}
+
+    // Missing Key: permission id, and metadata name (null: the permission itself)
+    private record MissingKey(int id, String name) {}
+
+    // Configuration
+    private final boolean enabled;
+    private final long maxSize;
+    private final long ttlSeconds;
+    private final long missingMaxSize;
+    private final long missingTtlSeconds;
+
+    // Caches
+    private final Cache<Key, Permission> permissions; // (id, view) -> permission
+    private final Cache<String, Integer> names; // name -> id (names don't change: a stale id just misses)
+    private final Cache<MissingKey, Boolean> missing; // keys found not to exist
+
+    // Invalidation
+    private final AtomicLong generation = new AtomicLong();
+    private final ThreadLocal<Set<Integer>> pending = ThreadLocal.withInitial(HashSet::new);
+    private final ThreadLocal<Set<MissingKey>> pendingMissing = ThreadLocal.withInitial(HashSet::new);
+    private final ThreadLocal<Boolean> pendingAllMissing = ThreadLocal.withInitial(() -> false);
+
+    // Constructor (environment settings)
+    public iamPermissionCache() {
+        this(iamEnvironmentUtil.getBoolean(iamDBConnectionInfo.ENV_CACHE_ENABLED, iamDBConnectionInfo.DEFAULT_CACHE_ENABLED),
+             iamEnvironmentUtil.getLong(iamDBConnectionInfo.ENV_CACHE_MAX_SIZE, iamDBConnectionInfo.DEFAULT_CACHE_MAX_SIZE),
+             iamEnvironmentUtil.getLong(iamDBConnectionInfo.ENV_CACHE_TTL_SECONDS, iamDBConnectionInfo.DEFAULT_CACHE_TTL_SECONDS),
+             iamEnvironmentUtil.getLong(iamDBConnectionInfo.ENV_CACHE_MISSING_MAX_SIZE, iamDBConnectionInfo.DEFAULT_CACHE_MISSING_MAX_SIZE),
+             iamEnvironmentUtil.getLong(iamDBConnectionInfo.ENV_CACHE_MISSING_TTL_SECONDS, iamDBConnectionInfo.DEFAULT_CACHE_MISSING_TTL_SECONDS));
+    }
+
+    // Constructor (default missing entries settings)
+    public iamPermissionCache(boolean enabled, long maxSize, long ttlSeconds) {
+        this(enabled, maxSize, ttlSeconds, iamDBConnectionInfo.DEFAULT_CACHE_MISSING_MAX_SIZE, iamDBConnectionInfo.DEFAULT_CACHE_MISSING_TTL_SECONDS);
+    }
+
+    // Constructor
+    public iamPermissionCache(boolean enabled, long maxSize, long ttlSeconds, long missingMaxSize, long missingTtlSeconds) {
+        this.enabled = enabled && maxSize > 0 && ttlSeconds > 0;
+        this.maxSize = maxSize;
+        this.ttlSeconds = ttlSeconds;
+        this.missingMaxSize = this.enabled && missingTtlSeconds > 0 ? Math.max(missingMaxSize, 0) : 0;
+        this.missingTtlSeconds = missingTtlSeconds;
+        this.permissions = Caffeine.newBuilder().maximumSize(Math.max(maxSize, 0)).expireAfterWrite(Duration.ofSeconds(Math.max(ttlSeconds, 0))).recordStats().build();
+        this.names = Caffeine.newBuilder().maximumSize(Math.max(maxSize, 0)).expireAfterWrite(Duration.ofSeconds(Math.max(ttlSeconds, 0))).recordStats().build();
+        this.missing = Caffeine.newBuilder().maximumSize(this.missingMaxSize).expireAfterWrite(Duration.ofSeconds(Math.max(missingTtlSeconds, 0))).recordStats().build();
+        logger.info("iamPermissionCache(" + this.enabled + ", " + maxSize + ", " + ttlSeconds + ", " + this.missingMaxSize + ", " + missingTtlSeconds + ").");
+    }
+
+    // Get Warm-up Timeout Seconds (environment setting): 0 for no warm-up
+    public static long getWarmUpTimeoutSeconds() {
+        return iamEnvironmentUtil.getLong(iamDBConnectionInfo.ENV_WARMUP_TIMEOUT_SECONDS, iamDBConnectionInfo.DEFAULT_WARMUP_TIMEOUT_SECONDS);
+    }
+
+    // Get Warm-up Threads (environment setting)
+    public static int getWarmUpThreads() {
+        return Math.max(1, iamEnvironmentUtil.getInt(iamDBConnectionInfo.ENV_WARMUP_THREADS, iamDBConnectionInfo.DEFAULT_WARMUP_THREADS));
+    }
+
+    // Is Enabled
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // Get Max Size (entries)
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    // Is Cacheable: the SUMMARY and DETAIL views
+    public static boolean isCacheable(RequestType requestType) {
+        return requestType == RequestType.SUMMARY || requestType == RequestType.DETAIL;
+    }
+
+    // Get Permission by id (a copy; null if not cached)
+    public Permission get(int id, RequestType requestType) {
+        if (!enabled || !isCacheable(requestType))
+            return null;
+        Permission cached = permissions.getIfPresent(new Key(id, requestType));
+        return cached == null ? null : cached.copy();
+    }
+
+    // Get Permission by name (a copy; null if not cached)
+    public Permission get(String name, RequestType requestType) {
+        if (!enabled || !isCacheable(requestType) || name == null)
+            return null;
+        Integer id = names.getIfPresent(name);
+        if (id == null)
+            return null;
+        Permission cached = get(id, requestType);
+        return cached != null && name.equals(cached.getName()) ? cached : null;
+    }
+
+    // Get Generation (before loading what is to be put)
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    // Put a Permission (a copy), loaded at the given generation
+    public void put(Permission perm, RequestType requestType, long loadGeneration) {
+        if (!enabled || perm == null || !isCacheable(requestType) || loadGeneration != generation.get())
+            return;
+        Key key = new Key(perm.getId(), requestType);
+        permissions.put(key, perm.copy());
+        names.put(perm.getName(), perm.getId());
+        // Invalidated while putting: drop it (the invalidation may have run before the put)
+        if (loadGeneration != generation.get()) {
+            permissions.invalidate(key);
+        }
+    }
+
+    // Is a Permission Missing: found not to exist (a miss served from memory)
+    public boolean isMissing(int id) {
+        return _isMissing(new MissingKey(id, null));
+    }
+
+    // Is a Metadata Missing: found not to exist on the permission
+    public boolean isMissing(int id, String name) {
+        return name != null && _isMissing(new MissingKey(id, name));
+    }
+
+    // Is Missing
+    private boolean _isMissing(MissingKey key) {
+        return missingMaxSize > 0 && missing.getIfPresent(key) != null;
+    }
+
+    // Put a Missing Permission, found not to exist at the given generation
+    public void putMissing(int id, long loadGeneration) {
+        _putMissing(new MissingKey(id, null), loadGeneration);
+    }
+
+    // Put a Missing Metadata, found not to exist at the given generation
+    public void putMissing(int id, String name, long loadGeneration) {
+        if (name != null) {
+            _putMissing(new MissingKey(id, name), loadGeneration);
+        }
+    }
+
+    // Put Missing (not if a creation ran meanwhile: it may have been before or after the lookup)
+    private void _putMissing(MissingKey key, long loadGeneration) {
+        if (missingMaxSize == 0 || loadGeneration != generation.get())
+            return;
+        missing.put(key, Boolean.TRUE);
+        if (loadGeneration != generation.get()) {
+            missing.invalidate(key);
+        }
+    }
+
+    // Invalidate a Permission (both views, and missing)
+    public void invalidate(int id) {
+        generation.incrementAndGet();
+        permissions.invalidate(new Key(id, RequestType.SUMMARY));
+        permissions.invalidate(new Key(id, RequestType.DETAIL));
+        missing.invalidate(new MissingKey(id, null));
+    }
+
+    // Invalidate a Permission and one of its Metadata (missing)
+    public void invalidate(int id, String name) {
+        invalidate(id);
+        missing.invalidate(new MissingKey(id, name));
+    }
+
+    // Invalidate Missing: every key found not to exist (creations whose ids aren't known)
+    public void invalidateMissing() {
+        generation.incrementAndGet();
+        missing.invalidateAll();
+    }
+
+    // Invalidate a Permission now, and again once the calling thread's unit of work completes
+    public void invalidateOnCompletion(int id) {
+        invalidate(id);
+        pending.get().add(id);
+    }
+
+    // Invalidate a Permission and one of its Metadata now, and again once the calling thread's unit of work completes
+    public void invalidateOnCompletion(int id, String name) {
+        invalidate(id, name);
+        pending.get().add(id);
+        pendingMissing.get().add(new MissingKey(id, name));
+    }
+
+    // Invalidate Missing now, and again once the calling thread's unit of work completes
+    public void invalidateMissingOnCompletion() {
+        invalidateMissing();
+        pendingAllMissing.set(true);
+    }
+
+    // Complete: the calling thread's unit of work ended (committed or rolled back)
+    public void complete() {
+        Set<Integer> ids = pending.get();
+        Set<MissingKey> keys = pendingMissing.get();
+        boolean allMissing = pendingAllMissing.get();
+        pending.remove();
+        pendingMissing.remove();
+        pendingAllMissing.remove();
+        for (int id : ids) {
+            invalidate(id);
+        }
+        for (MissingKey key : keys) {
+            missing.invalidate(key);
+        }
+        if (allMissing) {
+            invalidateMissing();
+        }
+    }
+
+    // Invalidate All
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        permissions.invalidateAll();
+        names.invalidateAll();
+        missing.invalidateAll();
+    }
+
+    // Get Statistics
+    public List<iamCacheStatistics> getStatistics() {
+        return List.of(new iamCacheStatistics(PERMISSION_CACHE, maxSize, ttlSeconds, permissions.estimatedSize(), permissions.stats()),
+                       new iamCacheStatistics(NAME_CACHE, maxSize, ttlSeconds, names.estimatedSize(), names.stats()),
+                       new iamCacheStatistics(MISSING_CACHE, missingMaxSize, missingTtlSeconds, missing.estimatedSize(), missing.stats()));
+    }
+}
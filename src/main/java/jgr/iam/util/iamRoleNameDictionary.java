@@ -0,0 +1,68 @@
+package jgr.iam.util;
+
+// External Objects
+import java.util.Collection; // https://docs.oracle.com/javase/8/docs/api/java/util/Collection.html
+import java.util.HashMap; // https://docs.oracle.com/javase/8/docs/api/java/util/HashMap.html
+import java.util.Map; // https://docs.oracle.com/javase/8/docs/api/java/util/Map.html
+
+// Internal Objects
+import jgr.iam.constant.iamDBConnectionInfo; // iamDB Connection Information
+
+// Role Name Dictionary: role id -> extended name ("Application.Feature.Role"), immutable snapshot
+// - Names interned: every permission holding a role shares the same string
+// - Replaced as a whole (reloaded once older than IAMDB_ROLE_NAMES_REFRESH_SECONDS, the staleness bound of a rename,
+//   or on a role id it doesn't know yet)
+public class iamRoleNameDictionary {
+
+    // Reload on an unknown role id at most once per period (milliseconds)
+    public static final long MIN_RELOAD_MILLIS = 1000;
+
+    // Extended Names (never mutated once built)
+    private final Map<Integer, String> names;
+
+    // Built At (epoch milliseconds)
+    private final long builtAt;
+
+    // Constructor
+    private iamRoleNameDictionary(Map<Integer, String> names, long builtAt) {
+        this.names = names;
+        this.builtAt = builtAt;
+    }
+
+    // Build the dictionary (names interned)
+    public static iamRoleNameDictionary build(Map<Integer, String> extendedNames) {
+        Map<Integer, String> names = new HashMap<>(extendedNames.size() * 2);
+        extendedNames.forEach((roleId, name) -> names.put(roleId, name == null ? null : name.intern()));
+        return new iamRoleNameDictionary(names, System.currentTimeMillis());
+    }
+
+    // Get Refresh Seconds (environment setting): dictionary age triggering a reload, 0 for never
+    public static long getRefreshSeconds() {
+        return iamEnvironmentUtil.getLong(iamDBConnectionInfo.ENV_ROLE_NAMES_REFRESH_SECONDS, iamDBConnectionInfo.DEFAULT_ROLE_NAMES_REFRESH_SECONDS);
+    }
+
+    // Get the extended name of a role (null if unknown)
+    public String get(int roleId) {
+        return names.get(roleId);
+    }
+
+    // Contains All: every role id is known
+    public boolean containsAll(Collection<Integer> roleIds) {
+        return names.keySet().containsAll(roleIds);
+    }
+
+    // Is Stale: older than the given age (0: never)
+    public boolean isStale(long refreshMillis) {
+        return refreshMillis > 0 && System.currentTimeMillis() - builtAt > refreshMillis;
+    }
+
+    // Get Built At (epoch milliseconds)
+    public long getBuiltAt() {
+        return builtAt;
+    }
+
+    // Get Size (roles)
+    public int size() {
+        return names.size();
+    }
+}
@@ -0,0 +1,23 @@
+-- V2: Hot-Path Indexes
+-- - One per repository access path (see iamDBIndexVerifier), leading with the filtered columns and, where the
+--   query only needs one more column, covering it (no row lookup)
+
+-- Role_Permission: roles of a permission (counts, extended names)
+CREATE INDEX idx_role_permission_permission ON Role_Permission (permissionId, archived, roleId);
+
+-- User_Role: roles of a user
+CREATE INDEX idx_user_role_user ON User_Role (userId, archived, roleId);
+
+-- Feature: features of an application
+CREATE INDEX idx_feature_application ON Feature (applicationId, archived);
+
+-- Role: roles of a feature
+CREATE INDEX idx_role_feature ON Role (featureId, archived);
+
+-- <Table>Metadata: metadata of an entity (counts, lists)
+CREATE INDEX idx_user_metadata_refid ON UserMetadata (refid, archived);
+CREATE INDEX idx_usergroup_metadata_refid ON UserGroupMetadata (refid, archived);
+CREATE INDEX idx_application_metadata_refid ON ApplicationMetadata (refid, archived);
+CREATE INDEX idx_feature_metadata_refid ON FeatureMetadata (refid, archived);
+CREATE INDEX idx_role_metadata_refid ON RoleMetadata (refid, archived);
+CREATE INDEX idx_permission_metadata_refid ON PermissionMetadata (refid, archived);
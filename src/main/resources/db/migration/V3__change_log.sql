@@ -0,0 +1,16 @@
+-- V3: Change Log
+-- - Append-only: one row per Permission, PermissionMetadata or Role_Permission change, written in the transaction of
+--   the change; every node tails it by sequence to invalidate its local caches (ChangeLogManager)
+-- - permissionId 0: permissions whose ids aren't known (batch creation); roleId: Role_Permission changes only;
+--   name: PermissionMetadata changes only; origin: the node that made the change (skipped by its own poller)
+-- - Pruned by age (IAMDB_CHANGELOG_RETENTION_SECONDS), by sequence range
+
+CREATE TABLE IF NOT EXISTS ChangeLog (
+    seq BIGINT AUTO_INCREMENT PRIMARY KEY,
+    entity VARCHAR(32) NOT NULL,
+    permissionId INT NOT NULL,
+    roleId INT,
+    name VARCHAR(255),
+    origin VARCHAR(64) NOT NULL,
+    changedAt TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
@@ -0,0 +1,150 @@
+-- V1: iamDB Schema
+-- - H2 in MySQL mode, for the embedded iamDB (the MySQL variant: db/migration/mysql)
+-- - IF NOT EXISTS: same statements as the MySQL variant
+-- - Foreign keys cascade on delete: relations and metadata go with the deleted entity
+
+-- Entities
+CREATE TABLE IF NOT EXISTS Application (
+    id INT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(255) NOT NULL UNIQUE,
+    description VARCHAR(1024),
+    archived BOOLEAN NOT NULL DEFAULT FALSE
+);
+
+CREATE TABLE IF NOT EXISTS Feature (
+    id INT AUTO_INCREMENT PRIMARY KEY,
+    applicationId INT NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    description VARCHAR(1024),
+    archived BOOLEAN NOT NULL DEFAULT FALSE,
+    UNIQUE (applicationId, name),
+    FOREIGN KEY (applicationId) REFERENCES Application(id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS Role (
+    id INT AUTO_INCREMENT PRIMARY KEY,
+    featureId INT NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    description VARCHAR(1024),
+    archived BOOLEAN NOT NULL DEFAULT FALSE,
+    UNIQUE (featureId, name),
+    FOREIGN KEY (featureId) REFERENCES Feature(id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS Permission (
+    id INT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(255) NOT NULL UNIQUE,
+    description VARCHAR(1024),
+    archived BOOLEAN NOT NULL DEFAULT FALSE
+);
+
+CREATE TABLE IF NOT EXISTS User (
+    id INT AUTO_INCREMENT PRIMARY KEY,
+    username VARCHAR(255) NOT NULL UNIQUE,
+    email VARCHAR(255),
+    passwordHash VARBINARY(255),
+    passwordSalt VARBINARY(255),
+    firstName VARCHAR(255),
+    lastName VARCHAR(255),
+    active BOOLEAN NOT NULL DEFAULT TRUE,
+    archived BOOLEAN NOT NULL DEFAULT FALSE
+);
+
+CREATE TABLE IF NOT EXISTS UserGroup (
+    id INT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(255) NOT NULL UNIQUE,
+    description VARCHAR(1024),
+    archived BOOLEAN NOT NULL DEFAULT FALSE
+);
+
+-- Relations
+CREATE TABLE IF NOT EXISTS Role_Permission (
+    roleId INT NOT NULL,
+    permissionId INT NOT NULL,
+    archived BOOLEAN NOT NULL DEFAULT FALSE,
+    PRIMARY KEY (roleId, permissionId),
+    FOREIGN KEY (roleId) REFERENCES Role(id) ON DELETE CASCADE,
+    FOREIGN KEY (permissionId) REFERENCES Permission(id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS User_Role (
+    userId INT NOT NULL,
+    roleId INT NOT NULL,
+    archived BOOLEAN NOT NULL DEFAULT FALSE,
+    PRIMARY KEY (userId, roleId),
+    FOREIGN KEY (userId) REFERENCES User(id) ON DELETE CASCADE,
+    FOREIGN KEY (roleId) REFERENCES Role(id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS UserGroup_Role (
+    userGroupId INT NOT NULL,
+    roleId INT NOT NULL,
+    archived BOOLEAN NOT NULL DEFAULT FALSE,
+    PRIMARY KEY (userGroupId, roleId),
+    FOREIGN KEY (userGroupId) REFERENCES UserGroup(id) ON DELETE CASCADE,
+    FOREIGN KEY (roleId) REFERENCES Role(id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS User_UserGroup (
+    userId INT NOT NULL,
+    userGroupId INT NOT NULL,
+    archived BOOLEAN NOT NULL DEFAULT FALSE,
+    PRIMARY KEY (userId, userGroupId),
+    FOREIGN KEY (userId) REFERENCES User(id) ON DELETE CASCADE,
+    FOREIGN KEY (userGroupId) REFERENCES UserGroup(id) ON DELETE CASCADE
+);
+
+-- Metadata (refid: id of the described entity; value: JSON document as text, H2's JSON type doesn't read back as text)
+CREATE TABLE IF NOT EXISTS UserMetadata (
+    refid INT NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    value VARCHAR(1024),
+    archived BOOLEAN NOT NULL DEFAULT FALSE,
+    PRIMARY KEY (refid, name),
+    FOREIGN KEY (refid) REFERENCES User(id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS UserGroupMetadata (
+    refid INT NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    value VARCHAR(1024),
+    archived BOOLEAN NOT NULL DEFAULT FALSE,
+    PRIMARY KEY (refid, name),
+    FOREIGN KEY (refid) REFERENCES UserGroup(id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS ApplicationMetadata (
+    refid INT NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    value VARCHAR(1024),
+    archived BOOLEAN NOT NULL DEFAULT FALSE,
+    PRIMARY KEY (refid, name),
+    FOREIGN KEY (refid) REFERENCES Application(id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS FeatureMetadata (
+    refid INT NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    value VARCHAR(1024),
+    archived BOOLEAN NOT NULL DEFAULT FALSE,
+    PRIMARY KEY (refid, name),
+    FOREIGN KEY (refid) REFERENCES Feature(id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS RoleMetadata (
+    refid INT NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    value VARCHAR(1024),
+    archived BOOLEAN NOT NULL DEFAULT FALSE,
+    PRIMARY KEY (refid, name),
+    FOREIGN KEY (refid) REFERENCES Role(id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS PermissionMetadata (
+    refid INT NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    value VARCHAR(1024),
+    archived BOOLEAN NOT NULL DEFAULT FALSE,
+    PRIMARY KEY (refid, name),
+    FOREIGN KEY (refid) REFERENCES Permission(id) ON DELETE CASCADE
+);
@@ -0,0 +1,112 @@
+package jgr.iam.benchmark;
+
+// External Objects
+import org.openjdk.jmh.annotations.*; // https://github.com/openjdk/jmh
+import org.openjdk.jmh.runner.Runner; // https://github.com/openjdk/jmh
+import org.openjdk.jmh.runner.RunnerException; // https://github.com/openjdk/jmh
+import org.openjdk.jmh.runner.options.OptionsBuilder; // https://github.com/openjdk/jmh
+import java.util.ArrayList; // https://docs.oracle.com/javase/8/docs/api/java/util/ArrayList.html
+import java.util.List; // https://docs.oracle.com/javase/8/docs/api/java/util/List.html
+import java.util.Map; // https://docs.oracle.com/javase/8/docs/api/java/util/Map.html
+import java.util.SplittableRandom; // https://docs.oracle.com/javase/8/docs/api/java/util/SplittableRandom.html
+import java.util.concurrent.TimeUnit; // https://docs.oracle.com/javase/8/docs/api/java/util/concurrent/TimeUnit.html
+
+// Internal Objects
+import jgr.iam.enums.AuthzEdge; // Authorization Graph Edge
+import jgr.iam.model.dto.RolePermissionDTO; // RolePermissionDTO
+import jgr.iam.model.dto.UserGroupRoleDTO; // UserGroupRoleDTO
+import jgr.iam.model.dto.UserRoleDTO; // UserRoleDTO
+import jgr.iam.model.dto.UserUserGroupDTO; // UserUserGroupDTO
+import jgr.iam.util.iamAuthzGraph; // Authorization Graph
+import jgr.iam.util.iamAuthzIndex; // Authorization Index
+
+// Authorization Index Micro-Benchmark: check(user, permission) lookups on a synthetic graph (no iamDB)
+// - Graph: users each holding 3 direct roles and 2 groups (of 4 roles), roles each granting 20 permissions
+// - Score: average time per lookup (the HTTP round trip comes on top of it), build time of the graph, and time of a
+//   single-link delta (copy-on-write snapshot and index swap, against a full rebuild)
+// - Run: mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=jgr.iam.benchmark.AuthzIndexBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthzIndexBenchmark {
+
+    // Graph shape
+    @Param({"10000", "100000"})
+    public int users;
+    private static final int ROLES = 2000;
+    private static final int GROUPS = 500;
+    private static final int PERMISSIONS = 10000;
+
+    private List<UserRoleDTO> userRoles;
+    private List<UserUserGroupDTO> userUserGroups;
+    private List<UserGroupRoleDTO> userGroupRoles;
+    private List<RolePermissionDTO> rolePermissions;
+    private iamAuthzGraph graph;
+    private iamAuthzIndex index;
+
+    // Lookup state (per thread)
+    @State(Scope.Thread)
+    public static class Lookup {
+        private final SplittableRandom random = new SplittableRandom(42);
+    }
+
+    // Set-up: synthetic graph and its index (bitmaps of every user materialized)
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(7);
+        userRoles = new ArrayList<>();
+        userUserGroups = new ArrayList<>();
+        userGroupRoles = new ArrayList<>();
+        rolePermissions = new ArrayList<>();
+        for (int role = 1; role <= ROLES; role++) {
+            for (int i = 0; i < 20; i++) {
+                rolePermissions.add(new RolePermissionDTO(role, 1 + random.nextInt(PERMISSIONS), false));
+            }
+        }
+        for (int group = 1; group <= GROUPS; group++) {
+            for (int i = 0; i < 4; i++) {
+                userGroupRoles.add(new UserGroupRoleDTO(group, 1 + random.nextInt(ROLES), false));
+            }
+        }
+        for (int user = 1; user <= users; user++) {
+            for (int i = 0; i < 3; i++) {
+                userRoles.add(new UserRoleDTO(user, 1 + random.nextInt(ROLES), false));
+            }
+            for (int i = 0; i < 2; i++) {
+                userUserGroups.add(new UserUserGroupDTO(user, 1 + random.nextInt(GROUPS), false));
+            }
+        }
+        graph = build();
+        index = iamAuthzIndex.build(graph);
+        for (int user = 1; user <= users; user++) {
+            index.check(user, 1);
+        }
+    }
+
+    @Benchmark
+    public boolean check(Lookup lookup) {
+        return index.check(1 + lookup.random.nextInt(users), 1 + lookup.random.nextInt(PERMISSIONS));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public iamAuthzGraph build() {
+        return iamAuthzGraph.build(userRoles, userUserGroups, userGroupRoles, rolePermissions, Map.of());
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public iamAuthzIndex delta(Lookup lookup) {
+        int user = 1 + lookup.random.nextInt(users);
+        return index.withGraph(graph.withLink(AuthzEdge.USER_ROLE, user, 1 + lookup.random.nextInt(ROLES), true), user);
+    }
+
+    // Main
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(AuthzIndexBenchmark.class.getSimpleName()).build()).run();
+    }
+}
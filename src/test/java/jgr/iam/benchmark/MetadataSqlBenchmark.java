@@ -0,0 +1,40 @@
+package jgr.iam.benchmark;
+
+// External Objects
+import org.openjdk.jmh.annotations.*; // https://github.com/openjdk/jmh
+import org.openjdk.jmh.runner.Runner; // https://github.com/openjdk/jmh
+import org.openjdk.jmh.runner.RunnerException; // https://github.com/openjdk/jmh
+import org.openjdk.jmh.runner.options.OptionsBuilder; // https://github.com/openjdk/jmh
+import java.util.concurrent.TimeUnit; // https://docs.oracle.com/javase/8/docs/api/java/util/concurrent/TimeUnit.html
+
+// Internal Objects
+import jgr.iam.constant.iamDBMetadataTable; // iamDB Metadata Tables
+import jgr.iam.util.iamDBSqlRegistry; // iamDB SQL Registry
+
+// Metadata SQL Micro-Benchmark (offline): per-call String.format vs. registry lookup
+// - Run: mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=jgr.iam.benchmark.MetadataSqlBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetadataSqlBenchmark {
+
+    // Previous behaviour: SQL formatted on every call
+    @Benchmark
+    public String format() {
+        return String.format(iamDBSqlRegistry.METADATA_GET, iamDBMetadataTable.PERM);
+    }
+
+    // Registry: SQL resolved once per table
+    @Benchmark
+    public String registry() {
+        return iamDBSqlRegistry.get(iamDBSqlRegistry.METADATA_GET, iamDBMetadataTable.PERM);
+    }
+
+    // Main
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MetadataSqlBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,90 @@
+package jgr.iam.benchmark;
+
+// External Objects
+import org.openjdk.jmh.annotations.*; // https://github.com/openjdk/jmh
+import org.openjdk.jmh.runner.Runner; // https://github.com/openjdk/jmh
+import org.openjdk.jmh.runner.RunnerException; // https://github.com/openjdk/jmh
+import org.openjdk.jmh.runner.options.OptionsBuilder; // https://github.com/openjdk/jmh
+import org.springframework.boot.builder.SpringApplicationBuilder; // https://docs.spring.io/spring-boot/api/java/org/springframework/boot/builder/SpringApplicationBuilder.html
+import org.springframework.context.ConfigurableApplicationContext; // https://docs.spring.io/spring-framework/docs/current/javadoc-api/org/springframework/context/ConfigurableApplicationContext.html
+import java.net.URI; // https://docs.oracle.com/en/java/javase/21/docs/api/java.base/java/net/URI.html
+import java.net.http.HttpClient; // https://docs.oracle.com/en/java/javase/21/docs/api/java.net.http/java/net/http/HttpClient.html
+import java.net.http.HttpRequest; // https://docs.oracle.com/en/java/javase/21/docs/api/java.net.http/java/net/http/HttpRequest.html
+import java.net.http.HttpResponse; // https://docs.oracle.com/en/java/javase/21/docs/api/java.net.http/java/net/http/HttpResponse.html
+import java.sql.SQLException; // https://docs.oracle.com/javase/8/docs/api/java/sql/SQLException.html
+import java.util.ArrayList; // https://docs.oracle.com/javase/8/docs/api/java/util/ArrayList.html
+import java.util.List; // https://docs.oracle.com/javase/8/docs/api/java/util/List.html
+import java.util.concurrent.CompletableFuture; // https://docs.oracle.com/javase/8/docs/api/java/util/concurrent/CompletableFuture.html
+import java.util.concurrent.TimeUnit; // https://docs.oracle.com/javase/8/docs/api/java/util/concurrent/TimeUnit.html
+
+// Internal Objects
+import jgr.iam.enums.RequestType; // Request Type
+import jgr.iam.iamMain; // IAM Main Application
+import jgr.iam.manager.PermissionManager; // Permission Manager
+import jgr.iam.util.iamDBConnectorUtil; // iamDB Database Connector
+import jgr.iam.util.iamDBEmbeddedTestUtil; // iamDB Embedded Test Util
+
+// Web Stack Load Benchmark: a burst of concurrent GET /manage/permission/{id}/detail over HTTP, against the service
+// started on the servlet stack (Tomcat + JDBC) or on the reactive stack (Netty + R2DBC, reactive profile)
+// - Score: bursts per second (times concurrency: requests per second); compare with the p99 of each run (-prof gc
+//   and the Tomcat/Netty thread counts tell where the memory and threads go)
+// - Same pool bound in both stacks: IAMDB_POOL_MAX_SIZE
+// - Reactive stack: MySQL only (the R2DBC URL is derived from a jdbc:mysql: IAMDB_URL)
+// - Needs a reachable iamDB (IAMDB_URL, IAMDB_USR, IAMDB_PWD) holding at least one Permission, or the embedded one
+//   (IAMDB_URL as in the embedded Maven profile), seeded with IAMDB_SEED_PERMISSIONS permissions
+// - Run: mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=jgr.iam.benchmark.ReactiveStackBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ReactiveStackBenchmark {
+
+    @Param({"servlet", "reactive"})
+    public String stack;
+
+    // Concurrent requests per operation
+    @Param({"1000", "5000"})
+    public int concurrency;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        iamDBEmbeddedTestUtil.seedIfEmbedded(new iamDBConnectorUtil());
+        int id = new PermissionManager(new iamDBConnectorUtil()).getPermissions(RequestType.SUMMARY, false, 0, 1).get(0).getId();
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(iamMain.class).properties("server.port=0");
+        if ("reactive".equals(stack))
+            builder.profiles("reactive");
+        context = builder.run();
+        String port = context.getEnvironment().getProperty("local.server.port");
+        client = HttpClient.newHttpClient();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/manage/permission/" + id + "/detail")).GET().build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int requests() {
+        List<CompletableFuture<HttpResponse<Void>>> futures = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+        }
+        int result = 0;
+        for (CompletableFuture<HttpResponse<Void>> future : futures) {
+            result += future.join().statusCode() == 200 ? 1 : 0;
+        }
+        return result;
+    }
+
+    // Main
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ReactiveStackBenchmark.class.getSimpleName()).build()).run();
+    }
+}
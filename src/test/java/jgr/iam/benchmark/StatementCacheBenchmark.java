@@ -0,0 +1,76 @@
+package jgr.iam.benchmark;
+
+// External Objects
+import com.zaxxer.hikari.HikariDataSource; // https://github.com/brettwooldridge/HikariCP
+import org.openjdk.jmh.annotations.*; // https://github.com/openjdk/jmh
+import org.openjdk.jmh.runner.Runner; // https://github.com/openjdk/jmh
+import org.openjdk.jmh.runner.RunnerException; // https://github.com/openjdk/jmh
+import org.openjdk.jmh.runner.options.OptionsBuilder; // https://github.com/openjdk/jmh
+import java.sql.SQLException; // https://docs.oracle.com/javase/8/docs/api/java/sql/SQLException.html
+import java.util.concurrent.TimeUnit; // https://docs.oracle.com/javase/8/docs/api/java/util/concurrent/TimeUnit.html
+
+// Internal Objects
+import jgr.iam.model.dto.PermissionDTO; // PermissionDTO
+import jgr.iam.repository.PermissionRepository; // PermissionDTO Repository
+import jgr.iam.util.iamDBConnectorUtil; // iamDB Database Connector
+
+// Prepared-Statement Cache Micro-Benchmark: hot getById with the driver statement cache off/on
+// - Needs a reachable MySQL iamDB (IAMDB_URL, IAMDB_USR, IAMDB_PWD) holding at least one Permission (MySQL driver
+//   properties: not for the embedded iamDB)
+// - Run: mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=jgr.iam.benchmark.StatementCacheBenchmark
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StatementCacheBenchmark {
+
+    // Driver statement cache (server-side prepared statements)
+    @Param({"false", "true"})
+    public boolean cachePrepStmts;
+
+    private HikariDataSource dataSource;
+    private iamDBConnectorUtil connector;
+    private PermissionRepository repository;
+    private int id;
+
+    // Set-up: dedicated pool (the shared pool always caches), one connection per iteration as in a request
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connector = new iamDBConnectorUtil();
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(connector.getConnectionURL());
+        dataSource.setUsername(connector.getConnectionUser());
+        dataSource.setPassword(connector.getConnectionPassword());
+        dataSource.setMaximumPoolSize(1);
+        dataSource.addDataSourceProperty("useServerPrepStmts", String.valueOf(cachePrepStmts));
+        dataSource.addDataSourceProperty("cachePrepStmts", String.valueOf(cachePrepStmts));
+        connector.setDataSource(dataSource);
+        repository = new PermissionRepository(connector);
+        connector.connect();
+        id = repository.getAll(0, 1).get(0).getId();
+        connector.close();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.close();
+    }
+
+    @Benchmark
+    public PermissionDTO getById() throws SQLException {
+        connector.connect();
+        try {
+            return repository.getById(id);
+        }
+        finally {
+            connector.close();
+        }
+    }
+
+    // Main
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(StatementCacheBenchmark.class.getSimpleName()).build()).run();
+    }
+}
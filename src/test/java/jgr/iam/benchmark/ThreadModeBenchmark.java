@@ -0,0 +1,86 @@
+package jgr.iam.benchmark;
+
+// External Objects
+import org.openjdk.jmh.annotations.*; // https://github.com/openjdk/jmh
+import org.openjdk.jmh.runner.Runner; // https://github.com/openjdk/jmh
+import org.openjdk.jmh.runner.RunnerException; // https://github.com/openjdk/jmh
+import org.openjdk.jmh.runner.options.OptionsBuilder; // https://github.com/openjdk/jmh
+import java.sql.SQLException; // https://docs.oracle.com/javase/8/docs/api/java/sql/SQLException.html
+import java.util.ArrayList; // https://docs.oracle.com/javase/8/docs/api/java/util/ArrayList.html
+import java.util.List; // https://docs.oracle.com/javase/8/docs/api/java/util/List.html
+import java.util.concurrent.ExecutorService; // https://docs.oracle.com/en/java/javase/21/docs/api/java.base/java/util/concurrent/ExecutorService.html
+import java.util.concurrent.Executors; // https://docs.oracle.com/en/java/javase/21/docs/api/java.base/java/util/concurrent/Executors.html
+import java.util.concurrent.Future; // https://docs.oracle.com/javase/8/docs/api/java/util/concurrent/Future.html
+import java.util.concurrent.TimeUnit; // https://docs.oracle.com/javase/8/docs/api/java/util/concurrent/TimeUnit.html
+
+// Internal Objects
+import jgr.iam.enums.RequestType; // Request Type
+import jgr.iam.manager.PermissionManager; // Permission Manager
+import jgr.iam.model.bo.Permission; // Permission
+import jgr.iam.util.iamDBConnectorUtil; // iamDB Database Connector
+import jgr.iam.util.iamDBEmbeddedTestUtil; // iamDB Embedded Test Util
+import jgr.iam.util.iamPermissionCache; // Permission Cache
+
+// Thread-Mode Load Benchmark: a burst of concurrent getPermission requests, on platform threads (Tomcat's default
+// pool of 200) or on one virtual thread per request (IAM_VIRTUAL_THREADS=true)
+// - Score: bursts per second (times concurrency: requests per second)
+// - Permission cache disabled: every request reads iamDB (the blocking JDBC call is what the thread mode is about)
+// - Needs a reachable iamDB (IAMDB_URL, IAMDB_USR, IAMDB_PWD) holding at least one Permission, or the embedded one
+//   (IAMDB_URL as in the embedded Maven profile), seeded with IAMDB_SEED_PERMISSIONS permissions
+// - Run: mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=jgr.iam.benchmark.ThreadModeBenchmark
+// - Pinning check: add -Djdk.tracePinnedThreads=short to the JVM arguments, no stack trace is expected
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ThreadModeBenchmark {
+
+    // Platform pool size (Tomcat's server.tomcat.threads.max default)
+    private static final int PLATFORM_THREADS = 200;
+
+    @Param({"platform", "virtual"})
+    public String mode;
+
+    // Concurrent requests per operation
+    @Param({"1000", "5000"})
+    public int concurrency;
+
+    private ExecutorService executor;
+    private PermissionManager manager;
+    private int id;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        iamDBEmbeddedTestUtil.seedIfEmbedded(new iamDBConnectorUtil());
+        executor = "virtual".equals(mode) ? Executors.newVirtualThreadPerTaskExecutor() : Executors.newFixedThreadPool(PLATFORM_THREADS);
+        // Shared pool, as in the service (IAMDB_POOL_MAX_SIZE bounds the concurrent JDBC calls in both modes)
+        manager = new PermissionManager(new iamDBConnectorUtil());
+        manager.setCache(new iamPermissionCache(false, 0, 0));
+        id = manager.getPermissions(RequestType.SUMMARY, false, 0, 1).get(0).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public int requests() throws Exception {
+        List<Future<Permission>> futures = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(executor.submit(() -> manager.getPermission(id, RequestType.DETAIL)));
+        }
+        int result = 0;
+        for (Future<Permission> future : futures) {
+            result += future.get() == null ? 0 : 1;
+        }
+        return result;
+    }
+
+    // Main
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ThreadModeBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,53 @@
+package jgr.iam.config;
+
+// External Objects
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+// External Static Objects
+import static org.junit.jupiter.api.Assertions.*;
+
+// Internal Objects
+import jgr.iam.util.iamDBRoutingUtil;
+
+// iamDBRoutingInterceptor Test Class
+public class iamDBRoutingInterceptorTest {
+
+    private final iamDBRoutingInterceptor interceptor = new iamDBRoutingInterceptor();
+
+    @AfterEach
+    void tearDown() {
+        iamDBRoutingUtil.end();
+    }
+
+    @Test
+    void smokeTestGetIsReplicaRead() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/manage/permission");
+        request.addHeader(iamDBRoutingInterceptor.CLIENT_HEADER, "interceptor-reader");
+        assertTrue(interceptor.preHandle(request, new MockHttpServletResponse(), null));
+        assertTrue(iamDBRoutingUtil.isReplicaRead());
+        interceptor.afterCompletion(request, new MockHttpServletResponse(), null, null);
+        assertFalse(iamDBRoutingUtil.isReplicaRead());
+    }
+
+    @Test
+    void smokeTestWriteFencesClient() {
+        MockHttpServletRequest request = new MockHttpServletRequest("DELETE", "/manage/permission/1");
+        request.addHeader(iamDBRoutingInterceptor.CLIENT_HEADER, "interceptor-writer");
+        interceptor.preHandle(request, new MockHttpServletResponse(), null);
+        assertFalse(iamDBRoutingUtil.isReplicaRead());
+        interceptor.afterCompletion(request, new MockHttpServletResponse(), null, null);
+        assertTrue(iamDBRoutingUtil.isFenced("interceptor-writer"));
+    }
+
+    @Test
+    void smokeTestClientDefaultsToRemoteAddress() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/manage/permission");
+        request.setRemoteAddr("10.1.2.3");
+        interceptor.preHandle(request, new MockHttpServletResponse(), null);
+        interceptor.afterCompletion(request, new MockHttpServletResponse(), null, null);
+        assertTrue(iamDBRoutingUtil.isFenced("10.1.2.3"));
+    }
+}
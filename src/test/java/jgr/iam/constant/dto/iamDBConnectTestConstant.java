@@ -5,4 +5,9 @@ public class iamDBConnectTestConstant {
     public static final String IAM_DB_CONFIG_TEST_URL = "jdbc:mysql://localhost:3306/iamDB";
     public static final String IAM_DB_CONFIG_TEST_USR = "admin";
     public static final String IAM_DB_CONFIG_TEST_PWD = "1234";
+    // Embedded iamDB (in-process H2 in MySQL mode, served over TCP, schema created by the migrations): IAMDB_URL for the embedded profile
+    public static final String IAM_DB_EMBEDDED_URL = "jdbc:h2:tcp://localhost:9092/mem:iamDB;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1";
+    // Embedded iamDB Seed (benchmarks): IAMDB_SEED_PERMISSIONS
+    public static final String ENV_SEED_PERMISSIONS = "IAMDB_SEED_PERMISSIONS";
+    public static final int DEFAULT_SEED_PERMISSIONS = 10000;
 }
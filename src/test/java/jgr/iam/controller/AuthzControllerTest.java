@@ -0,0 +1,99 @@
+package jgr.iam.controller;
+
+// External Libraries
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+// External Libraries (Static)
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Internal Libraries
+import jgr.iam.constant.iamServiceResponseCode;
+import jgr.iam.payload.request.authz.AuthzBulkCheckRequest;
+import jgr.iam.payload.response.authz.AuthzCheckListResponse;
+import jgr.iam.payload.response.authz.AuthzCheckResponse;
+import jgr.iam.payload.response.authz.AuthzCheckValue;
+import jgr.iam.service.impl.AuthzService;
+import java.util.List;
+
+// Authorization Controller Test
+public class AuthzControllerTest {
+
+    // MockMVC
+    private MockMvc mockMvc;
+
+    @Mock
+    private AuthzService authzService;
+
+    @InjectMocks
+    private AuthzController authzController;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        mockMvc = MockMvcBuilders.standaloneSetup(authzController).build();
+    }
+
+    // As a Gateway, I want to know whether a User holds a Permission, on every request
+    @Test
+    public void smokeTestCheck() throws Exception {
+        when(authzService.check("7", "1000")).thenReturn(new AuthzCheckResponse(new AuthzCheckValue(7, 1000, true), HttpStatus.OK, iamServiceResponseCode.CONTENT_FOUND));
+
+        mockMvc.perform(get("/authz/check").param("user", "7").param("permission", "1000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.user").value(7))
+                .andExpect(jsonPath("$.items.permission").value(1000))
+                .andExpect(jsonPath("$.items.allowed").value(true));
+    }
+
+    @Test
+    public void negativeTestCheckMissingParameter() throws Exception {
+        mockMvc.perform(get("/authz/check").param("user", "7"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void negativeTestCheckNullResult() {
+        when(authzService.check("7", "1000")).thenReturn(null);
+
+        ResponseEntity<AuthzCheckResponse> result = authzController.check("7", "1000");
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, result.getStatusCode());
+    }
+
+    // As a Gateway, I want to check all the Permissions a page needs in one call, with a consistent answer
+    @Test
+    public void smokeTestCheckAll() throws Exception {
+        List<AuthzCheckValue> checks = List.of(new AuthzCheckValue(7, 1000, true), new AuthzCheckValue(7, 1001, false));
+        when(authzService.checkAll(any(AuthzBulkCheckRequest.class))).thenReturn(new AuthzCheckListResponse(checks, HttpStatus.OK, iamServiceResponseCode.CONTENT_FOUND));
+
+        mockMvc.perform(post("/authz/check").contentType(MediaType.APPLICATION_JSON).content("{\"user\": 7, \"permissions\": [1000, 1001]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(2))
+                .andExpect(jsonPath("$.items[0].allowed").value(true))
+                .andExpect(jsonPath("$.items[1].allowed").value(false));
+    }
+
+    @Test
+    public void negativeTestCheckAllNullResult() {
+        when(authzService.checkAll(any())).thenReturn(null);
+
+        ResponseEntity<AuthzCheckListResponse> result = authzController.checkAll(new AuthzBulkCheckRequest());
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, result.getStatusCode());
+    }
+}
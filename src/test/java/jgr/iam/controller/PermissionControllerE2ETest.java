@@ -4,6 +4,7 @@ package jgr.iam.controller;
 import jgr.iam.constant.dto.MetadataDTOTestConstant;
 import jgr.iam.constant.iamDBUpdatableFields;
 import jgr.iam.payload.request.metadata.MetadataCreateRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.junit.jupiter.api.*;
@@ -24,6 +25,8 @@ import jgr.iam.payload.request.permission.*;
 import jgr.iam.payload.response.*;
 import jgr.iam.payload.response.permission.*;
 import jgr.iam.payload.response.metadata.*;
+import jgr.iam.manager.PermissionManager;
+import jgr.iam.service.impl.PermissionService;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -43,7 +46,7 @@ public class PermissionControllerE2ETest {
     // Insert Data
     @BeforeEach
     void setUp() {
-        adminPermController = new PermissionController();
+        adminPermController = new PermissionController(new PermissionService(new PermissionManager(), new ObjectMapper()));
         ctdUtil = new ControllerTestDataUtil();
         // Setup
         ctdUtil.setUp();
@@ -67,7 +70,7 @@ public class PermissionControllerE2ETest {
     @SuppressWarnings("unchecked")
     @Test
     void smokeTestGetNonArchivedPermissionSummaryList() {
-        ResponseEntity<PermissionSummaryListResponse> response = adminPermController.getPermissionSummaryList(false);
+        ResponseEntity<PermissionSummaryListResponse> response = adminPermController.getPermissionSummaryList(false, null, null, null);
         // HttpStatus
         assertEquals(HttpStatus.OK, response.getStatusCode());
         // Response Body
@@ -119,7 +122,7 @@ public class PermissionControllerE2ETest {
     @Order(2)
     @Test
     void smokeTestGetNonArchivedPermissionDetailList() {
-        ResponseEntity<PermissionDetailListResponse> response = adminPermController.getPermissionDetailList(false);
+        ResponseEntity<PermissionDetailListResponse> response = adminPermController.getPermissionDetailList(false, null, null, null);
         // HttpStatus
         assertEquals(HttpStatus.OK, response.getStatusCode());
         // Response Body
@@ -241,7 +244,7 @@ public class PermissionControllerE2ETest {
         if(permId == -1) {
             fail("smokeTestGetPermissionSummary: Permission Not Found.");
         }
-        ResponseEntity<PermissionSummaryResponse> response = adminPermController.getPermissionSummary(String.format("%d", permId));
+        ResponseEntity<PermissionSummaryResponse> response = adminPermController.getPermissionSummary(String.format("%d", permId), null);
         // HttpStatus
         assertEquals(HttpStatus.OK, response.getStatusCode());
         // Response Body
@@ -267,7 +270,7 @@ public class PermissionControllerE2ETest {
     @Order(4)
     @Test
     void negativeExceptionTestGetPermissionSummary() {
-        ResponseEntity<PermissionSummaryResponse> response = adminPermController.getPermissionSummary("BLAH");
+        ResponseEntity<PermissionSummaryResponse> response = adminPermController.getPermissionSummary("BLAH", null);
         // HttpStatus
         assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
         // Response Body
@@ -280,7 +283,7 @@ public class PermissionControllerE2ETest {
     @Order(5)
     @Test
     void negativeNotFoundTestGetPermissionSummary() {
-        ResponseEntity<PermissionSummaryResponse> response = adminPermController.getPermissionSummary("0");
+        ResponseEntity<PermissionSummaryResponse> response = adminPermController.getPermissionSummary("0", null);
         // HttpStatus
         assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
         // Response Body
@@ -300,7 +303,7 @@ public class PermissionControllerE2ETest {
         if(permId == -1) {
             fail("smokeTestGetPermissionDetail: Permission Not Found.");
         }
-        ResponseEntity<PermissionDetailResponse> response = adminPermController.getPermissionDetail(String.format("%d", permId));
+        ResponseEntity<PermissionDetailResponse> response = adminPermController.getPermissionDetail(String.format("%d", permId), null);
         // HttpStatus
         assertEquals(HttpStatus.OK, response.getStatusCode());
         // Response Body
@@ -340,7 +343,7 @@ public class PermissionControllerE2ETest {
     @Order(7)
     @Test
     void negativeExceptionTestGetPermissionDetail() {
-        ResponseEntity<PermissionDetailResponse> response = adminPermController.getPermissionDetail("BLAH");
+        ResponseEntity<PermissionDetailResponse> response = adminPermController.getPermissionDetail("BLAH", null);
         // HttpStatus
         assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
         // Response Body
@@ -353,7 +356,7 @@ public class PermissionControllerE2ETest {
     @Order(8)
     @Test
     void negativeNotFoundTestGetPermissionDetail() {
-        ResponseEntity<PermissionDetailResponse> response = adminPermController.getPermissionDetail("0");
+        ResponseEntity<PermissionDetailResponse> response = adminPermController.getPermissionDetail("0", null);
         // HttpStatus
         assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
         // Response Body
@@ -713,7 +716,7 @@ public class PermissionControllerE2ETest {
         }
 
         // Get Detail Permission Response
-        ResponseEntity<PermissionDetailResponse> detailResponse = adminPermController.getPermissionDetail(String.format("%d", permId));
+        ResponseEntity<PermissionDetailResponse> detailResponse = adminPermController.getPermissionDetail(String.format("%d", permId), null);
         // HttpStatus
         assertEquals(HttpStatus.OK, detailResponse.getStatusCode());
         // Response Body
@@ -909,7 +912,7 @@ public class PermissionControllerE2ETest {
         // 1: Clear requests
         requests.clear();
         // 1: Get Detail Permission Response
-        ResponseEntity<PermissionDetailResponse> detailResponse = adminPermController.getPermissionDetail(String.format("%d", permId));
+        ResponseEntity<PermissionDetailResponse> detailResponse = adminPermController.getPermissionDetail(String.format("%d", permId), null);
         // 1: HttpStatus
         assertEquals(HttpStatus.OK, detailResponse.getStatusCode());
         // 1: Response Body
@@ -944,7 +947,7 @@ public class PermissionControllerE2ETest {
         // 2: Clear requests
         requests.clear();
         // 2: Get Detail Permission Response
-        detailResponse = adminPermController.getPermissionDetail(String.format("%d", permId));
+        detailResponse = adminPermController.getPermissionDetail(String.format("%d", permId), null);
         // 2: HttpStatus
         assertEquals(HttpStatus.OK, detailResponse.getStatusCode());
         // 2: Response Body
@@ -972,7 +975,7 @@ public class PermissionControllerE2ETest {
         assertEquals(iamServiceResponseCode.UPDATED, updateResponse.getBody().getResponse());
         assertEquals(0, updateResponse.getBody().getCount());
         // 3: Get Detail Permission Response
-        detailResponse = adminPermController.getPermissionDetail(String.format("%d", permId));
+        detailResponse = adminPermController.getPermissionDetail(String.format("%d", permId), null);
         // 3: HttpStatus
         assertEquals(HttpStatus.OK, detailResponse.getStatusCode());
         // 3: Response Body
@@ -1131,4 +1134,38 @@ public class PermissionControllerE2ETest {
         // 2: Clear requests
         requests.clear();
     }
+
+    // getPermissionDetailList, getPermissionDetail: ETag, If-None-Match
+    @Order(32)
+    @Test
+    void smokeTestPermissionDetailETag() {
+        // Get Permission ID
+        if(ctdUtil == null)
+            ctdUtil = new ControllerTestDataUtil();
+        int permId = ctdUtil.getPermissionId(AdvancedAppDataTestConstant.PERM1_NAME);
+        if(permId == -1) {
+            fail("smokeTestPermissionDetailETag: Permission Not Found.");
+        }
+
+        // Test 1: Unchanged, Not Modified
+        ResponseEntity<PermissionDetailListResponse> listResponse = adminPermController.getPermissionDetailList(false, null, null, null);
+        String listETag = listResponse.getHeaders().getETag();
+        assertNotNull(listETag);
+        ResponseEntity<PermissionDetailResponse> response = adminPermController.getPermissionDetail(String.format("%d", permId), null);
+        String eTag = response.getHeaders().getETag();
+        assertNotNull(eTag);
+        assertEquals(HttpStatus.NOT_MODIFIED, adminPermController.getPermissionDetailList(false, null, null, listETag).getStatusCode());
+        assertEquals(HttpStatus.NOT_MODIFIED, adminPermController.getPermissionDetail(String.format("%d", permId), eTag).getStatusCode());
+
+        // Test 2: Updated (committed unit of work), sent in full with a new ETag
+        List<EntityPatchRequest> requests = new ArrayList<>();
+        requests.add(new EntityPatchRequest(iamDBUpdatableFields.DESCRIPTION, AdvancedAppDataTestConstant.PERM1_DESCRIPTION + " (updated)"));
+        assertEquals(HttpStatus.OK, adminPermController.updatePermission(String.format("%d", permId), requests).getStatusCode());
+        listResponse = adminPermController.getPermissionDetailList(false, null, null, listETag);
+        assertEquals(HttpStatus.OK, listResponse.getStatusCode());
+        assertNotEquals(listETag, listResponse.getHeaders().getETag());
+        response = adminPermController.getPermissionDetail(String.format("%d", permId), eTag);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotEquals(eTag, response.getHeaders().getETag());
+    }
 }
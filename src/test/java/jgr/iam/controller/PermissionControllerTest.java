@@ -9,9 +9,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import java.util.List;
 import java.util.ArrayList;
 
@@ -20,7 +22,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 // Internal Libraries
 import jgr.iam.util.ExceptionHandlerTestUtil;
@@ -36,6 +43,7 @@ import jgr.iam.payload.response.metadata.MetadataValue;
 import jgr.iam.payload.response.permission.*;
 import jgr.iam.model.bo.Permission;
 import jgr.iam.service.impl.PermissionService;
+import jgr.iam.util.iamCatalogVersion;
 
 // Permission Controller Test
 public class PermissionControllerTest {
@@ -68,9 +76,9 @@ public class PermissionControllerTest {
         perms.add(new Permission(new PermissionDTO(1, AdvancedAppDataTestConstant.PERM1_NAME, AdvancedAppDataTestConstant.PERM1_DESCRIPTION, false)));
         PermissionSummaryListResponse response = new PermissionSummaryListResponse(perms, HttpStatus.OK, iamServiceResponseCode.CONTENT_FOUND);
         // Set Expected Response
-        when(permService.getPermissionSummaryList(false)).thenReturn(response);
+        when(permService.getPermissionSummaryList(false, null, null)).thenReturn(response);
         // Check getPermissionSummaryList
-        ResponseEntity<PermissionSummaryListResponse> result = permissionController.getPermissionSummaryList(false);
+        ResponseEntity<PermissionSummaryListResponse> result = permissionController.getPermissionSummaryList(false, null, null, null);
         // Check Result
         assertEquals(HttpStatus.OK, result.getStatusCode());
         // Response Body
@@ -97,9 +105,9 @@ public class PermissionControllerTest {
 
     @Test
     public void negativeTestGetPermissionSummaryList() {
-        doReturn(null).when(permService).getPermissionSummaryList(anyBoolean());
+        doReturn(null).when(permService).getPermissionSummaryList(anyBoolean(), any(), any());
         // Call
-        ResponseEntity<PermissionSummaryListResponse> result = permissionController.getPermissionSummaryList(false);
+        ResponseEntity<PermissionSummaryListResponse> result = permissionController.getPermissionSummaryList(false, null, null, null);
         // Check Result
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, result.getStatusCode());
     }
@@ -126,9 +134,9 @@ public class PermissionControllerTest {
         perms.add(new Permission(new PermissionDTO(1, AdvancedAppDataTestConstant.PERM1_NAME, AdvancedAppDataTestConstant.PERM1_DESCRIPTION, false)));
         PermissionDetailListResponse response = new PermissionDetailListResponse(perms, HttpStatus.OK, iamServiceResponseCode.CONTENT_FOUND);
         // Set Expected Response
-        when(permService.getPermissionDetailList(false)).thenReturn(response);
+        when(permService.getPermissionDetailList(false, null, null)).thenReturn(response);
         // Check getPermissionSummaryList
-        ResponseEntity<PermissionDetailListResponse> result = permissionController.getPermissionDetailList(false);
+        ResponseEntity<PermissionDetailListResponse> result = permissionController.getPermissionDetailList(false, null, null, null);
         // Check Result
         assertEquals(HttpStatus.OK, result.getStatusCode());
         // Response Body
@@ -155,9 +163,9 @@ public class PermissionControllerTest {
 
     @Test
     public void negativeTestGetPermissionDetailList() {
-        doReturn(null).when(permService).getPermissionDetailList(anyBoolean());
+        doReturn(null).when(permService).getPermissionDetailList(anyBoolean(), any(), any());
         // Call
-        ResponseEntity<PermissionDetailListResponse> result = permissionController.getPermissionDetailList(false);
+        ResponseEntity<PermissionDetailListResponse> result = permissionController.getPermissionDetailList(false, null, null, null);
         // Check Result
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, result.getStatusCode());
     }
@@ -166,7 +174,7 @@ public class PermissionControllerTest {
     public void negativeTestGetPermissionSummary() {
         doReturn(null).when(permService).getPermissionSummary(anyString());
         // Call
-        ResponseEntity<PermissionSummaryResponse> result = permissionController.getPermissionSummary("1");
+        ResponseEntity<PermissionSummaryResponse> result = permissionController.getPermissionSummary("1", null);
         // Check Result
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, result.getStatusCode());
     }
@@ -227,8 +235,79 @@ public class PermissionControllerTest {
     public void negativeTestGetPermissionDetail() {
         doReturn(null).when(permService).getPermissionDetail(anyString());
         // Call
-        ResponseEntity<PermissionDetailResponse> result = permissionController.getPermissionDetail("1");
+        ResponseEntity<PermissionDetailResponse> result = permissionController.getPermissionDetail("1", null);
         // Check Result
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, result.getStatusCode());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void smokeTestExportPermissions() {
+        StreamingResponseBody body = outputStream -> outputStream.write("{}\n".getBytes());
+        when(permService.exportPermissions(false)).thenReturn(body);
+        // Call
+        ResponseEntity<StreamingResponseBody> result = permissionController.exportPermissions(false, null);
+        // Check Result
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(MediaType.APPLICATION_NDJSON, result.getHeaders().getContentType());
+        assertEquals(body, result.getBody());
+    }
+
+    @Test
+    public void smokeTestGetPermissionDetailListETag() {
+        String eTag = new iamCatalogVersion(0).getETag();
+        when(permService.getCatalogETag()).thenReturn(eTag);
+        when(permService.getPermissionDetailList(false, null, null)).thenReturn(new PermissionDetailListResponse(new ArrayList<>(List.of(new Permission(new PermissionDTO(1, AdvancedAppDataTestConstant.PERM1_NAME, AdvancedAppDataTestConstant.PERM1_DESCRIPTION, false)))), HttpStatus.OK, iamServiceResponseCode.CONTENT_FOUND));
+        // Call
+        ResponseEntity<PermissionDetailListResponse> result = permissionController.getPermissionDetailList(false, null, null, "W/\"other\"");
+        // Check Result: tagged with the catalog version
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(eTag, result.getHeaders().getETag());
+    }
+
+    @Test
+    public void smokeTestGetPermissionDetailListNotModified() {
+        String eTag = new iamCatalogVersion(0).getETag();
+        when(permService.getCatalogETag()).thenReturn(eTag);
+        // Call
+        ResponseEntity<PermissionDetailListResponse> result = permissionController.getPermissionDetailList(false, null, null, eTag);
+        // Check Result: answered without reading the permissions
+        assertEquals(HttpStatus.NOT_MODIFIED, result.getStatusCode());
+        assertEquals(eTag, result.getHeaders().getETag());
+        assertEquals(null, result.getBody());
+        verify(permService, never()).getPermissionDetailList(anyBoolean(), any(), any());
+    }
+
+    @Test
+    public void smokeTestGetPermissionDetailNotModified() throws Exception {
+        String eTag = new iamCatalogVersion(0).getETag(1);
+        when(permService.getPermissionETag("1")).thenReturn(eTag);
+        // Call (through the dispatcher: If-None-Match header)
+        mockMvc.perform(get("/manage/permission/1/detail").header("If-None-Match", eTag))
+               .andExpect(status().isNotModified())
+               .andExpect(header().string("ETag", eTag));
+        // Check Result
+        verify(permService, never()).getPermissionDetail(anyString());
+    }
+
+    @Test
+    public void negativeTestGetPermissionSummaryNoETag() {
+        when(permService.getPermissionETag("1")).thenReturn(new iamCatalogVersion(0).getETag(1));
+        when(permService.getPermissionSummary("1")).thenReturn(new PermissionSummaryResponse(null, HttpStatus.NO_CONTENT, iamServiceResponseCode.NO_CONTENT));
+        // Call
+        ResponseEntity<PermissionSummaryResponse> result = permissionController.getPermissionSummary("1", null);
+        // Check Result: only OK responses tagged
+        assertEquals(HttpStatus.NO_CONTENT, result.getStatusCode());
+        assertEquals(null, result.getHeaders().getETag());
+    }
+
+    @Test
+    public void smokeTestExportPermissionsNotModified() {
+        String eTag = new iamCatalogVersion(0).getETag();
+        when(permService.getCatalogETag()).thenReturn(eTag);
+        // Call
+        ResponseEntity<StreamingResponseBody> result = permissionController.exportPermissions(false, eTag);
+        // Check Result
+        assertEquals(HttpStatus.NOT_MODIFIED, result.getStatusCode());
+        verify(permService, never()).exportPermissions(anyBoolean());
+    }
+}
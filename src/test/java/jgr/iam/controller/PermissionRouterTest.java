@@ -0,0 +1,202 @@
+package jgr.iam.controller;
+
+// External Objects
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import java.util.List;
+import java.util.Map;
+
+// External Static Objects
+import static org.junit.jupiter.api.Assertions.*;
+
+// Internal Objects
+import jgr.iam.constant.iamDBMetadataTable;
+import jgr.iam.constant.iamServiceResponseCode;
+import jgr.iam.manager.PermissionReactiveManager;
+import jgr.iam.repository.ChangeLogReactiveRepository;
+import jgr.iam.repository.MetadataReactiveRepository;
+import jgr.iam.repository.PermissionReactiveRepository;
+import jgr.iam.service.impl.PermissionReactiveService;
+import jgr.iam.util.iamR2dbcTestUtil;
+
+// PermissionRouter Test Class: the reactive stack end-to-end, on an in-memory iamDB
+public class PermissionRouterTest {
+
+    private DatabaseClient client;
+    private WebTestClient webClient;
+
+    @BeforeEach
+    void setUp() {
+        client = iamR2dbcTestUtil.createClient();
+        PermissionReactiveManager manager = new PermissionReactiveManager(new PermissionReactiveRepository(client),
+                                                                          new MetadataReactiveRepository(client, iamDBMetadataTable.PERM),
+                                                                          new ChangeLogReactiveRepository(client));
+        TransactionalOperator operator = TransactionalOperator.create(new R2dbcTransactionManager(client.getConnectionFactory()));
+        webClient = WebTestClient.bindToRouterFunction(new PermissionRouter().permissionRoutes(new PermissionReactiveService(manager, operator)))
+                                 .build();
+    }
+
+    // Create a Permission: its id
+    private int createPermission(String name) {
+        Map<?, ?> body = webClient.post().uri("/manage/permission")
+                                  .bodyValue(Map.of("name", name, "description", "Description of " + name))
+                                  .exchange()
+                                  .expectStatus().isCreated()
+                                  .expectBody(Map.class).returnResult().getResponseBody();
+        return (Integer) ((Map<?, ?>) body.get("items")).get("id");
+    }
+
+    @Test
+    void smokeTestCreateAndGet() {
+        int id = createPermission("perm.read");
+        // Already existing
+        webClient.post().uri("/manage/permission")
+                 .bodyValue(Map.of("name", "perm.read", "description", "Again"))
+                 .exchange()
+                 .expectStatus().isFound()
+                 .expectBody().jsonPath("$.response").isEqualTo(iamServiceResponseCode.ALREADY_EXISTING);
+        // Summary
+        webClient.get().uri("/manage/permission/" + id)
+                 .exchange()
+                 .expectStatus().isOk()
+                 .expectBody().jsonPath("$.items.name").isEqualTo("perm.read");
+        // Detail, with role and metadata
+        iamR2dbcTestUtil.addRole(client, id, "app", "feature", "reader");
+        webClient.post().uri("/manage/permission/" + id)
+                 .bodyValue(Map.of("name", "owner", "value", "iam"))
+                 .exchange()
+                 .expectStatus().isCreated()
+                 .expectBody().jsonPath("$.items.metadata_count").isEqualTo(1);
+        webClient.get().uri("/manage/permission/" + id + "/detail")
+                 .exchange()
+                 .expectStatus().isOk()
+                 .expectBody()
+                 .jsonPath("$.items.role_items[0]").isEqualTo("app.feature.reader")
+                 .jsonPath("$.items.metadata_items[0].name").isEqualTo("owner");
+    }
+
+    @Test
+    void negativeTestGetInvalidOrUnknown() {
+        webClient.get().uri("/manage/permission/abc").exchange().expectStatus().isNoContent();
+        webClient.get().uri("/manage/permission/404/detail").exchange().expectStatus().isNoContent();
+        webClient.delete().uri("/manage/permission/abc").exchange().expectStatus().isBadRequest();
+        webClient.delete().uri("/manage/permission/404").exchange().expectStatus().isNoContent();
+        webClient.get().uri("/manage/permission?limit=0").exchange().expectStatus().isBadRequest();
+        webClient.get().uri("/manage/permission?limit=x").exchange().expectStatus().isBadRequest();
+    }
+
+    @Test
+    void smokeTestPages() {
+        for (int i = 0; i < 3; i++) {
+            createPermission("perm." + i);
+        }
+        Map<?, ?> first = webClient.get().uri("/manage/permission/detail?limit=2")
+                                   .exchange()
+                                   .expectStatus().isOk()
+                                   .expectBody(Map.class).returnResult().getResponseBody();
+        assertEquals(2, first.get("count"));
+        webClient.get().uri("/manage/permission?limit=2&cursor=" + first.get("next"))
+                 .exchange()
+                 .expectStatus().isOk()
+                 .expectBody()
+                 .jsonPath("$.count").isEqualTo(1)
+                 .jsonPath("$.next").doesNotExist();
+        webClient.get().uri("/manage/permission?archived=true").exchange().expectStatus().isNoContent();
+    }
+
+    @Test
+    void smokeTestExport() {
+        for (int i = 0; i < 3; i++) {
+            createPermission("perm." + i);
+        }
+        String body = webClient.get().uri("/manage/permission/export")
+                               .exchange()
+                               .expectStatus().isOk()
+                               .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                               .expectBody(String.class).returnResult().getResponseBody();
+        assertEquals(3, body.trim().split("\n").length);
+    }
+
+    @Test
+    void smokeTestUpdateAndDelete() {
+        int id = createPermission("perm.write");
+        webClient.patch().uri("/manage/permission/" + id)
+                 .bodyValue(List.of(Map.of("name", "description", "value", "Updated"), Map.of("name", "archived", "value", true)))
+                 .exchange()
+                 .expectStatus().isOk();
+        webClient.get().uri("/manage/permission/" + id)
+                 .exchange()
+                 .expectBody()
+                 .jsonPath("$.items.description").isEqualTo("Updated")
+                 .jsonPath("$.items.archived").isEqualTo(true);
+        // Unknown field
+        webClient.patch().uri("/manage/permission/" + id)
+                 .bodyValue(List.of(Map.of("name", "unknown", "value", "x")))
+                 .exchange()
+                 .expectStatus().isBadRequest()
+                 .expectBody().jsonPath("$.response").isEqualTo(iamServiceResponseCode.UPDATED_WARNING);
+        // Metadata
+        webClient.post().uri("/manage/permission/" + id).bodyValue(Map.of("name", "owner", "value", "iam")).exchange().expectStatus().isCreated();
+        webClient.post().uri("/manage/permission/" + id).bodyValue(Map.of("name", "owner", "value", "iam")).exchange().expectStatus().isFound();
+        webClient.patch().uri("/manage/permission/" + id + "/owner")
+                 .bodyValue(List.of(Map.of("name", "value", "value", "security")))
+                 .exchange()
+                 .expectStatus().isOk();
+        webClient.patch().uri("/manage/permission/" + id + "/unknown")
+                 .bodyValue(List.of(Map.of("name", "value", "value", "security")))
+                 .exchange()
+                 .expectStatus().isNoContent();
+        webClient.delete().uri("/manage/permission/" + id + "/owner").exchange().expectStatus().isOk();
+        webClient.delete().uri("/manage/permission/" + id + "/owner").exchange().expectStatus().isNoContent();
+        // Permission
+        webClient.delete().uri("/manage/permission/" + id).exchange().expectStatus().isOk();
+        webClient.get().uri("/manage/permission/" + id).exchange().expectStatus().isNoContent();
+    }
+
+    @Test
+    void smokeTestChangeLogged() {
+        int id = createPermission("perm.logged");
+        webClient.patch().uri("/manage/permission/" + id)
+                 .bodyValue(List.of(Map.of("name", "description", "value", "Updated")))
+                 .exchange()
+                 .expectStatus().isOk();
+        webClient.post().uri("/manage/permission/" + id).bodyValue(Map.of("name", "owner", "value", "iam")).exchange().expectStatus().isCreated();
+        webClient.delete().uri("/manage/permission/" + id + "/owner").exchange().expectStatus().isOk();
+        webClient.delete().uri("/manage/permission/" + id).exchange().expectStatus().isOk();
+
+        // Validate: one row per mutation, for the other nodes' caches
+        List<String> entities = client.sql("SELECT entity FROM ChangeLog WHERE permissionId = " + id + " ORDER BY seq")
+                                      .map(row -> row.get("entity", String.class))
+                                      .all().collectList().block();
+        assertEquals(List.of("PERMISSION", "PERMISSION", "METADATA", "METADATA", "PERMISSION"), entities);
+    }
+
+    @Test
+    void negativeTestChangeLogFailureRollsBack() {
+        client.sql("DROP TABLE ChangeLog").then().block();
+
+        // Validate: the change isn't committed without its change-log row
+        webClient.post().uri("/manage/permission")
+                 .bodyValue(Map.of("name", "perm.unlogged", "description", "Unlogged"))
+                 .exchange()
+                 .expectStatus().is5xxServerError();
+        assertEquals(0L, client.sql("SELECT COUNT(*) AS total FROM Permission").map(row -> row.get("total", Long.class)).one().block());
+    }
+
+    @Test
+    void negativeTestBadRequests() {
+        webClient.post().uri("/manage/permission").bodyValue(Map.of("name", "perm.only")).exchange().expectStatus().isBadRequest();
+        webClient.patch().uri("/manage/permission/1").bodyValue(List.of()).exchange()
+                 .expectStatus().isBadRequest()
+                 .expectBody().jsonPath("$.response").isEqualTo(iamServiceResponseCode.NO_UPDATE_REQUESTED);
+        webClient.post().uri("/manage/permission/abc").bodyValue(Map.of("name", "owner", "value", "iam")).exchange().expectStatus().isBadRequest();
+        assertEquals(HttpStatus.NO_CONTENT, webClient.post().uri("/manage/permission/404").bodyValue(Map.of("name", "owner", "value", "iam"))
+                                                     .exchange().returnResult(String.class).getStatus());
+    }
+}
@@ -5,17 +5,25 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.http.MediaType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 // Internal Objects
 import jgr.iam.util.ExceptionHandlerTestUtil; // Exception Stack Trace Util
 import jgr.iam.constant.iamServiceResponseCode;
+import jgr.iam.payload.response.ReadinessResponse;
 
 // Root Controller (MockMvc) Test
 @SpringBootTest
@@ -89,4 +97,31 @@ public class RootControllerTest {
 			ExceptionHandlerTestUtil.Handle(logger, "smokeTestIndexError", e);
 		}
 	}
+
+	// Test "/manage/ready": ready once started (warm-up done)
+	@Test
+	public void smokeTestIndexReady() {
+		try {
+			mockMvc.perform(MockMvcRequestBuilders.get("/manage/ready"))
+					.andExpect(MockMvcResultMatchers.status().isOk())
+					.andExpect(MockMvcResultMatchers.jsonPath("$.response").value(iamServiceResponseCode.READY))
+					.andExpect(MockMvcResultMatchers.jsonPath("$.status").value("OK"));
+		}
+		catch(Exception e)
+		{
+			ExceptionHandlerTestUtil.Handle(logger, "smokeTestIndexReady", e);
+		}
+	}
+
+	// Test "/manage/ready": not ready while refusing traffic (warm-up running)
+	@Test
+	public void negativeTestIndexNotReady() {
+		ApplicationAvailability availability = mock(ApplicationAvailability.class);
+		when(availability.getReadinessState()).thenReturn(ReadinessState.REFUSING_TRAFFIC);
+
+		ResponseEntity<ReadinessResponse> result = new RootController(availability).indexReady();
+
+		assertEquals(HttpStatus.SERVICE_UNAVAILABLE, result.getStatusCode());
+		assertEquals(iamServiceResponseCode.NOT_READY, result.getBody().getResponse());
+	}
 }
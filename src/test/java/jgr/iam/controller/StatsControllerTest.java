@@ -0,0 +1,81 @@
+package jgr.iam.controller;
+
+// External Libraries
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import java.util.List;
+
+// External Libraries (Static)
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Internal Libraries
+import jgr.iam.constant.iamServiceResponseCode;
+import jgr.iam.manager.PermissionManager;
+import jgr.iam.payload.response.cache.CacheStatisticsListResponse;
+import jgr.iam.payload.response.cache.CacheStatisticsValue;
+import jgr.iam.payload.response.pool.PoolStatisticsListResponse;
+import jgr.iam.payload.response.pool.PoolStatisticsValue;
+import jgr.iam.util.iamDBConnectionPool;
+import jgr.iam.util.iamPermissionCache;
+
+// Stats Controller Test
+public class StatsControllerTest {
+
+    private final StatsController statsController = new StatsController();
+
+    @BeforeEach
+    public void setUp() {
+        iamDBConnectionPool.shutdown();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        iamDBConnectionPool.shutdown();
+    }
+
+    @Test
+    public void negativeTestGetPoolStatisticsNoPool() {
+        ResponseEntity<PoolStatisticsListResponse> result = statsController.getPoolStatistics();
+        assertEquals(HttpStatus.NO_CONTENT, result.getStatusCode());
+        assertEquals(iamServiceResponseCode.NO_CONTENT, result.getBody().getResponse());
+        assertEquals(0, result.getBody().getCount());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void smokeTestGetPoolStatistics() {
+        iamDBConnectionPool.getDataSource("jdbc:mysql://localhost:3306/testdb", "user", "pwd");
+        ResponseEntity<PoolStatisticsListResponse> result = statsController.getPoolStatistics();
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(iamServiceResponseCode.CONTENT_FOUND, result.getBody().getResponse());
+        assertEquals(1, result.getBody().getCount());
+        List<PoolStatisticsValue> values = (List<PoolStatisticsValue>) result.getBody().getItems();
+        assertEquals(0, values.get(0).getAcquiredCount());
+    }
+
+    @Test
+    public void negativeTestGetCacheStatisticsNoCache() {
+        ResponseEntity<CacheStatisticsListResponse> result = statsController.getCacheStatistics();
+        assertEquals(HttpStatus.NO_CONTENT, result.getStatusCode());
+        assertEquals(0, result.getBody().getCount());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void smokeTestGetCacheStatistics() {
+        PermissionManager permManager = new PermissionManager();
+        permManager.setCache(new iamPermissionCache(true, 100, 60));
+        ResponseEntity<CacheStatisticsListResponse> result = new StatsController(permManager).getCacheStatistics();
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(iamServiceResponseCode.CONTENT_FOUND, result.getBody().getResponse());
+        assertEquals(3, result.getBody().getCount());
+        List<CacheStatisticsValue> values = (List<CacheStatisticsValue>) result.getBody().getItems();
+        assertEquals(iamPermissionCache.PERMISSION_CACHE, values.get(0).getCacheName());
+        assertEquals(100, values.get(0).getMaxSize());
+        assertEquals(iamPermissionCache.MISSING_CACHE, values.get(2).getCacheName());
+    }
+}
+
@@ -0,0 +1,70 @@
+package jgr.iam.controller;
+
+// External Libraries
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import java.util.ArrayList;
+import java.util.List;
+
+// External Libraries (Static)
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Internal Libraries
+import jgr.iam.constant.iamServiceResponseCode;
+import jgr.iam.model.bo.Permission;
+import jgr.iam.model.dto.PermissionDTO;
+import jgr.iam.payload.response.user.UserPermissionListResponse;
+import jgr.iam.service.impl.UserService;
+
+// User Controller Test
+public class UserControllerTest {
+
+    // MockMVC
+    private MockMvc mockMvc;
+
+    @Mock
+    private UserService userService;
+
+    @InjectMocks
+    private UserController userController;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        mockMvc = MockMvcBuilders.standaloneSetup(userController).build();
+    }
+
+    // As a Gateway, I want to know what a User can do when they log in
+    @Test
+    public void smokeTestGetUserPermissions() throws Exception {
+        List<Permission> perms = new ArrayList<>();
+        perms.add(new Permission(new PermissionDTO(1, "Permission1", "Description1", false)));
+        when(userService.getUserPermissions("7")).thenReturn(new UserPermissionListResponse(perms, HttpStatus.OK, iamServiceResponseCode.CONTENT_FOUND));
+
+        mockMvc.perform(get("/user/7/permissions"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(1))
+                .andExpect(jsonPath("$.items[0].id").value(1))
+                .andExpect(jsonPath("$.items[0].name").value("Permission1"));
+    }
+
+    @Test
+    public void negativeTestGetUserPermissionsNullResult() {
+        when(userService.getUserPermissions("7")).thenReturn(null);
+
+        ResponseEntity<UserPermissionListResponse> result = userController.getUserPermissions("7");
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, result.getStatusCode());
+    }
+}
@@ -0,0 +1,300 @@
+package jgr.iam.manager;
+
+// External Objects
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.MockitoAnnotations;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// External Static Objects
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+// Internal Objects
+import jgr.iam.enums.AuthzEdge;
+import jgr.iam.enums.AuthzNode;
+import jgr.iam.model.dto.PermissionDTO;
+import jgr.iam.model.dto.RoleDTO;
+import jgr.iam.model.dto.RolePermissionDTO;
+import jgr.iam.model.dto.UserDTO;
+import jgr.iam.model.dto.UserRoleDTO;
+import jgr.iam.repository.PermissionRepository;
+import jgr.iam.repository.RolePermissionRepository;
+import jgr.iam.repository.RoleRepository;
+import jgr.iam.repository.UserGroupRepository;
+import jgr.iam.repository.UserGroupRoleRepository;
+import jgr.iam.repository.UserRepository;
+import jgr.iam.repository.UserRoleRepository;
+import jgr.iam.repository.UserUserGroupRepository;
+import jgr.iam.util.iamAuthzIndex;
+
+// Authorization Manager Test Class
+public class AuthzManagerTest {
+
+    @Mock
+    private UserRoleRepository urRepo;
+
+    @Mock
+    private UserUserGroupRepository uugRepo;
+
+    @Mock
+    private UserGroupRoleRepository ugrRepo;
+
+    @Mock
+    private RolePermissionRepository rpRepo;
+
+    @Mock
+    private UserRepository userRepo;
+
+    @Mock
+    private UserGroupRepository ugRepo;
+
+    @Mock
+    private RoleRepository roleRepo;
+
+    @Mock
+    private PermissionRepository permRepo;
+
+    @Spy
+    @InjectMocks
+    private AuthzManager authzManager;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        MockitoAnnotations.openMocks(this);
+        authzManager.setUrRepo(urRepo);
+        authzManager.setUugRepo(uugRepo);
+        authzManager.setUgrRepo(ugrRepo);
+        authzManager.setRpRepo(rpRepo);
+        authzManager.setUserRepo(userRepo);
+        authzManager.setUgRepo(ugRepo);
+        authzManager.setRoleRepo(roleRepo);
+        authzManager.setPermRepo(permRepo);
+        authzManager.setRefresher(Runnable::run);
+        doReturn(true).when(authzManager).connect();
+        doNothing().when(authzManager).disconnect();
+        // User 1 holds role 10, granting permission 1000
+        when(urRepo.getAll()).thenReturn(List.of(new UserRoleDTO(1, 10, false)));
+        when(uugRepo.getAll()).thenReturn(List.of());
+        when(ugrRepo.getAll()).thenReturn(List.of());
+        when(rpRepo.getAll()).thenReturn(List.of(new RolePermissionDTO(10, 1000, false)));
+        when(userRepo.getAllInactive()).thenReturn(List.of());
+        when(userRepo.getAllArchived()).thenReturn(List.of());
+        when(ugRepo.getAllArchived()).thenReturn(List.of());
+        when(roleRepo.getAllArchived()).thenReturn(List.of());
+        when(permRepo.getAllArchived()).thenReturn(List.of());
+    }
+
+    @Test
+    void smokeTestCheckLoadsOnce() throws SQLException {
+        authzManager.setRefreshMillis(60000);
+
+        assertTrue(authzManager.check(1, 1000));
+        assertFalse(authzManager.check(1, 1001));
+        assertFalse(authzManager.check(2, 1000));
+
+        // Validate: loaded on first use only
+        verify(urRepo, times(1)).getAll();
+    }
+
+    @Test
+    void smokeTestCheckLoadsOnceConcurrently() throws Exception {
+        authzManager.setRefreshMillis(60000);
+        when(urRepo.getAll()).thenAnswer(invocation -> {
+            Thread.sleep(50);
+            return List.of(new UserRoleDTO(1, 10, false));
+        });
+
+        // Call: first use from many virtual threads at once (the others wait for the loader)
+        List<Future<Boolean>> checks = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 50; i++) {
+                checks.add(executor.submit(() -> authzManager.check(1, 1000)));
+            }
+            for (Future<Boolean> check : checks) {
+                assertTrue(check.get());
+            }
+        }
+
+        // Validate: loaded once
+        verify(urRepo, times(1)).getAll();
+    }
+
+    @Test
+    void smokeTestStaleIndexRebuilt() throws SQLException {
+        authzManager.setRefreshMillis(60000);
+        iamAuthzIndex first = authzManager.getIndex();
+        assertNotNull(first);
+
+        // Stale: the current index answers, a rebuild is started
+        when(rpRepo.getAll()).thenReturn(List.of(new RolePermissionDTO(10, 1001, false)));
+        authzManager.setRefreshMillis(1);
+        try { Thread.sleep(5); } catch (InterruptedException ignored) {}
+        assertSame(first, authzManager.getIndex());
+        authzManager.setRefreshMillis(60000);
+
+        // Validate: the rebuilt index is swapped in
+        assertNotSame(first, authzManager.getIndex());
+        assertTrue(authzManager.check(1, 1001));
+        verify(urRepo, times(2)).getAll();
+    }
+
+    @Test
+    void smokeTestCheckAll() throws SQLException {
+        authzManager.setRefreshMillis(60000);
+
+        boolean[] allowed = authzManager.checkAll(new int[] {1, 1, 2}, new int[] {1000, 1001, 1000});
+
+        assertArrayEquals(new boolean[] {true, false, false}, allowed);
+        verify(urRepo, times(1)).getAll();
+    }
+
+    @Test
+    void negativeTestCheckAllException() throws SQLException {
+        when(urRepo.getAll()).thenThrow(new SQLException("Database error"));
+
+        assertNull(authzManager.checkAll(new int[] {1}, new int[] {1000}));
+    }
+
+    @Test
+    void negativeTestCheckException() throws SQLException {
+        when(urRepo.getAll()).thenThrow(new SQLException("Database error"));
+
+        assertNull(authzManager.check(1, 1000));
+    }
+
+    @Test
+    void negativeTestRefreshExceptionKeepsIndex() throws SQLException {
+        authzManager.setRefreshMillis(60000);
+        iamAuthzIndex first = authzManager.getIndex();
+        when(urRepo.getAll()).thenThrow(new SQLException("Database error"));
+
+        assertFalse(authzManager.refresh());
+        assertSame(first, authzManager.getIndex());
+        assertTrue(authzManager.check(1, 1000));
+    }
+
+    @Test
+    void smokeTestArchivedLoadedAsFlags() throws SQLException {
+        authzManager.setRefreshMillis(60000);
+        UserDTO user = new UserDTO();
+        user.setId(1);
+        when(userRepo.getAllInactive()).thenReturn(List.of(user));
+
+        assertFalse(authzManager.check(1, 1000));
+        assertTrue(authzManager.getIndex().getGraph().isArchived(AuthzNode.USER, 1));
+
+        // Reactivated: restored flag
+        authzManager.archive(AuthzNode.USER, 1, false);
+        assertTrue(authzManager.check(1, 1000));
+    }
+
+    @Test
+    void smokeTestLinkDelta() throws SQLException {
+        authzManager.setRefreshMillis(60000);
+        iamAuthzIndex first = authzManager.getIndex();
+
+        authzManager.link(AuthzEdge.USER_ROLE, 2, 10, true);
+        authzManager.link(AuthzEdge.USER_ROLE, 1, 10, false);
+
+        // Validate: swapped in without a rebuild, the previous snapshot unchanged
+        assertTrue(authzManager.check(2, 1000));
+        assertFalse(authzManager.check(1, 1000));
+        assertTrue(first.check(1, 1000));
+        assertFalse(first.check(2, 1000));
+        verify(urRepo, times(1)).getAll();
+    }
+
+    @Test
+    void smokeTestDeltaBeforeLoadIgnored() throws SQLException {
+        authzManager.setRefreshMillis(60000);
+
+        // Not loaded: the first load reads the current state
+        authzManager.link(AuthzEdge.USER_ROLE, 2, 10, true);
+
+        assertFalse(authzManager.check(2, 1000));
+        assertTrue(authzManager.check(1, 1000));
+    }
+
+    @Test
+    void smokeTestDeltaReplayedOnRebuild() throws SQLException {
+        authzManager.setRefreshMillis(60000);
+        authzManager.getIndex();
+
+        // A link removed while the rebuild loads (read before the change was committed)
+        when(rpRepo.getAll()).thenAnswer(invocation -> {
+            authzManager.link(AuthzEdge.ROLE_PERMISSION, 10, 1000, false);
+            return List.of(new RolePermissionDTO(10, 1000, false));
+        });
+
+        assertTrue(authzManager.refresh());
+        assertFalse(authzManager.check(1, 1000));
+    }
+
+    @Test
+    void smokeTestReload() throws SQLException {
+        authzManager.setRefreshMillis(60000);
+        authzManager.getIndex();
+        PermissionDTO perm = new PermissionDTO(1000, "App.Perm", "Permission", true);
+        when(permRepo.getById(1000)).thenReturn(perm);
+        when(rpRepo.getAllForRole(10)).thenReturn(List.of(new RolePermissionDTO(10, 1000, false), new RolePermissionDTO(10, 1001, false)));
+
+        authzManager.reload(List.of(1000), List.of(10));
+
+        // Validate: permission 1000 archived, role 10 now grants 1001
+        assertFalse(authzManager.check(1, 1000));
+        assertTrue(authzManager.check(1, 1001));
+
+        // Deleted permission: archived; restored: granted again
+        when(permRepo.getById(1001)).thenReturn(null);
+        perm.setArchived(false);
+        authzManager.reload(List.of(1000, 1001), List.of());
+        assertTrue(authzManager.check(1, 1000));
+        assertFalse(authzManager.check(1, 1001));
+    }
+
+    @Test
+    void smokeTestReloadOnCompletion() throws SQLException {
+        authzManager.setRefreshMillis(60000);
+        authzManager.getIndex();
+        when(rpRepo.getAllForRole(10)).thenReturn(List.of());
+
+        authzManager.reloadOnCompletion(List.of(), List.of(10));
+
+        // Validate: reloaded once, when the unit of work completes
+        assertTrue(authzManager.check(1, 1000));
+        authzManager.complete();
+        assertFalse(authzManager.check(1, 1000));
+        authzManager.complete();
+        verify(rpRepo, times(1)).getAllForRole(10);
+    }
+
+    @Test
+    void negativeTestReloadException() throws SQLException {
+        authzManager.setRefreshMillis(60000);
+        iamAuthzIndex first = authzManager.getIndex();
+        when(rpRepo.getAllForRole(10)).thenThrow(new SQLException("Database error"));
+
+        authzManager.reload(List.of(), List.of(10));
+
+        // Validate: left to the next rebuild
+        assertSame(first, authzManager.getIndex());
+    }
+
+    @Test
+    void smokeTestRefreshLoadsArchived() throws SQLException {
+        RoleDTO role = new RoleDTO(10, "Role", "Role", 1, true);
+        when(roleRepo.getAllArchived()).thenReturn(List.of(role));
+
+        assertTrue(authzManager.refresh());
+        assertFalse(authzManager.check(1, 1000));
+    }
+}
@@ -8,6 +8,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.MockitoAnnotations;
+import javax.sql.DataSource;
+import java.sql.Connection;
 import java.sql.SQLException;
 
 // External Static Objects
@@ -17,6 +19,7 @@ import static org.mockito.Mockito.doThrow;
 
 // Internal Objects
 import jgr.iam.util.iamDBConnectorUtil;
+import jgr.iam.util.iamDBRoutingUtil;
 
 public class BaseManagerTest {
 
@@ -56,4 +59,121 @@ public class BaseManagerTest {
         assertEquals(false, result);
     }
 
+    @Test
+    void smokeTestConnectKeepsSharedDataSource() throws SQLException {
+        baseManager.setConnector(connector);
+        when(connector.getDataSource()).thenReturn(mock(DataSource.class));
+        // Call
+        boolean result = baseManager.connect();
+        assertEquals(true, result);
+        verify(connector, never()).setDataSource(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void smokeTestExecuteCommit() throws SQLException {
+        baseManager.setConnector(connector);
+        doReturn(true).when(baseManager).connect();
+        // Call
+        String result = baseManager.execute(Connection.TRANSACTION_READ_COMMITTED, () -> "OK", "OK"::equals);
+        assertEquals("OK", result);
+        verify(connector, times(1)).begin(Connection.TRANSACTION_READ_COMMITTED);
+        verify(connector, times(1)).commit();
+        verify(connector, never()).rollback();
+        verify(baseManager, times(1)).disconnect();
+    }
+
+    @Test
+    void smokeTestExecuteRollback() throws SQLException {
+        baseManager.setConnector(connector);
+        doReturn(true).when(baseManager).connect();
+        // Call
+        String result = baseManager.execute(Connection.TRANSACTION_READ_COMMITTED, () -> "KO", "OK"::equals);
+        assertEquals("KO", result);
+        verify(connector, times(1)).rollback();
+        verify(connector, never()).commit();
+    }
+
+    @Test
+    void smokeTestExecuteNoTransaction() throws SQLException {
+        baseManager.setConnector(connector);
+        doReturn(true).when(baseManager).connect();
+        // Call
+        String result = baseManager.execute(Connection.TRANSACTION_NONE, () -> "OK", "OK"::equals);
+        assertEquals("OK", result);
+        verify(connector, never()).begin(anyInt());
+        verify(baseManager, times(1)).disconnect();
+    }
+
+    @Test
+    void negativeTestExecuteCommitException() throws SQLException {
+        baseManager.setConnector(connector);
+        doReturn(true).when(baseManager).connect();
+        doThrow(new SQLException("Test Exception")).when(connector).commit();
+        // Call
+        String result = baseManager.execute(Connection.TRANSACTION_READ_COMMITTED, () -> "OK", "OK"::equals);
+        assertNull(result);
+        verify(baseManager, times(1)).disconnect();
+    }
+
+    @Test
+    void smokeTestConnectReadToReplica() throws SQLException {
+        baseManager.setConnector(connector);
+        when(connector.getDataSource()).thenReturn(mock(DataSource.class));
+        when(connector.getReplicaDataSource()).thenReturn(mock(DataSource.class));
+        iamDBRoutingUtil.begin("base-manager-reader", true);
+        try {
+            // Call
+            assertTrue(baseManager.connect());
+            verify(connector, times(1)).connectReplica();
+            verify(connector, never()).connect();
+        }
+        finally {
+            iamDBRoutingUtil.end();
+        }
+    }
+
+    @Test
+    void smokeTestIsReplicaRead() {
+        baseManager.setConnector(connector);
+        when(connector.getReplicaConnectionURL()).thenReturn("jdbc:mysql://replica:3306/iamDB");
+        iamDBRoutingUtil.begin("base-manager-replica", true);
+        try {
+            // Validate: a read, not fenced, with a replica configured (not connected yet)
+            assertTrue(baseManager.isReplicaRead());
+            iamDBRoutingUtil.fence();
+            assertFalse(baseManager.isReplicaRead());
+        }
+        finally {
+            iamDBRoutingUtil.end();
+        }
+    }
+
+    @Test
+    void negativeTestIsReplicaReadNoReplica() {
+        baseManager.setConnector(connector);
+        iamDBRoutingUtil.begin("base-manager-no-replica", true);
+        try {
+            assertFalse(baseManager.isReplicaRead());
+        }
+        finally {
+            iamDBRoutingUtil.end();
+        }
+    }
+
+    @Test
+    void smokeTestConnectWriteToPrimary() throws SQLException {
+        baseManager.setConnector(connector);
+        when(connector.getDataSource()).thenReturn(mock(DataSource.class));
+        when(connector.getReplicaDataSource()).thenReturn(mock(DataSource.class));
+        iamDBRoutingUtil.begin("base-manager-writer", false);
+        try {
+            // Call
+            assertTrue(baseManager.connect());
+            verify(connector, times(1)).connect();
+            verify(connector, never()).connectReplica();
+        }
+        finally {
+            iamDBRoutingUtil.end();
+        }
+    }
 }
@@ -0,0 +1,199 @@
+package jgr.iam.manager;
+
+// External Objects
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.MockitoAnnotations;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+// External Static Objects
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+// Internal Objects
+import jgr.iam.enums.ChangeEntity;
+import jgr.iam.model.dto.ChangeLogDTO;
+import jgr.iam.repository.ChangeLogRepository;
+
+// Change Log Manager Test Class
+public class ChangeLogManagerTest {
+
+    // Origins
+    private final static String OWN = "own";
+    private final static String OTHER = "other";
+
+    @Mock
+    private ChangeLogRepository changeLogRepo;
+
+    @Mock
+    private PermissionManager permManager;
+
+    @Spy
+    @InjectMocks
+    private ChangeLogManager changeLogManager;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        MockitoAnnotations.openMocks(this);
+        changeLogManager.setChangeLogRepo(changeLogRepo);
+        changeLogManager.setPermManager(permManager);
+        when(permManager.getChangeOrigin()).thenReturn(OWN);
+        when(changeLogRepo.getMaxSequence()).thenReturn(5L);
+        doReturn(true).when(changeLogManager).connect();
+        doNothing().when(changeLogManager).disconnect();
+    }
+
+    @Test
+    void smokeTestPollStarts() throws SQLException {
+        // Call
+        int result = changeLogManager.poll();
+
+        // Validate: positioned at the end, nothing read, caches kept (warmed up after)
+        assertEquals(0, result);
+        assertEquals(5, changeLogManager.getCursor().getPosition());
+        verify(permManager, never()).invalidateAll();
+        verify(changeLogRepo, never()).getAfter(anyLong(), anyInt());
+    }
+
+    @Test
+    void smokeTestPollAppliesOtherNodes() throws SQLException {
+        ChangeLogDTO other = new ChangeLogDTO(6, ChangeEntity.PERMISSION, 1, 0, null, OTHER);
+        ChangeLogDTO own = new ChangeLogDTO(7, ChangeEntity.METADATA, 2, 0, "name", OWN);
+        when(changeLogRepo.getAfter(5, ChangeLogManager.PAGE_SIZE)).thenReturn(List.of(other, own));
+        when(changeLogRepo.getAfter(7, ChangeLogManager.PAGE_SIZE)).thenReturn(List.of());
+        changeLogManager.poll();
+
+        // Call
+        int first = changeLogManager.poll();
+        int second = changeLogManager.poll();
+
+        // Validate: the other node's row applied once, this node's row skipped
+        assertEquals(1, first);
+        assertEquals(0, second);
+        verify(permManager, times(1)).applyChanges(List.of(other));
+        assertEquals(7, changeLogManager.getCursor().getPosition());
+    }
+
+    @Test
+    void smokeTestPollPages() throws SQLException {
+        List<ChangeLogDTO> page = new ArrayList<>();
+        for (int i = 1; i <= ChangeLogManager.PAGE_SIZE; i++) {
+            page.add(new ChangeLogDTO(5 + i, ChangeEntity.PERMISSION, i, 0, null, OTHER));
+        }
+        long last = 5 + ChangeLogManager.PAGE_SIZE;
+        when(changeLogRepo.getAfter(5, ChangeLogManager.PAGE_SIZE)).thenReturn(page);
+        when(changeLogRepo.getAfter(last, ChangeLogManager.PAGE_SIZE)).thenReturn(List.of(new ChangeLogDTO(last + 1, ChangeEntity.PERMISSION, 0, 0, null, OTHER)));
+        changeLogManager.poll();
+
+        // Call
+        int result = changeLogManager.poll();
+
+        // Validate: read until a page isn't full
+        assertEquals(ChangeLogManager.PAGE_SIZE + 1, result);
+        assertEquals(last + 1, changeLogManager.getCursor().getPosition());
+    }
+
+    @Test
+    void smokeTestPollGapReadAgain() throws SQLException {
+        ChangeLogDTO late = new ChangeLogDTO(6, ChangeEntity.ROLE_PERMISSION, 1, 10, null, OTHER);
+        ChangeLogDTO early = new ChangeLogDTO(7, ChangeEntity.PERMISSION, 2, 0, null, OTHER);
+        when(changeLogRepo.getAfter(5, ChangeLogManager.PAGE_SIZE)).thenReturn(List.of(early), List.of(late, early));
+        changeLogManager.poll();
+
+        // Call: 6 committed after 7
+        changeLogManager.poll();
+        changeLogManager.poll();
+
+        // Validate: each row applied once
+        verify(permManager, times(1)).applyChanges(List.of(early));
+        verify(permManager, times(1)).applyChanges(List.of(late));
+        assertEquals(0, changeLogManager.getCursor().getGapCount());
+    }
+
+    @Test
+    void smokeTestPollRestartsAfterRetention() {
+        changeLogManager.poll();
+        changeLogManager.setLastPolled(System.currentTimeMillis() - changeLogManager.getRetentionMillis() - 1000);
+
+        // Call
+        changeLogManager.poll();
+
+        // Validate: rows possibly pruned, every cache dropped again
+        verify(permManager, times(1)).invalidateAll();
+    }
+
+    @Test
+    void smokeTestPollPrunes() throws SQLException {
+        when(changeLogRepo.getAfter(5, ChangeLogManager.PAGE_SIZE)).thenReturn(List.of());
+        changeLogManager.poll();
+        changeLogManager.setPruneSeq(3);
+        changeLogManager.setPruneAt(System.currentTimeMillis() - changeLogManager.getRetentionMillis());
+
+        // Call
+        changeLogManager.poll();
+        changeLogManager.poll();
+
+        // Validate: pruned once per retention period, next time up to the current position
+        verify(changeLogRepo, times(1)).deleteUpTo(3);
+        assertEquals(5, changeLogManager.getPruneSeq());
+    }
+
+    @Test
+    void negativeTestPollFails() throws SQLException {
+        changeLogManager.poll();
+        when(changeLogRepo.getAfter(anyLong(), anyInt())).thenThrow(new SQLException("Test"));
+
+        // Call
+        int result = changeLogManager.poll();
+
+        // Validate: nothing applied, retried by the next poll
+        assertEquals(-1, result);
+        verify(permManager, never()).applyChanges(anyList());
+        verify(changeLogManager, times(2)).disconnect();
+    }
+
+    @Test
+    void negativeTestPollNotConnected() {
+        doReturn(false).when(changeLogManager).connect();
+
+        // Call
+        int result = changeLogManager.poll();
+
+        // Validate
+        assertEquals(-1, result);
+        assertNull(changeLogManager.getCursor());
+    }
+
+    @Test
+    void smokeTestStartDisabled() {
+        changeLogManager.setPollMillis(0);
+
+        // Call
+        changeLogManager.start();
+
+        // Validate
+        assertFalse(changeLogManager.isRunning());
+        assertNull(changeLogManager.getPoller());
+    }
+
+    @Test
+    void smokeTestStartStop() throws InterruptedException {
+        changeLogManager.setPollMillis(60000);
+
+        // Call
+        changeLogManager.start();
+        Thread poller = changeLogManager.getPoller();
+        changeLogManager.stop();
+        poller.join(5000);
+
+        // Validate: positioned before polling in the background
+        assertFalse(changeLogManager.isRunning());
+        assertFalse(poller.isAlive());
+        assertEquals(5, changeLogManager.getCursor().getPosition());
+    }
+}
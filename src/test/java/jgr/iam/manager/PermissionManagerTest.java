@@ -7,9 +7,16 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.MockitoAnnotations;
+import java.io.IOException;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 // External Static Objects
 import static org.junit.jupiter.api.Assertions.*;
@@ -19,15 +26,26 @@ import static org.mockito.Mockito.doThrow;
 // Internal Objects
 import jgr.iam.constant.dto.MetadataDTOTestConstant;
 import jgr.iam.constant.dto.PermissionDTOTestConstant;
+import jgr.iam.enums.BatchRowStatus;
+import jgr.iam.enums.ChangeEntity;
 import jgr.iam.enums.RequestType;
 import jgr.iam.model.bo.Metadata;
 import jgr.iam.model.bo.Permission;
+import jgr.iam.model.dto.ChangeLogDTO;
 import jgr.iam.model.dto.MetadataDTO;
 import jgr.iam.model.dto.RolePermissionDTO;
 import jgr.iam.model.dto.PermissionDTO;
+import jgr.iam.model.dto.PermissionSummaryDTO;
+import jgr.iam.repository.ChangeLogRepository;
 import jgr.iam.repository.PermissionRepository;
 import jgr.iam.repository.MetadataRepository;
 import jgr.iam.repository.RolePermissionRepository;
+import jgr.iam.repository.RoleRepository;
+import jgr.iam.util.iamCatalogVersion;
+import jgr.iam.util.iamDBConnectorUtil;
+import jgr.iam.util.iamDBCursor;
+import jgr.iam.util.iamPermissionCache;
+import jgr.iam.util.iamRoleNameDictionary;
 
 // Permission Manager Test Class
 public class PermissionManagerTest {
@@ -41,6 +59,9 @@ public class PermissionManagerTest {
     @Mock
     private MetadataRepository permMetadataRepo;
 
+    @Mock
+    private RoleRepository roleRepo;
+
     @Spy
     @InjectMocks
     private PermissionManager permissionManager;
@@ -51,6 +72,7 @@ public class PermissionManagerTest {
         permissionManager.setPermRepo(permRepo);
         permissionManager.setRpRepo(rpRepo);
         permissionManager.setPermMetadataRepo(permMetadataRepo);
+        permissionManager.setRoleRepo(roleRepo);
     }
 
     @Test
@@ -72,22 +94,16 @@ public class PermissionManagerTest {
     @Test
     void smokeTestNonArchivedSummaryGetPermissions() throws SQLException {
         //Get All
-        List<PermissionDTO> mockPermissionDTOs = Arrays.asList(
-                new PermissionDTO(1, PermissionDTOTestConstant.PERMISSION_TEST_NAME_X +"1", PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION_X +"1", false),
-                new PermissionDTO(2, PermissionDTOTestConstant.PERMISSION_TEST_NAME_X +"2", PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION_X +"2", false));
-        when(permRepo.getAll()).thenReturn(mockPermissionDTOs);
-
-        // Add Info - Summary View
-        when(rpRepo.getAllCountForPermission(1)).thenReturn(2);
-        when(permMetadataRepo.getAllCount(1)).thenReturn(1);
-        when(rpRepo.getAllCountForPermission(2)).thenReturn(0);
-        when(permMetadataRepo.getAllCount(2)).thenReturn(0);
+        List<PermissionSummaryDTO> mockPermissionDTOs = Arrays.asList(
+                new PermissionSummaryDTO(1, PermissionDTOTestConstant.PERMISSION_TEST_NAME_X +"1", PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION_X +"1", false, 2, 1),
+                new PermissionSummaryDTO(2, PermissionDTOTestConstant.PERMISSION_TEST_NAME_X +"2", PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION_X +"2", false, 0, 0));
+        when(permRepo.getAllSummary(0, 10)).thenReturn(mockPermissionDTOs);
 
         doReturn(true).when(permissionManager).connect();
         doNothing().when(permissionManager).disconnect();
 
         // Call
-        List<Permission> permissions = permissionManager.getPermissions(RequestType.SUMMARY, false);
+        List<Permission> permissions = permissionManager.getPermissions(RequestType.SUMMARY, false, 0, 10);
 
         // Validate
         assertNotNull(permissions);
@@ -102,12 +118,12 @@ public class PermissionManagerTest {
 
     @Test
     void negativeTestNonArchivedSummaryGetPermissionsNullResult() throws SQLException {
-        when(permRepo.getAll()).thenReturn(null);
+        when(permRepo.getAllSummary(0, 10)).thenReturn(null);
         doReturn(true).when(permissionManager).connect();
         doNothing().when(permissionManager).disconnect();
 
         // Call
-        List<Permission> permissions = permissionManager.getPermissions(RequestType.SUMMARY, false);
+        List<Permission> permissions = permissionManager.getPermissions(RequestType.SUMMARY, false, 0, 10);
 
         // Validate
         assertNotNull(permissions);
@@ -120,7 +136,7 @@ public class PermissionManagerTest {
         doNothing().when(permissionManager).disconnect();
 
         // Call
-        List<Permission> permissions = permissionManager.getPermissions(RequestType.SUMMARY, false);
+        List<Permission> permissions = permissionManager.getPermissions(RequestType.SUMMARY, false, 0, 10);
 
         // Validate
         assertNotNull(permissions);
@@ -129,12 +145,12 @@ public class PermissionManagerTest {
 
     @Test
     void negativeTestNonArchivedSummaryGetPermissionsSQLException() throws SQLException {
-        when(permRepo.getAll()).thenThrow(new SQLException("Test Exception"));
+        when(permRepo.getAllSummary(0, 10)).thenThrow(new SQLException("Test Exception"));
         doReturn(true).when(permissionManager).connect();
         doNothing().when(permissionManager).disconnect();
 
         // Call
-        List<Permission> permissions = permissionManager.getPermissions(RequestType.SUMMARY, false);
+        List<Permission> permissions = permissionManager.getPermissions(RequestType.SUMMARY, false, 0, 10);
 
         // Validate
         assertNotNull(permissions);
@@ -144,22 +160,16 @@ public class PermissionManagerTest {
     @Test
     void smokeTestArchivedSummaryGetPermissions() throws SQLException {
         //Get All
-        List<PermissionDTO> mockPermissionDTOs = Arrays.asList(
-                new PermissionDTO(1, PermissionDTOTestConstant.PERMISSION_TEST_NAME_X +"1", PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION_X +"1", true),
-                new PermissionDTO(2, PermissionDTOTestConstant.PERMISSION_TEST_NAME_X +"2", PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION_X +"2", true));
-        when(permRepo.getAllArchived()).thenReturn(mockPermissionDTOs);
-
-        // Add Info - Summary View
-        when(rpRepo.getAllCountForPermission(1)).thenReturn(2);
-        when(permMetadataRepo.getAllCount(1)).thenReturn(1);
-        when(rpRepo.getAllCountForPermission(2)).thenReturn(0);
-        when(permMetadataRepo.getAllCount(2)).thenReturn(0);
+        List<PermissionSummaryDTO> mockPermissionDTOs = Arrays.asList(
+                new PermissionSummaryDTO(1, PermissionDTOTestConstant.PERMISSION_TEST_NAME_X +"1", PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION_X +"1", true, 2, 1),
+                new PermissionSummaryDTO(2, PermissionDTOTestConstant.PERMISSION_TEST_NAME_X +"2", PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION_X +"2", true, 0, 0));
+        when(permRepo.getAllArchivedSummary(0, 10)).thenReturn(mockPermissionDTOs);
 
         doReturn(true).when(permissionManager).connect();
         doNothing().when(permissionManager).disconnect();
 
         // Call
-        List<Permission> permissions = permissionManager.getPermissions(RequestType.SUMMARY, true);
+        List<Permission> permissions = permissionManager.getPermissions(RequestType.SUMMARY, true, 0, 10);
 
         // Validate
         assertNotNull(permissions);
@@ -174,12 +184,12 @@ public class PermissionManagerTest {
 
     @Test
     void negativeTestArchivedSummaryGetPermissionsNullResult() throws SQLException {
-        when(permRepo.getAllArchived()).thenReturn(null);
+        when(permRepo.getAllArchivedSummary(0, 10)).thenReturn(null);
         doReturn(true).when(permissionManager).connect();
         doNothing().when(permissionManager).disconnect();
 
         // Call
-        List<Permission> permissions = permissionManager.getPermissions(RequestType.SUMMARY, true);
+        List<Permission> permissions = permissionManager.getPermissions(RequestType.SUMMARY, true, 0, 10);
 
         // Validate
         assertNotNull(permissions);
@@ -192,7 +202,7 @@ public class PermissionManagerTest {
         doNothing().when(permissionManager).disconnect();
 
         // Call
-        List<Permission> permissions = permissionManager.getPermissions(RequestType.SUMMARY, true);
+        List<Permission> permissions = permissionManager.getPermissions(RequestType.SUMMARY, true, 0, 10);
 
         // Validate
         assertNotNull(permissions);
@@ -201,12 +211,12 @@ public class PermissionManagerTest {
 
     @Test
     void negativeTestArchivedSummaryGetPermissionsSQLException() throws SQLException {
-        when(permRepo.getAllArchived()).thenThrow(new SQLException("Test Exception"));
+        when(permRepo.getAllArchivedSummary(0, 10)).thenThrow(new SQLException("Test Exception"));
         doReturn(true).when(permissionManager).connect();
         doNothing().when(permissionManager).disconnect();
 
         // Call
-        List<Permission> permissions = permissionManager.getPermissions(RequestType.SUMMARY, true);
+        List<Permission> permissions = permissionManager.getPermissions(RequestType.SUMMARY, true, 0, 10);
 
         // Validate
         assertNotNull(permissions);
@@ -219,27 +229,23 @@ public class PermissionManagerTest {
         List<PermissionDTO> mockPermissionDTOs = Arrays.asList(
                 new PermissionDTO(1, PermissionDTOTestConstant.PERMISSION_TEST_NAME_X +"1", PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION_X +"1", false),
                 new PermissionDTO(2, PermissionDTOTestConstant.PERMISSION_TEST_NAME_X +"2", PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION_X +"2", false));
-        when(permRepo.getAll()).thenReturn(mockPermissionDTOs);
+        when(permRepo.getAll(0, 10)).thenReturn(mockPermissionDTOs);
 
         // Add Info - Detail View
         List<RolePermissionDTO> mockRpList1  = Arrays.asList(
                 new RolePermissionDTO(1, 1, false),
                 new RolePermissionDTO(2, 1, false));
-        when(rpRepo.getAllForPermission(1)).thenReturn(mockRpList1);
-        List<String> mockRoleExtendedNames1  = Arrays.asList("role1", "role2");
-        when(rpRepo.getAllRoleExtendedNameForPermission(1)).thenReturn(mockRoleExtendedNames1);
+        when(rpRepo.getAllForPermissions(anyCollection())).thenReturn(Map.of(1, mockRpList1));
+        when(roleRepo.getAllExtendedNames()).thenReturn(Map.of(1, "role1", 2, "role2"));
         List<MetadataDTO> mockMetas1  = Arrays.asList(
                 new MetadataDTO(1, MetadataDTOTestConstant.METADATA_TEST_PERM_NAME, MetadataDTOTestConstant.METADATA_TEST_PERM_VALUE, false));
-        when(permMetadataRepo.getAll(1)).thenReturn(mockMetas1);
-        when(rpRepo.getAllForPermission(2)).thenReturn(null);
-        when(rpRepo.getAllRoleExtendedNameForPermission(2)).thenReturn(null);
-        when(permMetadataRepo.getAll(2)).thenReturn(null);
+        when(permMetadataRepo.getAll(anyCollection())).thenReturn(Map.of(1, mockMetas1));
 
         doReturn(true).when(permissionManager).connect();
         doNothing().when(permissionManager).disconnect();
 
         // Call
-        List<Permission> permissions = permissionManager.getPermissions(RequestType.DETAIL, false);
+        List<Permission> permissions = permissionManager.getPermissions(RequestType.DETAIL, false, 0, 10);
 
         // Validate
         assertNotNull(permissions);
@@ -260,12 +266,12 @@ public class PermissionManagerTest {
 
     @Test
     void negativeTestNonArchivedDetailGetPermissionsNullResult() throws SQLException {
-        when(permRepo.getAll()).thenReturn(null);
+        when(permRepo.getAll(0, 10)).thenReturn(null);
         doReturn(true).when(permissionManager).connect();
         doNothing().when(permissionManager).disconnect();
 
         // Call
-        List<Permission> permissions = permissionManager.getPermissions(RequestType.DETAIL, false);
+        List<Permission> permissions = permissionManager.getPermissions(RequestType.DETAIL, false, 0, 10);
 
         // Validate
         assertNotNull(permissions);
@@ -278,7 +284,7 @@ public class PermissionManagerTest {
         doNothing().when(permissionManager).disconnect();
 
         // Call
-        List<Permission> permissions = permissionManager.getPermissions(RequestType.DETAIL, false);
+        List<Permission> permissions = permissionManager.getPermissions(RequestType.DETAIL, false, 0, 10);
 
         // Validate
         assertNotNull(permissions);
@@ -287,12 +293,12 @@ public class PermissionManagerTest {
 
     @Test
     void negativeTestNonArchivedDetailGetPermissionsSQLException() throws SQLException {
-        when(permRepo.getAll()).thenThrow(new SQLException("Test Execution"));
+        when(permRepo.getAll(0, 10)).thenThrow(new SQLException("Test Execution"));
         doReturn(true).when(permissionManager).connect();
         doNothing().when(permissionManager).disconnect();
 
         // Call
-        List<Permission> permissions = permissionManager.getPermissions(RequestType.DETAIL, false);
+        List<Permission> permissions = permissionManager.getPermissions(RequestType.DETAIL, false, 0, 10);
 
         // Validate
         assertNotNull(permissions);
@@ -305,19 +311,16 @@ public class PermissionManagerTest {
         List<PermissionDTO> mockPermissionDTOs = Arrays.asList(
                 new PermissionDTO(1, PermissionDTOTestConstant.PERMISSION_TEST_NAME_X +"1", PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION_X +"1", false),
                 new PermissionDTO(2, PermissionDTOTestConstant.PERMISSION_TEST_NAME_X +"2", PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION_X +"2", false));
-        when(permRepo.getAll()).thenReturn(mockPermissionDTOs);
+        when(permRepo.getAll(0, 10)).thenReturn(mockPermissionDTOs);
 
         // Add Info - Detail View
-        when(rpRepo.getAllForPermission(1)).thenThrow(new SQLException("Test Exception"));
-        when(rpRepo.getAllForPermission(2)).thenReturn(null);
-        when(rpRepo.getAllRoleExtendedNameForPermission(2)).thenReturn(null);
-        when(permMetadataRepo.getAll(2)).thenReturn(null);
+        when(rpRepo.getAllForPermissions(anyCollection())).thenThrow(new SQLException("Test Exception"));
 
         doReturn(true).when(permissionManager).connect();
         doNothing().when(permissionManager).disconnect();
 
         // Call
-        List<Permission> permissions = permissionManager.getPermissions(RequestType.DETAIL, false);
+        List<Permission> permissions = permissionManager.getPermissions(RequestType.DETAIL, false, 0, 10);
 
         // Validate
         assertNotNull(permissions);
@@ -336,23 +339,20 @@ public class PermissionManagerTest {
         List<PermissionDTO> mockPermissionDTOs = Arrays.asList(
                 new PermissionDTO(1, PermissionDTOTestConstant.PERMISSION_TEST_NAME_X +"1", PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION_X +"1", false),
                 new PermissionDTO(2, PermissionDTOTestConstant.PERMISSION_TEST_NAME_X +"2", PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION_X +"2", false));
-        when(permRepo.getAll()).thenReturn(mockPermissionDTOs);
+        when(permRepo.getAll(0, 10)).thenReturn(mockPermissionDTOs);
 
         // Add Info - Detail View
         List<RolePermissionDTO> mockRpList1  = Arrays.asList(
                 new RolePermissionDTO(1, 1, false),
                 new RolePermissionDTO(2, 1, false));
-        when(rpRepo.getAllForPermission(1)).thenReturn(mockRpList1);
-        when(rpRepo.getAllRoleExtendedNameForPermission(1)).thenThrow(new SQLException("Test Exception"));
-        when(rpRepo.getAllForPermission(2)).thenReturn(null);
-        when(rpRepo.getAllRoleExtendedNameForPermission(2)).thenReturn(null);
-        when(permMetadataRepo.getAll(2)).thenReturn(null);
+        when(rpRepo.getAllForPermissions(anyCollection())).thenReturn(Map.of(1, mockRpList1));
+        when(roleRepo.getAllExtendedNames()).thenThrow(new SQLException("Test Exception"));
 
         doReturn(true).when(permissionManager).connect();
         doNothing().when(permissionManager).disconnect();
 
         // Call
-        List<Permission> permissions = permissionManager.getPermissions(RequestType.DETAIL, false);
+        List<Permission> permissions = permissionManager.getPermissions(RequestType.DETAIL, false, 0, 10);
 
         // Validate
         assertNotNull(permissions);
@@ -373,25 +373,21 @@ public class PermissionManagerTest {
         List<PermissionDTO> mockPermissionDTOs = Arrays.asList(
                 new PermissionDTO(1, PermissionDTOTestConstant.PERMISSION_TEST_NAME_X +"1", PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION_X +"1", false),
                 new PermissionDTO(2, PermissionDTOTestConstant.PERMISSION_TEST_NAME_X +"2", PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION_X +"2", false));
-        when(permRepo.getAll()).thenReturn(mockPermissionDTOs);
+        when(permRepo.getAll(0, 10)).thenReturn(mockPermissionDTOs);
 
         // Add Info - Detail View
         List<RolePermissionDTO> mockRpList1  = Arrays.asList(
                 new RolePermissionDTO(1, 1, false),
                 new RolePermissionDTO(2, 1, false));
-        when(rpRepo.getAllForPermission(1)).thenReturn(mockRpList1);
-        List<String> mockRoleExtendedNames1  = Arrays.asList("role1", "role2");
-        when(rpRepo.getAllRoleExtendedNameForPermission(1)).thenReturn(mockRoleExtendedNames1);
-        when(permMetadataRepo.getAll(1)).thenThrow(new SQLException("Test Exception"));
-        when(rpRepo.getAllForPermission(2)).thenReturn(null);
-        when(rpRepo.getAllRoleExtendedNameForPermission(2)).thenReturn(null);
-        when(permMetadataRepo.getAll(2)).thenReturn(null);
+        when(rpRepo.getAllForPermissions(anyCollection())).thenReturn(Map.of(1, mockRpList1));
+        when(roleRepo.getAllExtendedNames()).thenReturn(Map.of(1, "role1", 2, "role2"));
+        when(permMetadataRepo.getAll(anyCollection())).thenThrow(new SQLException("Test Exception"));
 
         doReturn(true).when(permissionManager).connect();
         doNothing().when(permissionManager).disconnect();
 
         // Call
-        List<Permission> permissions = permissionManager.getPermissions(RequestType.DETAIL, false);
+        List<Permission> permissions = permissionManager.getPermissions(RequestType.DETAIL, false, 0, 10);
 
         // Validate
         assertNotNull(permissions);
@@ -414,13 +410,13 @@ public class PermissionManagerTest {
         List<PermissionDTO> mockPermissionDTOs = Arrays.asList(
                 new PermissionDTO(1, PermissionDTOTestConstant.PERMISSION_TEST_NAME_X +"1", PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION_X +"1", true),
                 new PermissionDTO(2, PermissionDTOTestConstant.PERMISSION_TEST_NAME_X +"2", PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION_X +"2", true));
-        when(permRepo.getAllArchived()).thenReturn(mockPermissionDTOs);
+        when(permRepo.getAllArchived(0, 10)).thenReturn(mockPermissionDTOs);
 
         doReturn(true).when(permissionManager).connect();
         doNothing().when(permissionManager).disconnect();
 
         // Call
-        List<Permission> permissions = permissionManager.getPermissions(RequestType.INTERNAL, true);
+        List<Permission> permissions = permissionManager.getPermissions(RequestType.INTERNAL, true, 0, 10);
 
         // Validate
         assertNotNull(permissions);
@@ -488,8 +484,7 @@ public class PermissionManagerTest {
         List<RolePermissionDTO> mockRpList  = Arrays.asList(
                 new RolePermissionDTO(1, 1, false));
         when(rpRepo.getAllForPermission(1)).thenReturn(mockRpList);
-        List<String> mockRoleExtendedNames  = Arrays.asList("role1");
-        when(rpRepo.getAllRoleExtendedNameForPermission(1)).thenReturn(mockRoleExtendedNames);
+        when(roleRepo.getAllExtendedNames()).thenReturn(Map.of(1, "role1"));
         List<MetadataDTO> mockMetas  = Arrays.asList(
                 new MetadataDTO(1, MetadataDTOTestConstant.METADATA_TEST_PERM_NAME, MetadataDTOTestConstant.METADATA_TEST_PERM_VALUE, false));
         when(permMetadataRepo.getAll(1)).thenReturn(mockMetas);
@@ -567,10 +562,8 @@ public class PermissionManagerTest {
     }
 
     @Test
-    void negativeTestDeletePermissionFound() throws SQLException {
-        doNothing().when(permRepo).delete(1);
-        PermissionDTO mockPermissionDTO = new PermissionDTO(1, PermissionDTOTestConstant.PERMISSION_TEST_NAME, PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION, false);
-        when(permRepo.getById(1)).thenReturn(mockPermissionDTO);
+    void negativeTestDeletePermissionNotFound() throws SQLException {
+        when(permRepo.delete(1)).thenReturn(0);
         doReturn(true).when(permissionManager).connect();
         doNothing().when(permissionManager).disconnect();
 
@@ -609,7 +602,7 @@ public class PermissionManagerTest {
     @Test
     void negativeTestUpdatePermissionDescriptionNotFound() throws SQLException {
         doReturn(true).when(permissionManager).connect();
-        when(permRepo.getById(1)).thenReturn(null);
+        when(permRepo.updateDescription(1, PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION_UPDATED)).thenReturn(0);
         doNothing().when(permissionManager).disconnect();
 
         // Call
@@ -622,7 +615,7 @@ public class PermissionManagerTest {
     @Test
     void negativeTestUpdatePermissionDescriptionException() throws SQLException {
         doReturn(true).when(permissionManager).connect();
-        when(permRepo.getById(1)).thenThrow(new SQLException("Test Exception"));
+        when(permRepo.updateDescription(1, PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION_UPDATED)).thenThrow(new SQLException("Test Exception"));
         doNothing().when(permissionManager).disconnect();
 
         // Call
@@ -647,7 +640,7 @@ public class PermissionManagerTest {
     @Test
     void negativeTestUpdatePermissionArchivedNotFound() throws SQLException {
         doReturn(true).when(permissionManager).connect();
-        when(permRepo.getById(1)).thenReturn(null);
+        when(permRepo.updateArchive(1, true)).thenReturn(0);
         doNothing().when(permissionManager).disconnect();
 
         // Call
@@ -660,7 +653,7 @@ public class PermissionManagerTest {
     @Test
     void negativeTestUpdatePermissionArchivedException() throws SQLException {
         doReturn(true).when(permissionManager).connect();
-        when(permRepo.getById(1)).thenThrow(new SQLException("Test Exception"));
+        when(permRepo.updateArchive(1, true)).thenThrow(new SQLException("Test Exception"));
         doNothing().when(permissionManager).disconnect();
 
         // Call
@@ -723,8 +716,7 @@ public class PermissionManagerTest {
     @Test
     void negativeTestCreateMetadataNotFound() throws SQLException {
         doReturn(true).when(permissionManager).connect();
-        doNothing().when(permMetadataRepo).insert(1, MetadataDTOTestConstant.METADATA_TEST_PERM_NAME, MetadataDTOTestConstant.METADATA_TEST_PERM_VALUE);
-        when(permMetadataRepo.get(1, MetadataDTOTestConstant.METADATA_TEST_PERM_NAME)).thenReturn(null);
+        when(permMetadataRepo.insert(1, MetadataDTOTestConstant.METADATA_TEST_PERM_NAME, MetadataDTOTestConstant.METADATA_TEST_PERM_VALUE)).thenReturn(0);
         doNothing().when(permissionManager).disconnect();
 
         // Call
@@ -760,11 +752,9 @@ public class PermissionManagerTest {
     }
 
     @Test
-    void negativeTestDeleteMetadataFound() throws SQLException {
+    void negativeTestDeleteMetadataNotFound() throws SQLException {
         doReturn(true).when(permissionManager).connect();
-        doNothing().when(permMetadataRepo).delete(1, MetadataDTOTestConstant.METADATA_TEST_PERM_NAME);
-        MetadataDTO mockMetadata = new MetadataDTO(1, MetadataDTOTestConstant.METADATA_TEST_PERM_NAME, MetadataDTOTestConstant.METADATA_TEST_PERM_VALUE, false);
-        when(permMetadataRepo.get(1, MetadataDTOTestConstant.METADATA_TEST_PERM_NAME)).thenReturn(mockMetadata);
+        when(permMetadataRepo.delete(1, MetadataDTOTestConstant.METADATA_TEST_PERM_NAME)).thenReturn(0);
         doNothing().when(permissionManager).disconnect();
 
         // Call
@@ -789,7 +779,7 @@ public class PermissionManagerTest {
     @Test
     void negativeTestUpdateMetadataValueNotFound() throws SQLException {
         doReturn(true).when(permissionManager).connect();
-        when(permMetadataRepo.get(1, MetadataDTOTestConstant.METADATA_TEST_PERM_NAME)).thenReturn(null);
+        when(permMetadataRepo.updateValue(1, MetadataDTOTestConstant.METADATA_TEST_PERM_NAME, MetadataDTOTestConstant.METADATA_TEST_PERM_VALUE_UPDATED)).thenReturn(0);
         doNothing().when(permissionManager).disconnect();
 
         // Call
@@ -802,7 +792,7 @@ public class PermissionManagerTest {
     @Test
     void negativeTestUpdateMetadataValueException() throws SQLException {
         doReturn(true).when(permissionManager).connect();
-        when(permMetadataRepo.get(1, MetadataDTOTestConstant.METADATA_TEST_PERM_NAME)).thenThrow(new SQLException("Test Exception"));
+        when(permMetadataRepo.updateValue(1, MetadataDTOTestConstant.METADATA_TEST_PERM_NAME, MetadataDTOTestConstant.METADATA_TEST_PERM_VALUE_UPDATED)).thenThrow(new SQLException("Test Exception"));
         doNothing().when(permissionManager).disconnect();
 
         // Call
@@ -827,7 +817,7 @@ public class PermissionManagerTest {
     @Test
     void negativeTestUpdateMetadataArchivedNotFound() throws SQLException {
         doReturn(true).when(permissionManager).connect();
-        when(permMetadataRepo.get(1, MetadataDTOTestConstant.METADATA_TEST_PERM_NAME)).thenReturn(null);
+        when(permMetadataRepo.updateArchive(1, MetadataDTOTestConstant.METADATA_TEST_PERM_NAME, true)).thenReturn(0);
         doNothing().when(permissionManager).disconnect();
 
         // Call
@@ -840,7 +830,7 @@ public class PermissionManagerTest {
     @Test
     void negativeTestUpdateMetadataArchivedException() throws SQLException {
         doReturn(true).when(permissionManager).connect();
-        when(permMetadataRepo.get(1, MetadataDTOTestConstant.METADATA_TEST_PERM_NAME)).thenThrow(new SQLException("Test Exception"));
+        when(permMetadataRepo.updateArchive(1, MetadataDTOTestConstant.METADATA_TEST_PERM_NAME, true)).thenThrow(new SQLException("Test Exception"));
         doNothing().when(permissionManager).disconnect();
 
         // Call
@@ -849,6 +839,743 @@ public class PermissionManagerTest {
         // Validate
         assertEquals(false, result );
     }
-}
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void smokeTestExportPermissions() throws Exception {
+        // Cursor: 2 rows then end
+        iamDBCursor<PermissionDTO> cursor = mock(iamDBCursor.class);
+        when(cursor.next()).thenReturn(
+                new PermissionDTO(1, PermissionDTOTestConstant.PERMISSION_TEST_NAME_X +"1", PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION_X +"1", false),
+                new PermissionDTO(2, PermissionDTOTestConstant.PERMISSION_TEST_NAME_X +"2", PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION_X +"2", false),
+                null);
+        PermissionRepository permCursorRepo = mock(PermissionRepository.class);
+        when(permCursorRepo.openCursor(anyBoolean(), anyInt())).thenReturn(cursor);
+        permissionManager.setPermCursorRepo(permCursorRepo);
+        when(rpRepo.getAllForPermissions(anyCollection())).thenReturn(Map.of(1, Arrays.asList(new RolePermissionDTO(1, 1, false))));
+        when(roleRepo.getAllExtendedNames()).thenReturn(Map.of(1, "role1"));
+        when(permMetadataRepo.getAll(anyCollection())).thenReturn(Map.of());
+        doReturn(true).when(permissionManager).connect();
+        doReturn(true).when(permissionManager).connect(any());
+        doNothing().when(permissionManager).disconnect();
+        doNothing().when(permissionManager).disconnect(any());
+
+        // Call
+        List<Permission> exported = new ArrayList<>();
+        boolean result = permissionManager.exportPermissions(false, exported::addAll);
+
+        // Validate
+        assertTrue(result);
+        assertEquals(2, exported.size());
+        assertEquals(1, exported.get(0).getRoleCount());
+        assertEquals("role1", exported.get(0).getRoleExtendedNameList().get(0));
+        assertEquals(0, exported.get(1).getRoleCount());
+        verify(cursor, times(1)).close();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void negativeTestExportPermissionsWriterException() throws Exception {
+        iamDBCursor<PermissionDTO> cursor = mock(iamDBCursor.class);
+        when(cursor.next()).thenReturn(new PermissionDTO(1, PermissionDTOTestConstant.PERMISSION_TEST_NAME_X +"1", PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION_X +"1", false), (PermissionDTO) null);
+        PermissionRepository permCursorRepo = mock(PermissionRepository.class);
+        when(permCursorRepo.openCursor(anyBoolean(), anyInt())).thenReturn(cursor);
+        permissionManager.setPermCursorRepo(permCursorRepo);
+        doReturn(true).when(permissionManager).connect();
+        doReturn(true).when(permissionManager).connect(any());
+        doNothing().when(permissionManager).disconnect();
+        doNothing().when(permissionManager).disconnect(any());
+
+        // Call
+        boolean result = permissionManager.exportPermissions(false, chunk -> { throw new IOException("Broken pipe"); });
+
+        // Validate
+        assertFalse(result);
+        verify(cursor, times(1)).close();
+        verify(permissionManager, times(1)).disconnect(any());
+    }
+
+    @Test
+    void negativeTestExportPermissionsCursorNotConnect() {
+        doReturn(true).when(permissionManager).connect();
+        doReturn(false).when(permissionManager).connect(any());
+        doNothing().when(permissionManager).disconnect();
+
+        // Call
+        boolean result = permissionManager.exportPermissions(false, chunk -> fail("No chunk expected."));
+
+        // Validate
+        assertFalse(result);
+        verify(permissionManager, times(1)).disconnect();
+    }
+
+    @Test
+    void smokeTestCreatePermission() throws SQLException {
+        doReturn(true).when(permissionManager).connect();
+        when(permRepo.insert(PermissionDTOTestConstant.PERMISSION_TEST_NAME, PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION)).thenReturn(7);
+        doNothing().when(permissionManager).disconnect();
+
+        // Call
+        Permission permission = permissionManager.createPermission(PermissionDTOTestConstant.PERMISSION_TEST_NAME, PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION);
+
+        // Validate: built from the generated key, no read-back
+        assertNotNull(permission);
+        assertEquals(7, permission.getId());
+        assertEquals(PermissionDTOTestConstant.PERMISSION_TEST_NAME, permission.getName());
+        assertEquals(0, permission.getRoleCount());
+        verify(permRepo, never()).getByName(anyString());
+    }
+
+    @Test
+    void negativeTestCreatePermissionNoGeneratedId() throws SQLException {
+        doReturn(true).when(permissionManager).connect();
+        when(permRepo.insert(PermissionDTOTestConstant.PERMISSION_TEST_NAME, PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION)).thenReturn(0);
+        doNothing().when(permissionManager).disconnect();
+
+        // Call
+        Permission permission = permissionManager.createPermission(PermissionDTOTestConstant.PERMISSION_TEST_NAME, PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION);
+
+        // Validate
+        assertNull(permission);
+    }
+
+    @Test
+    void smokeTestDeletePermission() throws SQLException {
+        doReturn(true).when(permissionManager).connect();
+        when(permRepo.delete(1)).thenReturn(1);
+        doNothing().when(permissionManager).disconnect();
+
+        // Call
+        Boolean result = permissionManager.deletePermission(1);
+
+        // Validate: single statement
+        assertEquals(true, result);
+        verify(permRepo, never()).getById(anyInt());
+    }
+
+    @Test
+    void smokeTestUpdatePermissionDescription() throws SQLException {
+        doReturn(true).when(permissionManager).connect();
+        when(permRepo.updateDescription(1, PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION_UPDATED)).thenReturn(1);
+        doNothing().when(permissionManager).disconnect();
+
+        // Call
+        Boolean result = permissionManager.updatePermissionDescription(1, PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION_UPDATED);
+
+        // Validate: single statement
+        assertEquals(true, result);
+        verify(permRepo, never()).getById(anyInt());
+    }
+
+    @Test
+    void smokeTestUpdateMetadataArchived() throws SQLException {
+        doReturn(true).when(permissionManager).connect();
+        when(permMetadataRepo.updateArchive(1, MetadataDTOTestConstant.METADATA_TEST_PERM_NAME, true)).thenReturn(1);
+        doNothing().when(permissionManager).disconnect();
+
+        // Call
+        Boolean result = permissionManager.updateMetadataArchived(1, MetadataDTOTestConstant.METADATA_TEST_PERM_NAME, true);
+
+        // Validate: single statement
+        assertEquals(true, result);
+        verify(permMetadataRepo, never()).get(anyInt(), anyString());
+    }
+
+    @Test
+    void smokeTestCreatePermissions() throws SQLException {
+        List<PermissionDTO> perms = Arrays.asList(new PermissionDTO(0, "P1", "D1", false), new PermissionDTO(0, "P2", "D2", false));
+        doReturn(true).when(permissionManager).connect();
+        when(permRepo.insertAll(perms)).thenReturn(Arrays.asList(BatchRowStatus.APPLIED, BatchRowStatus.FAILED));
+        doNothing().when(permissionManager).disconnect();
+
+        // Call
+        List<BatchRowStatus> result = permissionManager.createPermissions(perms);
+
+        // Validate
+        assertEquals(Arrays.asList(BatchRowStatus.APPLIED, BatchRowStatus.FAILED), result);
+        verify(permissionManager, times(1)).disconnect();
+    }
+
+    @Test
+    void smokeTestDeleteRolePermissions() throws SQLException {
+        List<RolePermissionDTO> rps = Arrays.asList(new RolePermissionDTO(1, 2, false));
+        doReturn(true).when(permissionManager).connect();
+        when(rpRepo.deleteAll(rps)).thenReturn(Arrays.asList(BatchRowStatus.NOT_FOUND));
+        doNothing().when(permissionManager).disconnect();
+
+        // Call
+        List<BatchRowStatus> result = permissionManager.deleteRolePermissions(rps);
+
+        // Validate
+        assertEquals(Arrays.asList(BatchRowStatus.NOT_FOUND), result);
+    }
+
+    @Test
+    void smokeTestBatchEmpty() {
+        // Call
+        List<BatchRowStatus> result = permissionManager.archivePermissions(new ArrayList<>());
+
+        // Validate
+        assertTrue(result.isEmpty());
+        verify(permissionManager, never()).connect();
+    }
+
+    @Test
+    void negativeTestArchiveMetadataListNotConnect() {
+        List<MetadataDTO> metas = Arrays.asList(new MetadataDTO(1, "N1", "{}", false), new MetadataDTO(1, "N2", "{}", false));
+        doReturn(false).when(permissionManager).connect();
+
+        // Call
+        List<BatchRowStatus> result = permissionManager.archiveMetadataList(metas);
+
+        // Validate
+        assertEquals(Arrays.asList(BatchRowStatus.FAILED, BatchRowStatus.FAILED), result);
+    }
+
+    @Test
+    void negativeTestDeletePermissionsException() throws SQLException {
+        List<Integer> ids = Arrays.asList(1, 2, 3);
+        doReturn(true).when(permissionManager).connect();
+        when(permRepo.deleteAll(ids)).thenThrow(new SQLException("Test Exception"));
+        doNothing().when(permissionManager).disconnect();
+
+        // Call
+        List<BatchRowStatus> result = permissionManager.deletePermissions(ids);
+
+        // Validate
+        assertEquals(3, result.size());
+        assertTrue(result.stream().allMatch(status -> status == BatchRowStatus.FAILED));
+        verify(permissionManager, times(1)).disconnect();
+    }
+
+    @Test
+    void smokeTestGetSummaryPermissionCached() throws SQLException {
+        when(permRepo.getById(1)).thenReturn(new PermissionDTO(1, PermissionDTOTestConstant.PERMISSION_TEST_NAME, PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION, false));
+        when(rpRepo.getAllCountForPermission(1)).thenReturn(2);
+        when(permMetadataRepo.getAllCount(1)).thenReturn(1);
+        doReturn(true).when(permissionManager).connect();
+        doNothing().when(permissionManager).disconnect();
+
+        // Call: by id, by id again, then by name
+        Permission first = permissionManager.getPermission(1, RequestType.SUMMARY);
+        Permission second = permissionManager.getPermission(1, RequestType.SUMMARY);
+        Permission byName = permissionManager.getPermission(PermissionDTOTestConstant.PERMISSION_TEST_NAME, RequestType.SUMMARY);
+
+        // Validate: loaded once, then served from memory (copies)
+        assertNotSame(first, second);
+        assertEquals(2, second.getRoleCount());
+        assertEquals(1, second.getMetadataCount());
+        assertEquals(1, byName.getId());
+        verify(permRepo, times(1)).getById(1);
+        verify(permRepo, never()).getByName(anyString());
+        verify(permissionManager, times(1)).connect();
+    }
+
+    @Test
+    void smokeTestGetPermissionCacheInvalidatedByUpdate() throws SQLException {
+        when(permRepo.getById(1)).thenReturn(new PermissionDTO(1, PermissionDTOTestConstant.PERMISSION_TEST_NAME, PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION, false),
+                                             new PermissionDTO(1, PermissionDTOTestConstant.PERMISSION_TEST_NAME, PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION_UPDATED, false));
+        when(permRepo.updateDescription(1, PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION_UPDATED)).thenReturn(1);
+        doReturn(true).when(permissionManager).connect();
+        doNothing().when(permissionManager).disconnect();
+
+        // Call
+        permissionManager.getPermission(1, RequestType.SUMMARY);
+        permissionManager.updatePermissionDescription(1, PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION_UPDATED);
+        Permission permission = permissionManager.getPermission(1, RequestType.SUMMARY);
+
+        // Validate: reloaded after the update
+        assertEquals(PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION_UPDATED, permission.getDescription());
+        verify(permRepo, times(2)).getById(1);
+    }
+
+    @Test
+    void smokeTestGetPermissionCacheInvalidatedByMetadataBatch() throws SQLException {
+        when(permRepo.getById(1)).thenReturn(new PermissionDTO(1, PermissionDTOTestConstant.PERMISSION_TEST_NAME, PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION, false));
+        when(permMetadataRepo.insertAll(anyList())).thenReturn(List.of(BatchRowStatus.APPLIED));
+        doReturn(true).when(permissionManager).connect();
+        doNothing().when(permissionManager).disconnect();
+
+        // Call
+        permissionManager.getPermission(1, RequestType.DETAIL);
+        permissionManager.createMetadataList(List.of(new MetadataDTO(1, MetadataDTOTestConstant.METADATA_TEST_PERM_NAME, "value", false)));
+        permissionManager.getPermission(1, RequestType.DETAIL);
+
+        // Validate: reloaded after the batch
+        verify(permRepo, times(2)).getById(1);
+    }
+
+    @Test
+    void smokeTestGetPermissionNotCachedFromReplica() throws SQLException {
+        iamDBConnectorUtil connector = mock(iamDBConnectorUtil.class);
+        when(connector.isReplicaConnected()).thenReturn(true);
+        permissionManager.setConnector(connector);
+        when(permRepo.getById(1)).thenReturn(new PermissionDTO(1, PermissionDTOTestConstant.PERMISSION_TEST_NAME, PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION, false));
+        when(permRepo.getByName(PermissionDTOTestConstant.PERMISSION_TEST_NAME)).thenReturn(new PermissionDTO(1, PermissionDTOTestConstant.PERMISSION_TEST_NAME, PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION, false));
+        doReturn(true).when(permissionManager).connect();
+        doNothing().when(permissionManager).disconnect();
+
+        // Call
+        permissionManager.getPermission(1, RequestType.SUMMARY);
+        permissionManager.getPermission(PermissionDTOTestConstant.PERMISSION_TEST_NAME, RequestType.SUMMARY);
+
+        // Validate: replica reads (possibly stale) left out of the cache
+        assertNull(permissionManager.getCache().get(1, RequestType.SUMMARY));
+        assertNull(permissionManager.getCache().get(PermissionDTOTestConstant.PERMISSION_TEST_NAME, RequestType.SUMMARY));
+    }
+
+    @Test
+    void smokeTestGetPermissionNotCachedInternal() throws SQLException {
+        when(permRepo.getById(1)).thenReturn(new PermissionDTO(1, PermissionDTOTestConstant.PERMISSION_TEST_NAME, PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION, false));
+        doReturn(true).when(permissionManager).connect();
+        doNothing().when(permissionManager).disconnect();
+
+        // Call
+        permissionManager.getPermission(1, RequestType.INTERNAL);
+        permissionManager.getPermission(1, RequestType.INTERNAL);
+
+        // Validate: existence checks always read iamDB
+        verify(permRepo, times(2)).getById(1);
+    }
+
+    @Test
+    void smokeTestAuthzReloadedByArchive() throws SQLException {
+        AuthzManager authzManager = mock(AuthzManager.class);
+        permissionManager.setAuthzManager(authzManager);
+        when(permRepo.updateArchive(1, true)).thenReturn(1);
+        when(permRepo.archiveAll(List.of(2, 3))).thenReturn(List.of(BatchRowStatus.APPLIED, BatchRowStatus.NOT_FOUND));
+        doReturn(true).when(permissionManager).connect();
+        doNothing().when(permissionManager).disconnect();
+
+        // Call
+        permissionManager.updatePermissionArchived(1, true);
+        permissionManager.archivePermissions(List.of(2, 3));
+
+        // Validate: outside a transaction, reloaded right away
+        verify(authzManager, times(1)).reload(List.of(1), List.of());
+        verify(authzManager, times(1)).reload(List.of(2, 3), List.of());
+        verify(authzManager, never()).reloadOnCompletion(anyCollection(), anyCollection());
+    }
+
+    @Test
+    void smokeTestAuthzReloadedByRolePermissions() throws SQLException {
+        AuthzManager authzManager = mock(AuthzManager.class);
+        permissionManager.setAuthzManager(authzManager);
+        List<RolePermissionDTO> rps = Arrays.asList(new RolePermissionDTO(1, 2, false), new RolePermissionDTO(1, 3, false));
+        when(rpRepo.insertAll(rps)).thenReturn(Arrays.asList(BatchRowStatus.APPLIED, BatchRowStatus.APPLIED));
+        doReturn(true).when(permissionManager).connect();
+        doNothing().when(permissionManager).disconnect();
+
+        // Call
+        permissionManager.createRolePermissions(rps);
+
+        // Validate: the role's permissions reloaded; description changes don't touch the index
+        verify(authzManager, times(1)).reload(List.of(), Set.of(1));
+        permissionManager.updatePermissionDescription(1, PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION_UPDATED);
+        verify(authzManager, times(1)).reload(anyCollection(), anyCollection());
+    }
+
+    @Test
+    void smokeTestGetPermissionMissingCached() throws SQLException {
+        when(permRepo.getById(99)).thenReturn(null);
+        when(permRepo.insert("App.New", "New")).thenReturn(99);
+        doReturn(true).when(permissionManager).connect();
+        doNothing().when(permissionManager).disconnect();
+
+        // Call: not found twice, then created
+        assertNull(permissionManager.getPermission(99, RequestType.INTERNAL));
+        assertNull(permissionManager.getPermission(99, RequestType.SUMMARY));
+        verify(permRepo, times(1)).getById(99);
+        verify(permissionManager, times(1)).connect();
+        permissionManager.createPermission("App.New", "New");
+        permissionManager.getPermission(99, RequestType.INTERNAL);
+
+        // Validate: looked up again after the creation
+        verify(permRepo, times(2)).getById(99);
+    }
+
+    @Test
+    void smokeTestGetMetadataMissingCached() throws SQLException {
+        when(permMetadataRepo.get(1, "meta")).thenReturn(null);
+        when(permMetadataRepo.insert(1, "meta", "value")).thenReturn(1);
+        when(permRepo.getById(1)).thenReturn(new PermissionDTO(1, PermissionDTOTestConstant.PERMISSION_TEST_NAME, PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION, false));
+        doReturn(true).when(permissionManager).connect();
+        doNothing().when(permissionManager).disconnect();
+
+        // Call: not found twice, then created
+        assertNull(permissionManager.getMetadata(1, "meta"));
+        assertNull(permissionManager.getMetadata(1, "meta"));
+        verify(permMetadataRepo, times(1)).get(1, "meta");
+        permissionManager.createMetadata(1, "meta", "value");
+        permissionManager.getMetadata(1, "meta");
+
+        // Validate: looked up again after the creation
+        verify(permMetadataRepo, times(2)).get(1, "meta");
+    }
+
+    @Test
+    void smokeTestGetPermissionMissingNotCachedFromReplica() throws SQLException {
+        iamDBConnectorUtil connector = mock(iamDBConnectorUtil.class);
+        permissionManager.setConnector(connector);
+        when(permRepo.insert("App.New", "New")).thenReturn(99);
+        when(permRepo.getById(99)).thenReturn(null, new PermissionDTO(99, "App.New", "New", false));
+        when(permRepo.updateDescription(99, PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION_UPDATED)).thenReturn(1);
+        doReturn(true).when(permissionManager).connect();
+        doNothing().when(permissionManager).disconnect();
+
+        // Call: created on the primary, read from a replica that doesn't have it yet
+        permissionManager.createPermission("App.New", "New");
+        when(connector.isReplicaConnected()).thenReturn(true);
+        assertNull(permissionManager.getPermission(99, RequestType.SUMMARY));
 
+        // Validate: the update (its existence check on the primary) finds it
+        when(connector.isReplicaConnected()).thenReturn(false);
+        assertNotNull(permissionManager.getPermission(99, RequestType.INTERNAL));
+        assertTrue(permissionManager.updatePermissionDescription(99, PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION_UPDATED));
+        verify(permRepo, times(2)).getById(99);
+    }
+
+    @Test
+    void smokeTestGetMetadataMissingNotCachedFromReplica() throws SQLException {
+        iamDBConnectorUtil connector = mock(iamDBConnectorUtil.class);
+        when(connector.isReplicaConnected()).thenReturn(true);
+        permissionManager.setConnector(connector);
+        when(permMetadataRepo.get(1, "meta")).thenReturn(null);
+        doReturn(true).when(permissionManager).connect();
+        doNothing().when(permissionManager).disconnect();
+
+        // Call: not found on the replica twice
+        assertNull(permissionManager.getMetadata(1, "meta"));
+        assertNull(permissionManager.getMetadata(1, "meta"));
+
+        // Validate: looked up each time
+        verify(permMetadataRepo, times(2)).get(1, "meta");
+    }
+
+    @Test
+    void negativeTestGetPermissionMissingNotCachedOnException() throws SQLException {
+        when(permRepo.getById(99)).thenThrow(new SQLException("Database error"));
+        doReturn(true).when(permissionManager).connect();
+        doNothing().when(permissionManager).disconnect();
+
+        // Call
+        assertNull(permissionManager.getPermission(99, RequestType.INTERNAL));
+        assertNull(permissionManager.getPermission(99, RequestType.INTERNAL));
+
+        // Validate: an error isn't a miss
+        verify(permRepo, times(2)).getById(99);
+    }
+
+    @Test
+    void smokeTestCreatePermissionsInvalidatesMissing() throws SQLException {
+        List<PermissionDTO> perms = List.of(new PermissionDTO(0, "P1", "D1", false));
+        when(permRepo.getById(99)).thenReturn(null);
+        when(permRepo.insertAll(perms)).thenReturn(List.of(BatchRowStatus.APPLIED));
+        doReturn(true).when(permissionManager).connect();
+        doNothing().when(permissionManager).disconnect();
+
+        // Call
+        permissionManager.getPermission(99, RequestType.INTERNAL);
+        permissionManager.createPermissions(perms);
+        permissionManager.getPermission(99, RequestType.INTERNAL);
+
+        // Validate: generated ids unknown, every missing entry dropped
+        verify(permRepo, times(2)).getById(99);
+    }
+
+    @Test
+    void smokeTestRoleNamesLoadedOnce() throws SQLException {
+        when(permRepo.getById(1)).thenReturn(new PermissionDTO(1, PermissionDTOTestConstant.PERMISSION_TEST_NAME, PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION, false));
+        when(rpRepo.getAllForPermission(1)).thenReturn(List.of(new RolePermissionDTO(1, 1, false), new RolePermissionDTO(2, 1, false)));
+        when(roleRepo.getAllExtendedNames()).thenReturn(Map.of(1, "App.Feature.Role1", 2, "App.Feature.Role2"));
+        doReturn(true).when(permissionManager).connect();
+        doNothing().when(permissionManager).disconnect();
+        permissionManager.getCache().invalidateAll();
+
+        // Call (the permission cache bypassed: the dictionary resolves each time)
+        Permission first = permissionManager.getPermission(1, RequestType.DETAIL);
+        permissionManager.getCache().invalidateAll();
+        Permission second = permissionManager.getPermission(1, RequestType.DETAIL);
+
+        // Validate: names loaded once, shared by both permissions
+        assertEquals(List.of("App.Feature.Role1", "App.Feature.Role2"), second.getRoleExtendedNameList());
+        assertSame(first.getRoleExtendedNameList().get(0), second.getRoleExtendedNameList().get(0));
+        verify(roleRepo, times(1)).getAllExtendedNames();
+    }
+
+    @Test
+    void smokeTestRoleNamesLoadedOnceConcurrently() throws Exception {
+        permissionManager.setCache(new iamPermissionCache(false, 0, 0));
+        when(permRepo.getById(1)).thenReturn(new PermissionDTO(1, PermissionDTOTestConstant.PERMISSION_TEST_NAME, PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION, false));
+        when(rpRepo.getAllForPermission(1)).thenReturn(List.of(new RolePermissionDTO(1, 1, false)));
+        when(roleRepo.getAllExtendedNames()).thenAnswer(invocation -> {
+            Thread.sleep(50);
+            return Map.of(1, "App.Feature.Role1");
+        });
+        doReturn(true).when(permissionManager).connect();
+        doNothing().when(permissionManager).disconnect();
+
+        // Call: first use from many virtual threads at once (the others wait for the loader)
+        List<Future<Permission>> permissions = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 50; i++) {
+                permissions.add(executor.submit(() -> permissionManager.getPermission(1, RequestType.DETAIL)));
+            }
+            for (Future<Permission> permission : permissions) {
+                assertEquals(List.of("App.Feature.Role1"), permission.get().getRoleExtendedNameList());
+            }
+        }
+
+        // Validate: loaded once
+        verify(roleRepo, times(1)).getAllExtendedNames();
+    }
+
+    @Test
+    void smokeTestRoleNamesReloaded() throws SQLException {
+        when(permRepo.getById(1)).thenReturn(new PermissionDTO(1, PermissionDTOTestConstant.PERMISSION_TEST_NAME, PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION, false));
+        when(rpRepo.getAllForPermission(1)).thenReturn(List.of(new RolePermissionDTO(1, 1, false)));
+        when(roleRepo.getAllExtendedNames()).thenReturn(Map.of(1, "App.Feature.Role1"), Map.of(1, "App.Feature.Renamed"));
+        doReturn(true).when(permissionManager).connect();
+        doNothing().when(permissionManager).disconnect();
+        permissionManager.getPermission(1, RequestType.DETAIL);
+        permissionManager.getCache().invalidateAll();
+
+        // Call: renamed (invalidated)
+        permissionManager.invalidateRoleNames();
+        Permission permission = permissionManager.getPermission(1, RequestType.DETAIL);
+
+        // Validate
+        assertEquals(List.of("App.Feature.Renamed"), permission.getRoleExtendedNameList());
+        verify(roleRepo, times(2)).getAllExtendedNames();
+    }
+
+    @Test
+    void smokeTestRoleNamesUnknownRole() throws SQLException {
+        when(rpRepo.getAllForPermissions(anyCollection())).thenReturn(Map.of(1, List.of(new RolePermissionDTO(1, 1, false)), 2, List.of(new RolePermissionDTO(3, 2, false))));
+        when(permRepo.getAll(0, 10)).thenReturn(List.of(new PermissionDTO(1, "P1", "D1", false), new PermissionDTO(2, "P2", "D2", false)));
+        when(permMetadataRepo.getAll(anyCollection())).thenReturn(Map.of());
+        when(roleRepo.getAllExtendedNames()).thenReturn(Map.of(1, "App.Feature.Role1"));
+        doReturn(true).when(permissionManager).connect();
+        doNothing().when(permissionManager).disconnect();
+
+        // Call: role 3 unknown, twice in a row
+        permissionManager.getPermissions(RequestType.DETAIL, false, 0, 10);
+        List<Permission> permissions = permissionManager.getPermissions(RequestType.DETAIL, false, 0, 10);
+
+        // Validate: skipped, not reloaded again right away
+        assertEquals(List.of("App.Feature.Role1"), permissions.get(0).getRoleExtendedNameList());
+        assertEquals(1, permissions.get(1).getRoleCount());
+        assertTrue(permissions.get(1).getRoleExtendedNameList().isEmpty());
+        verify(roleRepo, times(1)).getAllExtendedNames();
+    }
+
+    @Test
+    void smokeTestVersionsBumpedByMutations() throws SQLException {
+        when(permRepo.updateDescription(1, PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION_UPDATED)).thenReturn(1);
+        when(permMetadataRepo.deleteAll(anyList())).thenReturn(List.of(BatchRowStatus.APPLIED));
+        doReturn(true).when(permissionManager).connect();
+        doNothing().when(permissionManager).disconnect();
+        iamCatalogVersion versions = permissionManager.getVersions();
+        String catalog = versions.getETag();
+        String permission2 = versions.getETag(2);
+
+        // Call
+        permissionManager.updatePermissionDescription(1, PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION_UPDATED);
+        permissionManager.deleteMetadataList(List.of(new MetadataDTO(3, MetadataDTOTestConstant.METADATA_TEST_PERM_NAME, "value", false)));
+
+        // Validate: the catalog and the permissions touched bumped, the others kept
+        assertEquals(2, versions.getVersion());
+        assertNotEquals(catalog, versions.getETag());
+        assertEquals(1, versions.getVersion(1));
+        assertEquals(2, versions.getVersion(3));
+        assertEquals(permission2, versions.getETag(2));
+    }
+
+    @Test
+    void smokeTestVersionsBumpedByBatchCreation() throws SQLException {
+        List<PermissionDTO> perms = List.of(new PermissionDTO(0, "P1", "D1", false));
+        when(permRepo.insertAll(perms)).thenReturn(List.of(BatchRowStatus.APPLIED));
+        doReturn(true).when(permissionManager).connect();
+        doNothing().when(permissionManager).disconnect();
+        String permission2 = permissionManager.getVersions().getETag(2);
+
+        // Call
+        permissionManager.createPermissions(perms);
+
+        // Validate: generated ids unknown, every permission version bumped
+        assertNotEquals(permission2, permissionManager.getVersions().getETag(2));
+    }
+
+    @Test
+    void smokeTestChangeLoggedInOwnTransaction() throws SQLException {
+        ChangeLogRepository changeLogRepo = mock(ChangeLogRepository.class);
+        iamDBConnectorUtil connector = mock(iamDBConnectorUtil.class);
+        permissionManager.setChangeLogRepo(changeLogRepo);
+        permissionManager.setConnector(connector);
+        when(permRepo.insert("P1", "D1")).thenReturn(7);
+        when(permRepo.updateDescription(8, "D2")).thenReturn(0);
+        doReturn(true).when(permissionManager).connect();
+        doNothing().when(permissionManager).disconnect();
+
+        // Call
+        permissionManager.createPermission("P1", "D1");
+        permissionManager.updatePermissionDescription(8, "D2");
+
+        // Validate: the mutation and its change-log row in one transaction, committed if the mutation applied
+        verify(connector, times(2)).begin(anyInt());
+        verify(changeLogRepo, times(1)).insert(argThat(change -> change.getEntity() == ChangeEntity.PERMISSION
+                && change.getPermissionId() == 7 && permissionManager.getChangeOrigin().equals(change.getOrigin())));
+        verify(connector, times(1)).commit();
+        verify(connector, times(1)).rollback();
+    }
+
+    @Test
+    void smokeTestChangeLoggedByBatch() throws SQLException {
+        ChangeLogRepository changeLogRepo = mock(ChangeLogRepository.class);
+        permissionManager.setChangeLogRepo(changeLogRepo);
+        permissionManager.setConnector(mock(iamDBConnectorUtil.class));
+        List<RolePermissionDTO> rps = List.of(new RolePermissionDTO(1, 2, false), new RolePermissionDTO(1, 3, false));
+        when(rpRepo.insertAll(rps)).thenReturn(List.of(BatchRowStatus.APPLIED, BatchRowStatus.APPLIED));
+        when(changeLogRepo.insertAll(anyList())).thenReturn(List.of(BatchRowStatus.APPLIED, BatchRowStatus.FAILED));
+        doReturn(true).when(permissionManager).connect();
+        doNothing().when(permissionManager).disconnect();
+
+        // Call
+        List<BatchRowStatus> result = permissionManager.createRolePermissions(rps);
+
+        // Validate: one row per link; change log not written, the batch fails as a whole
+        verify(changeLogRepo, times(1)).insertAll(argThat(changes -> changes.size() == 2
+                && changes.get(1).getEntity() == ChangeEntity.ROLE_PERMISSION && changes.get(1).getPermissionId() == 3 && changes.get(1).getRoleId() == 1));
+        assertEquals(List.of(BatchRowStatus.FAILED, BatchRowStatus.FAILED), result);
+    }
+
+    @Test
+    void smokeTestApplyChanges() throws SQLException {
+        AuthzManager authzManager = mock(AuthzManager.class);
+        permissionManager.setAuthzManager(authzManager);
+        when(permRepo.getById(1)).thenReturn(new PermissionDTO(1, "P1", "D1", false));
+        doReturn(true).when(permissionManager).connect();
+        doNothing().when(permissionManager).disconnect();
+        permissionManager.getPermission(1, RequestType.SUMMARY);
+        long version = permissionManager.getVersions().getVersion();
+
+        // Call
+        permissionManager.applyChanges(List.of(
+                new ChangeLogDTO(1, ChangeEntity.PERMISSION, 1, 0, null, "other"),
+                new ChangeLogDTO(2, ChangeEntity.METADATA, 2, 0, "name", "other"),
+                new ChangeLogDTO(3, ChangeEntity.ROLE_PERMISSION, 3, 10, null, "other")));
+        permissionManager.getPermission(1, RequestType.SUMMARY);
+
+        // Validate: invalidated, versions bumped, the authorization index reloaded
+        verify(permRepo, times(2)).getById(1);
+        assertEquals(version + 3, permissionManager.getVersions().getVersion());
+        assertEquals(version + 3, permissionManager.getVersions().getVersion(3));
+        verify(authzManager, times(1)).reload(Set.of(1), Set.of(10));
+    }
+
+    @Test
+    void smokeTestApplyChangesUnknownEntity() {
+        AuthzManager authzManager = mock(AuthzManager.class);
+        permissionManager.setAuthzManager(authzManager);
+        permissionManager.getRoleNames().set(iamRoleNameDictionary.build(Map.of(1, "App.Feature.Role1")));
+
+        // Call
+        permissionManager.applyChanges(List.of(new ChangeLogDTO(1, null, 1, 0, null, "other")));
+
+        // Validate: logged by a newer version, everything dropped
+        assertNull(permissionManager.getRoleNames().get());
+        verify(authzManager, times(1)).invalidate();
+        verify(authzManager, never()).reload(anyCollection(), argThat(roleIds -> !roleIds.isEmpty()));
+        assertEquals(permissionManager.getVersions().getVersion(), permissionManager.getVersions().getVersion(5));
+    }
+
+    @Test
+    void smokeTestWarmUp() throws SQLException {
+        when(permRepo.getAll(0, 500)).thenReturn(List.of(new PermissionDTO(1, "P1", "D1", false), new PermissionDTO(2, "P2", "D2", false)));
+        when(rpRepo.getAllForPermissions(anyCollection())).thenReturn(Map.of(1, List.of(new RolePermissionDTO(10, 1, false))));
+        when(permMetadataRepo.getAll(anyCollection())).thenReturn(Map.of(2, List.of(new MetadataDTO(2, MetadataDTOTestConstant.METADATA_TEST_PERM_NAME, "value", false))));
+        when(roleRepo.getAllExtendedNames()).thenReturn(Map.of(10, "App.Feature.Role10"));
+        doReturn(true).when(permissionManager).connect();
+        doNothing().when(permissionManager).disconnect();
+
+        // Call
+        int result = permissionManager.warmUp(2, 5000);
+
+        // Validate: both views served from memory, with counts, metadata and role names
+        assertEquals(2, result);
+        Permission detail = permissionManager.getPermission(1, RequestType.DETAIL);
+        Permission summary = permissionManager.getPermission(2, RequestType.SUMMARY);
+        assertEquals(List.of("App.Feature.Role10"), detail.getRoleExtendedNameList());
+        assertEquals(1, summary.getMetadataCount());
+        assertTrue(summary.getMetadataList().isEmpty());
+        assertEquals("P2", permissionManager.getPermission("P2", RequestType.DETAIL).getName());
+        verify(permRepo, never()).getById(anyInt());
+        verify(permRepo, times(1)).getAll(anyInt(), anyInt());
+    }
+
+    @Test
+    void smokeTestWarmUpInvalidatedWhileRead() throws SQLException {
+        when(permRepo.getAll(0, 500)).thenAnswer(invocation -> {
+            // A change committed while the chunk is read (the chunk may predate it)
+            permissionManager.getCache().invalidate(1);
+            return List.of(new PermissionDTO(1, "P1", "D1", false));
+        });
+        doReturn(true).when(permissionManager).connect();
+        doNothing().when(permissionManager).disconnect();
+
+        // Call
+        int result = permissionManager.warmUp(2, 5000);
+
+        // Validate: not cached, loaded on first use
+        assertEquals(0, result);
+        assertNull(permissionManager.getCache().get(1, RequestType.DETAIL));
+    }
+
+    @Test
+    void smokeTestWarmUpChunksUpToCapacity() throws SQLException {
+        List<PermissionDTO> chunk = new ArrayList<>();
+        for (int id = 1; id <= 500; id++) {
+            chunk.add(new PermissionDTO(id, "P" + id, "D" + id, false));
+        }
+        permissionManager.setCache(new iamPermissionCache(true, 1200, 60));
+        when(permRepo.getAll(0, 500)).thenReturn(chunk);
+        when(permRepo.getAll(500, 100)).thenReturn(chunk.subList(0, 100));
+        doReturn(true).when(permissionManager).connect();
+        doNothing().when(permissionManager).disconnect();
+
+        // Call
+        int result = permissionManager.warmUp(2, 5000);
+
+        // Validate: read chunk by chunk, stopped at the cache capacity (both views)
+        assertEquals(600, result);
+        verify(permRepo, times(2)).getAll(anyInt(), anyInt());
+        verify(rpRepo, times(2)).getAllForPermissions(anyCollection());
+    }
+
+    @Test
+    void negativeTestWarmUpCacheDisabled() throws SQLException {
+        permissionManager.setCache(new iamPermissionCache(false, 1000, 60));
+
+        // Call
+        int result = permissionManager.warmUp(2, 5000);
+
+        // Validate
+        assertEquals(0, result);
+        verify(permRepo, never()).getAll(anyInt(), anyInt());
+    }
+
+    @Test
+    void negativeTestWarmUpFails() throws SQLException {
+        when(permRepo.getAll(0, 500)).thenReturn(List.of(new PermissionDTO(1, "P1", "D1", false)));
+        when(rpRepo.getAllForPermissions(anyCollection())).thenThrow(new SQLException("Test Exception"));
+        doReturn(true).when(permissionManager).connect();
+        doNothing().when(permissionManager).disconnect();
+
+        // Call
+        int result = permissionManager.warmUp(2, 5000);
+
+        // Validate: nothing cached, loaded on first use
+        assertEquals(0, result);
+        assertNull(permissionManager.getCache().get(1, RequestType.DETAIL));
+    }
+}
@@ -0,0 +1,142 @@
+package jgr.iam.manager;
+
+// External Objects
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.MockitoAnnotations;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+// External Static Objects
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// Internal Objects
+import jgr.iam.constant.dto.PermissionDTOTestConstant;
+import jgr.iam.model.bo.Permission;
+import jgr.iam.model.bo.User;
+import jgr.iam.model.dto.PermissionDTO;
+import jgr.iam.model.dto.UserDTO;
+import jgr.iam.model.dto.UserGroupRoleDTO;
+import jgr.iam.model.dto.UserRoleDTO;
+import jgr.iam.model.dto.UserUserGroupDTO;
+import jgr.iam.repository.PermissionRepository;
+import jgr.iam.repository.UserGroupRoleRepository;
+import jgr.iam.repository.UserRepository;
+import jgr.iam.repository.UserRoleRepository;
+import jgr.iam.repository.UserUserGroupRepository;
+
+// User Manager Test Class
+public class UserManagerTest {
+
+    @Mock
+    private UserRepository userRepo;
+
+    @Mock
+    private UserRoleRepository urRepo;
+
+    @Mock
+    private UserUserGroupRepository uugRepo;
+
+    @Mock
+    private UserGroupRoleRepository ugrRepo;
+
+    @Mock
+    private PermissionRepository permRepo;
+
+    @Spy
+    @InjectMocks
+    private UserManager userManager;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        userManager.setUserRepo(userRepo);
+        userManager.setUrRepo(urRepo);
+        userManager.setUugRepo(uugRepo);
+        userManager.setUgrRepo(ugrRepo);
+        userManager.setPermRepo(permRepo);
+        doReturn(true).when(userManager).connect();
+        doNothing().when(userManager).disconnect();
+    }
+
+    // User (identifier 7)
+    private User _getUser(boolean active, boolean archived) {
+        UserDTO userDTO = new UserDTO();
+        userDTO.setId(7);
+        userDTO.setActive(active);
+        userDTO.setArchived(archived);
+        return new User(userDTO);
+    }
+
+    @Test
+    void smokeTestGetUser() throws SQLException {
+        UserDTO userDTO = new UserDTO();
+        userDTO.setId(7);
+        when(userRepo.getById(7)).thenReturn(userDTO);
+
+        User user = userManager.getUser(7);
+
+        assertNotNull(user);
+        assertEquals(7, user.getId());
+    }
+
+    @Test
+    void negativeTestGetUserNotFound() throws SQLException {
+        when(userRepo.getById(7)).thenReturn(null);
+        assertNull(userManager.getUser(7));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void smokeTestGetEffectivePermissions() throws SQLException {
+        // Roles 1 and 2 directly; groups 10 and 11 grant roles 2 and 3
+        when(urRepo.getAllForUser(7)).thenReturn(Arrays.asList(new UserRoleDTO(7, 1, false), new UserRoleDTO(7, 2, false)));
+        when(uugRepo.getAllForUser(7)).thenReturn(Arrays.asList(new UserUserGroupDTO(7, 10, false), new UserUserGroupDTO(7, 11, false)));
+        when(ugrRepo.getAllForUserGroups(anyCollection())).thenReturn(Arrays.asList(new UserGroupRoleDTO(10, 2, false), new UserGroupRoleDTO(11, 3, false)));
+        when(permRepo.getAllForRoles(anyCollection())).thenReturn(Arrays.asList(
+                new PermissionDTO(1, PermissionDTOTestConstant.PERMISSION_TEST_NAME_X + "1", PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION_X + "1", false),
+                new PermissionDTO(2, PermissionDTOTestConstant.PERMISSION_TEST_NAME_X + "2", PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION_X + "2", false)));
+
+        List<Permission> permissions = userManager.getEffectivePermissions(_getUser(true, false));
+
+        // Validate: one query per path, roles deduplicated
+        assertNotNull(permissions);
+        assertEquals(2, permissions.size());
+        assertEquals(PermissionDTOTestConstant.PERMISSION_TEST_NAME_X + "1", permissions.get(0).getName());
+        verify(ugrRepo, times(1)).getAllForUserGroups(eq(Arrays.asList(10, 11)));
+        verify(permRepo, times(1)).getAllForRoles(argThat((Collection<Integer> roleIds) -> Set.copyOf(roleIds).equals(Set.of(1, 2, 3)) && roleIds.size() == 3));
+    }
+
+    @Test
+    void smokeTestGetEffectivePermissionsInactiveUser() throws SQLException {
+        List<Permission> permissions = userManager.getEffectivePermissions(_getUser(false, false));
+
+        assertNotNull(permissions);
+        assertTrue(permissions.isEmpty());
+        verifyNoInteractions(urRepo, uugRepo, ugrRepo, permRepo);
+    }
+
+    @Test
+    void smokeTestGetEffectivePermissionsArchivedUser() throws SQLException {
+        List<Permission> permissions = userManager.getEffectivePermissions(_getUser(true, true));
+
+        assertNotNull(permissions);
+        assertTrue(permissions.isEmpty());
+        verifyNoInteractions(urRepo, uugRepo, ugrRepo, permRepo);
+    }
+
+    @Test
+    void negativeTestGetEffectivePermissionsException() throws SQLException {
+        when(urRepo.getAllForUser(7)).thenThrow(new SQLException("Database error"));
+
+        assertNull(userManager.getEffectivePermissions(_getUser(true, false)));
+    }
+}
@@ -0,0 +1,41 @@
+package jgr.iam.repository;
+
+// External Objects
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+// External Static Objects
+import static org.junit.jupiter.api.Assertions.*;
+
+// Internal Objects
+import jgr.iam.enums.ChangeEntity;
+import jgr.iam.model.dto.ChangeLogDTO;
+import jgr.iam.util.iamR2dbcTestUtil;
+
+// ChangeLogReactiveRepository Test Class (in-memory iamDB)
+public class ChangeLogReactiveRepositoryTest {
+
+    private DatabaseClient client;
+    private ChangeLogReactiveRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        client = iamR2dbcTestUtil.createClient();
+        repository = new ChangeLogReactiveRepository(client);
+    }
+
+    @Test
+    void smokeTestInsert() {
+        assertEquals(1L, repository.insert(new ChangeLogDTO(ChangeEntity.PERMISSION, 1, 0, null, "node-1")).block());
+        assertEquals(1L, repository.insert(new ChangeLogDTO(ChangeEntity.METADATA, 1, 0, "owner", "node-1")).block());
+
+        // Validate: in sequence order, no role nor name when not given
+        var rows = client.sql("SELECT * FROM ChangeLog ORDER BY seq")
+                         .map(row -> row.get("entity", String.class) + "," + row.get("permissionId", Integer.class) + "," + row.get("roleId", Integer.class) + "," + row.get("name", String.class) + "," + row.get("origin", String.class))
+                         .all().collectList().block();
+        assertEquals(2, rows.size());
+        assertEquals("PERMISSION,1,null,null,node-1", rows.get(0));
+        assertEquals("METADATA,1,null,owner,node-1", rows.get(1));
+    }
+}
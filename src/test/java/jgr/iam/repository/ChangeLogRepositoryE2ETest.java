@@ -0,0 +1,105 @@
+package jgr.iam.repository;
+
+// External Objects
+import org.junit.jupiter.api.*; // https://junit.org/junit5/docs/5.0.1/api/org/junit/jupiter/api/package-summary.html
+import static org.junit.jupiter.api.Assertions.*; // https://junit.org/junit5/docs/5.0.1/api/org/junit/jupiter/api/Assertions.html
+import org.apache.logging.log4j.LogManager; // https://logging.apache.org/log4j/2.x/manual/api.html
+import org.apache.logging.log4j.Logger; // https://logging.apache.org/log4j/2.x/manual/api.html
+import java.sql.SQLException; // https://docs.oracle.com/javase/8/docs/api/java/sql/SQLException.html
+import java.util.List; // https://docs.oracle.com/javase/8/docs/api/java/util/List.html
+import java.util.UUID; // https://docs.oracle.com/javase/8/docs/api/java/util/UUID.html
+// Internal Objects
+import jgr.iam.util.ExceptionHandlerTestUtil; // Exception Stack Trace Util
+import jgr.iam.util.iamDBConnectorTestUtil; // iamDB Test Connect Util
+import jgr.iam.util.iamDBConnectorUtil; // iamDB Connector Util
+import jgr.iam.enums.BatchRowStatus; // Batch Row Status
+import jgr.iam.enums.ChangeEntity; // Change Log Entity
+import jgr.iam.model.dto.ChangeLogDTO; // ChangeLog
+
+// Test ChangeLogRepository Class
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ChangeLogRepositoryE2ETest {
+    // Logger
+    private final static Logger logger = LogManager.getLogger(ChangeLogRepositoryE2ETest.class.getCanonicalName());
+
+    // Origin of the rows of this test
+    private final static String ORIGIN = UUID.randomUUID().toString();
+
+    // Position before the test (set by the first test)
+    private static long start;
+
+    // iamDBConector
+    private iamDBConnectorUtil connector;
+
+    // ChangeLog Repository
+    private ChangeLogRepository changeLogRepository;
+
+    @BeforeEach
+    void setUp() {
+        connector = new iamDBConnectorUtil();
+        try {
+            iamDBConnectorTestUtil.iamDBConnect(connector);
+            changeLogRepository = new ChangeLogRepository(connector);
+        }
+        catch (SQLException e) {
+            ExceptionHandlerTestUtil.Handle(logger, "setUp", e);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        connector.close();
+    }
+
+    @Test
+    @Order(1)
+    void smokeTestInsert() {
+        try {
+            start = changeLogRepository.getMaxSequence();
+            assertEquals(1, changeLogRepository.insert(new ChangeLogDTO(ChangeEntity.PERMISSION, 1, 0, null, ORIGIN)));
+            List<BatchRowStatus> result = changeLogRepository.insertAll(List.of(
+                    new ChangeLogDTO(ChangeEntity.METADATA, 2, 0, "name", ORIGIN),
+                    new ChangeLogDTO(ChangeEntity.ROLE_PERMISSION, 3, 4, null, ORIGIN)));
+            assertEquals(List.of(BatchRowStatus.APPLIED, BatchRowStatus.APPLIED), result);
+            assertTrue(changeLogRepository.getMaxSequence() >= start + 3, "smokeTestInsert: Sequence Not Advanced.");
+        }
+        catch (SQLException e) {
+            ExceptionHandlerTestUtil.Handle(logger, "smokeTestInsert", e);
+        }
+    }
+
+    @Test
+    @Order(2)
+    void smokeTestGetAfter() {
+        try {
+            List<ChangeLogDTO> changes = changeLogRepository.getAfter(start, 100).stream().filter(change -> ORIGIN.equals(change.getOrigin())).toList();
+            assertEquals(3, changes.size());
+            assertTrue(changes.get(0).getSeq() < changes.get(1).getSeq(), "smokeTestGetAfter: Not In Sequence Order.");
+            assertEquals(ChangeEntity.PERMISSION, changes.get(0).getEntity());
+            assertEquals(0, changes.get(0).getRoleId());
+            assertEquals("name", changes.get(1).getName());
+            assertEquals(3, changes.get(2).getPermissionId());
+            assertEquals(4, changes.get(2).getRoleId());
+            // Limit, and past the last row
+            assertEquals(1, changeLogRepository.getAfter(start, 1).size());
+            assertTrue(changeLogRepository.getAfter(changeLogRepository.getMaxSequence(), 100).isEmpty());
+        }
+        catch (SQLException e) {
+            ExceptionHandlerTestUtil.Handle(logger, "smokeTestGetAfter", e);
+        }
+    }
+
+    @Test
+    @Order(3)
+    void smokeTestDeleteUpTo() {
+        try {
+            long max = changeLogRepository.getMaxSequence();
+            assertTrue(changeLogRepository.deleteUpTo(max) >= 3, "smokeTestDeleteUpTo: Rows Not Deleted.");
+            assertTrue(changeLogRepository.getAfter(start, 100).stream().noneMatch(change -> ORIGIN.equals(change.getOrigin())));
+            assertEquals(0, changeLogRepository.deleteUpTo(max));
+        }
+        catch (SQLException e) {
+            ExceptionHandlerTestUtil.Handle(logger, "smokeTestDeleteUpTo", e);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package jgr.iam.repository;
+
+// External Objects
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.test.StepVerifier;
+import java.util.List;
+
+// External Static Objects
+import static org.junit.jupiter.api.Assertions.*;
+
+// Internal Objects
+import jgr.iam.constant.iamDBMetadataTable;
+import jgr.iam.model.dto.MetadataDTO;
+import jgr.iam.util.iamR2dbcTestUtil;
+
+// MetadataReactiveRepository Test Class (in-memory iamDB)
+public class MetadataReactiveRepositoryTest {
+
+    private MetadataReactiveRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        DatabaseClient client = iamR2dbcTestUtil.createClient();
+        repository = new MetadataReactiveRepository(client, iamDBMetadataTable.PERM);
+    }
+
+    @Test
+    void smokeTestInsertAndGet() {
+        assertEquals(1L, repository.insert(1, "owner", "iam").block());
+        StepVerifier.create(repository.get(1, "owner"))
+                    .assertNext(meta -> {
+                        assertEquals(1, meta.getRefid());
+                        assertEquals("iam", meta.getValue());
+                        assertFalse(meta.isArchived());
+                    })
+                    .verifyComplete();
+        StepVerifier.create(repository.get(1, "unknown")).verifyComplete();
+    }
+
+    @Test
+    void smokeTestUpdateAndDelete() {
+        repository.insert(1, "owner", "iam").block();
+        assertEquals(1L, repository.updateValue(1, "owner", "security").block());
+        assertEquals(1L, repository.updateArchive(1, "owner", true).block());
+        MetadataDTO meta = repository.get(1, "owner").block();
+        assertEquals("security", meta.getValue());
+        assertTrue(meta.isArchived());
+        assertEquals(1L, repository.delete(1, "owner").block());
+        assertEquals(0L, repository.delete(1, "owner").block());
+    }
+
+    @Test
+    void smokeTestGetAll() {
+        repository.insert(1, "owner", "iam").block();
+        repository.insert(1, "level", "high").block();
+        repository.insert(2, "owner", "ops").block();
+        repository.insert(2, "old", "x").block();
+        repository.updateArchive(2, "old", true).block();
+        var metas = repository.getAll(List.of(1, 2, 3)).block();
+        assertEquals(2, metas.get(1).size());
+        assertEquals(1, metas.get(2).size());
+        assertNull(metas.get(3));
+    }
+}
@@ -2,6 +2,7 @@ package jgr.iam.repository;
 
 // External Objects
 import org.junit.jupiter.api.*; // https://junit.org/junit5/docs/5.0.1/api/org/junit/jupiter/api/package-summary.html
+import org.junit.jupiter.api.condition.DisabledIfEnvironmentVariable; // https://junit.org/junit5/docs/current/api/org.junit.jupiter.api/org/junit/jupiter/api/condition/DisabledIfEnvironmentVariable.html
 import static org.junit.jupiter.api.Assertions.*; // https://junit.org/junit5/docs/5.0.1/api/org/junit/jupiter/api/Assertions.html
 import org.apache.logging.log4j.LogManager; // https://logging.apache.org/log4j/2.x/manual/api.html
 import org.apache.logging.log4j.Logger; // https://logging.apache.org/log4j/2.x/manual/api.html
@@ -11,6 +12,7 @@ import com.mysql.cj.jdbc.exceptions.MysqlDataTruncation;
 import java.util.ArrayList; // https://docs.oracle.com/javase/8/docs/api/java/util/ArrayList.html
 import java.util.List; // https://docs.oracle.com/javase/8/docs/api/java/util/List.html
 // Internal Objects
+import jgr.iam.constant.iamDBConnectionInfo; // iamDB Connection Information
 import jgr.iam.util.ExceptionHandlerTestUtil; // Exception Stack Trace Util
 import jgr.iam.util.iamDBConnectorTestUtil; // iamDB Test Connect Util
 import jgr.iam.util.iamDBConnectorUtil; // iamDB Connector Util
@@ -180,9 +182,10 @@ public class MetadataRepositoryE2ETest {
         }
     }
 
-    // Negative Test Update
+    // Negative Test Update (MySQL JSON column: not on the embedded iamDB)
     @Order(7)
     @Test
+    @DisabledIfEnvironmentVariable(named = iamDBConnectionInfo.ENV_DB_URL, matches = "jdbc:h2:.*")
     public void negativeTestUpdateValue() {
         try {
             UserDTO userTest = userRepo.getByName(UserDTOTestConstant.USER_TEST_USERNAME);
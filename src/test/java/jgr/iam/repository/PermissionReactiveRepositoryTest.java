@@ -0,0 +1,101 @@
+package jgr.iam.repository;
+
+// External Objects
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.test.StepVerifier;
+import java.util.List;
+
+// External Static Objects
+import static org.junit.jupiter.api.Assertions.*;
+
+// Internal Objects
+import jgr.iam.model.dto.PermissionDTO;
+import jgr.iam.model.dto.PermissionSummaryDTO;
+import jgr.iam.util.iamR2dbcTestUtil;
+
+// PermissionReactiveRepository Test Class (in-memory iamDB)
+public class PermissionReactiveRepositoryTest {
+
+    private DatabaseClient client;
+    private PermissionReactiveRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        client = iamR2dbcTestUtil.createClient();
+        repository = new PermissionReactiveRepository(client);
+    }
+
+    @Test
+    void smokeTestInsertAndGet() {
+        int id = repository.insert("perm.read", "Read").block();
+        assertTrue(id > 0);
+        StepVerifier.create(repository.getById(id))
+                    .assertNext(perm -> {
+                        assertEquals("perm.read", perm.getName());
+                        assertEquals("Read", perm.getDescription());
+                        assertFalse(perm.isArchived());
+                    })
+                    .verifyComplete();
+        StepVerifier.create(repository.getByName("perm.read").map(PermissionDTO::getId))
+                    .expectNext(id)
+                    .verifyComplete();
+    }
+
+    @Test
+    void negativeTestGetNotFound() {
+        StepVerifier.create(repository.getById(404)).verifyComplete();
+        StepVerifier.create(repository.getByName("unknown")).verifyComplete();
+    }
+
+    @Test
+    void smokeTestUpdateAndDelete() {
+        int id = repository.insert("perm.write", "Write").block();
+        assertEquals(1L, repository.updateDescription(id, "Write all").block());
+        assertEquals(1L, repository.updateArchive(id, true).block());
+        PermissionDTO perm = repository.getById(id).block();
+        assertEquals("Write all", perm.getDescription());
+        assertTrue(perm.isArchived());
+        assertEquals(1L, repository.delete(id).block());
+        assertEquals(0L, repository.delete(id).block());
+        assertEquals(0L, repository.updateDescription(id, "None").block());
+    }
+
+    @Test
+    void smokeTestSummary() {
+        int id = repository.insert("perm.admin", "Admin").block();
+        iamR2dbcTestUtil.addRole(client, id, "app", "feature", "admin");
+        client.sql("INSERT INTO PermissionMetadata (refid, name, value) VALUES (" + id + ", 'level', 'high')").then().block();
+        PermissionSummaryDTO summary = repository.getSummaryById(id).block();
+        assertEquals("perm.admin", summary.getName());
+        assertEquals(1, summary.getRoleCount());
+        assertEquals(1, summary.getMetadataCount());
+    }
+
+    @Test
+    void smokeTestPagesAndExport() {
+        for (int i = 0; i < 5; i++) {
+            repository.insert("perm." + i, "Permission " + i).block();
+        }
+        List<PermissionSummaryDTO> first = repository.getAllSummary(false, 0, 3).collectList().block();
+        assertEquals(3, first.size());
+        List<PermissionSummaryDTO> second = repository.getAllSummary(false, first.get(2).getId(), 3).collectList().block();
+        assertEquals(2, second.size());
+        assertEquals("perm.3", second.get(0).getName());
+        assertEquals(0, repository.getAllSummary(true, 0, 3).count().block());
+        assertEquals(5, repository.getAll(false).count().block());
+    }
+
+    @Test
+    void smokeTestRoleExtendedNames() {
+        int id = repository.insert("perm.role", "Role").block();
+        int other = repository.insert("perm.none", "None").block();
+        iamR2dbcTestUtil.addRole(client, id, "app", "feature", "reader");
+        iamR2dbcTestUtil.addRole(client, id, "app", "feature", "writer");
+        var roles = repository.getAllRoleExtendedNames(List.of(id, other)).block();
+        assertEquals(2, roles.get(id).size());
+        assertTrue(roles.get(id).contains("app.feature.reader"));
+        assertNull(roles.get(other));
+    }
+}
@@ -13,7 +13,10 @@ import jgr.iam.util.ExceptionHandlerTestUtil; // Exception Stack Trace Util
 import jgr.iam.util.iamDBConnectorTestUtil; // iamDB Test Connect Util
 import jgr.iam.util.iamDBConnectorUtil; // iamDB Connector Util
 import jgr.iam.constant.dto.PermissionDTOTestConstant; // Permission Test Constant
+import jgr.iam.constant.iamServicePagination; // Pagination
+import jgr.iam.enums.BatchRowStatus; // Batch Row Status
 import jgr.iam.model.dto.PermissionDTO; // Permission
+import jgr.iam.model.dto.PermissionSummaryDTO; // Permission Summary
 
 // Test PermissionRepository Class
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
@@ -263,4 +266,76 @@ class PermissionRepositoryE2ETest {
             ExceptionHandlerTestUtil.Handle(logger, "smokeTestGetAll", e);
         }
     }
-}
\ No newline at end of file
+
+    // Test getAllSummary and getAllArchivedSummary (paginated)
+    @Order(9)
+    @Test
+    public void smokeTestGetAllSummary() {
+        try {
+            for(int i = 0; i < 3; i++) {
+                repository.insert(new PermissionDTO(PermissionDTOTestConstant.PERMISSION_TEST_NAME_X + i, PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION_X + i));
+            }
+            PermissionDTO archivedTest = repository.getByName(PermissionDTOTestConstant.PERMISSION_TEST_NAME_X + 1);
+            repository.archive(archivedTest.getId());
+
+            // Test 1: getAllSummary
+            List<PermissionSummaryDTO> summaryTests = repository.getAllSummary(0, iamServicePagination.MAX_PAGE_SIZE);
+            assertEquals(2, summaryTests.size(), "smokeTestGetAllSummary: List is not 2 (" + summaryTests.size() + ").");
+            for(PermissionSummaryDTO summaryTest : summaryTests) {
+                assertEquals(0, summaryTest.getRoleCount(), "smokeTestGetAllSummary: roleCount is not 0.");
+                assertEquals(0, summaryTest.getMetadataCount(), "smokeTestGetAllSummary: metadataCount is not 0.");
+            }
+            assertTrue(summaryTests.get(0).getId() < summaryTests.get(1).getId(), "smokeTestGetAllSummary: List is not ordered by id.");
+
+            // Test 2: getAllSummary - next page (keyset on id)
+            List<PermissionSummaryDTO> pageTests = repository.getAllSummary(summaryTests.get(0).getId(), 1);
+            assertEquals(1, pageTests.size(), "smokeTestGetAllSummary: Page is not 1 (" + pageTests.size() + ").");
+            assertEquals(summaryTests.get(1).getId(), pageTests.get(0).getId(), "smokeTestGetAllSummary: Page id doesn't match.");
+
+            // Test 3: getAllArchivedSummary
+            List<PermissionSummaryDTO> archivedSummaryTests = repository.getAllArchivedSummary(0, iamServicePagination.MAX_PAGE_SIZE);
+            assertEquals(1, archivedSummaryTests.size(), "smokeTestGetAllSummary: Archived List is not 1 (" + archivedSummaryTests.size() + ").");
+            assertEquals(archivedTest.getId(), archivedSummaryTests.get(0).getId(), "smokeTestGetAllSummary: Archived id doesn't match.");
+
+            // Clean up
+            for(int i = 0; i < 3; i++) {
+                repository.delete(repository.getByName(PermissionDTOTestConstant.PERMISSION_TEST_NAME_X + i).getId());
+            }
+        }
+        catch (SQLException e) {
+            ExceptionHandlerTestUtil.Handle(logger, "smokeTestGetAllSummary", e);
+        }
+    }
+
+    // Test batch writes: insertAll, archiveAll, deleteAll (per-row outcomes)
+    @Order(10)
+    @Test
+    public void smokeTestBatch() {
+        try {
+            // Test 1: insertAll - the duplicate name is the only failed row
+            List<PermissionDTO> permissionTests = new ArrayList<>();
+            permissionTests.add(new PermissionDTO(PermissionDTOTestConstant.PERMISSION_TEST_NAME_X + 0, PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION));
+            permissionTests.add(new PermissionDTO(PermissionDTOTestConstant.PERMISSION_TEST_NAME_X + 0, PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION));
+            permissionTests.add(new PermissionDTO(PermissionDTOTestConstant.PERMISSION_TEST_NAME_X + 1, PermissionDTOTestConstant.PERMISSION_TEST_DESCRIPTION));
+            List<BatchRowStatus> inserted = repository.insertAll(permissionTests);
+            assertEquals(List.of(BatchRowStatus.APPLIED, BatchRowStatus.FAILED, BatchRowStatus.APPLIED), inserted, "smokeTestBatch: insertAll outcomes don't match.");
+
+            // Test 2: archiveAll - unknown id is NOT_FOUND
+            List<Integer> ids = new ArrayList<>();
+            ids.add(repository.getByName(PermissionDTOTestConstant.PERMISSION_TEST_NAME_X + 0).getId());
+            ids.add(repository.getByName(PermissionDTOTestConstant.PERMISSION_TEST_NAME_X + 1).getId());
+            ids.add(-1);
+            List<BatchRowStatus> archived = repository.archiveAll(ids);
+            assertEquals(List.of(BatchRowStatus.APPLIED, BatchRowStatus.APPLIED, BatchRowStatus.NOT_FOUND), archived, "smokeTestBatch: archiveAll outcomes don't match.");
+            assertTrue(repository.getById(ids.get(0)).isArchived(), "smokeTestBatch: not archived.");
+
+            // Test 3: deleteAll
+            List<BatchRowStatus> deleted = repository.deleteAll(ids);
+            assertEquals(List.of(BatchRowStatus.APPLIED, BatchRowStatus.APPLIED, BatchRowStatus.NOT_FOUND), deleted, "smokeTestBatch: deleteAll outcomes don't match.");
+            assertNull(repository.getById(ids.get(0)), "smokeTestBatch: not deleted.");
+        }
+        catch (SQLException e) {
+            ExceptionHandlerTestUtil.Handle(logger, "smokeTestBatch", e);
+        }
+    }
+}
@@ -8,6 +8,7 @@ import org.apache.logging.log4j.Logger; // https://logging.apache.org/log4j/2.x/
 import java.sql.SQLException; // https://docs.oracle.com/javase/8/docs/api/java/sql/SQLException.html
 import java.util.ArrayList; // https://docs.oracle.com/javase/8/docs/api/java/util/ArrayList.html
 import java.util.List; // https://docs.oracle.com/javase/8/docs/api/java/util/List.html
+import java.util.Map; // https://docs.oracle.com/javase/8/docs/api/java/util/Map.html
 // Internal Objects
 import jgr.iam.util.ExceptionHandlerTestUtil; // Exception Stack Trace Util
 import jgr.iam.util.iamDBConnectorTestUtil; // iamDB Test Connect Util
@@ -94,6 +95,25 @@ class RoleRepositoryE2ETest {
         }
     }
 
+    @Test
+    @Order(2)
+    void smokeTestGetAllExtendedNames()  {
+        try {
+            ApplicationDTO appTest = appRepository.getByName(ApplicationDTOTestConstant.APPLICATION_TEST_NAME);
+            assertNotNull(appTest, "smokeTestGetAllExtendedNames: No Application Found.");
+            FeatureDTO featTest = featRepository.getByName(appTest.getId(), FeatureDTOTestConstant.FEATURE_TEST_NAME);
+            assertNotNull(featTest, "smokeTestGetAllExtendedNames: No Feature Found.");
+            RoleDTO roleTest = roleRepository.getByName(featTest.getId(), RoleDTOTestConstant.ROLE_TEST_NAME);
+            assertNotNull(roleTest, "smokeTestGetAllExtendedNames: No Role Found.");
+            // Get all Role extended names
+            Map<Integer, String> names = roleRepository.getAllExtendedNames();
+            assertEquals(ApplicationDTOTestConstant.APPLICATION_TEST_NAME + "." + FeatureDTOTestConstant.FEATURE_TEST_NAME + "." + RoleDTOTestConstant.ROLE_TEST_NAME, names.get(roleTest.getId()), "smokeTestGetAllExtendedNames: extended name doesn't match.");
+        }
+        catch (SQLException e) {
+            ExceptionHandlerTestUtil.Handle(logger, "smokeTestGetAllExtendedNames", e);
+        }
+    }
+
     @Test
     @Order(3)
     void negativeTestGetByName() {
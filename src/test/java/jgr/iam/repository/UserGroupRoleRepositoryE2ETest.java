@@ -147,11 +147,15 @@ public class UserGroupRoleRepositoryE2ETest {
             ugrRepository.archive(ugTest.getId(), roleTest.getId());
             ugrTest = ugrRepository.get(ugTest.getId(), roleTest.getId());
             assertTrue(ugrTest.isArchived(), "smokeTestArchive: UserGroupRole is not archived.");
+            assertTrue(ugrRepository.getAllForUserGroups(List.of(ugTest.getId())).isEmpty(), "smokeTestArchive: Archived UserGroupRole resolved.");
+            assertTrue(ugrRepository.getAll().stream().noneMatch(ugr -> ugr.getUserGroupId() == ugTest.getId()), "smokeTestArchive: Archived UserGroupRole indexed.");
 
             // Test 2: Undo Archive
             ugrRepository.undoArchive(ugTest.getId(), roleTest.getId());
             ugrTest = ugrRepository.get(ugTest.getId(), roleTest.getId());
             assertFalse(ugrTest.isArchived(), "smokeTestArchive: UserGroupRole is archived.");
+            assertEquals(1, ugrRepository.getAllForUserGroups(List.of(ugTest.getId())).size(), "smokeTestArchive: UserGroupRole not resolved.");
+            assertTrue(ugrRepository.getAll().stream().anyMatch(ugr -> ugr.getUserGroupId() == ugTest.getId()), "smokeTestArchive: UserGroupRole not indexed.");
         }
         catch (SQLException e) {
             ExceptionHandlerTestUtil.Handle(logger, "smokeTestArchive", e);
@@ -0,0 +1,142 @@
+package jgr.iam.service;
+
+// External Objects
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+// External Static Objects
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+// Internal Objects
+import jgr.iam.constant.iamServiceResponseCode;
+import jgr.iam.constant.iamServicePagination;
+import jgr.iam.manager.AuthzManager;
+import jgr.iam.payload.request.authz.AuthzBulkCheckRequest;
+import jgr.iam.payload.request.authz.AuthzCheckRequest;
+import jgr.iam.payload.response.authz.AuthzCheckListResponse;
+import jgr.iam.payload.response.authz.AuthzCheckResponse;
+import jgr.iam.payload.response.authz.AuthzCheckValue;
+import jgr.iam.service.impl.AuthzService;
+
+public class AuthzServiceTest {
+
+    @Mock
+    private AuthzManager authzManager;
+
+    @InjectMocks
+    private AuthzService authzService;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    public void smokeTestCheck() {
+        when(authzManager.check(7, 1000)).thenReturn(true);
+        when(authzManager.check(7, 1001)).thenReturn(false);
+
+        AuthzCheckResponse allowed = authzService.check("7", "1000");
+        AuthzCheckResponse denied = authzService.check("7", "1001");
+
+        // Validate: denied is an answer too
+        assertEquals(HttpStatus.OK, allowed.getStatus());
+        assertTrue(((AuthzCheckValue) allowed.getItems()).isAllowed());
+        assertEquals(HttpStatus.OK, denied.getStatus());
+        assertFalse(((AuthzCheckValue) denied.getItems()).isAllowed());
+    }
+
+    @Test
+    public void negativeTestCheckInvalidId() {
+        AuthzCheckResponse result = authzService.check("7", "abc");
+
+        assertEquals(HttpStatus.BAD_REQUEST, result.getStatus());
+        verifyNoInteractions(authzManager);
+    }
+
+    @Test
+    public void negativeTestCheckIndexUnavailable() {
+        when(authzManager.check(7, 1000)).thenReturn(null);
+
+        AuthzCheckResponse result = authzService.check("7", "1000");
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, result.getStatus());
+        assertEquals(iamServiceResponseCode.SOMETHING_WENT_WRONG, result.getResponse());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void smokeTestCheckAllPairs() {
+        AuthzBulkCheckRequest request = new AuthzBulkCheckRequest();
+        request.setChecks(List.of(new AuthzCheckRequest(7, 1000), new AuthzCheckRequest(8, 1001)));
+        when(authzManager.checkAll(new int[] {7, 8}, new int[] {1000, 1001})).thenReturn(new boolean[] {true, false});
+
+        AuthzCheckListResponse result = authzService.checkAll(request);
+
+        // Validate: one call, answers in the order of the request
+        assertEquals(HttpStatus.OK, result.getStatus());
+        assertEquals(2, result.getCount());
+        List<AuthzCheckValue> values = (List<AuthzCheckValue>) result.getItems();
+        assertEquals(8, values.get(1).getUser());
+        assertTrue(values.get(0).isAllowed());
+        assertFalse(values.get(1).isAllowed());
+        verify(authzManager, times(1)).checkAll(any(), any());
+    }
+
+    @Test
+    public void smokeTestCheckAllOneUser() {
+        AuthzBulkCheckRequest request = new AuthzBulkCheckRequest();
+        request.setUser(7);
+        request.setPermissions(List.of(1000, 1001, 1002));
+        when(authzManager.checkAll(new int[] {7, 7, 7}, new int[] {1000, 1001, 1002})).thenReturn(new boolean[] {true, false, true});
+
+        AuthzCheckListResponse result = authzService.checkAll(request);
+
+        assertEquals(HttpStatus.OK, result.getStatus());
+        assertEquals(3, result.getCount());
+    }
+
+    @Test
+    public void negativeTestCheckAllInvalidRequest() {
+        // No request, empty, both forms, missing user, missing identifier, too many pairs
+        AuthzBulkCheckRequest empty = new AuthzBulkCheckRequest();
+        empty.setChecks(new ArrayList<>());
+        AuthzBulkCheckRequest both = new AuthzBulkCheckRequest();
+        both.setChecks(List.of(new AuthzCheckRequest(7, 1000)));
+        both.setUser(7);
+        AuthzBulkCheckRequest noUser = new AuthzBulkCheckRequest();
+        noUser.setPermissions(List.of(1000));
+        AuthzBulkCheckRequest noId = new AuthzBulkCheckRequest();
+        noId.setChecks(Arrays.asList(new AuthzCheckRequest(7, null)));
+        AuthzBulkCheckRequest tooMany = new AuthzBulkCheckRequest();
+        tooMany.setUser(7);
+        tooMany.setPermissions(Collections.nCopies(iamServicePagination.MAX_BULK_CHECK_SIZE + 1, 1000));
+
+        for (AuthzBulkCheckRequest request : Arrays.asList(null, new AuthzBulkCheckRequest(), empty, both, noUser, noId, tooMany)) {
+            assertEquals(HttpStatus.BAD_REQUEST, authzService.checkAll(request).getStatus());
+        }
+        verifyNoInteractions(authzManager);
+    }
+
+    @Test
+    public void negativeTestCheckAllIndexUnavailable() {
+        AuthzBulkCheckRequest request = new AuthzBulkCheckRequest();
+        request.setUser(7);
+        request.setPermissions(List.of(1000));
+        when(authzManager.checkAll(any(), any())).thenReturn(null);
+
+        AuthzCheckListResponse result = authzService.checkAll(request);
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, result.getStatus());
+    }
+}
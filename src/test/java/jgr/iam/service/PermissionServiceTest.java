@@ -8,17 +8,28 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Supplier;
 
 // External Static Objects
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 // Internal Objects
 import jgr.iam.constant.dto.MetadataDTOTestConstant;
+import jgr.iam.constant.iamDBConnectionInfo;
 import jgr.iam.constant.iamDBUpdatableFields;
+import jgr.iam.constant.iamServicePagination;
 import jgr.iam.constant.iamServiceResponseCode;
 import jgr.iam.model.bo.Metadata;
 import jgr.iam.model.dto.MetadataDTO;
@@ -31,6 +42,8 @@ import jgr.iam.model.dto.PermissionDTO;
 import jgr.iam.enums.RequestType;
 import jgr.iam.manager.PermissionManager;
 import jgr.iam.service.impl.PermissionService;
+import jgr.iam.util.iamCatalogVersion;
+import jgr.iam.util.iamCursorUtil;
 import org.springframework.http.HttpStatus;
 
 public class PermissionServiceTest {
@@ -41,12 +54,66 @@ public class PermissionServiceTest {
     @Mock
     private PermissionManager permissionManager;
 
+    @Spy
+    private ObjectMapper mapper = new ObjectMapper();
+
     @InjectMocks
     private PermissionService permissionService;
 
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.openMocks(this);
+        // Unit of Work: run the operation in place
+        when(permissionManager.execute(anyInt(), any(), any())).thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(1)).get());
+    }
+
+    @Test
+    public void smokeTestGetPermissionSummaryListNextPage() {
+        List<Permission> mockPermissions = new ArrayList<>(Arrays.asList(
+                new Permission(new PermissionDTO(11, "Permission11", "Description11", false)),
+                new Permission(new PermissionDTO(12, "Permission12", "Description12", false)),
+                new Permission(new PermissionDTO(13, "Permission13", "Description13", false))
+        ));
+        when(permissionManager.getPermissions(RequestType.SUMMARY, false, 10, 3)).thenReturn(mockPermissions);
+
+        // Call: second page of 2
+        PermissionSummaryListResponse result = permissionService.getPermissionSummaryList(false, iamCursorUtil.encode(10), 2);
+
+        // Validate: look-ahead record dropped, next cursor points after the last returned id
+        assertEquals(HttpStatus.OK, result.getStatus());
+        assertEquals(2, result.getCount());
+        assertEquals(iamCursorUtil.encode(12), result.getNext());
+    }
+
+    @Test
+    public void smokeTestGetPermissionDetailListLastPage() {
+        List<Permission> mockPermissions = new ArrayList<>(Arrays.asList(
+                new Permission(new PermissionDTO(1, "Permission1", "Description1", false))
+        ));
+        when(permissionManager.getPermissions(RequestType.DETAIL, false, 0, iamServicePagination.MAX_PAGE_SIZE + 1)).thenReturn(mockPermissions);
+
+        // Call: limit above the cap
+        PermissionDetailListResponse result = permissionService.getPermissionDetailList(false, null, iamServicePagination.MAX_PAGE_SIZE * 10);
+
+        // Validate
+        assertEquals(HttpStatus.OK, result.getStatus());
+        assertEquals(1, result.getCount());
+        assertEquals(null, result.getNext());
+    }
+
+    @Test
+    public void negativeTestGetPermissionSummaryListBadCursor() {
+        PermissionSummaryListResponse result = permissionService.getPermissionSummaryList(false, "not-a-cursor", null);
+        assertEquals(HttpStatus.BAD_REQUEST, result.getStatus());
+        assertEquals(iamServiceResponseCode.BAD_REQUEST, result.getResponse());
+        verify(permissionManager, never()).getPermissions(any(), anyBoolean(), anyInt(), anyInt());
+    }
+
+    @Test
+    public void negativeTestGetPermissionDetailListBadLimit() {
+        PermissionDetailListResponse result = permissionService.getPermissionDetailList(false, null, 0);
+        assertEquals(HttpStatus.BAD_REQUEST, result.getStatus());
+        verify(permissionManager, never()).getPermissions(any(), anyBoolean(), anyInt(), anyInt());
     }
 
     @Test
@@ -56,10 +123,10 @@ public class PermissionServiceTest {
                 new Permission(new PermissionDTO(1, "Permission1", "Description1", false)),
                 new Permission(new PermissionDTO(2, "Permission2", "Description2", false))
         );
-        when(permissionManager.getPermissions(RequestType.SUMMARY, false)).thenReturn(mockPermissions);
+        when(permissionManager.getPermissions(RequestType.SUMMARY, false, 0, iamServicePagination.DEFAULT_PAGE_SIZE + 1)).thenReturn(mockPermissions);
 
         // Call
-        PermissionSummaryListResponse result = permissionService.getPermissionSummaryList(false);
+        PermissionSummaryListResponse result = permissionService.getPermissionSummaryList(false, null, null);
 
         // Validate
         assertEquals(HttpStatus.OK, result.getStatus());
@@ -76,10 +143,10 @@ public class PermissionServiceTest {
 
     @Test
     public void negativeTestNullResultGetPermissionSummaryList() {
-        when(permissionManager.getPermissions(RequestType.SUMMARY, false)).thenReturn(null);
+        when(permissionManager.getPermissions(RequestType.SUMMARY, false, 0, iamServicePagination.DEFAULT_PAGE_SIZE + 1)).thenReturn(null);
 
         // Call
-        PermissionSummaryListResponse result = permissionService.getPermissionSummaryList(false);
+        PermissionSummaryListResponse result = permissionService.getPermissionSummaryList(false, null, null);
 
         // Validate
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, result.getStatus());
@@ -90,10 +157,10 @@ public class PermissionServiceTest {
     @Test
     public void negativeTestEmptyResultGetPermissionSummaryList() {
         List<Permission> mockPermissions = new ArrayList<>();
-        when(permissionManager.getPermissions(RequestType.SUMMARY, false)).thenReturn(mockPermissions);
+        when(permissionManager.getPermissions(RequestType.SUMMARY, false, 0, iamServicePagination.DEFAULT_PAGE_SIZE + 1)).thenReturn(mockPermissions);
 
         // Call
-        PermissionSummaryListResponse result = permissionService.getPermissionSummaryList(false);
+        PermissionSummaryListResponse result = permissionService.getPermissionSummaryList(false, null, null);
 
         // Validate
         assertEquals(HttpStatus.NO_CONTENT, result.getStatus());
@@ -108,10 +175,10 @@ public class PermissionServiceTest {
                 new Permission(new PermissionDTO(1, "Permission1", "Description1", false)),
                 new Permission(new PermissionDTO(2, "Permission2", "Description2", false))
         );
-        when(permissionManager.getPermissions(RequestType.DETAIL, false)).thenReturn(mockPermissions);
+        when(permissionManager.getPermissions(RequestType.DETAIL, false, 0, iamServicePagination.DEFAULT_PAGE_SIZE + 1)).thenReturn(mockPermissions);
 
         // Call
-        PermissionDetailListResponse result = permissionService.getPermissionDetailList(false);
+        PermissionDetailListResponse result = permissionService.getPermissionDetailList(false, null, null);
 
         // Validate
         assertEquals(HttpStatus.OK, result.getStatus());
@@ -128,10 +195,10 @@ public class PermissionServiceTest {
 
     @Test
     public void negativeTestNullResultGetPermissionDetailList() {
-        when(permissionManager.getPermissions(RequestType.DETAIL, false)).thenReturn(null);
+        when(permissionManager.getPermissions(RequestType.DETAIL, false, 0, iamServicePagination.DEFAULT_PAGE_SIZE + 1)).thenReturn(null);
 
         // Call
-        PermissionDetailListResponse result = permissionService.getPermissionDetailList(false);
+        PermissionDetailListResponse result = permissionService.getPermissionDetailList(false, null, null);
 
         // Validate
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, result.getStatus());
@@ -142,10 +209,10 @@ public class PermissionServiceTest {
     @Test
     public void negativeTestEmptyResultGetPermissionDetailList() {
         List<Permission> mockPermissions = new ArrayList<>();
-        when(permissionManager.getPermissions(RequestType.DETAIL, false)).thenReturn(mockPermissions);
+        when(permissionManager.getPermissions(RequestType.DETAIL, false, 0, iamServicePagination.DEFAULT_PAGE_SIZE + 1)).thenReturn(mockPermissions);
 
         // Call
-        PermissionDetailListResponse result = permissionService.getPermissionDetailList(false);
+        PermissionDetailListResponse result = permissionService.getPermissionDetailList(false, null, null);
 
         // Validate
         assertEquals(HttpStatus.NO_CONTENT, result.getStatus());
@@ -612,4 +679,93 @@ public class PermissionServiceTest {
         assertEquals(iamServiceResponseCode.SOMETHING_WENT_WRONG, result.getResponse());
         assertEquals(0, result.getCount());
     }
+
+    @Test
+    public void smokeTestExportPermissions() throws Exception {
+        doAnswer(invocation -> {
+            PermissionManager.PermissionChunkWriter writer = invocation.getArgument(1);
+            writer.write(Arrays.asList(new Permission(new PermissionDTO(1, "Permission1", "Description1", false)),
+                                       new Permission(new PermissionDTO(2, "Permission2", "Description2", false))));
+            return true;
+        }).when(permissionManager).exportPermissions(eq(false), any());
+
+        // Call
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        permissionService.exportPermissions(false).writeTo(outputStream);
+
+        // Validate: one JSON record per line
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":1,\"name\":\"Permission1\""));
+        assertTrue(lines[1].startsWith("{\"id\":2,\"name\":\"Permission2\""));
+    }
+
+    @Test
+    public void negativeTestExportPermissions() {
+        when(permissionManager.exportPermissions(eq(false), any())).thenReturn(false);
+        // Call
+        assertThrows(IOException.class, () -> permissionService.exportPermissions(false).writeTo(new ByteArrayOutputStream()));
+    }
+
+    @Test
+    public void smokeTestDeletePermissionInUnitOfWork() {
+        when(permissionManager.getPermission(1, RequestType.INTERNAL)).thenReturn(new Permission(new PermissionDTO(1, "Permission1", "Description1", false)));
+        when(permissionManager.deletePermission(1)).thenReturn(true);
+
+        // Call
+        EntityDeleteResponse result = permissionService.deletePermission("1");
+
+        // Validate: check and delete in a single transaction, committed on success
+        assertEquals(HttpStatus.OK, result.getStatus());
+        verify(permissionManager, times(1)).execute(eq(iamDBConnectionInfo.DEFAULT_TX_ISOLATION), any(), argThat(accept -> accept.test(result)));
+    }
+
+    @Test
+    public void negativeTestDeletePermissionRolledBackOnServerError() {
+        when(permissionManager.getPermission(1, RequestType.INTERNAL)).thenReturn(new Permission(new PermissionDTO(1, "Permission1", "Description1", false)));
+        when(permissionManager.deletePermission(1)).thenReturn(false);
+
+        // Call
+        EntityDeleteResponse result = permissionService.deletePermission("1");
+
+        // Validate: the result isn't accepted for commit
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, result.getStatus());
+        verify(permissionManager, times(1)).execute(anyInt(), any(), argThat(accept -> !accept.test(result)));
+    }
+
+    @Test
+    public void negativeTestDeletePermissionNotCommitted() {
+        doReturn(null).when(permissionManager).execute(anyInt(), any(), any());
+
+        // Call
+        EntityDeleteResponse result = permissionService.deletePermission("1");
+
+        // Validate
+        assertNull(result);
+    }
+
+    @Test
+    public void smokeTestGetETags() {
+        iamCatalogVersion versions = new iamCatalogVersion(0);
+        versions.bump(1);
+        when(permissionManager.getVersions()).thenReturn(versions);
+
+        // Validate: from the versions, no database access
+        assertEquals(versions.getETag(), permissionService.getCatalogETag());
+        assertEquals(versions.getETag(1), permissionService.getPermissionETag("1"));
+        assertNull(permissionService.getPermissionETag("BLAH"));
+        verify(permissionManager, times(3)).getVersions();
+        verify(permissionManager, times(3)).isReplicaRead();
+        verifyNoMoreInteractions(permissionManager);
+    }
+
+    @Test
+    public void smokeTestGetETagsReplicaRead() {
+        when(permissionManager.isReplicaRead()).thenReturn(true);
+
+        // Validate: none, the replica may lag behind the versions
+        assertNull(permissionService.getCatalogETag());
+        assertNull(permissionService.getPermissionETag("1"));
+        verify(permissionManager, never()).getVersions();
+    }
 }
@@ -0,0 +1,99 @@
+package jgr.iam.service;
+
+// External Objects
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+// External Static Objects
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+// Internal Objects
+import jgr.iam.constant.iamServiceResponseCode;
+import jgr.iam.manager.UserManager;
+import jgr.iam.model.bo.Permission;
+import jgr.iam.model.bo.User;
+import jgr.iam.model.dto.PermissionDTO;
+import jgr.iam.model.dto.UserDTO;
+import jgr.iam.payload.response.user.UserPermissionListResponse;
+import jgr.iam.service.impl.UserService;
+
+public class UserServiceTest {
+
+    @Mock
+    private UserManager userManager;
+
+    @InjectMocks
+    private UserService userService;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        // Unit of Work: run the operation in place
+        when(userManager.execute(anyInt(), any(), any())).thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(1)).get());
+    }
+
+    @Test
+    public void smokeTestGetUserPermissions() {
+        User user = new User(new UserDTO());
+        List<Permission> perms = new ArrayList<>();
+        perms.add(new Permission(new PermissionDTO(1, "Permission1", "Description1", false)));
+        when(userManager.getUser(7)).thenReturn(user);
+        when(userManager.getEffectivePermissions(user)).thenReturn(perms);
+
+        UserPermissionListResponse result = userService.getUserPermissions("7");
+
+        assertEquals(HttpStatus.OK, result.getStatus());
+        assertEquals(iamServiceResponseCode.CONTENT_FOUND, result.getResponse());
+        assertEquals(1, result.getCount());
+    }
+
+    @Test
+    public void smokeTestGetUserPermissionsNone() {
+        User user = new User(new UserDTO());
+        when(userManager.getUser(7)).thenReturn(user);
+        when(userManager.getEffectivePermissions(user)).thenReturn(new ArrayList<>());
+
+        UserPermissionListResponse result = userService.getUserPermissions("7");
+
+        assertEquals(HttpStatus.NO_CONTENT, result.getStatus());
+        assertEquals(iamServiceResponseCode.NO_CONTENT, result.getResponse());
+    }
+
+    @Test
+    public void negativeTestGetUserPermissionsInvalidId() {
+        UserPermissionListResponse result = userService.getUserPermissions("abc");
+
+        assertEquals(HttpStatus.BAD_REQUEST, result.getStatus());
+        verifyNoInteractions(userManager);
+    }
+
+    @Test
+    public void negativeTestGetUserPermissionsUserNotFound() {
+        when(userManager.getUser(7)).thenReturn(null);
+
+        UserPermissionListResponse result = userService.getUserPermissions("7");
+
+        assertEquals(HttpStatus.NOT_FOUND, result.getStatus());
+        assertEquals(iamServiceResponseCode.CONTENT_NOT_FOUND, result.getResponse());
+    }
+
+    @Test
+    public void negativeTestGetUserPermissionsException() {
+        User user = new User(new UserDTO());
+        when(userManager.getUser(7)).thenReturn(user);
+        when(userManager.getEffectivePermissions(user)).thenReturn(null);
+
+        UserPermissionListResponse result = userService.getUserPermissions("7");
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, result.getStatus());
+        assertEquals(iamServiceResponseCode.SOMETHING_WENT_WRONG, result.getResponse());
+    }
+}
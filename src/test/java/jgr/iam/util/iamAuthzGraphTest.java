@@ -0,0 +1,137 @@
+package jgr.iam.util;
+
+// External Objects
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.Map;
+
+// External Static Objects
+import static org.junit.jupiter.api.Assertions.*;
+
+// Internal Objects
+import jgr.iam.enums.AuthzEdge;
+import jgr.iam.enums.AuthzNode;
+import jgr.iam.model.dto.RolePermissionDTO;
+import jgr.iam.model.dto.UserGroupRoleDTO;
+import jgr.iam.model.dto.UserRoleDTO;
+import jgr.iam.model.dto.UserUserGroupDTO;
+
+// iamAuthzGraph Test Class
+public class iamAuthzGraphTest {
+
+    // Users 1 (role 10), 2 (group 100: roles 10 and 20), 3 (role 30: archived); permission 2001 archived
+    private iamAuthzGraph _build() {
+        return iamAuthzGraph.build(
+                List.of(new UserRoleDTO(1, 10, false), new UserRoleDTO(3, 30, false)),
+                List.of(new UserUserGroupDTO(2, 100, false)),
+                List.of(new UserGroupRoleDTO(100, 20, false), new UserGroupRoleDTO(100, 10, false)),
+                List.of(new RolePermissionDTO(10, 1001, false), new RolePermissionDTO(10, 1000, false),
+                        new RolePermissionDTO(20, 2000, false), new RolePermissionDTO(20, 2001, false),
+                        new RolePermissionDTO(30, 3000, false)),
+                Map.of(AuthzNode.ROLE, List.of(30), AuthzNode.PERMISSION, List.of(2001)));
+    }
+
+    @Test
+    void smokeTestBuild() {
+        iamAuthzGraph graph = _build();
+
+        // Rows sorted, unknown sources empty
+        assertArrayEquals(new int[] {10, 20}, graph.getLinks(AuthzEdge.GROUP_ROLE, 100));
+        assertArrayEquals(new int[] {1000, 1001}, graph.getLinks(AuthzEdge.ROLE_PERMISSION, 10));
+        assertArrayEquals(new int[0], graph.getLinks(AuthzEdge.USER_ROLE, 2));
+        assertArrayEquals(new int[0], graph.getLinks(AuthzEdge.USER_ROLE, 99));
+        assertTrue(graph.hasLink(AuthzEdge.USER_GROUP, 2, 100));
+        assertTrue(graph.hasLinks(2));
+        assertFalse(graph.hasLinks(4));
+        assertEquals(10, graph.getLinkCount());
+        assertTrue(graph.getSizeInBytes() > 0);
+    }
+
+    @Test
+    void smokeTestCheck() {
+        iamAuthzGraph graph = _build();
+
+        assertTrue(graph.check(1, 1000));
+        assertFalse(graph.check(1, 2000));
+        assertTrue(graph.check(2, 2000));
+        // Archived permission, archived role, unknown user
+        assertFalse(graph.check(2, 2001));
+        assertFalse(graph.check(3, 3000));
+        assertFalse(graph.check(4, 1000));
+        // Same answers as the bitmap
+        assertArrayEquals(new int[] {1000, 1001, 2000}, graph.getPermissions(2).toArray());
+        assertTrue(graph.getPermissions(3).isEmpty());
+    }
+
+    @Test
+    void smokeTestWithLinkCopyOnWrite() {
+        iamAuthzGraph graph = _build();
+
+        iamAuthzGraph added = graph.withLink(AuthzEdge.USER_ROLE, 1, 20, true);
+        iamAuthzGraph removed = added.withLink(AuthzEdge.USER_ROLE, 1, 10, false);
+
+        // Validate: each snapshot unchanged by the next one
+        assertFalse(graph.check(1, 2000));
+        assertTrue(added.check(1, 2000));
+        assertTrue(added.check(1, 1000));
+        assertFalse(removed.check(1, 1000));
+        assertArrayEquals(new int[] {20}, removed.getLinks(AuthzEdge.USER_ROLE, 1));
+        assertEquals(11, added.getLinkCount());
+        assertEquals(10, removed.getLinkCount());
+        // Unchanged: same snapshot
+        assertSame(graph, graph.withLink(AuthzEdge.USER_ROLE, 1, 10, true));
+        assertSame(graph, graph.withLink(AuthzEdge.USER_ROLE, 1, 99, false));
+    }
+
+    @Test
+    void smokeTestWithLinksNewSource() {
+        iamAuthzGraph graph = _build().withLinks(AuthzEdge.ROLE_PERMISSION, 40, new int[] {4001, 4000, 4001});
+
+        assertArrayEquals(new int[] {4000, 4001}, graph.getLinks(AuthzEdge.ROLE_PERMISSION, 40));
+        assertFalse(graph.check(4, 4000));
+        assertTrue(graph.withLink(AuthzEdge.USER_ROLE, 4, 40, true).check(4, 4000));
+    }
+
+    @Test
+    void smokeTestWithArchived() {
+        iamAuthzGraph graph = _build();
+
+        iamAuthzGraph archived = graph.withArchived(AuthzNode.GROUP, 100, true);
+        iamAuthzGraph restored = archived.withArchived(AuthzNode.PERMISSION, 2001, false);
+
+        assertTrue(graph.check(2, 1000));
+        assertFalse(archived.check(2, 1000));
+        assertTrue(archived.isArchived(AuthzNode.GROUP, 100));
+        assertFalse(graph.isArchived(AuthzNode.GROUP, 100));
+        assertFalse(restored.isArchived(AuthzNode.PERMISSION, 2001));
+        assertTrue(graph.withArchived(AuthzNode.GROUP, 100, false).check(2, 2000));
+        assertSame(graph, graph.withArchived(AuthzNode.ROLE, 30, true));
+        // Inactive or archived user
+        assertFalse(graph.withArchived(AuthzNode.USER, 1, true).check(1, 1000));
+    }
+
+    @Test
+    void smokeTestCompaction() {
+        iamAuthzGraph graph = _build();
+
+        // Validate: past the threshold, the overrides are folded in, same links
+        for (int user = 10; user <= 10 + iamAuthzGraph.COMPACT_THRESHOLD; user++) {
+            graph = graph.withLink(AuthzEdge.USER_ROLE, user, 20, true);
+        }
+        graph = graph.withLink(AuthzEdge.USER_ROLE, 1, 10, false);
+
+        assertEquals(10 + iamAuthzGraph.COMPACT_THRESHOLD, graph.getLinkCount());
+        assertTrue(graph.check(10 + iamAuthzGraph.COMPACT_THRESHOLD, 2000));
+        assertFalse(graph.check(1, 1000));
+        assertTrue(graph.check(2, 1000));
+    }
+
+    @Test
+    void smokeTestEmpty() {
+        iamAuthzGraph graph = iamAuthzGraph.empty();
+
+        assertFalse(graph.check(1, 1000));
+        assertEquals(0, graph.getLinkCount());
+        assertTrue(graph.withLinks(AuthzEdge.USER_ROLE, 1, new int[] {10}).hasLinks(1));
+    }
+}
@@ -0,0 +1,101 @@
+package jgr.iam.util;
+
+// External Objects
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.Map;
+
+// External Static Objects
+import static org.junit.jupiter.api.Assertions.*;
+
+// Internal Objects
+import jgr.iam.enums.AuthzEdge;
+import jgr.iam.enums.AuthzNode;
+import jgr.iam.model.dto.RolePermissionDTO;
+import jgr.iam.model.dto.UserGroupRoleDTO;
+import jgr.iam.model.dto.UserRoleDTO;
+import jgr.iam.model.dto.UserUserGroupDTO;
+
+// iamAuthzIndex Test Class
+public class iamAuthzIndexTest {
+
+    // Users 1 (role 10), 2 (group 100: roles 10 and 20), 3 (role 30: no permission)
+    private iamAuthzIndex _build() {
+        return iamAuthzIndex.build(iamAuthzGraph.build(
+                List.of(new UserRoleDTO(1, 10, false), new UserRoleDTO(3, 30, false)),
+                List.of(new UserUserGroupDTO(2, 100, false)),
+                List.of(new UserGroupRoleDTO(100, 10, false), new UserGroupRoleDTO(100, 20, false)),
+                List.of(new RolePermissionDTO(10, 1000, false), new RolePermissionDTO(10, 1001, false), new RolePermissionDTO(20, 2000, false)),
+                Map.of()));
+    }
+
+    @Test
+    void smokeTestCheck() {
+        iamAuthzIndex index = _build();
+
+        // Direct role
+        assertTrue(index.check(1, 1000));
+        assertTrue(index.check(1, 1001));
+        assertFalse(index.check(1, 2000));
+        // Group roles
+        assertTrue(index.check(2, 1000));
+        assertTrue(index.check(2, 2000));
+        // Role without permission, unknown user
+        assertFalse(index.check(3, 1000));
+        assertFalse(index.check(4, 1000));
+    }
+
+    @Test
+    void smokeTestStatistics() {
+        iamAuthzIndex index = _build();
+        index.check(1, 1000);
+        index.check(2, 1000);
+        index.check(4, 1000);
+
+        // Bitmaps of the users checked; none for an unknown user
+        assertEquals(2, index.getUserCount());
+        assertTrue(index.getSizeInBytes() > index.getGraph().getSizeInBytes());
+        assertTrue(index.getBuiltAt() > 0);
+    }
+
+    @Test
+    void smokeTestWithGraphUserDelta() {
+        iamAuthzIndex index = _build();
+        index.check(1, 1000);
+        index.check(2, 1000);
+
+        // User 1 loses role 10
+        iamAuthzIndex changed = index.withGraph(index.getGraph().withLink(AuthzEdge.USER_ROLE, 1, 10, false), 1);
+
+        // Validate: user 2's bitmap carried over, user 1's rebuilt; the previous snapshot is unchanged
+        assertEquals(1, changed.getUserCount());
+        assertFalse(changed.check(1, 1000));
+        assertTrue(changed.check(2, 2000));
+        assertTrue(index.check(1, 1000));
+        assertEquals(index.getBuiltAt(), changed.getBuiltAt());
+    }
+
+    @Test
+    void smokeTestWithGraphAllUsersDelta() {
+        iamAuthzIndex index = _build();
+        index.check(1, 1000);
+        index.check(2, 1000);
+
+        // Permission 1000 archived: affects every holder
+        iamAuthzIndex changed = index.withGraph(index.getGraph().withArchived(AuthzNode.PERMISSION, 1000, true), iamAuthzIndex.ALL_USERS);
+
+        assertEquals(0, changed.getUserCount());
+        assertFalse(changed.check(1, 1000));
+        assertFalse(changed.check(2, 1000));
+        assertTrue(changed.check(2, 2000));
+        assertSame(changed, changed.withGraph(changed.getGraph(), iamAuthzIndex.ALL_USERS));
+    }
+
+    @Test
+    void smokeTestEmpty() {
+        iamAuthzIndex index = iamAuthzIndex.empty();
+
+        assertFalse(index.check(1, 1000));
+        assertEquals(0, index.getUserCount());
+    }
+}
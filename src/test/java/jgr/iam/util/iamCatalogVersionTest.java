@@ -0,0 +1,79 @@
+package jgr.iam.util;
+
+// External Objects
+import org.junit.jupiter.api.Test;
+
+// External Static Objects
+import static org.junit.jupiter.api.Assertions.*;
+
+// iamCatalogVersion Test Class
+public class iamCatalogVersionTest {
+
+    @Test
+    void smokeTestBump() {
+        iamCatalogVersion versions = new iamCatalogVersion(1000);
+
+        versions.bump(1);
+        versions.bump(2);
+
+        // Validate: catalog monotonic, each permission at its last change, the others at the floor
+        assertEquals(2, versions.getVersion());
+        assertEquals(1, versions.getVersion(1));
+        assertEquals(2, versions.getVersion(2));
+        assertEquals(0, versions.getVersion(3));
+        assertNotEquals(versions.getETag(1), versions.getETag(2));
+    }
+
+    @Test
+    void smokeTestBumpAll() {
+        iamCatalogVersion versions = new iamCatalogVersion(1000);
+        versions.bump(1);
+
+        versions.bumpAll();
+
+        assertEquals(2, versions.getVersion());
+        assertEquals(2, versions.getVersion(1));
+        assertEquals(2, versions.getVersion(3));
+        versions.bump(3);
+        assertEquals(3, versions.getVersion(3));
+    }
+
+    @Test
+    void smokeTestBumpOnCompletion() {
+        iamCatalogVersion versions = new iamCatalogVersion(1000);
+
+        versions.bumpOnCompletion(1);
+        versions.bumpOnCompletion(1);
+        versions.bumpAllOnCompletion();
+
+        // Validate: nothing bumped until the unit of work completes, once per permission
+        assertEquals(0, versions.getVersion());
+        versions.complete();
+        assertEquals(2, versions.getVersion());
+        assertEquals(2, versions.getVersion(1));
+        assertEquals(1, versions.getVersion(4));
+        versions.complete();
+        assertEquals(2, versions.getVersion());
+    }
+
+    @Test
+    void smokeTestETag() {
+        iamCatalogVersion versions = new iamCatalogVersion(1000);
+        String eTag = versions.getETag();
+
+        // Validate: weak, epoch and version
+        assertTrue(eTag.startsWith("W/\""));
+        assertNotEquals(eTag, new iamCatalogVersion(2000).getETag());
+        assertTrue(iamCatalogVersion.matches(eTag, eTag));
+        assertTrue(iamCatalogVersion.matches("\"x\", " + eTag.substring(2), eTag));
+        versions.bump(1);
+        assertFalse(iamCatalogVersion.matches(eTag, versions.getETag()));
+    }
+
+    @Test
+    void negativeTestMatches() {
+        assertFalse(iamCatalogVersion.matches(null, "W/\"a-1\""));
+        assertFalse(iamCatalogVersion.matches("W/\"a-1\"", null));
+        assertFalse(iamCatalogVersion.matches("*", "W/\"a-1\""));
+    }
+}
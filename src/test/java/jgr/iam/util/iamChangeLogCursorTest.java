@@ -0,0 +1,81 @@
+package jgr.iam.util;
+
+// External Objects
+import org.junit.jupiter.api.Test;
+
+// External Static Objects
+import static org.junit.jupiter.api.Assertions.*;
+
+// iamChangeLogCursor Test Class
+public class iamChangeLogCursorTest {
+
+    @Test
+    void smokeTestAccept() {
+        iamChangeLogCursor cursor = new iamChangeLogCursor(10, 1000);
+
+        // Validate: new sequences once, the old ones ignored
+        assertEquals(10, cursor.getFrom());
+        assertTrue(cursor.accept(11, 0));
+        assertTrue(cursor.accept(12, 0));
+        assertFalse(cursor.accept(12, 0));
+        assertFalse(cursor.accept(5, 0));
+        assertEquals(12, cursor.getPosition());
+        assertEquals(12, cursor.getFrom());
+        assertEquals(0, cursor.getGapCount());
+    }
+
+    @Test
+    void smokeTestGapFilled() {
+        iamChangeLogCursor cursor = new iamChangeLogCursor(10, 1000);
+
+        // Call: 11 and 12 committed after 13
+        assertTrue(cursor.accept(13, 0));
+
+        // Validate: read again from below the oldest gap, until filled
+        assertEquals(2, cursor.getGapCount());
+        assertEquals(10, cursor.getFrom());
+        assertTrue(cursor.accept(12, 100));
+        assertEquals(10, cursor.getFrom());
+        assertFalse(cursor.accept(13, 100));
+        assertTrue(cursor.accept(11, 200));
+        assertFalse(cursor.accept(11, 200));
+        assertEquals(13, cursor.getFrom());
+        assertEquals(0, cursor.getGapCount());
+    }
+
+    @Test
+    void smokeTestGapExpired() {
+        iamChangeLogCursor cursor = new iamChangeLogCursor(0, 1000);
+        cursor.accept(2, 0);
+        cursor.accept(4, 500);
+
+        // Validate: given up once older than the grace period (rolled back)
+        assertEquals(0, cursor.expire(1000));
+        assertEquals(1, cursor.expire(1001));
+        assertEquals(2, cursor.getFrom());
+        assertEquals(1, cursor.expire(1501));
+        assertEquals(4, cursor.getFrom());
+        assertFalse(cursor.accept(1, 2000));
+    }
+
+    @Test
+    void smokeTestLargeJump() {
+        iamChangeLogCursor cursor = new iamChangeLogCursor(0, 1000);
+
+        // Call: a bulk allocation past 5000, filled later
+        assertTrue(cursor.accept(5001, 0));
+        assertEquals(5000, cursor.getGapCount());
+        assertEquals(1, cursor.getGapRangeCount());
+        assertTrue(cursor.accept(2500, 100));
+        assertTrue(cursor.accept(1, 100));
+        assertTrue(cursor.accept(5000, 100));
+
+        // Validate: still read from below the oldest gap, the split ranges as old as the jump
+        assertFalse(cursor.accept(2500, 200));
+        assertEquals(4997, cursor.getGapCount());
+        assertEquals(2, cursor.getGapRangeCount());
+        assertEquals(1, cursor.getFrom());
+        assertEquals(4997, cursor.expire(1001));
+        assertEquals(5001, cursor.getFrom());
+    }
+}
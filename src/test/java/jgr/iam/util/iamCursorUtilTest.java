@@ -0,0 +1,30 @@
+package jgr.iam.util;
+
+// External Objects
+import org.junit.jupiter.api.Test;
+
+// External Static Objects
+import static org.junit.jupiter.api.Assertions.*;
+
+// iamCursorUtil Test Class
+public class iamCursorUtilTest {
+
+    @Test
+    void smokeTestEncodeDecode() {
+        assertEquals(42, iamCursorUtil.decode(iamCursorUtil.encode(42)));
+        assertEquals(Integer.MAX_VALUE, iamCursorUtil.decode(iamCursorUtil.encode(Integer.MAX_VALUE)));
+    }
+
+    @Test
+    void smokeTestDecodeFirstPage() {
+        assertEquals(0, iamCursorUtil.decode(null));
+        assertEquals(0, iamCursorUtil.decode(""));
+    }
+
+    @Test
+    void negativeTestDecodeInvalid() {
+        assertEquals(-1, iamCursorUtil.decode("%%%"));
+        assertEquals(-1, iamCursorUtil.decode("NDI")); // "42" without prefix
+        assertEquals(-1, iamCursorUtil.decode(iamCursorUtil.encode(-5)));
+    }
+}
@@ -0,0 +1,102 @@
+package jgr.iam.util;
+
+// External Objects
+import org.junit.jupiter.api.Test;
+import java.sql.BatchUpdateException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// External Static Objects
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+// Internal Objects
+import jgr.iam.enums.BatchRowStatus;
+
+// iamDBBatchUtil Test Class
+public class iamDBBatchUtilTest {
+
+    @Test
+    void smokeTestExecute() throws SQLException {
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(statement.executeBatch()).thenReturn(new int[] {1, 0, Statement.SUCCESS_NO_INFO});
+
+        // Call
+        List<BatchRowStatus> result = iamDBBatchUtil.execute(statement, Arrays.asList(1, 2, 3), (stmt, id) -> stmt.setInt(1, id));
+
+        // Validate
+        assertEquals(Arrays.asList(BatchRowStatus.APPLIED, BatchRowStatus.NOT_FOUND, BatchRowStatus.APPLIED), result);
+        verify(statement, times(3)).addBatch();
+        verify(statement, never()).executeUpdate();
+    }
+
+    @Test
+    void smokeTestExecuteChunked() throws SQLException {
+        PreparedStatement statement = mock(PreparedStatement.class);
+        int[] full = new int[iamDBBatchUtil.MAX_SIZE];
+        Arrays.fill(full, 1);
+        when(statement.executeBatch()).thenReturn(full, new int[] {1});
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 0; i <= iamDBBatchUtil.MAX_SIZE; i++) {
+            ids.add(i);
+        }
+
+        // Call
+        List<BatchRowStatus> result = iamDBBatchUtil.execute(statement, ids, (stmt, id) -> stmt.setInt(1, id));
+
+        // Validate
+        assertEquals(ids.size(), result.size());
+        verify(statement, times(2)).executeBatch();
+    }
+
+    @Test
+    void negativeTestExecuteRetriesFailedRows() throws SQLException {
+        PreparedStatement statement = mock(PreparedStatement.class);
+        // Rewritten multi-row statement rejected as a whole: no per-row counts
+        when(statement.executeBatch()).thenThrow(new BatchUpdateException("Duplicate entry", new int[] {Statement.EXECUTE_FAILED, Statement.EXECUTE_FAILED, Statement.EXECUTE_FAILED}));
+        when(statement.executeUpdate()).thenReturn(1).thenThrow(new SQLException("Duplicate entry")).thenReturn(1);
+
+        // Call
+        List<BatchRowStatus> result = iamDBBatchUtil.execute(statement, Arrays.asList(1, 2, 3), (stmt, id) -> stmt.setInt(1, id));
+
+        // Validate
+        assertEquals(Arrays.asList(BatchRowStatus.APPLIED, BatchRowStatus.FAILED, BatchRowStatus.APPLIED), result);
+        verify(statement, times(1)).clearBatch();
+        verify(statement, times(3)).executeUpdate();
+    }
+
+    @Test
+    void negativeTestExecuteRetriesUnreportedRows() throws SQLException {
+        PreparedStatement statement = mock(PreparedStatement.class);
+        // Driver stopped at the second row
+        when(statement.executeBatch()).thenThrow(new BatchUpdateException("Lost", new int[] {1}));
+        when(statement.executeUpdate()).thenReturn(0, 1);
+
+        // Call
+        List<BatchRowStatus> result = iamDBBatchUtil.execute(statement, Arrays.asList(1, 2, 3), (stmt, id) -> stmt.setInt(1, id));
+
+        // Validate
+        assertEquals(Arrays.asList(BatchRowStatus.APPLIED, BatchRowStatus.NOT_FOUND, BatchRowStatus.APPLIED), result);
+        verify(statement, times(2)).executeUpdate();
+        verify(statement, atLeast(5)).setInt(eq(1), anyInt());
+    }
+
+    @Test
+    void negativeTestExecuteNoRowCounts() throws SQLException {
+        PreparedStatement statement = mock(PreparedStatement.class);
+        // Connection lost: the rows applied are unknown
+        when(statement.executeBatch()).thenThrow(new SQLException("Communications link failure"));
+
+        // Call
+        assertThrows(SQLException.class, () -> iamDBBatchUtil.execute(statement, Arrays.asList(1, 2, 3), (stmt, id) -> stmt.setInt(1, id)));
+
+        // Validate: nothing re-executed (left to the unit of work to roll back)
+        verify(statement, times(1)).clearBatch();
+        verify(statement, never()).executeUpdate();
+    }
+}
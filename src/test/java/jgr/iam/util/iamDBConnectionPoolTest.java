@@ -0,0 +1,94 @@
+package jgr.iam.util;
+
+// External Objects
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import javax.sql.DataSource;
+import java.util.List;
+
+// External Static Objects
+import static org.junit.jupiter.api.Assertions.*;
+
+// Internal Objects
+import jgr.iam.constant.iamDBConnectionInfo; // iamDB Default Connection Info
+
+// iamDBConnectionPool Test Class
+public class iamDBConnectionPoolTest {
+
+    @BeforeEach
+    void setUp() {
+        iamDBConnectionPool.shutdown();
+    }
+
+    @AfterEach
+    void tearDown() {
+        iamDBConnectionPool.shutdown();
+    }
+
+    @Test
+    void smokeTestSamePoolForSameKey() {
+        DataSource first = iamDBConnectionPool.getDataSource("jdbc:mysql://localhost:3306/testdb", "user", "pwd");
+        DataSource second = iamDBConnectionPool.getDataSource("jdbc:mysql://localhost:3306/testdb", "user", "other-pwd");
+        assertNotNull(first);
+        assertSame(first, second);
+    }
+
+    @Test
+    void smokeTestDifferentPoolForDifferentKey() {
+        DataSource first = iamDBConnectionPool.getDataSource("jdbc:mysql://localhost:3306/testdb", "user", "pwd");
+        DataSource second = iamDBConnectionPool.getDataSource("jdbc:mysql://localhost:3306/testdb", "admin", "pwd");
+        assertNotSame(first, second);
+        assertEquals(2, iamDBConnectionPool.getStatistics().size());
+    }
+
+    @Test
+    void smokeTestStatementCacheProperties() {
+        HikariDataSource mysql = (HikariDataSource) iamDBConnectionPool.getDataSource("jdbc:mysql://localhost:3306/testdb", "user", "pwd");
+        assertEquals("true", mysql.getDataSourceProperties().getProperty("cachePrepStmts"));
+        assertEquals("true", mysql.getDataSourceProperties().getProperty("useServerPrepStmts"));
+        assertEquals(String.valueOf(iamDBConnectionInfo.DEFAULT_STMT_CACHE_SIZE), mysql.getDataSourceProperties().getProperty("prepStmtCacheSize"));
+        HikariDataSource other = (HikariDataSource) iamDBConnectionPool.getDataSource("jdbc:h2:mem:testdb", "user", "pwd");
+        assertNull(other.getDataSourceProperties().getProperty("cachePrepStmts"));
+    }
+
+    @Test
+    void smokeTestStatisticsDefaults() {
+        iamDBConnectionPool.getDataSource("jdbc:mysql://localhost:3306/testdb", "user", "pwd");
+        List<iamDBPoolStatistics> stats = iamDBConnectionPool.getStatistics();
+        assertEquals(1, stats.size());
+        assertEquals(iamDBConnectionInfo.DEFAULT_POOL_MIN_IDLE, stats.get(0).getMinIdle());
+        assertEquals(iamDBConnectionInfo.DEFAULT_POOL_MAX_SIZE, stats.get(0).getMaxSize());
+        assertEquals(0, stats.get(0).getAcquiredCount());
+        assertEquals(0, stats.get(0).getAverageWaitMs());
+    }
+
+    @Test
+    void smokeTestStatisticsWaitTime() {
+        iamDBPoolStatistics stats = new iamDBPoolStatistics("iamDB-pool-test", 2, 10, null,
+                                                            4, 8_000_000, 5_000_000, 1, 20);
+        assertEquals(2.0, stats.getAverageWaitMs());
+        assertEquals(5.0, stats.getMaxWaitMs());
+        assertEquals(5.0, stats.getAverageUsageMs());
+        assertEquals(1, stats.getTimeoutCount());
+    }
+
+    @Test
+    void smokeTestTrackerRecordsMaxWait() {
+        iamDBConnectionPool.Tracker tracker = new iamDBConnectionPool.Tracker(null);
+        tracker.recordConnectionAcquiredNanos(3_000_000);
+        tracker.recordConnectionAcquiredNanos(1_000_000);
+        tracker.recordConnectionTimeout();
+        iamDBPoolStatistics stats = tracker.getStatistics("iamDB-pool-test", 2, 10);
+        assertEquals(2, stats.getAcquiredCount());
+        assertEquals(2.0, stats.getAverageWaitMs());
+        assertEquals(3.0, stats.getMaxWaitMs());
+        assertEquals(1, stats.getTimeoutCount());
+    }
+
+    @Test
+    void negativeTestWarmUpFailure() {
+        assertFalse(iamDBConnectionPool.warmUp("jdbc:mysql://localhost:1/testdb", "user", "pwd"));
+    }
+}
@@ -8,6 +8,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.MockitoAnnotations;
+import org.junitpioneer.jupiter.ClearEnvironmentVariable;
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
@@ -84,6 +85,65 @@ public class iamDBConnectorTest {
         assertEquals("connect: Null Datasource.", exception.getMessage());
     }
 
+    @Test
+    void smokeTestConnectionBoundToThread() throws Exception {
+        dbConnectorUtil.setConnection(mockConnection);
+        Connection[] other = new Connection[1];
+        Thread thread = new Thread(() -> other[0] = dbConnectorUtil.getConnection());
+        thread.start();
+        thread.join();
+        assertSame(mockConnection, dbConnectorUtil.getConnection());
+        assertNull(other[0]);
+    }
+
+    @Test
+    void smokeTestNestedConnectReusesConnection() throws SQLException {
+        when(mockDataSource.getConnection()).thenReturn(mockConnection);
+        when(mockConnection.isClosed()).thenReturn(false);
+        dbConnectorUtil.connect();
+        dbConnectorUtil.connect();
+        verify(mockDataSource, times(1)).getConnection();
+        assertFalse(dbConnectorUtil.isReplicaConnected());
+        // Inner close: still bound
+        dbConnectorUtil.close();
+        verify(mockConnection, never()).close();
+        assertSame(mockConnection, dbConnectorUtil.getConnection());
+        // Outer close: returned to the pool
+        dbConnectorUtil.close();
+        verify(mockConnection, times(1)).close();
+        assertNull(dbConnectorUtil.getConnection());
+    }
+
+    @Test
+    void smokeTestConnectReplica() throws SQLException {
+        DataSource mockReplicaDataSource = mock(DataSource.class);
+        Connection mockReplicaConnection = mock(Connection.class);
+        when(mockReplicaDataSource.getConnection()).thenReturn(mockReplicaConnection);
+        dbConnectorUtil.setReplicaDataSource(mockReplicaDataSource);
+        dbConnectorUtil.connectReplica();
+        assertSame(mockReplicaConnection, dbConnectorUtil.getConnection());
+        assertTrue(dbConnectorUtil.isReplicaConnected());
+        verify(mockDataSource, never()).getConnection();
+    }
+
+    @Test
+    void smokeTestTransaction() throws SQLException {
+        when(mockConnection.isClosed()).thenReturn(false);
+        dbConnectorUtil.setConnection(mockConnection);
+        dbConnectorUtil.begin(Connection.TRANSACTION_READ_COMMITTED);
+        verify(mockConnection, times(1)).setTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        verify(mockConnection, times(1)).setAutoCommit(false);
+        dbConnectorUtil.commit();
+        verify(mockConnection, times(1)).commit();
+        verify(mockConnection, times(1)).setAutoCommit(true);
+    }
+
+    @Test
+    void negativeTestTransactionNoConnection() {
+        SQLException exception = assertThrows(SQLException.class, () -> dbConnectorUtil.rollback());
+        assertEquals("rollback: No Connection.", exception.getMessage());
+    }
+
     @Test
     void smokeTestCloseConnection() throws SQLException {
         when(mockConnection.isClosed()).thenReturn(false);
@@ -164,6 +224,7 @@ public class iamDBConnectorTest {
     }
 
     @Test
+    @ClearEnvironmentVariable(key = iamDBConnectionInfo.ENV_DB_URL)
     void negativeTestGetConnectionURLWithInvalidEnv() {
         System.clearProperty("ENV_DB_URL");
         String actualURL = dbConnectorUtil.getConnectionURL();
@@ -36,6 +36,9 @@ public class iamDBConnectorTestUtil {
             logger.debug("setIamDBConnectURL: replace localhost: [" + sURL + "].");
         }
 
+        // Embedded iamDB: serve it from this JVM
+        iamDBEmbeddedTestUtil.startIfEmbedded(sURL);
+
         logger.debug("setIamDBConnectURL: DB URL: [" + sURL + "].");
         return sURL;
     }
@@ -0,0 +1,182 @@
+package jgr.iam.util;
+
+// External Objects
+import org.apache.logging.log4j.LogManager; // https://logging.apache.org/log4j/2.x/manual/api.html
+import org.apache.logging.log4j.Logger; // https://logging.apache.org/log4j/2.x/manual/api.html
+import org.h2.tools.Server; // https://h2database.com/javadoc/org/h2/tools/Server.html
+import java.sql.Connection; // https://docs.oracle.com/javase/8/docs/api/java/sql/Connection.html
+import java.sql.PreparedStatement; // https://docs.oracle.com/javase/8/docs/api/java/sql/PreparedStatement.html
+import java.sql.ResultSet; // https://docs.oracle.com/javase/8/docs/api/java/sql/ResultSet.html
+import java.sql.SQLException; // https://docs.oracle.com/javase/8/docs/api/java/sql/SQLException.html
+import java.sql.Statement; // https://docs.oracle.com/javase/8/docs/api/java/sql/Statement.html
+import java.util.ArrayList; // https://docs.oracle.com/javase/8/docs/api/java/util/ArrayList.html
+import java.util.List; // https://docs.oracle.com/javase/8/docs/api/java/util/List.html
+
+// Internal Objects
+import jgr.iam.constant.dto.iamDBConnectTestConstant; // iamDB Connect Test Constant
+import jgr.iam.constant.iamDBMetadataTable; // iamDB Metadata Tables
+
+// iamDB Embedded Test Util: serve and seed the embedded iamDB (H2, MySQL mode)
+// - jdbc:h2:tcp://localhost:<port>/mem:...: an in-process TCP server, started on first use, so that values travel
+//   through a socket as they do from MySQL (no shared String instances between the test and the database)
+// - Schema: the iamDB migrations (db/migration, H2 variant of V1), applied once the server is started
+// - Shape: APPLICATIONS x FEATURES x ROLES roles; each permission granted to ROLES_PER_PERMISSION roles and
+//   described by METADATA_PER_PERMISSION metadata
+// - Batched inserts (iamDBBatchUtil.MAX_SIZE rows per round trip), in one transaction
+public class iamDBEmbeddedTestUtil {
+
+    // Logger
+    private final static Logger logger = LogManager.getLogger(iamDBEmbeddedTestUtil.class.getCanonicalName());
+
+    // Seed Shape
+    public static final int APPLICATIONS = 10;
+    public static final int FEATURES = 10; // per application
+    public static final int ROLES = 10; // per feature
+    public static final int ROLES_PER_PERMISSION = 3;
+    public static final int METADATA_PER_PERMISSION = 2;
+
+    // TCP Server URL prefix
+    private final static String TCP_URL = "jdbc:h2:tcp://localhost:";
+
+    // TCP Server (in-process)
+    private static Server server;
+
+    // Constructor (static utility)
+    private iamDBEmbeddedTestUtil() {
+    }
+
+    // Is Embedded: the URL points to the in-process database
+    public static boolean isEmbedded(String url) {
+        return url != null && url.startsWith("jdbc:h2:");
+    }
+
+    // Start the in-process TCP server, if the URL points to it, and migrate its iamDB (once per JVM)
+    public static synchronized void startIfEmbedded(String url) {
+        if (server != null || url == null || !url.startsWith(TCP_URL))
+            return;
+        String port = url.substring(TCP_URL.length(), url.indexOf('/', TCP_URL.length()));
+        try {
+            server = Server.createTcpServer("-tcpPort", port, "-ifNotExists").start();
+            logger.info("startIfEmbedded: " + server.getStatus());
+            iamDBConnectorUtil connector = new iamDBConnectorUtil();
+            connector.setDataSource(url, iamDBConnectorTestUtil.setIamDBConnectUser(), iamDBConnectorTestUtil.setIamDBConnectPassword());
+            iamDBMigrationUtil.migrate(connector);
+        }
+        catch (SQLException e) {
+            logger.error("startIfEmbedded(" + url + "): Exception.\n\t" + e.getClass().getCanonicalName() + ": " + e.getMessage());
+        }
+    }
+
+    // Seed the embedded iamDB (IAMDB_SEED_PERMISSIONS permissions), if the connector points to it
+    public static void seedIfEmbedded(iamDBConnectorUtil connector) throws SQLException {
+        if (!isEmbedded(connector.getConnectionURL()))
+            return;
+        String permissions = System.getenv(iamDBConnectTestConstant.ENV_SEED_PERMISSIONS);
+        iamDBConnectorTestUtil.iamDBConnect(connector);
+        try {
+            seed(connector, permissions == null ? iamDBConnectTestConstant.DEFAULT_SEED_PERMISSIONS : Integer.parseInt(permissions));
+        }
+        finally {
+            connector.close();
+        }
+    }
+
+    // Seed: applications, features, roles, then permissions with their roles and metadata (no-op if already seeded)
+    public static void seed(iamDBConnectorUtil connector, int permissions) throws SQLException {
+        Connection connection = connector.getConnection();
+        if (_count(connection, "SELECT COUNT(id) as total FROM Permission") >= permissions) {
+            logger.info("seed: iamDB already holds " + permissions + " permissions or more.");
+            return;
+        }
+        long start = System.nanoTime();
+        connector.begin(Connection.TRANSACTION_READ_COMMITTED);
+        try {
+            List<Integer> roleIds = _seedRoles(connection);
+            List<Integer> permissionIds = _insert(connection, "INSERT INTO Permission (name, description, archived) VALUES (?, ?, FALSE)", permissions,
+                    (statement, i) -> {
+                        statement.setString(1, "seed.permission." + i);
+                        statement.setString(2, "Seeded Permission " + i);
+                    });
+            try (PreparedStatement statement = connection.prepareStatement("INSERT INTO Role_Permission (roleId, permissionId, archived) VALUES (?, ?, FALSE)")) {
+                List<int[]> rows = new ArrayList<>();
+                for (int i = 0; i < permissionIds.size(); i++) {
+                    for (int k = 0; k < ROLES_PER_PERMISSION; k++) {
+                        // Distinct roles per permission, spread over all roles
+                        rows.add(new int[] { roleIds.get((i + k * (roleIds.size() / ROLES_PER_PERMISSION)) % roleIds.size()), permissionIds.get(i) });
+                    }
+                }
+                iamDBBatchUtil.execute(statement, rows, (s, row) -> {
+                    s.setInt(1, row[0]);
+                    s.setInt(2, row[1]);
+                });
+            }
+            try (PreparedStatement statement = connection.prepareStatement("INSERT INTO " + iamDBMetadataTable.PERM + " (refid, name, value) VALUES (?, ?, ?)")) {
+                List<Object[]> rows = new ArrayList<>();
+                for (int permissionId : permissionIds) {
+                    for (int k = 0; k < METADATA_PER_PERMISSION; k++) {
+                        rows.add(new Object[] { permissionId, "seed.meta." + k, "value." + permissionId + "." + k });
+                    }
+                }
+                iamDBBatchUtil.execute(statement, rows, (s, row) -> {
+                    s.setInt(1, (Integer) row[0]);
+                    s.setString(2, (String) row[1]);
+                    s.setString(3, (String) row[2]);
+                });
+            }
+            connector.commit();
+        }
+        catch (SQLException e) {
+            connector.rollback();
+            throw e;
+        }
+        logger.info("seed: " + permissions + " permissions in " + (System.nanoTime() - start) / 1000000 + " ms.");
+    }
+
+    // Seed Roles: application.feature.role tree, returns the role ids
+    private static List<Integer> _seedRoles(Connection connection) throws SQLException {
+        List<Integer> appIds = _insert(connection, "INSERT INTO Application (name, description, archived) VALUES (?, ?, FALSE)", APPLICATIONS,
+                (statement, i) -> {
+                    statement.setString(1, "seed.app." + i);
+                    statement.setString(2, "Seeded Application " + i);
+                });
+        List<Integer> featureIds = _insert(connection, "INSERT INTO Feature (name, description, applicationId, archived) VALUES (?, ?, ?, FALSE)", APPLICATIONS * FEATURES,
+                (statement, i) -> {
+                    statement.setString(1, "seed.feature." + i);
+                    statement.setString(2, "Seeded Feature " + i);
+                    statement.setInt(3, appIds.get(i / FEATURES));
+                });
+        return _insert(connection, "INSERT INTO Role (name, description, featureId, archived) VALUES (?, ?, ?, FALSE)", APPLICATIONS * FEATURES * ROLES,
+                (statement, i) -> {
+                    statement.setString(1, "seed.role." + i);
+                    statement.setString(2, "Seeded Role " + i);
+                    statement.setInt(3, featureIds.get(i / ROLES));
+                });
+    }
+
+    // Insert count rows (batched), returns the generated ids
+    private static List<Integer> _insert(Connection connection, String query, int count, iamDBBatchUtil.RowBinder<Integer> binder) throws SQLException {
+        List<Integer> result = new ArrayList<>(count);
+        try (PreparedStatement statement = connection.prepareStatement(query, Statement.RETURN_GENERATED_KEYS)) {
+            for (int from = 0; from < count; from += iamDBBatchUtil.MAX_SIZE) {
+                for (int i = from; i < Math.min(from + iamDBBatchUtil.MAX_SIZE, count); i++) {
+                    binder.bind(statement, i);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        result.add(keys.getInt(1));
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    // Count
+    private static int _count(Connection connection, String query) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery(query)) {
+            return resultSet.next() ? resultSet.getInt("total") : 0;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package jgr.iam.util;
+
+// External Objects
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+// External Static Objects
+import static org.junit.jupiter.api.Assertions.*;
+
+// Internal Objects
+import jgr.iam.constant.iamDBMetadataTable;
+import jgr.iam.enums.RequestType;
+import jgr.iam.manager.PermissionManager;
+import jgr.iam.model.bo.Permission;
+
+// iamDBEmbeddedTestUtil Test Class: schema and seed on a private in-memory iamDB
+public class iamDBEmbeddedTestUtilTest {
+
+    private iamDBConnectorUtil connector;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connector = new iamDBConnectorUtil();
+        connector.setDataSource("jdbc:h2:mem:iamDB-" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1", "sa", "");
+        iamDBMigrationUtil.migrate(connector);
+        connector.connect();
+    }
+
+    @AfterEach
+    void tearDown() {
+        connector.close();
+    }
+
+    @Test
+    void smokeTestIsEmbedded() {
+        assertTrue(iamDBEmbeddedTestUtil.isEmbedded("jdbc:h2:tcp://localhost:9092/mem:iamDB"));
+        assertFalse(iamDBEmbeddedTestUtil.isEmbedded("jdbc:mysql://localhost:3306/iamDB"));
+        assertFalse(iamDBEmbeddedTestUtil.isEmbedded(null));
+    }
+
+    @Test
+    void smokeTestSeed() throws SQLException {
+        iamDBEmbeddedTestUtil.seed(connector, 2500);
+
+        // Validate: shape
+        assertEquals(2500, _count("SELECT COUNT(*) FROM Permission"));
+        assertEquals(iamDBEmbeddedTestUtil.APPLICATIONS * iamDBEmbeddedTestUtil.FEATURES * iamDBEmbeddedTestUtil.ROLES, _count("SELECT COUNT(*) FROM Role"));
+        assertEquals(2500 * iamDBEmbeddedTestUtil.ROLES_PER_PERMISSION, _count("SELECT COUNT(*) FROM Role_Permission"));
+        assertEquals(2500 * iamDBEmbeddedTestUtil.METADATA_PER_PERMISSION, _count("SELECT COUNT(*) FROM " + iamDBMetadataTable.PERM));
+
+        // Validate: readable through the manager (detail view)
+        PermissionManager manager = new PermissionManager(connector);
+        Permission perm = manager.getPermission("seed.permission.0", RequestType.DETAIL);
+        assertNotNull(perm);
+        assertEquals(iamDBEmbeddedTestUtil.ROLES_PER_PERMISSION, perm.getRoleExtendedNameList().size());
+        assertEquals(iamDBEmbeddedTestUtil.METADATA_PER_PERMISSION, perm.getMetadataList().size());
+    }
+
+    @Test
+    void smokeTestSeedTwice() throws SQLException {
+        iamDBEmbeddedTestUtil.seed(connector, 10);
+        iamDBEmbeddedTestUtil.seed(connector, 10);
+
+        // Validate: no-op once seeded
+        assertEquals(10, _count("SELECT COUNT(*) FROM Permission"));
+    }
+
+    // Count
+    private int _count(String query) throws SQLException {
+        try (Statement statement = connector.getConnection().createStatement(); ResultSet resultSet = statement.executeQuery(query)) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+}
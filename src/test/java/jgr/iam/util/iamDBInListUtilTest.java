@@ -0,0 +1,45 @@
+package jgr.iam.util;
+
+// External Objects
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// External Static Objects
+import static org.junit.jupiter.api.Assertions.*;
+
+// iamDBInListUtil Test Class
+public class iamDBInListUtilTest {
+
+    @Test
+    void smokeTestGetPlaceholders() {
+        assertEquals("", iamDBInListUtil.getPlaceholders(0));
+        assertEquals("?", iamDBInListUtil.getPlaceholders(1));
+        assertEquals("?, ?, ?", iamDBInListUtil.getPlaceholders(3));
+    }
+
+    @Test
+    void smokeTestGetChunksDistinct() {
+        List<List<Integer>> chunks = iamDBInListUtil.getChunks(Arrays.asList(3, 1, 3, 2, 1));
+        assertEquals(1, chunks.size());
+        assertEquals(Arrays.asList(3, 1, 2), chunks.get(0));
+    }
+
+    @Test
+    void smokeTestGetChunksBounded() {
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 0; i < iamDBInListUtil.MAX_SIZE * 2 + 1; i++) {
+            ids.add(i);
+        }
+        List<List<Integer>> chunks = iamDBInListUtil.getChunks(ids);
+        assertEquals(3, chunks.size());
+        assertEquals(iamDBInListUtil.MAX_SIZE, chunks.get(0).size());
+        assertEquals(1, chunks.get(2).size());
+    }
+
+    @Test
+    void negativeTestGetChunksNull() {
+        assertTrue(iamDBInListUtil.getChunks(null).isEmpty());
+    }
+}
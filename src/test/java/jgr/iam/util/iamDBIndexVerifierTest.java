@@ -0,0 +1,64 @@
+package jgr.iam.util;
+
+// External Objects
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.UUID;
+
+// External Static Objects
+import static org.junit.jupiter.api.Assertions.*;
+
+// iamDBIndexVerifier Test Class: hot-path indexes on a private in-memory iamDB (H2, MySQL mode)
+public class iamDBIndexVerifierTest {
+
+    private iamDBConnectorUtil connector;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connector = new iamDBConnectorUtil();
+        connector.setDataSource("jdbc:h2:mem:iamDB-" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    @AfterEach
+    void tearDown() {
+        connector.close();
+    }
+
+    @Test
+    void smokeTestVerifyMigrated() throws SQLException {
+        iamDBMigrationUtil.migrate(connector);
+        connector.connect();
+
+        // Validate: every hot-path requirement met
+        assertEquals(List.of(), iamDBIndexVerifier.verify(connector.getConnection()));
+    }
+
+    @Test
+    void negativeTestVerifySchemaOnly() throws SQLException {
+        iamDBMigrationUtil.migrate(connector, iamDBMigrationUtil.getVendorMigrations("h2").subList(0, 1));
+        connector.connect();
+
+        // Validate: the schema alone leaves out the (refid, archived) and (permissionId, archived) access paths
+        List<iamDBIndexVerifier.Requirement> missing = iamDBIndexVerifier.verify(connector.getConnection());
+        assertFalse(missing.isEmpty());
+        assertTrue(missing.stream().anyMatch(r -> r.table().equals("Role_Permission")));
+    }
+
+    @Test
+    void negativeTestVerifyDroppedIndex() throws SQLException {
+        iamDBMigrationUtil.migrate(connector);
+        connector.connect();
+        try (Statement statement = connector.getConnection().createStatement()) {
+            statement.execute("DROP INDEX idx_role_feature");
+        }
+
+        // Validate: the dropped one reported, by table and columns
+        List<iamDBIndexVerifier.Requirement> missing = iamDBIndexVerifier.verify(connector.getConnection());
+        assertEquals(1, missing.size());
+        assertEquals("Role(featureId, archived)", missing.get(0).toString());
+    }
+}
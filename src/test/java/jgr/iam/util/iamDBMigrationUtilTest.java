@@ -0,0 +1,146 @@
+package jgr.iam.util;
+
+// External Objects
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// External Static Objects
+import static org.junit.jupiter.api.Assertions.*;
+
+// Internal Objects
+import jgr.iam.constant.iamDBConnectionInfo;
+
+// iamDBMigrationUtil Test Class: migrations on a private in-memory iamDB (H2, MySQL mode)
+public class iamDBMigrationUtilTest {
+
+    private iamDBConnectorUtil connector;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connector = new iamDBConnectorUtil();
+        connector.setDataSource("jdbc:h2:mem:iamDB-" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    @AfterEach
+    void tearDown() {
+        connector.close();
+    }
+
+    @Test
+    void smokeTestGetMigrations() {
+        List<iamDBMigrationUtil.Migration> migrations = iamDBMigrationUtil.getMigrations(iamDBConnectionInfo.MIGRATION_LOCATION);
+
+        // Validate: the shared ones (V1 is per vendor), sorted by version
+        assertFalse(migrations.isEmpty());
+        for (int i = 1; i < migrations.size(); i++) {
+            assertTrue(migrations.get(i - 1).version() < migrations.get(i).version());
+        }
+        migrations = iamDBMigrationUtil.getVendorMigrations("h2");
+
+        // Validate: sorted by version, from V1
+        assertTrue(migrations.size() >= 2);
+        assertEquals(1, migrations.get(0).version());
+        assertEquals("iamDB schema", migrations.get(0).description());
+        for (int i = 1; i < migrations.size(); i++) {
+            assertTrue(migrations.get(i - 1).version() < migrations.get(i).version());
+        }
+    }
+
+    @Test
+    void smokeTestGetVendorMigrations() throws Exception {
+        List<iamDBMigrationUtil.Migration> mysql = iamDBMigrationUtil.getVendorMigrations("mysql");
+        List<iamDBMigrationUtil.Migration> h2 = iamDBMigrationUtil.getVendorMigrations("h2");
+
+        // Validate: same versions, V1 from the vendor's location (metadata value: JSON on MySQL, text on H2)
+        assertEquals(mysql.stream().map(iamDBMigrationUtil.Migration::version).toList(), h2.stream().map(iamDBMigrationUtil.Migration::version).toList());
+        assertTrue(mysql.get(0).resource().getContentAsString(StandardCharsets.UTF_8).contains("value JSON,"));
+        assertFalse(h2.get(0).resource().getContentAsString(StandardCharsets.UTF_8).contains("value JSON,"));
+        assertEquals(mysql.get(1).resource(), h2.get(1).resource());
+
+        // Validate: the connection's vendor
+        connector.connect();
+        assertEquals("h2", iamDBMigrationUtil.getVendor(connector.getConnection()));
+    }
+
+    @Test
+    void smokeTestGetStatements() {
+        List<String> statements = iamDBMigrationUtil.getStatements("-- comment\nCREATE TABLE A (\n  id INT\n);\n\nCREATE INDEX i ON A (id);\n");
+
+        // Validate: comments skipped, one statement per ';'
+        assertEquals(List.of("CREATE TABLE A (\n  id INT\n)", "CREATE INDEX i ON A (id)"), statements);
+    }
+
+    @Test
+    void smokeTestMigrate() throws SQLException {
+        int count = iamDBMigrationUtil.getVendorMigrations("h2").size();
+
+        // Validate: all applied once, then none
+        assertEquals(count, iamDBMigrationUtil.migrate(connector));
+        assertEquals(0, iamDBMigrationUtil.migrate(connector));
+
+        // Validate: version recorded, schema usable
+        connector.connect();
+        assertEquals(count, iamDBMigrationUtil.getVersion(connector.getConnection()));
+        try (Statement statement = connector.getConnection().createStatement(); ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM Permission")) {
+            assertTrue(resultSet.next());
+            assertEquals(0, resultSet.getInt(1));
+        }
+    }
+
+    @Test
+    void smokeTestMigrateIndexExists() throws SQLException {
+        List<iamDBMigrationUtil.Migration> migrations = iamDBMigrationUtil.getVendorMigrations("h2");
+        iamDBMigrationUtil.migrate(connector, migrations.subList(0, 1));
+
+        // Validate: V2 replayed over an index that's already there (partial run) is applied, and recorded
+        connector.connect();
+        try (Statement statement = connector.getConnection().createStatement()) {
+            statement.execute("CREATE INDEX idx_role_feature ON Role (featureId, archived)");
+        }
+        connector.close();
+        assertEquals(1, iamDBMigrationUtil.migrate(connector, migrations.subList(0, 2)));
+        connector.connect();
+        assertEquals(2, iamDBMigrationUtil.getVersion(connector.getConnection()));
+    }
+
+    @Test
+    void smokeTestMigrateConcurrently() throws Exception {
+        List<iamDBMigrationUtil.Migration> migrations = iamDBMigrationUtil.getVendorMigrations("h2");
+
+        // Call: two nodes starting together
+        Callable<Integer> migrate = () -> iamDBMigrationUtil.migrate(connector, migrations);
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<Integer> first = executor.submit(migrate);
+            Future<Integer> second = executor.submit(migrate);
+
+            // Validate: one applies every migration, the other none
+            assertEquals(migrations.size(), first.get() + second.get());
+        }
+        connector.connect();
+        assertEquals(migrations.get(migrations.size() - 1).version(), iamDBMigrationUtil.getVersion(connector.getConnection()));
+    }
+
+    @Test
+    void negativeTestMigrateFailure() throws SQLException {
+        List<iamDBMigrationUtil.Migration> migrations = new ArrayList<>(iamDBMigrationUtil.getVendorMigrations("h2").subList(0, 1));
+        migrations.add(new iamDBMigrationUtil.Migration(2, "broken", new ByteArrayResource("CREATE INDEX idx_broken ON Missing (id);".getBytes())));
+
+        // Validate: V2 fails, and isn't recorded
+        assertThrows(SQLException.class, () -> iamDBMigrationUtil.migrate(connector, migrations));
+        connector.connect();
+        assertEquals(1, iamDBMigrationUtil.getVersion(connector.getConnection()));
+    }
+}
@@ -0,0 +1,72 @@
+package jgr.iam.util;
+
+// External Objects
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+// External Static Objects
+import static org.junit.jupiter.api.Assertions.*;
+
+// iamDBRoutingUtil Test Class
+public class iamDBRoutingUtilTest {
+
+    @AfterEach
+    void tearDown() {
+        iamDBRoutingUtil.end();
+    }
+
+    @Test
+    void smokeTestReplicaRead() {
+        iamDBRoutingUtil.begin("reader", true);
+        assertTrue(iamDBRoutingUtil.isReplicaRead());
+    }
+
+    @Test
+    void smokeTestNoRoute() {
+        // Outside a request (start-up, jobs): primary
+        assertFalse(iamDBRoutingUtil.isReplicaRead());
+    }
+
+    @Test
+    void smokeTestWriteOnPrimary() {
+        iamDBRoutingUtil.begin("writer", false);
+        assertFalse(iamDBRoutingUtil.isReplicaRead());
+    }
+
+    @Test
+    void smokeTestReadYourWrites() {
+        // Write
+        iamDBRoutingUtil.begin("client-a", false);
+        iamDBRoutingUtil.fence();
+        iamDBRoutingUtil.end();
+        // Read of the same client: primary
+        iamDBRoutingUtil.begin("client-a", true);
+        assertFalse(iamDBRoutingUtil.isReplicaRead());
+        iamDBRoutingUtil.end();
+        // Read of another client: replica
+        iamDBRoutingUtil.begin("client-b", true);
+        assertTrue(iamDBRoutingUtil.isReplicaRead());
+    }
+
+    @Test
+    void negativeTestFenceNoClient() {
+        iamDBRoutingUtil.begin(null, false);
+        iamDBRoutingUtil.fence();
+        assertFalse(iamDBRoutingUtil.isFenced(null));
+    }
+
+    @Test
+    void smokeTestFencesBounded() {
+        // Random client ids, never looked up again
+        for (int i = 0; i < iamDBRoutingUtil.MAX_FENCES + 1000; i++) {
+            iamDBRoutingUtil.begin("random-" + i, false);
+            iamDBRoutingUtil.fence();
+        }
+        iamDBRoutingUtil.begin("client-c", false);
+        iamDBRoutingUtil.fence();
+
+        // Validate: bounded, the latest writer still fenced
+        assertTrue(iamDBRoutingUtil.isFenced("client-c"));
+        assertTrue(iamDBRoutingUtil.getFenceCount() <= iamDBRoutingUtil.MAX_FENCES);
+    }
+}
@@ -0,0 +1,26 @@
+package jgr.iam.util;
+
+// External Objects
+import org.junit.jupiter.api.Test;
+
+// External Static Objects
+import static org.junit.jupiter.api.Assertions.*;
+
+// iamDBSqlRegistry Test Class
+public class iamDBSqlRegistryTest {
+
+    @Test
+    void smokeTestGet() {
+        assertEquals("DELETE FROM PermissionMetadata WHERE refid = ? AND name = ?",
+                     iamDBSqlRegistry.get(iamDBSqlRegistry.METADATA_DELETE, "PermissionMetadata"));
+        assertEquals("DELETE FROM RoleMetadata WHERE refid = ? AND name = ?",
+                     iamDBSqlRegistry.get(iamDBSqlRegistry.METADATA_DELETE, "RoleMetadata"));
+    }
+
+    @Test
+    void smokeTestGetResolvedOnce() {
+        String first = iamDBSqlRegistry.get(iamDBSqlRegistry.METADATA_INSERT, "UserMetadata");
+        String second = iamDBSqlRegistry.get(iamDBSqlRegistry.METADATA_INSERT, "UserMetadata");
+        assertSame(first, second);
+    }
+}
@@ -0,0 +1,46 @@
+package jgr.iam.util;
+
+// External Objects
+import org.junit.jupiter.api.Test;
+import org.junitpioneer.jupiter.ClearEnvironmentVariable;
+import org.junitpioneer.jupiter.SetEnvironmentVariable;
+
+// External Static Objects
+import static org.junit.jupiter.api.Assertions.*;
+
+// iamEnvironmentUtil Test Class
+public class iamEnvironmentUtilTest {
+
+    private static final String ENV = "IAMDB_TEST_SETTING";
+
+    @Test
+    @SetEnvironmentVariable(key = ENV, value = " 42 ")
+    void smokeTestGetNumbers() {
+        // Validate: trimmed and parsed
+        assertEquals(42, iamEnvironmentUtil.getInt(ENV, 7));
+        assertEquals(42L, iamEnvironmentUtil.getLong(ENV, 7L));
+    }
+
+    @Test
+    @SetEnvironmentVariable(key = ENV, value = "TRUE")
+    void smokeTestGetBoolean() {
+        assertTrue(iamEnvironmentUtil.getBoolean(ENV, false));
+    }
+
+    @Test
+    @ClearEnvironmentVariable(key = ENV)
+    void negativeTestGetUnset() {
+        // Validate: the defaults
+        assertEquals(7, iamEnvironmentUtil.getInt(ENV, 7));
+        assertEquals(7L, iamEnvironmentUtil.getLong(ENV, 7L));
+        assertTrue(iamEnvironmentUtil.getBoolean(ENV, true));
+    }
+
+    @Test
+    @SetEnvironmentVariable(key = ENV, value = "many")
+    void negativeTestGetMalformed() {
+        // Validate: the defaults
+        assertEquals(7, iamEnvironmentUtil.getInt(ENV, 7));
+        assertEquals(7L, iamEnvironmentUtil.getLong(ENV, 7L));
+    }
+}
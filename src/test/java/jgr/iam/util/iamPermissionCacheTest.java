@@ -0,0 +1,198 @@
+package jgr.iam.util;
+
+// External Objects
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+
+// External Static Objects
+import static org.junit.jupiter.api.Assertions.*;
+
+// Internal Objects
+import jgr.iam.enums.RequestType;
+import jgr.iam.model.bo.Metadata;
+import jgr.iam.model.bo.Permission;
+import jgr.iam.model.dto.MetadataDTO;
+import jgr.iam.model.dto.PermissionDTO;
+
+// iamPermissionCache Test Class
+public class iamPermissionCacheTest {
+
+    private iamPermissionCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new iamPermissionCache(true, 100, 60);
+    }
+
+    @Test
+    void smokeTestPutGet() {
+        Permission perm = _getPermission(1, "perm.1");
+        cache.put(perm, RequestType.DETAIL, cache.getGeneration());
+
+        // Validate: by id and by name, in the view it was put
+        Permission byId = cache.get(1, RequestType.DETAIL);
+        assertNotNull(byId);
+        assertEquals("perm.1", byId.getName());
+        assertEquals(1, byId.getMetadataList().size());
+        assertEquals(1, cache.get("perm.1", RequestType.DETAIL).getId());
+        assertNull(cache.get(1, RequestType.SUMMARY));
+        assertNull(cache.get("perm.2", RequestType.DETAIL));
+    }
+
+    @Test
+    void smokeTestCopies() {
+        Permission perm = _getPermission(1, "perm.1");
+        cache.put(perm, RequestType.DETAIL, cache.getGeneration());
+
+        // Validate: neither the put object nor a returned one alter the cached one
+        perm.getMetadataList().clear();
+        Permission first = cache.get(1, RequestType.DETAIL);
+        first.getMetadataList().get(0).setValue("altered");
+        first.getRoleExtendedNameList().clear();
+        Permission second = cache.get(1, RequestType.DETAIL);
+        assertNotSame(first, second);
+        assertEquals("value", second.getMetadataList().get(0).getValue());
+        assertEquals(1, second.getRoleExtendedNameList().size());
+    }
+
+    @Test
+    void smokeTestInvalidate() {
+        cache.put(_getPermission(1, "perm.1"), RequestType.SUMMARY, cache.getGeneration());
+        cache.put(_getPermission(1, "perm.1"), RequestType.DETAIL, cache.getGeneration());
+        cache.invalidate(1);
+
+        // Validate: both views gone, by id and by name
+        assertNull(cache.get(1, RequestType.SUMMARY));
+        assertNull(cache.get(1, RequestType.DETAIL));
+        assertNull(cache.get("perm.1", RequestType.DETAIL));
+    }
+
+    @Test
+    void negativeTestPutStaleGeneration() {
+        long generation = cache.getGeneration();
+        cache.invalidate(1);
+        cache.put(_getPermission(1, "perm.1"), RequestType.DETAIL, generation);
+
+        // Validate: loaded before the invalidation, not cached
+        assertNull(cache.get(1, RequestType.DETAIL));
+    }
+
+    @Test
+    void smokeTestInvalidateOnCompletion() {
+        cache.invalidateOnCompletion(1);
+        // A reader caches the committed (old) state before the unit of work completes
+        cache.put(_getPermission(1, "perm.1"), RequestType.DETAIL, cache.getGeneration());
+        assertNotNull(cache.get(1, RequestType.DETAIL));
+        cache.complete();
+
+        // Validate: invalidated again on completion, and only once
+        assertNull(cache.get(1, RequestType.DETAIL));
+        cache.put(_getPermission(1, "perm.1"), RequestType.DETAIL, cache.getGeneration());
+        cache.complete();
+        assertNotNull(cache.get(1, RequestType.DETAIL));
+    }
+
+    @Test
+    void negativeTestNotCacheable() {
+        cache.put(_getPermission(1, "perm.1"), RequestType.INTERNAL, cache.getGeneration());
+
+        // Validate
+        assertFalse(iamPermissionCache.isCacheable(RequestType.INTERNAL));
+        assertNull(cache.get(1, RequestType.INTERNAL));
+    }
+
+    @Test
+    void negativeTestDisabled() {
+        iamPermissionCache disabled = new iamPermissionCache(false, 100, 60);
+        disabled.put(_getPermission(1, "perm.1"), RequestType.DETAIL, disabled.getGeneration());
+
+        // Validate: also disabled by a zero size or TTL
+        assertFalse(disabled.isEnabled());
+        assertNull(disabled.get(1, RequestType.DETAIL));
+        assertFalse(new iamPermissionCache(true, 0, 60).isEnabled());
+        assertFalse(new iamPermissionCache(true, 100, 0).isEnabled());
+    }
+
+    @Test
+    void smokeTestGetStatistics() {
+        cache.put(_getPermission(1, "perm.1"), RequestType.DETAIL, cache.getGeneration());
+        cache.get(1, RequestType.DETAIL);
+        cache.get(2, RequestType.DETAIL);
+
+        // Validate
+        List<iamCacheStatistics> stats = cache.getStatistics();
+        assertEquals(3, stats.size());
+        assertEquals(iamPermissionCache.PERMISSION_CACHE, stats.get(0).getCacheName());
+        assertEquals(100, stats.get(0).getMaxSize());
+        assertEquals(60, stats.get(0).getTtlSeconds());
+        assertEquals(1, stats.get(0).getSize());
+        assertEquals(1, stats.get(0).getHitCount());
+        assertEquals(1, stats.get(0).getMissCount());
+        assertEquals(0.5, stats.get(0).getHitRate());
+        assertEquals(iamPermissionCache.NAME_CACHE, stats.get(1).getCacheName());
+        assertEquals(iamPermissionCache.MISSING_CACHE, stats.get(2).getCacheName());
+    }
+
+    @Test
+    void smokeTestMissing() {
+        cache.putMissing(1, cache.getGeneration());
+        cache.putMissing(2, "meta", cache.getGeneration());
+
+        // Validate: permission and metadata keys apart
+        assertTrue(cache.isMissing(1));
+        assertFalse(cache.isMissing(2));
+        assertTrue(cache.isMissing(2, "meta"));
+        assertFalse(cache.isMissing(2, "other"));
+        assertFalse(cache.isMissing(1, null));
+
+        // Created: no longer missing
+        cache.invalidate(1);
+        cache.invalidate(2, "meta");
+        assertFalse(cache.isMissing(1));
+        assertFalse(cache.isMissing(2, "meta"));
+    }
+
+    @Test
+    void smokeTestMissingNotPutAfterCreation() {
+        long generation = cache.getGeneration();
+        cache.invalidateMissing();
+
+        // Validate: a lookup started before a creation isn't cached
+        cache.putMissing(1, generation);
+        assertFalse(cache.isMissing(1));
+    }
+
+    @Test
+    void smokeTestMissingInvalidatedOnCompletion() {
+        cache.invalidateOnCompletion(2, "meta");
+        cache.invalidateMissingOnCompletion();
+        // Looked up by another thread before the creation commits
+        cache.putMissing(1, cache.getGeneration());
+        cache.putMissing(2, "meta", cache.getGeneration());
+
+        cache.complete();
+
+        assertFalse(cache.isMissing(1));
+        assertFalse(cache.isMissing(2, "meta"));
+    }
+
+    @Test
+    void smokeTestMissingDisabled() {
+        iamPermissionCache noMissing = new iamPermissionCache(true, 100, 60, 100, 0);
+        noMissing.putMissing(1, noMissing.getGeneration());
+
+        assertFalse(noMissing.isMissing(1));
+        assertEquals(0, noMissing.getStatistics().get(2).getMaxSize());
+    }
+
+    // Get a Permission (detail view: one metadata, one role)
+    private Permission _getPermission(int id, String name) {
+        Permission result = new Permission(new PermissionDTO(id, name, "description", false));
+        result.getMetadataList().add(new Metadata(new MetadataDTO(id, "meta", "value", false)));
+        result.setMetadataCount(1);
+        result.getRoleExtendedNameList().add("app.feature.role");
+        result.setRoleCount(1);
+        return result;
+    }
+}
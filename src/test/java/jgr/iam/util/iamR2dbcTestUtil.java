@@ -0,0 +1,62 @@
+package jgr.iam.util;
+
+// External Objects
+import io.r2dbc.h2.H2ConnectionConfiguration; // https://github.com/r2dbc/r2dbc-h2
+import io.r2dbc.h2.H2ConnectionFactory; // https://github.com/r2dbc/r2dbc-h2
+import org.springframework.r2dbc.core.DatabaseClient; // https://docs.spring.io/spring-framework/docs/current/javadoc-api/org/springframework/r2dbc/core/DatabaseClient.html
+import java.util.UUID; // https://docs.oracle.com/javase/8/docs/api/java/util/UUID.html
+
+// Internal Objects
+import jgr.iam.constant.iamDBMetadataTable; // iamDB Metadata Tables
+
+// iamDB R2DBC Test Util: a fresh in-memory iamDB (H2, MySQL mode) per call, holding the permission tables
+public class iamR2dbcTestUtil {
+
+    // Schema (the iamDB tables used by the permission endpoints)
+    private final static String[] SCHEMA = {
+        "CREATE TABLE Application (id INT AUTO_INCREMENT PRIMARY KEY, name VARCHAR(64) NOT NULL)",
+        "CREATE TABLE Feature (id INT AUTO_INCREMENT PRIMARY KEY, applicationId INT NOT NULL, name VARCHAR(64) NOT NULL)",
+        "CREATE TABLE Role (id INT AUTO_INCREMENT PRIMARY KEY, featureId INT NOT NULL, name VARCHAR(64) NOT NULL)",
+        "CREATE TABLE Permission (id INT AUTO_INCREMENT PRIMARY KEY, name VARCHAR(64) NOT NULL UNIQUE, description VARCHAR(255), archived BOOLEAN DEFAULT FALSE)",
+        "CREATE TABLE Role_Permission (roleId INT NOT NULL, permissionId INT NOT NULL, archived BOOLEAN DEFAULT FALSE, PRIMARY KEY (roleId, permissionId))",
+        "CREATE TABLE " + iamDBMetadataTable.PERM + " (refid INT NOT NULL, name VARCHAR(64) NOT NULL, value VARCHAR(255), archived BOOLEAN DEFAULT FALSE, PRIMARY KEY (refid, name))",
+        "CREATE TABLE ChangeLog (seq BIGINT AUTO_INCREMENT PRIMARY KEY, entity VARCHAR(32) NOT NULL, permissionId INT NOT NULL, roleId INT, name VARCHAR(255), origin VARCHAR(64) NOT NULL, changedAt TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP)"
+    };
+
+    // Constructor (static utility)
+    private iamR2dbcTestUtil() {
+    }
+
+    // Create a Database Client on a new in-memory iamDB
+    public static DatabaseClient createClient() {
+        H2ConnectionFactory connectionFactory = new H2ConnectionFactory(H2ConnectionConfiguration.builder()
+                .inMemory("iamDB-" + UUID.randomUUID())
+                .property("MODE", "MySQL")
+                .property("DATABASE_TO_LOWER", "TRUE")
+                .property("NON_KEYWORDS", "VALUE")
+                .property("DB_CLOSE_DELAY", "-1")
+                .build());
+        DatabaseClient client = DatabaseClient.create(connectionFactory);
+        for (String statement : SCHEMA) {
+            client.sql(statement).then().block();
+        }
+        return client;
+    }
+
+    // Add a Role (application.feature.role) to a Permission
+    public static void addRole(DatabaseClient client, int permissionId, String application, String feature, String role) {
+        int applicationId = _insert(client, "INSERT INTO Application (name) VALUES ('" + application + "')");
+        int featureId = _insert(client, "INSERT INTO Feature (applicationId, name) VALUES (" + applicationId + ", '" + feature + "')");
+        int roleId = _insert(client, "INSERT INTO Role (featureId, name) VALUES (" + featureId + ", '" + role + "')");
+        client.sql("INSERT INTO Role_Permission (roleId, permissionId) VALUES (" + roleId + ", " + permissionId + ")").then().block();
+    }
+
+    // Insert: generated id
+    private static int _insert(DatabaseClient client, String statement) {
+        return client.sql(statement)
+                     .filter(s -> s.returnGeneratedValues("id"))
+                     .map(row -> row.get("id", Integer.class))
+                     .one()
+                     .block();
+    }
+}
@@ -0,0 +1,34 @@
+package jgr.iam.util;
+
+// External Objects
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.Map;
+
+// External Static Objects
+import static org.junit.jupiter.api.Assertions.*;
+
+// iamRoleNameDictionary Test Class
+public class iamRoleNameDictionaryTest {
+
+    @Test
+    void smokeTestBuild() {
+        iamRoleNameDictionary names = iamRoleNameDictionary.build(Map.of(1, new String("App.Feature.Role1"), 2, "App.Feature.Role2"));
+
+        // Validate: names interned
+        assertEquals(2, names.size());
+        assertSame("App.Feature.Role1", names.get(1));
+        assertNull(names.get(3));
+        assertTrue(names.containsAll(List.of(1, 2)));
+        assertFalse(names.containsAll(List.of(1, 3)));
+    }
+
+    @Test
+    void smokeTestIsStale() {
+        iamRoleNameDictionary names = iamRoleNameDictionary.build(Map.of());
+
+        assertFalse(names.isStale(0));
+        assertFalse(names.isStale(60000));
+        assertTrue(names.getBuiltAt() > 0);
+    }
+}